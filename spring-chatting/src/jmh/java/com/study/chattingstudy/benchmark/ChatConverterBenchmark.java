@@ -0,0 +1,81 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.domain.chat.converter.ChatConverter;
+import com.study.chattingstudy.domain.chat.entity.ChatMessage;
+import com.study.chattingstudy.domain.chat.entity.ChatRoom;
+import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatConverter 엔티티 -> DTO 변환 벤치마크
+ * - 메시지 목록 변환은 기본 페이지 크기(50) 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatConverterBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private User sender;
+    private User receiver;
+    private ChatRoom chatRoom;
+    private ChatMessage message;
+    private List<ChatMessage> page;
+
+    @Setup
+    public void setUp() {
+        sender = user(1L);
+        receiver = user(2L);
+        chatRoom = ChatConverter.toPrivateChatRoom(sender, receiver);
+        message = ChatConverter.toChatMessage(chatRoom, sender, "벤치마크 메시지 내용입니다. benchmark message");
+
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(ChatConverter.toChatMessage(chatRoom, i % 2 == 0 ? sender : receiver, "메시지 " + i));
+        }
+    }
+
+    @Benchmark
+    public Object toMessageResDTO() {
+        return ChatConverter.toMessageResDTO(message);
+    }
+
+    @Benchmark
+    public Object toMessageListResDTO() {
+        return ChatConverter.toMessageListResDTO(page, true, 1234L);
+    }
+
+    @Benchmark
+    public Object toChatRoomResDTO() {
+        return ChatConverter.toChatRoomResDTO(chatRoom);
+    }
+
+    @Benchmark
+    public Object toChatRoomListResDTO() {
+        return ChatConverter.toChatRoomListResDTO(chatRoom, receiver, message, 3);
+    }
+
+    @Benchmark
+    public Object toChatRoomMeta() {
+        return ChatConverter.toChatRoomMeta(chatRoom);
+    }
+
+    private static User user(Long id) {
+        return User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .username("user" + id)
+                .password("password")
+                .roles(UserRole.USER)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.chattingstudy.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO Jackson 직렬화 벤치마크
+ * - ObjectMapper 는 Spring MVC/STOMP 메시지 변환기와 같은 기본 설정(Jackson2ObjectMapperBuilder) 사용
+ * - 메시지 목록은 기본 페이지 크기(50), 채팅방 목록은 20개 기준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatDtoSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ChatResDTO.MessageResDTO message;
+    private ChatResDTO.MessageListResDTO messageList;
+    private List<ChatRoomResDTO.ChatRoomListResDTO> chatRooms;
+    private ChatRoomResDTO.ChatRoomResponseDTO chatRoom;
+    private byte[] messageListJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        message = message(0);
+
+        List<ChatResDTO.MessageResDTO> messages = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            messages.add(message(i));
+        }
+        messageList = ChatResDTO.MessageListResDTO.builder()
+                .messages(messages)
+                .hasMore(true)
+                .nextCursor(1234L)
+                .build();
+
+        chatRooms = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            chatRooms.add(ChatRoomResDTO.ChatRoomListResDTO.builder()
+                    .chatId(UUID.randomUUID().toString())
+                    .type("PRIVATE")
+                    .otherUser(ChatRoomResDTO.ChatRoomListResDTO.ParticipantDTO.builder()
+                            .userId((long) i)
+                            .username("user" + i)
+                            .email("user" + i + "@example.com")
+                            .build())
+                    .lastMessage(ChatRoomResDTO.ChatRoomListResDTO.LastMessageDTO.builder()
+                            .messageId(UUID.randomUUID().toString())
+                            .content("마지막 메시지 " + i)
+                            .senderId((long) i)
+                            .createdAt(LocalDateTime.now())
+                            .read(i % 2 == 0)
+                            .build())
+                    .unreadCount(i)
+                    .build());
+        }
+
+        chatRoom = ChatRoomResDTO.ChatRoomResponseDTO.builder()
+                .chatId(UUID.randomUUID().toString())
+                .type("PRIVATE")
+                .createdAt(LocalDateTime.now())
+                .participants(Set.of(
+                        ChatRoomResDTO.ChatRoomResponseDTO.ParticipantDTO.builder()
+                                .userId(1L).username("user1").email("user1@example.com").build(),
+                        ChatRoomResDTO.ChatRoomResponseDTO.ParticipantDTO.builder()
+                                .userId(2L).username("user2").email("user2@example.com").build()))
+                .build();
+
+        messageListJson = objectMapper.writeValueAsBytes(messageList);
+    }
+
+    @Benchmark
+    public byte[] serializeMessage() throws Exception {
+        return objectMapper.writeValueAsBytes(message);
+    }
+
+    @Benchmark
+    public byte[] serializeMessageList() throws Exception {
+        return objectMapper.writeValueAsBytes(messageList);
+    }
+
+    @Benchmark
+    public byte[] serializeChatRoomList() throws Exception {
+        return objectMapper.writeValueAsBytes(chatRooms);
+    }
+
+    @Benchmark
+    public byte[] serializeChatRoom() throws Exception {
+        return objectMapper.writeValueAsBytes(chatRoom);
+    }
+
+    @Benchmark
+    public Object deserializeMessageList() throws Exception {
+        return objectMapper.readValue(messageListJson, ChatResDTO.MessageListResDTO.class);
+    }
+
+    private static ChatResDTO.MessageResDTO message(int i) {
+        return ChatResDTO.MessageResDTO.builder()
+                .messageId(UUID.randomUUID().toString())
+                .content("벤치마크 메시지 내용입니다. benchmark message " + i)
+                .senderId((long) (i % 2 + 1))
+                .senderUsername("user" + (i % 2 + 1))
+                .createdAt(LocalDateTime.now())
+                .read(false)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.store.segment.SegmentChatMessageStore;
+import com.study.chattingstudy.domain.chat.store.segment.SegmentStoreConfig;
+import com.study.chattingstudy.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 메시지 저장소 벤치마크 - 추가(append) 처리량과 범위 조회(range scan) 지연 비교
+ * - segment : SegmentChatMessageStore (임시 디렉터리)
+ * - jdbc    : JpaChatMessageStore 가 실행하는 것과 같은 SQL 을 H2(MySQL 모드)에서 실행
+ *             (Hibernate 엔티티 처리 비용과 MySQL 디스크 I/O 는 포함되지 않으므로 하한값으로 해석)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageStoreBenchmark {
+
+    private static final int PRELOADED_MESSAGES = 100_000;
+    private static final int PAGE_SIZE = 50;
+    private static final String CONTENT = "벤치마크 메시지 내용입니다. benchmark message content";
+
+    @Param({"segment", "jdbc"})
+    public String store;
+
+    private final ChatRoomMeta room = ChatRoomMeta.builder()
+            .roomId(1L)
+            .chatId("benchmark-room")
+            .type("PRIVATE")
+            .participantIds(Set.of(1L, 2L))
+            .build();
+
+    private final User sender = User.builder()
+            .id(1L)
+            .email("bench@example.com")
+            .username("bench")
+            .build();
+
+    private Path dir;
+    private SegmentChatMessageStore segmentStore;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        if ("segment".equals(store)) {
+            dir = Files.createTempDirectory("segment-bench");
+            segmentStore = new SegmentChatMessageStore(
+                    new SegmentStoreConfig(dir, 64L * 1024 * 1024, TimeUnit.DAYS.toMillis(1), 4096, 16L * 1024 * 1024),
+                    TimeUnit.MINUTES.toMillis(10));
+        } else {
+            connection = DriverManager.getConnection("jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(255))");
+                statement.execute("INSERT INTO users VALUES (1, 'bench')");
+                statement.execute("CREATE TABLE chat_messages (" +
+                        "id BIGINT AUTO_INCREMENT PRIMARY KEY, chat_room_id BIGINT NOT NULL, " +
+                        "sender_user_id BIGINT NOT NULL, message_id VARCHAR(255) NOT NULL UNIQUE, " +
+                        "content TEXT NOT NULL, is_read BOOLEAN NOT NULL, created_at TIMESTAMP, updated_at TIMESTAMP)");
+                statement.execute("CREATE INDEX idx_chat_messages_room_id_id ON chat_messages (chat_room_id, id)");
+            }
+        }
+
+        for (int i = 0; i < PRELOADED_MESSAGES; i++) {
+            append();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (segmentStore != null) {
+            segmentStore.close();
+            deleteRecursively(dir);
+        }
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+            }
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public Object append() throws SQLException {
+        if (segmentStore != null) {
+            return segmentStore.append(room, sender, CONTENT);
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO chat_messages (chat_room_id, sender_user_id, message_id, content, is_read, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            insert.setLong(1, room.roomId());
+            insert.setLong(2, sender.getId());
+            insert.setString(3, UUID.randomUUID().toString());
+            insert.setString(4, CONTENT);
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    // 임의 위치에서 한 페이지(최신순 50개) 조회
+    @Benchmark
+    public void rangeScan(Blackhole blackhole) throws SQLException {
+        long before = ThreadLocalRandom.current().nextLong(PAGE_SIZE + 1, PRELOADED_MESSAGES);
+
+        if (segmentStore != null) {
+            blackhole.consume(segmentStore.findPage(room, before, PAGE_SIZE));
+            return;
+        }
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT cm.id, cm.message_id, cm.content, cm.created_at, cm.is_read, u.id, u.username " +
+                        "FROM chat_messages cm JOIN users u ON u.id = cm.sender_user_id " +
+                        "WHERE cm.chat_room_id = ? AND cm.id < ? ORDER BY cm.id DESC LIMIT ?")) {
+            select.setLong(1, room.roomId());
+            select.setLong(2, before);
+            select.setInt(3, PAGE_SIZE + 1);
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    blackhole.consume(rs.getLong(1));
+                    blackhole.consume(rs.getString(2));
+                    blackhole.consume(rs.getString(3));
+                    blackhole.consume(rs.getTimestamp(4));
+                    blackhole.consume(rs.getBoolean(5));
+                    blackhole.consume(rs.getString(7));
+                }
+            }
+        }
+    }
+
+    private void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
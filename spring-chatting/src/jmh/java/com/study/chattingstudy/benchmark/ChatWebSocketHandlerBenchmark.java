@@ -0,0 +1,172 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.global.config.handler.ChatWebSocketHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatWebSocketHandler 채팅방 라우팅 벤치마크
+ * - rooms 개의 채팅방에 방마다 sessionsPerRoom 개의 세션을 연결한 상태에서
+ *   임의의 세션이 보낸 메시지를 같은 방의 다른 세션에 전달하는 비용 측정
+ * - 실제 소켓 쓰기 비용은 제외 (전송은 Blackhole 로 소비)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatWebSocketHandlerBenchmark {
+
+    private static final int ROOMS = 100;
+
+    @Param({"2", "50"})
+    public int sessionsPerRoom;
+
+    private ChatWebSocketHandler handler;
+    private List<BenchmarkSession> sessions;
+    private TextMessage message;
+
+    @Setup
+    public void setUp(Blackhole blackhole) throws Exception {
+        handler = new ChatWebSocketHandler();
+        sessions = new ArrayList<>(ROOMS * sessionsPerRoom);
+        for (int room = 0; room < ROOMS; room++) {
+            URI uri = URI.create("/ws/chat/room-" + room);
+            for (int i = 0; i < sessionsPerRoom; i++) {
+                BenchmarkSession session = new BenchmarkSession("session-" + room + "-" + i, uri, blackhole);
+                handler.afterConnectionEstablished(session);
+                sessions.add(session);
+            }
+        }
+        message = new TextMessage("{\"content\":\"벤치마크 메시지 내용입니다.\"}");
+    }
+
+    // 채팅방 세션 목록은 핸들러의 static 필드이므로 다음 파라미터 실행 전에 정리
+    @TearDown
+    public void tearDown() throws Exception {
+        for (BenchmarkSession session : sessions) {
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        }
+    }
+
+    @Benchmark
+    public void routeToRoom() throws Exception {
+        BenchmarkSession sender = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+        handler.handleMessage(sender, message);
+    }
+
+    /**
+     * 벤치마크용 WebSocketSession - 전송한 메시지는 Blackhole 로 소비
+     */
+    private static class BenchmarkSession implements WebSocketSession {
+
+        private final String id;
+        private final URI uri;
+        private final Blackhole blackhole;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+        BenchmarkSession(String id, URI uri, Blackhole blackhole) {
+            this.id = id;
+            this.uri = uri;
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return uri;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            blackhole.consume(message);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.security.filter.JwtAuthorizationFilter;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.domain.user.security.util.UserRevocationRegistry;
+import com.study.chattingstudy.domain.user.security.util.VerifiedTokenCache;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthorizationFilter 인가 경로 벤치마크
+ * - tokenCacheSize = 0     : 매 요청마다 서명 검증 + 클레임 파싱
+ * - tokenCacheSize = 10000 : 검증된 토큰 캐시 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthorizationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    @Param({"0", "10000"})
+    public int tokenCacheSize;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthorizationFilter filter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // Redis 없이 동작하도록 폐기 목록은 항상 비어있는 것으로 처리
+        RedisUtil redisUtil = new RedisUtil(null) {
+            @Override
+            public boolean hasKey(String key) {
+                return false;
+            }
+
+            @Override
+            public void save(String key, Object val, Long time, TimeUnit timeUnit) {
+            }
+        };
+        UserRevocationRegistry revocationRegistry = new UserRevocationRegistry(redisUtil);
+
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L, redisUtil, null,
+                revocationRegistry, new VerifiedTokenCache(tokenCacheSize));
+        filter = new JwtAuthorizationFilter(jwtUtil, revocationRegistry, new SimpleMeterRegistry());
+
+        accessToken = jwtUtil.createJwtAccessToken(
+                new CustomUserDetails(1L, "bench@example.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public Object validateAndBuildPrincipal() {
+        return jwtUtil.getUserDetails(jwtUtil.validateToken(accessToken));
+    }
+
+    @Benchmark
+    public Object authorizationFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
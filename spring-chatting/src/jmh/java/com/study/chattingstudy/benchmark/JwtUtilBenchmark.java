@@ -0,0 +1,65 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.domain.user.security.util.UserRevocationRegistry;
+import com.study.chattingstudy.domain.user.security.util.VerifiedTokenCache;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 벤치마크
+ * - 검증은 토큰 캐시 없이 매번 서명 검증 + 클레임 파싱 (캐시 효과는 JwtAuthorizationFilterBenchmark 참고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private CustomUserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // Redis 없이 동작하도록 저장은 무시하고 폐기 목록은 항상 비어있는 것으로 처리
+        RedisUtil redisUtil = new RedisUtil(null) {
+            @Override
+            public boolean hasKey(String key) {
+                return false;
+            }
+
+            @Override
+            public void save(String key, Object val, Long time, TimeUnit timeUnit) {
+            }
+        };
+
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L, redisUtil, null,
+                new UserRevocationRegistry(redisUtil), new VerifiedTokenCache(0));
+        userDetails = new CustomUserDetails(1L, "bench@example.com", UserRole.USER);
+        accessToken = jwtUtil.createJwtAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtUtil.createJwtAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public String createRefreshToken() {
+        return jwtUtil.createJwtRefreshToken(userDetails);
+    }
+
+    @Benchmark
+    public Object validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+}
@@ -0,0 +1,131 @@
+package com.study.chattingstudy.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.study.chattingstudy.global.logging.LogSamplingFilter;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 메시지 전송 경로의 로그 출력 비용 벤치마크 (4 스레드 처리량)
+ * - sync-text          : 기존 방식 - 동기 파일 출력, 텍스트 패턴
+ * - async-json         : 비동기(AsyncAppender) + JSON, 큐가 차면 요청 스레드가 대기 (유실 없음)
+ * - async-json-sampled : async-json + 핫패스 샘플링(1%) / 초당 건수 제한 (운영 설정과 같음)
+ * 1회 = 메시지 1건 전송 시 컨트롤러/서비스가 남기는 INFO 로그 4줄
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String LOGGER_NAME = "com.study.chattingstudy.domain.chat.service.command.ChatCommandService";
+
+    @Param({"sync-text", "async-json", "async-json-sampled"})
+    public String mode;
+
+    private Path dir;
+    private LoggerContext context;
+    private Logger logger;
+    private String chatId;
+
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("logging-bench");
+        context = new LoggerContext();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(dir.resolve("bench.log").toString());
+        file.setEncoder(mode.equals("sync-text") ? textEncoder() : jsonEncoder());
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (mode.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setIncludeCallerData(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        if (mode.endsWith("sampled")) {
+            LogSamplingFilter.Category category = new LogSamplingFilter.Category();
+            category.setLogger(LOGGER_NAME);
+            category.setSampleRate(0.01);
+            category.setMaxPerSecond(20);
+
+            LogSamplingFilter filter = new LogSamplingFilter();
+            filter.setContext(context);
+            filter.addCategory(category);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        logger = context.getLogger(LOGGER_NAME);
+        chatId = UUID.randomUUID().toString();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void messageSendPath() {
+        long userId = ThreadLocalRandom.current().nextLong(1, 10_000);
+        String messageId = UUID.randomUUID().toString();
+
+        logger.info("WebSocket으로 메시지 전송 요청 수신: chatId={}", chatId);
+        logger.info("메시지 전송 요청: userId={}, chatId={}", userId, chatId);
+        logger.info("메시지 저장 완료: messageId={}", messageId);
+        logger.info("WebSocket으로 메시지가 전송되었습니다: messageId={}", messageId);
+    }
+
+    private Encoder<ILoggingEvent> textEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %t --- %logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.setIncludeCallerData(false);
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,66 @@
+package com.study.chattingstudy.benchmark;
+
+import com.study.chattingstudy.global.config.handler.WebSocketSessionRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocketSessionRegistry 세션 등록/조회 벤치마크
+ * - connectedUsers 만큼 세션을 미리 등록한 상태에서 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebSocketSessionRegistryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int connectedUsers;
+
+    private WebSocketSessionRegistry registry;
+    private StompHeaderAccessor[] accessors;
+
+    @Setup
+    public void setUp() {
+        registry = new WebSocketSessionRegistry();
+        accessors = new StompHeaderAccessor[connectedUsers];
+        for (int i = 0; i < connectedUsers; i++) {
+            accessors[i] = accessor("session-" + i);
+            registry.registerSession(String.valueOf(i), accessors[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean hasActiveSession() {
+        int userId = ThreadLocalRandom.current().nextInt(connectedUsers * 2);
+        return registry.hasActiveSession(String.valueOf(userId));
+    }
+
+    @Benchmark
+    public Object getSession() {
+        int userId = ThreadLocalRandom.current().nextInt(connectedUsers);
+        return registry.getSession(String.valueOf(userId));
+    }
+
+    // 재접속: 기존 세션 제거 후 같은 사용자로 다시 등록
+    @Benchmark
+    public boolean reconnect() {
+        int userId = ThreadLocalRandom.current().nextInt(connectedUsers);
+        StompHeaderAccessor accessor = accessors[userId];
+        registry.removeSession(accessor.getSessionId());
+        registry.registerSession(String.valueOf(userId), accessor);
+        return registry.hasActiveSession(String.valueOf(userId));
+    }
+
+    private static StompHeaderAccessor accessor(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        return accessor;
+    }
+}
@@ -0,0 +1,215 @@
+package com.study.chattingstudy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
+import com.study.chattingstudy.domain.chat.service.command.ChatCommandService;
+import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.repository.UserRepository;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.RestTemplateXhrTransport;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 부하 테스트 / 장시간(soak) 테스트 실행기
+ * 1. H2 + 임베디드 Redis 로 애플리케이션 기동
+ * 2. 사용자와 1:1 채팅방을 DB 에 직접 생성하고 JWT 발급 (회원가입/로그인 API 비용 제외)
+ * 3. /ws-stomp (SockJS WebSocket 전송) 으로 사용자 수만큼 STOMP 세션을 ramp-up 시간에 걸쳐 접속
+ * 4. 사용자별 전송률로 메시지를 보내며 워밍업 후 측정 구간의 처리량, 지연 시간 분위수, 오류율, 힙 사용량 기록
+ * 5. 결과를 콘솔과 JSON 파일(loadtest.report-dir)로 출력
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.users=2000 -Ploadtest.duration-seconds=600
+ */
+public final class ChatLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatLoadTest.class);
+
+    private static final int PROGRESS_INTERVAL_SECONDS = 10;
+
+    private ChatLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestMetrics metrics = new LoadTestMetrics();
+
+        try (LoadTestServer server = LoadTestServer.start()) {
+            List<SimulatedUser> users = prepareUsers(server, settings, metrics);
+            LoadTestReport report = run(server, settings, metrics, users);
+
+            System.out.println(report.summary());
+            Path reportFile = writeReport(settings.reportDir(), report);
+            log.info("부하 테스트 결과 저장: {}", reportFile.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 사용자, 채팅방 생성 및 JWT 발급
+     * - 사용자 i 는 i+1 ~ i+roomsPerUser 번째 사용자와 1:1 채팅방을 생성 (사용자별 참여 채팅방은 약 2 * roomsPerUser 개)
+     */
+    private static List<SimulatedUser> prepareUsers(LoadTestServer server, LoadTestSettings settings,
+                                                    LoadTestMetrics metrics) {
+        UserRepository userRepository = server.getBean(UserRepository.class);
+        ChatCommandService chatCommandService = server.getBean(ChatCommandService.class);
+        JwtUtil jwtUtil = server.getBean(JwtUtil.class);
+
+        // 로그인하지 않으므로 비밀번호 해시는 1회만 계산하여 공유
+        String password = server.getBean(PasswordEncoder.class).encode("loadtest-password");
+        List<User> users = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(User.builder()
+                    .email("loadtest-" + i + "@example.com")
+                    .username("loadtest-" + i)
+                    .password(password)
+                    .roles(UserRole.USER)
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<List<String>> chatIds = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            chatIds.add(new ArrayList<>());
+        }
+        for (int i = 0; i < users.size(); i++) {
+            for (int k = 1; k <= settings.roomsPerUser(); k++) {
+                int partner = (i + k) % users.size();
+                String chatId = chatCommandService.createOrGetPrivateChat(users.get(i).getId(),
+                        new ChatReqDTO.PrivateChatCreateReqDTO(users.get(partner).getId())).chatId();
+                chatIds.get(i).add(chatId);
+                chatIds.get(partner).add(chatId);
+            }
+        }
+        log.info("부하 테스트 데이터 생성 완료: users={}, roomsPerUser={}", users.size(), settings.roomsPerUser());
+
+        List<SimulatedUser> simulatedUsers = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            String accessToken = jwtUtil.createJwtAccessToken(
+                    new CustomUserDetails(user.getId(), user.getEmail(), user.getRoles()));
+            simulatedUsers.add(new SimulatedUser(user.getId(), accessToken, List.copyOf(chatIds.get(i)),
+                    settings.readReceiptRatio(), metrics));
+        }
+        return simulatedUsers;
+    }
+
+    private static LoadTestReport run(LoadTestServer server, LoadTestSettings settings, LoadTestMetrics metrics,
+                                      List<SimulatedUser> users) throws Exception {
+        WebSocketStompClient stompClient = stompClient();
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(settings.senderThreads());
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor();
+        monitor.scheduleAtFixedRate(metrics::sampleHeap, 0, 1, TimeUnit.SECONDS);
+
+        try {
+            connectAll(stompClient, server.stompUrl(), settings, metrics, users);
+
+            // 사용자마다 임의의 시작 지연을 두어 전송 시점을 고르게 분산
+            long periodMicros = Math.max(1, (long) (1_000_000 / settings.sendRatePerUser()));
+            for (SimulatedUser user : users) {
+                long initialDelay = ThreadLocalRandom.current().nextLong(periodMicros);
+                senders.scheduleAtFixedRate(user::sendOne, initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+            }
+
+            log.info("워밍업 {}초 (목표 전송률 {} msg/s)", settings.warmupSeconds(), settings.targetSendRate());
+            TimeUnit.SECONDS.sleep(settings.warmupSeconds());
+
+            metrics.startMeasurement();
+            monitor.scheduleAtFixedRate(() -> log.info("[ 진행 ] {}", metrics.progress()),
+                    PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+            TimeUnit.SECONDS.sleep(settings.durationSeconds());
+
+            senders.shutdownNow();
+            long sendStoppedAt = System.nanoTime();
+            TimeUnit.SECONDS.sleep(settings.drainSeconds());
+
+            return metrics.finish(settings, sendStoppedAt);
+        } finally {
+            senders.shutdownNow();
+            monitor.shutdownNow();
+            users.forEach(SimulatedUser::disconnect);
+            stompClient.stop();
+            if (stompClient.getTaskScheduler() instanceof ThreadPoolTaskScheduler heartbeatScheduler) {
+                heartbeatScheduler.shutdown();
+            }
+        }
+    }
+
+    // ramp-up 시간 동안 고른 간격으로 접속
+    private static void connectAll(WebSocketStompClient stompClient, String url, LoadTestSettings settings,
+                                   LoadTestMetrics metrics, List<SimulatedUser> users) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(settings.rampUpSeconds()) / users.size();
+        long startedAt = System.nanoTime();
+
+        List<CompletableFuture<?>> connects = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            long waitNanos = startedAt + i * intervalNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            connects.add(users.get(i).connect(stompClient, url).exceptionally(e -> {
+                metrics.connectFailed();
+                metrics.error("connect");
+                return null;
+            }));
+        }
+
+        CompletableFuture.allOf(connects.toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, 30, TimeUnit.SECONDS)
+                .join();
+        log.info("접속 완료: connected={}, failed={}", metrics.connectedCount(), metrics.connectFailureCount());
+    }
+
+    private static WebSocketStompClient stompClient() {
+        StandardWebSocketClient webSocketClient = new StandardWebSocketClient();
+        SockJsClient sockJsClient = new SockJsClient(List.of(
+                new WebSocketTransport(webSocketClient),
+                new RestTemplateXhrTransport()));
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(sockJsClient);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(Jackson2ObjectMapperBuilder.json().build());
+        stompClient.setMessageConverter(converter);
+
+        // 서버 하트비트 주기에 맞춰 클라이언트도 하트비트 전송 (프레즌스 갱신 경로 포함)
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("loadtest-heartbeat-");
+        heartbeatScheduler.initialize();
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        return stompClient;
+    }
+
+    private static Path writeReport(Path reportDir, LoadTestReport report) throws Exception {
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve("loadtest-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(reportFile.toFile(), report);
+        return reportFile;
+    }
+}
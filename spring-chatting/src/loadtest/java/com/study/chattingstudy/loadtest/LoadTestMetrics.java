@@ -0,0 +1,211 @@
+package com.study.chattingstudy.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값 수집
+ * - 지연 시간은 HdrHistogram Recorder 로 기록 (여러 스레드에서 잠금 없이 기록)
+ *   - delivery : 전송 시각 ~ 상대방 수신 시각
+ *   - echo     : 전송 시각 ~ 본인 구독으로 되돌아온 시각 (서버 처리 왕복)
+ * - 클라이언트와 서버가 같은 JVM 이므로 System.nanoTime 으로 바로 비교하고, 힙/GC 값도 둘을 합친 값
+ * - startMeasurement() 이전 값(접속, 워밍업)은 버림
+ */
+final class LoadTestMetrics {
+
+    // 1 µs ~ 60 s, 유효 숫자 3자리
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Recorder deliveryLatency = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final Recorder echoLatency = new Recorder(MAX_LATENCY_NANOS, 3);
+
+    // Recorder 에서 꺼낸 구간 값을 누적 (진행 상황 출력과 최종 결과에서 함께 사용)
+    private final Histogram deliveryTotal = new Histogram(MAX_LATENCY_NANOS, 3);
+    private final Histogram echoTotal = new Histogram(MAX_LATENCY_NANOS, 3);
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder echoed = new LongAdder();
+    private final LongAdder readReceipts = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeapUsed = new AtomicLong();
+
+    private volatile boolean measuring;
+    private volatile long measureStartedAt;
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+
+    // 메시지 내용에 전송 시각을 담아 수신 측에서 지연 시간을 계산
+    static String encodeSentAt(long nanoTime) {
+        return "lt:" + nanoTime;
+    }
+
+    static long decodeSentAt(String content) {
+        if (content == null || !content.startsWith("lt:")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(content.substring(3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    void connected() {
+        connected.increment();
+    }
+
+    void connectFailed() {
+        connectFailures.increment();
+    }
+
+    long connectedCount() {
+        return connected.sum();
+    }
+
+    long connectFailureCount() {
+        return connectFailures.sum();
+    }
+
+    void sent() {
+        if (measuring) {
+            sent.increment();
+        }
+    }
+
+    void delivered(long sentAtNanos) {
+        record(deliveryLatency, delivered, sentAtNanos);
+    }
+
+    void echoed(long sentAtNanos) {
+        record(echoLatency, echoed, sentAtNanos);
+    }
+
+    void readReceiptSent() {
+        if (measuring) {
+            readReceipts.increment();
+        }
+    }
+
+    // 접속 단계 오류도 포함하여 집계 (연결 실패는 측정 구간과 무관하게 중요)
+    void error(String type) {
+        errors.computeIfAbsent(type, k -> new LongAdder()).increment();
+    }
+
+    // 힙 사용량 샘플링 (주기적으로 호출)
+    void sampleHeap() {
+        long used = memoryBean.getHeapMemoryUsage().getUsed();
+        peakHeapUsed.accumulateAndGet(used, Math::max);
+    }
+
+    synchronized void startMeasurement() {
+        deliveryLatency.reset();
+        echoLatency.reset();
+        deliveryTotal.reset();
+        echoTotal.reset();
+        sent.reset();
+        delivered.reset();
+        echoed.reset();
+        readReceipts.reset();
+        peakHeapUsed.set(0);
+        gcCountAtStart = gcCount();
+        gcMillisAtStart = gcMillis();
+        measureStartedAt = System.nanoTime();
+        measuring = true;
+    }
+
+    // 전송을 멈춘 뒤 남은 메시지 수신까지 포함하여 결과 생성
+    synchronized LoadTestReport finish(LoadTestSettings settings, long sendStoppedAt) {
+        measuring = false;
+        collectIntervals();
+        double sendSeconds = (sendStoppedAt - measureStartedAt) / 1_000_000_000.0;
+
+        long sentCount = sent.sum();
+        long echoedCount = echoed.sum();
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((type, count) -> errorCounts.put(type, count.sum()));
+        // 서버에서 되돌아오지 않은 메시지 (유실 또는 drain 시간 안에 처리되지 않음)
+        long unacknowledged = Math.max(0, sentCount - echoedCount);
+        if (unacknowledged > 0) {
+            errorCounts.put("unacknowledged", unacknowledged);
+        }
+        long errorTotal = errorCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        return new LoadTestReport(
+                settings,
+                connected.sum(),
+                connectFailures.sum(),
+                sendSeconds,
+                sentCount,
+                delivered.sum(),
+                echoedCount,
+                readReceipts.sum(),
+                sentCount / sendSeconds,
+                delivered.sum() / sendSeconds,
+                errorCounts,
+                sentCount == 0 ? 0 : (double) errorTotal / sentCount,
+                LoadTestReport.Latency.of(deliveryTotal),
+                LoadTestReport.Latency.of(echoTotal),
+                toMegabytes(peakHeapUsed.get()),
+                toMegabytes(memoryBean.getHeapMemoryUsage().getMax()),
+                gcCount() - gcCountAtStart,
+                gcMillis() - gcMillisAtStart);
+    }
+
+    private void record(Recorder recorder, LongAdder counter, long sentAtNanos) {
+        if (!measuring || sentAtNanos < 0) {
+            return;
+        }
+        long latency = System.nanoTime() - sentAtNanos;
+        recorder.recordValue(Math.min(Math.max(latency, 1), MAX_LATENCY_NANOS));
+        counter.increment();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+
+    private static long toMegabytes(long bytes) {
+        return bytes < 0 ? -1 : bytes / (1024 * 1024);
+    }
+
+    // 테스트 진행 중 출력용 요약 (측정 구간 시작 후 누적값)
+    synchronized String progress() {
+        collectIntervals();
+        return String.format("sent=%d, delivered=%d, errors=%d, heapUsed=%dMB, deliveryP99=%.1fms",
+                sent.sum(), delivered.sum(),
+                errors.values().stream().mapToLong(LongAdder::sum).sum(),
+                toMegabytes(memoryBean.getHeapMemoryUsage().getUsed()),
+                deliveryTotal.getValueAtPercentile(99) / 1_000_000.0);
+    }
+
+    private void collectIntervals() {
+        deliveryTotal.add(deliveryLatency.getIntervalHistogram());
+        echoTotal.add(echoLatency.getIntervalHistogram());
+    }
+}
@@ -0,0 +1,79 @@
+package com.study.chattingstudy.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장)
+ * - 처리량은 측정 구간의 초당 건수, 지연 시간은 ms 단위
+ */
+public record LoadTestReport(
+        LoadTestSettings settings,
+        long connectedUsers,
+        long connectFailures,
+        double measuredSeconds,
+        long sent,
+        long delivered,
+        long echoed,
+        long readReceipts,
+        double sendThroughput,      // 초당 전송 메시지 수
+        double deliveryThroughput,  // 초당 상대방 수신 메시지 수
+        Map<String, Long> errors,   // 오류 유형별 건수
+        double errorRate,           // 오류 건수 / 전송 건수
+        Latency deliveryLatency,
+        Latency echoLatency,
+        long peakHeapUsedMb,
+        long maxHeapMb,
+        long gcCount,
+        long gcMillis
+) {
+
+    public record Latency(
+            long count,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            double mean
+    ) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                    histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    histogram.getMean() / 1_000_000.0);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, p50=%.2fms, p90=%.2fms, p99=%.2fms, p99.9=%.2fms, max=%.2fms",
+                    count, p50, p90, p99, p999, max);
+        }
+    }
+
+    // 콘솔 출력용 요약
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("===== 부하 테스트 결과 =====\n");
+        sb.append(String.format("사용자: %d (접속 실패 %d), 사용자별 채팅방: %d, 목표 전송률: %.1f msg/s%n",
+                connectedUsers, connectFailures, settings.roomsPerUser(), settings.targetSendRate()));
+        sb.append(String.format("측정 시간: %.1fs, 전송: %d, 수신: %d, 왕복: %d, 읽음 처리: %d%n",
+                measuredSeconds, sent, delivered, echoed, readReceipts));
+        sb.append(String.format("처리량: 전송 %.1f msg/s, 수신 %.1f msg/s%n", sendThroughput, deliveryThroughput));
+        sb.append(String.format("오류율: %.4f %s%n", errorRate, errors));
+        sb.append("수신 지연: ").append(deliveryLatency).append('\n');
+        sb.append("왕복 지연: ").append(echoLatency).append('\n');
+        sb.append(String.format("힙: 최대 사용 %dMB / 최대 %dMB, GC %d회 (%dms)", peakHeapUsedMb, maxHeapMb, gcCount, gcMillis));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.study.chattingstudy.loadtest;
+
+import com.study.chattingstudy.ChattingStudyApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트 대상 애플리케이션
+ * - MySQL 대신 H2(MySQL 모드), Redis 대신 임베디드 Redis 를 사용하여 같은 프로세스에서 실행
+ * - 파일 기반 저장소(세그먼트, 검색 색인, 아카이브)는 임시 디렉터리 사용
+ * - H2 는 메모리 DB 이므로 측정값은 DB I/O 를 제외한 애플리케이션/브로커 처리 한계로 해석
+ */
+final class LoadTestServer implements AutoCloseable {
+
+    private static final String JWT_SECRET = "loadtest-secret-key-loadtest-secret-key-0123456789";
+
+    private final Path dataDir;
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestServer(Path dataDir, RedisServer redisServer, ConfigurableApplicationContext context) {
+        this.dataDir = dataDir;
+        this.redisServer = redisServer;
+        this.context = context;
+    }
+
+    static LoadTestServer start() throws IOException {
+        Path dataDir = Files.createTempDirectory("chat-loadtest");
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        try {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ChattingStudyApplication.class)
+                    .properties(properties(dataDir, redisPort))
+                    .run();
+            return new LoadTestServer(dataDir, redisServer, context);
+        } catch (RuntimeException e) {
+            redisServer.stop();
+            throw e;
+        }
+    }
+
+    private static Map<String, Object> properties(Path dataDir, int redisPort) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        // 관리 포트(actuator)도 임의 포트로 열어 고정 포트(8081) 충돌로 기동이 실패하지 않게 함
+        properties.put("management.server.port", 0);
+
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", 20);
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.open-in-view", false);
+
+        properties.put("spring.data.redis.host", "localhost");
+        properties.put("spring.data.redis.port", redisPort);
+
+        properties.put("spring.jwt.secret", JWT_SECRET);
+        properties.put("spring.jwt.token.access-expiration-time", 86_400_000L);
+        properties.put("spring.jwt.token.refresh-expiration-time", 86_400_000L);
+
+        properties.put("chat.message-store.segment.dir", dataDir.resolve("message-segments").toString());
+        properties.put("chat.search.dir", dataDir.resolve("search-index").toString());
+        properties.put("chat.archive.dir", dataDir.resolve("message-archive").toString());
+
+        // 메시지마다 남기는 INFO 로그가 콘솔 출력 한계로 측정값을 좌우하지 않도록 WARN 이상만 출력
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.study.chattingstudy.loadtest", "INFO");
+        return properties;
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    String stompUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/ws-stomp";
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            context.close();
+        } finally {
+            redisServer.stop();
+            deleteRecursively(dataDir);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.study.chattingstudy.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 변경)
+ * - 예: ./gradlew loadTest -Ploadtest.users=5000 -Ploadtest.send-rate=0.5
+ *
+ * @param users             동시 접속 사용자 수
+ * @param roomsPerUser      사용자마다 새로 만드는 1:1 채팅방 수 (사용자 i 와 i+1 ~ i+roomsPerUser)
+ * @param sendRatePerUser   사용자별 초당 메시지 전송 수
+ * @param readReceiptRatio  받은 메시지에 읽음 처리를 보내는 비율 (0 ~ 1)
+ * @param rampUpSeconds     전체 사용자 접속에 걸리는 시간
+ * @param warmupSeconds     측정 전 전송 시간 (측정값에서 제외)
+ * @param durationSeconds   측정 시간
+ * @param drainSeconds      전송 중단 후 남은 메시지 수신을 기다리는 시간
+ * @param senderThreads     메시지 전송 스케줄러 스레드 수
+ * @param reportDir         결과(JSON) 저장 디렉터리
+ */
+public record LoadTestSettings(
+        int users,
+        int roomsPerUser,
+        double sendRatePerUser,
+        double readReceiptRatio,
+        int rampUpSeconds,
+        int warmupSeconds,
+        int durationSeconds,
+        int drainSeconds,
+        int senderThreads,
+        Path reportDir
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                intProperty("users", 1000),
+                intProperty("rooms-per-user", 2),
+                doubleProperty("send-rate", 0.2),
+                doubleProperty("read-receipt-ratio", 0.5),
+                intProperty("ramp-up-seconds", 20),
+                intProperty("warmup-seconds", 15),
+                intProperty("duration-seconds", 60),
+                intProperty("drain-seconds", 5),
+                intProperty("sender-threads", 4),
+                Path.of(System.getProperty("loadtest.report-dir", "build/loadtest")));
+        settings.validate();
+        return settings;
+    }
+
+    private void validate() {
+        if (users < 2) {
+            throw new IllegalArgumentException("loadtest.users 는 2 이상이어야 합니다: " + users);
+        }
+        if (roomsPerUser < 1 || roomsPerUser >= users) {
+            throw new IllegalArgumentException("loadtest.rooms-per-user 는 1 이상 users 미만이어야 합니다: " + roomsPerUser);
+        }
+        if (sendRatePerUser <= 0) {
+            throw new IllegalArgumentException("loadtest.send-rate 는 0 보다 커야 합니다: " + sendRatePerUser);
+        }
+        if (readReceiptRatio < 0 || readReceiptRatio > 1) {
+            throw new IllegalArgumentException("loadtest.read-receipt-ratio 는 0 ~ 1 이어야 합니다: " + readReceiptRatio);
+        }
+    }
+
+    // 전체 목표 전송률 (초당 메시지 수)
+    public double targetSendRate() {
+        return users * sendRatePerUser;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
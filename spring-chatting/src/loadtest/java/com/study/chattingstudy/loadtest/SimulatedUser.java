@@ -0,0 +1,143 @@
+package com.study.chattingstudy.loadtest;
+
+import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시뮬레이션 STOMP 클라이언트 (사용자 1명)
+ * - CONNECT 시 JWT 로 인증하고 참여 중인 채팅방을 모두 구독
+ * - sendOne() 이 호출될 때마다 임의의 채팅방에 메시지 1건 전송
+ * - 상대방 메시지를 받으면 설정된 비율로 읽음 처리 전송
+ */
+final class SimulatedUser extends StompSessionHandlerAdapter {
+
+    private final Long userId;
+    private final String accessToken;
+    private final List<String> chatIds;
+    private final double readReceiptRatio;
+    private final LoadTestMetrics metrics;
+
+    private volatile StompSession session;
+
+    SimulatedUser(Long userId, String accessToken, List<String> chatIds, double readReceiptRatio,
+                  LoadTestMetrics metrics) {
+        this.userId = userId;
+        this.accessToken = accessToken;
+        this.chatIds = chatIds;
+        this.readReceiptRatio = readReceiptRatio;
+        this.metrics = metrics;
+    }
+
+    CompletableFuture<StompSession> connect(WebSocketStompClient client, String url) {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + accessToken);
+        return client.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, this);
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        for (String chatId : chatIds) {
+            session.subscribe("/sub/chat/private/" + chatId, new RoomHandler(chatId));
+        }
+        this.session = session;
+        metrics.connected();
+    }
+
+    void sendOne() {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            return;
+        }
+
+        String chatId = chatIds.get(ThreadLocalRandom.current().nextInt(chatIds.size()));
+        try {
+            current.send("/pub/chat/private",
+                    new ChatReqDTO.MessageSendReqDTO(chatId, LoadTestMetrics.encodeSentAt(System.nanoTime())));
+            metrics.sent();
+        } catch (RuntimeException e) {
+            metrics.error("send");
+        }
+    }
+
+    void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+    }
+
+    // 서버가 보낸 ERROR 프레임
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        metrics.error("stomp-error-frame");
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        metrics.error("stomp-exception");
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        metrics.error(session.isConnected() ? "transport" : "connection-closed");
+    }
+
+    private void sendReadReceipt(String chatId, String messageId) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            return;
+        }
+        try {
+            current.send("/pub/chat/read", new ChatReqDTO.MessageReadReqDTO(chatId, messageId));
+            metrics.readReceiptSent();
+        } catch (RuntimeException e) {
+            metrics.error("send");
+        }
+    }
+
+    /**
+     * 채팅방 구독 메시지 처리
+     */
+    private final class RoomHandler implements StompFrameHandler {
+
+        private final String chatId;
+
+        private RoomHandler(String chatId) {
+            this.chatId = chatId;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return ChatResDTO.MessageResDTO.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            ChatResDTO.MessageResDTO message = (ChatResDTO.MessageResDTO) payload;
+            long sentAt = LoadTestMetrics.decodeSentAt(message.content());
+
+            if (userId.equals(message.senderId())) {
+                metrics.echoed(sentAt);
+                return;
+            }
+
+            metrics.delivered(sentAt);
+            if (ThreadLocalRandom.current().nextDouble() < readReceiptRatio) {
+                sendReadReceipt(chatId, message.messageId());
+            }
+        }
+    }
+}
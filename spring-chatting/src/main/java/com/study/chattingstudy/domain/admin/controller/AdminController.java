@@ -0,0 +1,81 @@
+package com.study.chattingstudy.domain.admin.controller;
+
+import com.study.chattingstudy.domain.admin.dto.response.AdminResDTO;
+import com.study.chattingstudy.domain.admin.service.FlightRecordingService;
+import com.study.chattingstudy.domain.admin.service.LiveStatsService;
+import com.study.chattingstudy.global.apiPayload.CustomResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 운영 관리 API (ADMIN 권한 필요)
+ */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "운영 관리 API", description = "관리자 전용 운영 API입니다.")
+public class AdminController {
+
+    private final FlightRecordingService flightRecordingService;
+    private final LiveStatsService liveStatsService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "운영 통계 조회", description = "전송 방식별 세션 수, 메시지/구독자 수 상위 채팅방, " +
+            "소켓 쓰기가 밀려 있는 세션, STOMP 채널 실행기 포화도를 조회합니다. " +
+            "채팅방 순위는 주기적으로 갱신되는 스냅샷입니다.")
+    public CustomResponse<AdminResDTO.LiveStatsDTO> getStats() {
+        return CustomResponse.onSuccess(liveStatsService.getStats());
+    }
+
+    @PostMapping("/jfr/start")
+    @Operation(summary = "JFR 녹화 시작", description = "최근 maxAgeMinutes 분을 보관하는 JFR 녹화를 시작합니다. " +
+            "settings 는 default(상시 사용 가능한 낮은 오버헤드) 또는 profile(자세한 샘플링)입니다.")
+    public CustomResponse<AdminResDTO.JfrRecordingDTO> startRecording(
+            @RequestParam(defaultValue = "default") String settings,
+            @RequestParam(defaultValue = "10") long maxAgeMinutes) {
+
+        log.info("JFR 녹화 시작 요청: settings={}, maxAgeMinutes={}", settings, maxAgeMinutes);
+        return CustomResponse.onSuccess(flightRecordingService.start(settings, Duration.ofMinutes(maxAgeMinutes)));
+    }
+
+    @GetMapping("/jfr")
+    @Operation(summary = "JFR 녹화 상태 조회", description = "진행 중인 JFR 녹화의 상태를 조회합니다.")
+    public CustomResponse<AdminResDTO.JfrRecordingDTO> getRecording() {
+        return CustomResponse.onSuccess(flightRecordingService.status());
+    }
+
+    @PostMapping("/jfr/dump")
+    @Operation(summary = "JFR 녹화 내려받기", description = "진행 중인 녹화의 현재까지 내용을 파일로 저장하고 내려받습니다. 녹화는 계속됩니다.")
+    public ResponseEntity<Resource> dumpRecording() {
+        log.info("JFR 녹화 저장 요청");
+        Path file = flightRecordingService.dump();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(file));
+    }
+
+    @PostMapping("/jfr/stop")
+    @Operation(summary = "JFR 녹화 중지", description = "녹화를 중지하고 마지막 내용을 서버의 녹화 디렉터리에 저장합니다.")
+    public CustomResponse<AdminResDTO.JfrRecordingDTO> stopRecording() {
+        log.info("JFR 녹화 중지 요청");
+        return CustomResponse.onSuccess(flightRecordingService.stop());
+    }
+}
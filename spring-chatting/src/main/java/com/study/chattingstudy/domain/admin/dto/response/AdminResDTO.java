@@ -0,0 +1,78 @@
+package com.study.chattingstudy.domain.admin.dto.response;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public class AdminResDTO {
+
+    // JFR 녹화 상태 응답 DTO
+    @Builder
+    public record JfrRecordingDTO(
+            long id,
+            String name,
+            String state,           // NEW, RUNNING, STOPPED, CLOSED
+            String settings,        // default, profile
+            Instant startedAt,
+            long maxAgeSeconds,     // 보관하는 최근 녹화 구간
+            String lastDumpFile     // 마지막으로 저장한 파일 (없으면 null)
+    ) {
+    }
+
+    // 운영 통계 응답 DTO
+    @Builder
+    public record LiveStatsDTO(
+            Instant collectedAt,
+            SessionStatsDTO sessions,
+            List<RoomStatsDTO> topRoomsByMessages,      // 직전 집계 구간의 메시지 수 상위 채팅방
+            List<RoomStatsDTO> topRoomsBySubscribers,   // 구독자 수 상위 채팅방 (주기적 스냅샷)
+            long roomWindowMs,                          // 메시지 수 집계 구간
+            List<BackedUpSessionDTO> backedUpSessions,  // 소켓 쓰기가 밀려 있는 세션 (오래된 순)
+            List<ExecutorStatsDTO> executors            // STOMP 채널 실행기 상태
+    ) {
+    }
+
+    // 세션 통계 DTO
+    @Builder
+    public record SessionStatsDTO(
+            int total,
+            Map<String, Integer> byTransport,   // websocket, sockjs-websocket, sockjs-streaming, sockjs-polling, raw-websocket
+            int subscribedRooms,                // 구독자가 있는 채팅방 수
+            int activeRooms                     // 직전 집계 구간에 메시지가 있었던 채팅방 수
+    ) {
+    }
+
+    // 채팅방 통계 DTO
+    @Builder
+    public record RoomStatsDTO(
+            String chatId,
+            long messages,              // 직전 집계 구간의 메시지 수
+            double messagesPerSecond,
+            int subscribers
+    ) {
+    }
+
+    // 소켓 쓰기가 밀려 있는 세션 DTO
+    @Builder
+    public record BackedUpSessionDTO(
+            String sessionId,
+            String transport,
+            long sendingForMs           // 진행 중인 소켓 쓰기 경과 시간
+    ) {
+    }
+
+    // 실행기 상태 DTO
+    @Builder
+    public record ExecutorStatsDTO(
+            String name,                // clientInboundChannel, clientOutboundChannel, brokerChannel
+            int activeThreads,
+            int poolSize,
+            int maxPoolSize,
+            int queued,                 // 대기열에 쌓인 작업 수
+            int queueRemainingCapacity,
+            double saturation           // activeThreads / maxPoolSize
+    ) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.study.chattingstudy.domain.admin.exception;
+
+import com.study.chattingstudy.global.apiPayload.code.BaseErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@AllArgsConstructor
+public enum AdminErrorCode implements BaseErrorCode {
+
+    // JFR 녹화 관련 에러
+    INVALID_JFR_SETTINGS(HttpStatus.BAD_REQUEST, "ADMIN400_0", "JFR 설정이 올바르지 않습니다. (settings: default 또는 profile, maxAge: 1분 이상)"),
+    JFR_NOT_RECORDING(HttpStatus.NOT_FOUND, "ADMIN404_0", "진행 중인 JFR 녹화가 없습니다."),
+    JFR_ALREADY_RECORDING(HttpStatus.CONFLICT, "ADMIN409_0", "이미 진행 중인 JFR 녹화가 있습니다."),
+    JFR_DUMP_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "ADMIN500_0", "JFR 녹화 파일 저장 중 오류가 발생했습니다.");
+
+    private final HttpStatus httpStatus;
+    private final String code;
+    private final String message;
+}
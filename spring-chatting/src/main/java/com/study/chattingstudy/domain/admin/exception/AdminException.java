@@ -0,0 +1,13 @@
+package com.study.chattingstudy.domain.admin.exception;
+
+import com.study.chattingstudy.global.apiPayload.code.BaseErrorCode;
+import com.study.chattingstudy.global.apiPayload.exception.CustomException;
+import lombok.Getter;
+
+@Getter
+public class AdminException extends CustomException {
+
+    public AdminException(BaseErrorCode errorCode) {
+        super(errorCode);
+    }
+}
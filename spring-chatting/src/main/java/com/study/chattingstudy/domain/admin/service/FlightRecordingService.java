@@ -0,0 +1,176 @@
+package com.study.chattingstudy.domain.admin.service;
+
+import com.study.chattingstudy.domain.admin.dto.response.AdminResDTO;
+import com.study.chattingstudy.domain.admin.exception.AdminErrorCode;
+import com.study.chattingstudy.domain.admin.exception.AdminException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 요청 시 JFR(Java Flight Recorder) 녹화 시작/저장/중지
+ * - 최근 maxAge 구간만 보관하는 녹화를 하나만 유지하고, dump 시점까지의 내용을 파일로 저장 (녹화는 계속됨)
+ * - 채팅 이벤트(com.study.chattingstudy.*)는 JVM 기본 이벤트와 함께 기록됨
+ * - jcmd <pid> JFR.start / JFR.dump 로 시작한 녹화에도 같은 이벤트가 포함됨
+ */
+@Slf4j
+@Service
+public class FlightRecordingService {
+
+    private static final String RECORDING_NAME = "chat-on-demand";
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // 녹화 파일 저장 디렉터리
+    @Value("${chat.jfr.dir:./data/jfr}")
+    private String dir;
+
+    // 디렉터리에 보관할 최대 녹화 파일 수 (오래된 파일부터 삭제)
+    @Value("${chat.jfr.max-files:10}")
+    private int maxFiles;
+
+    // 녹화가 디스크에 보관하는 최대 크기
+    @Value("${chat.jfr.max-size-bytes:268435456}")
+    private long maxSizeBytes;
+
+    private Recording recording;
+    private String recordingSettings;
+    private Path lastDumpFile;
+
+    /**
+     * 녹화 시작
+     * @param settings JDK 기본 설정 이름 (default: 상시 사용 가능한 낮은 오버헤드, profile: 더 자세한 샘플링)
+     * @param maxAge 보관할 최근 녹화 구간
+     */
+    public synchronized AdminResDTO.JfrRecordingDTO start(String settings, Duration maxAge) {
+        if (recording != null) {
+            throw new AdminException(AdminErrorCode.JFR_ALREADY_RECORDING);
+        }
+        if (!SETTINGS.contains(settings) || maxAge.compareTo(Duration.ofMinutes(1)) < 0) {
+            throw new AdminException(AdminErrorCode.INVALID_JFR_SETTINGS);
+        }
+
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName(RECORDING_NAME);
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.start();
+
+            recording = newRecording;
+            recordingSettings = settings;
+            lastDumpFile = null;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        }
+
+        log.info("[ FlightRecordingService ] JFR 녹화 시작: settings={}, maxAge={}", settings, maxAge);
+        return toDTO();
+    }
+
+    /**
+     * 현재까지의 녹화 내용을 파일로 저장 (녹화는 계속됨)
+     * @return 저장된 파일 경로
+     */
+    public synchronized Path dump() {
+        if (recording == null) {
+            throw new AdminException(AdminErrorCode.JFR_NOT_RECORDING);
+        }
+        return dumpTo(recording);
+    }
+
+    /**
+     * 녹화를 중지하고 마지막 내용을 파일로 저장
+     */
+    public synchronized AdminResDTO.JfrRecordingDTO stop() {
+        if (recording == null) {
+            throw new AdminException(AdminErrorCode.JFR_NOT_RECORDING);
+        }
+
+        try {
+            recording.stop();
+            dumpTo(recording);
+            return toDTO();
+        } finally {
+            recording.close();
+            recording = null;
+            log.info("[ FlightRecordingService ] JFR 녹화 중지: file={}", lastDumpFile);
+        }
+    }
+
+    public synchronized AdminResDTO.JfrRecordingDTO status() {
+        if (recording == null) {
+            throw new AdminException(AdminErrorCode.JFR_NOT_RECORDING);
+        }
+        return toDTO();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path dumpTo(Recording target) {
+        try {
+            Path directory = Paths.get(dir);
+            Files.createDirectories(directory);
+
+            Path file = directory.resolve("chat-" + LocalDateTime.now().format(FILE_TIME_FORMAT)
+                    + "-" + target.getId() + ".jfr");
+            target.dump(file);
+            lastDumpFile = file;
+
+            deleteOldFiles(directory);
+            log.info("[ FlightRecordingService ] JFR 녹화 저장: file={}, size={}", file, Files.size(file));
+            return file;
+        } catch (IOException e) {
+            log.error("[ FlightRecordingService ] JFR 녹화 저장 실패: {}", e.getMessage());
+            throw new AdminException(AdminErrorCode.JFR_DUMP_FAILED);
+        }
+    }
+
+    private void deleteOldFiles(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(path -> path.getFileName().toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private AdminResDTO.JfrRecordingDTO toDTO() {
+        Duration maxAge = recording.getMaxAge();
+        return AdminResDTO.JfrRecordingDTO.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(recordingSettings)
+                .startedAt(recording.getStartTime())
+                .maxAgeSeconds(maxAge != null ? maxAge.toSeconds() : 0)
+                .lastDumpFile(lastDumpFile != null ? lastDumpFile.toString() : null)
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.chattingstudy.domain.admin.service;
+
+import com.study.chattingstudy.domain.admin.dto.response.AdminResDTO;
+import com.study.chattingstudy.global.config.handler.ChatWebSocketHandler;
+import com.study.chattingstudy.global.config.handler.RoomSubscriptionTracker;
+import com.study.chattingstudy.global.config.handler.SlowConsumerTracker;
+import com.study.chattingstudy.global.metrics.ChatMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 운영 통계 조회
+ * - 세션/구독/메시지 수는 각 구성 요소가 연결·구독·전송 시점에 증감해 둔 카운터와 주기적 스냅샷을 읽기만 함
+ * - 전체 세션을 순회하지 않으므로 조회가 메시지 처리 경로를 막지 않음
+ * - 느린 세션 목록은 소켓 쓰기가 진행 중인 세션만 확인
+ */
+@Service
+public class LiveStatsService {
+
+    // 응답에 포함할 느린 세션 최대 수
+    @Value("${chat.stats.backed-up-sessions:20}")
+    private int backedUpSessionLimit;
+
+    private final SlowConsumerTracker slowConsumerTracker;
+    private final RoomSubscriptionTracker roomSubscriptionTracker;
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final ChatMetrics chatMetrics;
+
+    // STOMP 채널 실행기 (AbstractMessageBrokerConfiguration 이 등록하는 빈)
+    private final Map<String, TaskExecutor> channelExecutors;
+
+    public LiveStatsService(SlowConsumerTracker slowConsumerTracker,
+                            RoomSubscriptionTracker roomSubscriptionTracker,
+                            ChatWebSocketHandler chatWebSocketHandler,
+                            ChatMetrics chatMetrics,
+                            @Qualifier("clientInboundChannelExecutor") TaskExecutor inboundExecutor,
+                            @Qualifier("clientOutboundChannelExecutor") TaskExecutor outboundExecutor,
+                            @Qualifier("brokerChannelExecutor") TaskExecutor brokerExecutor) {
+        this.slowConsumerTracker = slowConsumerTracker;
+        this.roomSubscriptionTracker = roomSubscriptionTracker;
+        this.chatWebSocketHandler = chatWebSocketHandler;
+        this.chatMetrics = chatMetrics;
+        this.channelExecutors = new LinkedHashMap<>();
+        channelExecutors.put("clientInboundChannel", inboundExecutor);
+        channelExecutors.put("clientOutboundChannel", outboundExecutor);
+        channelExecutors.put("brokerChannel", brokerExecutor);
+    }
+
+    public AdminResDTO.LiveStatsDTO getStats() {
+        Map<String, Integer> byTransport = slowConsumerTracker.getTransportCounts();
+        int rawSessions = chatWebSocketHandler.getSessionCount();
+        byTransport.put("raw-websocket", rawSessions);
+
+        AdminResDTO.SessionStatsDTO sessions = AdminResDTO.SessionStatsDTO.builder()
+                .total(slowConsumerTracker.getSessionCount() + rawSessions)
+                .byTransport(byTransport)
+                .subscribedRooms(roomSubscriptionTracker.getSubscribedRooms())
+                .activeRooms(chatMetrics.getActiveRooms())
+                .build();
+
+        long windowMs = chatMetrics.getRoomWindowMs();
+        List<AdminResDTO.RoomStatsDTO> topByMessages = chatMetrics.getTopRooms().stream()
+                .map(room -> toRoomStats(room.chatId(), room.messages(), windowMs))
+                .toList();
+        List<AdminResDTO.RoomStatsDTO> topBySubscribers = roomSubscriptionTracker.getTopRooms().stream()
+                .map(room -> toRoomStats(room.chatId(), chatMetrics.getRoomMessages(room.chatId()), windowMs))
+                .toList();
+
+        List<AdminResDTO.BackedUpSessionDTO> backedUp = slowConsumerTracker.getBackedUpSessions(backedUpSessionLimit)
+                .stream()
+                .map(session -> AdminResDTO.BackedUpSessionDTO.builder()
+                        .sessionId(session.sessionId())
+                        .transport(session.transport())
+                        .sendingForMs(session.sendingForMs())
+                        .build())
+                .toList();
+
+        List<AdminResDTO.ExecutorStatsDTO> executors = new ArrayList<>();
+        channelExecutors.forEach((name, executor) -> {
+            if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+                executors.add(toExecutorStats(name, threadPool));
+            }
+        });
+
+        return AdminResDTO.LiveStatsDTO.builder()
+                .collectedAt(Instant.now())
+                .sessions(sessions)
+                .topRoomsByMessages(topByMessages)
+                .topRoomsBySubscribers(topBySubscribers)
+                .roomWindowMs(windowMs)
+                .backedUpSessions(backedUp)
+                .executors(executors)
+                .build();
+    }
+
+    private AdminResDTO.RoomStatsDTO toRoomStats(String chatId, long messages, long windowMs) {
+        return AdminResDTO.RoomStatsDTO.builder()
+                .chatId(chatId)
+                .messages(messages)
+                .messagesPerSecond(messages * 1000.0 / windowMs)
+                .subscribers(roomSubscriptionTracker.getSubscribers(chatId))
+                .build();
+    }
+
+    private AdminResDTO.ExecutorStatsDTO toExecutorStats(String name, ThreadPoolTaskExecutor executor) {
+        int active = executor.getActiveCount();
+        int maxPoolSize = executor.getMaxPoolSize();
+        BlockingQueue<Runnable> queue = executor.getThreadPoolExecutor().getQueue();
+
+        return AdminResDTO.ExecutorStatsDTO.builder()
+                .name(name)
+                .activeThreads(active)
+                .poolSize(executor.getPoolSize())
+                .maxPoolSize(maxPoolSize)
+                .queued(queue.size())
+                .queueRemainingCapacity(queue.remainingCapacity())
+                .saturation(maxPoolSize > 0 ? (double) active / maxPoolSize : 0)
+                .build();
+    }
+}
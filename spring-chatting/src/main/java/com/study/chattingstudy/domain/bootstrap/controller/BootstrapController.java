@@ -0,0 +1,47 @@
+package com.study.chattingstudy.domain.bootstrap.controller;
+
+import com.study.chattingstudy.domain.bootstrap.service.BootstrapService;
+import com.study.chattingstudy.domain.user.security.annotation.CurrentUser;
+import com.study.chattingstudy.domain.user.security.userdetails.AuthUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/bootstrap")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "부트스트랩 API", description = "앱 시작 시 필요한 데이터를 한 번에 조회하는 API입니다.")
+public class BootstrapController {
+
+    private final BootstrapService bootstrapService;
+
+    /**
+     * 앱 시작 데이터 조회 API
+     * - 사용자 정보, 1:1 채팅방 목록, 최근 채팅방의 첫 메시지 페이지를 한 번의 요청으로 스트리밍
+     */
+    @GetMapping("")
+    @Operation(summary = "앱 시작 데이터 조회", description = "사용자 정보, 1:1 채팅방 목록, 최근 활동한 채팅방 N개의 첫 메시지 페이지를 한 번에 조회합니다.")
+    public ResponseEntity<StreamingResponseBody> bootstrap(
+            @CurrentUser AuthUser authUser,
+            @RequestParam(required = false) Integer rooms,
+            @RequestParam(required = false) Integer limit) {
+
+        Long userId = authUser.getUserId();
+        log.info("HTTP 부트스트랩 요청: userId={}, rooms={}, limit={}", userId, rooms, limit);
+
+        StreamingResponseBody body = out -> bootstrapService.writeBootstrap(userId, rooms, limit, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
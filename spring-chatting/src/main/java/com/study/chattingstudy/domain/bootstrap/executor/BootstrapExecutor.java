@@ -0,0 +1,63 @@
+package com.study.chattingstudy.domain.bootstrap.executor;
+
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
+import com.study.chattingstudy.global.query.QueryBudget;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 부트스트랩 조회 전용 워커 풀
+ * - 서로 독립적인 조회(사용자 정보, 채팅방 목록, 채팅방별 첫 페이지)를 병렬로 실행
+ * - 대기열이 가득 차면 호출한 스레드에서 직접 실행하여 요청을 거절하지 않고 순차 처리로 전환
+ * - 요청의 SQL 집계 범위와 읽는 사용자(쓰기 직후 읽기 고정 확인용)를 워커 스레드로 넘김
+ */
+@Slf4j
+@Component
+public class BootstrapExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public BootstrapExecutor(@Value("${chat.bootstrap.executor.pool-size:8}") int poolSize,
+                             @Value("${chat.bootstrap.executor.queue-capacity:500}") int queueCapacity,
+                             MeterRegistry meterRegistry) {
+
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bootstrap-worker-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        Gauge.builder("chat.bootstrap.queue.size", executor, e -> e.getQueue().size())
+                .description("부트스트랩 워커 풀 대기열 크기")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        // 작업 대신 실행 단위를 감싸서, 완료 직후 같은 스레드에서 이어 실행되는 후속 작업(thenApply)도 같은 문맥을 사용
+        return CompletableFuture.supplyAsync(task, command ->
+                executor.execute(ReadYourWritesTracker.propagate(QueryBudget.propagate(command))));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("[ BootstrapExecutor ] 종료 대기 시간 초과, 남은 작업을 중단합니다.");
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.study.chattingstudy.domain.bootstrap.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.chattingstudy.domain.bootstrap.executor.BootstrapExecutor;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import com.study.chattingstudy.domain.chat.service.query.ChatQueryService;
+import com.study.chattingstudy.domain.user.dto.response.UserResDTO;
+import com.study.chattingstudy.domain.user.service.query.UserQueryService;
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 앱 시작 시 필요한 데이터를 한 번에 조회하여 스트리밍
+ * - 사용자 정보와 채팅방 목록을 병렬 조회하고, 최근 활동한 채팅방 N개의 첫 페이지를 병렬 조회
+ * - 응답은 CustomResponse 와 같은 형식이며 채팅방 첫 페이지는 준비되는 대로 기록/flush
+ * - 사용자 정보와 채팅방 목록은 응답 헤더를 쓰기 전에 모두 기다림 (실패하면 일반 에러 응답)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BootstrapService {
+
+    private static final int DEFAULT_ROOM_COUNT = 3;
+    private static final int MAX_ROOM_COUNT = 10;
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserQueryService userQueryService;
+    private final ChatQueryService chatQueryService;
+    private final BootstrapExecutor bootstrapExecutor;
+    private final ObjectMapper objectMapper;
+
+    // 채팅방 첫 페이지 조회 대기 시간 (초과 시 해당 채팅방은 failedChatIds 로 전달)
+    @Value("${chat.bootstrap.page-timeout-ms:3000}")
+    private long pageTimeoutMs;
+
+    /**
+     * 부트스트랩 응답 작성
+     * @param userId 사용자 ID
+     * @param roomCount 첫 페이지를 함께 조회할 최근 채팅방 수
+     * @param pageSize 채팅방별 메시지 수
+     * @param out 응답 스트림
+     */
+    public void writeBootstrap(Long userId, Integer roomCount, Integer pageSize, OutputStream out) throws IOException {
+        int rooms = clamp(roomCount, DEFAULT_ROOM_COUNT, MAX_ROOM_COUNT);
+        int limit = clamp(pageSize, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+
+        // 서로 독립적인 조회를 동시에 시작
+        // (워커 스레드의 조회도 이 사용자의 쓰기 직후 읽기 고정을 따르도록 읽는 사용자를 지정한 상태로 작업을 넘김)
+        CompletableFuture<UserResDTO.UserResponseDTO> userFuture;
+        CompletableFuture<List<RoomPage>> pagesFuture;
+        CompletableFuture<List<ChatRoomResDTO.ChatRoomListResDTO>> chatsFuture;
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(userId)) {
+            userFuture = bootstrapExecutor.supply(() -> userQueryService.getUserInfo(userId));
+            chatsFuture = bootstrapExecutor.supply(() -> chatQueryService.getUserPrivateChats(userId));
+
+            // 채팅방 목록이 준비되면 최근 활동한 채팅방의 첫 페이지 조회를 바로 시작
+            pagesFuture = chatsFuture.thenApply(chats ->
+                    recentChatIds(chats, rooms).stream()
+                            .map(chatId -> new RoomPage(chatId, bootstrapExecutor.supply(() ->
+                                    chatQueryService.getChatMessages(userId, chatId, limit, null))))
+                            .toList());
+        }
+
+        // 사용자 정보/채팅방 목록 조회 실패 시 응답을 쓰기 전에 예외를 던져 일반 에러 응답으로 처리
+        // (응답을 쓰기 시작한 뒤에는 채팅방 첫 페이지만 failedChatIds 로 부분 실패 처리)
+        UserResDTO.UserResponseDTO user = join(userFuture);
+        List<ChatRoomResDTO.ChatRoomListResDTO> chats = join(chatsFuture);
+        List<RoomPage> pages = join(pagesFuture);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("isSuccess", true);
+            generator.writeStringField("code", String.valueOf(HttpStatus.OK.value()));
+            generator.writeStringField("message", HttpStatus.OK.getReasonPhrase());
+            generator.writeObjectFieldStart("result");
+
+            generator.writeObjectField("user", user);
+            generator.flush();
+
+            generator.writeObjectField("chats", chats);
+            generator.flush();
+
+            // 채팅방 첫 페이지는 준비된 순서가 아니라 최근 활동 순서로 기록
+            List<String> failedChatIds = new ArrayList<>();
+            generator.writeArrayFieldStart("rooms");
+            for (RoomPage page : pages) {
+                ChatResDTO.MessageListResDTO messages = awaitPage(page, failedChatIds);
+                if (messages == null) {
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField("chatId", page.chatId());
+                generator.writeObjectField("messages", messages);
+                generator.writeEndObject();
+                generator.flush();
+            }
+            generator.writeEndArray();
+
+            // 실패한 채팅방은 클라이언트가 메시지 조회 API 로 보충
+            generator.writeObjectField("failedChatIds", failedChatIds);
+
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    private ChatResDTO.MessageListResDTO awaitPage(RoomPage page, List<String> failedChatIds) {
+        try {
+            return page.future().get(pageTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("부트스트랩 채팅방 첫 페이지 조회 실패: chatId={}, reason={}", page.chatId(), e.toString());
+        }
+        page.future().cancel(false);
+        failedChatIds.add(page.chatId());
+        return null;
+    }
+
+    // 마지막 메시지 시각 기준 최근 활동한 채팅방 ID (메시지가 없는 채팅방은 제외)
+    private List<String> recentChatIds(List<ChatRoomResDTO.ChatRoomListResDTO> chats, int rooms) {
+        return chats.stream()
+                .filter(chat -> chat.lastMessage() != null && chat.lastMessage().createdAt() != null)
+                .sorted(Comparator.comparing(
+                        (ChatRoomResDTO.ChatRoomListResDTO chat) -> chat.lastMessage().createdAt(),
+                        Comparator.<LocalDateTime>reverseOrder()))
+                .limit(rooms)
+                .map(ChatRoomResDTO.ChatRoomListResDTO::chatId)
+                .toList();
+    }
+
+    // 비동기 조회의 예외를 원래 예외로 풀어서 전달
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private int clamp(Integer value, int defaultValue, int max) {
+        return value != null && value > 0 ? Math.min(value, max) : defaultValue;
+    }
+
+    private record RoomPage(String chatId, CompletableFuture<ChatResDTO.MessageListResDTO> future) {
+    }
+}
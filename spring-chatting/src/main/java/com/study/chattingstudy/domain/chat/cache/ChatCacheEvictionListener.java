@@ -0,0 +1,36 @@
+package com.study.chattingstudy.domain.chat.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 채팅방 변경 시 캐시 무효화
+ * - 커밋 이후에 무효화하여, 무효화와 커밋 사이에 이전 값이 다시 캐시되는 것을 방지
+ * - 커밋 전에 원본을 읽은 로더가 무효화 뒤에 저장하는 경우는 TwoLevelCache 의 버전 확인으로 다시 삭제됨
+ * - 무효화 뒤의 캐시 적재는 primary 에서 읽으므로 (ChatQueryService) 복제 지연 중인 이전 값이 다시 캐시되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatRoomChanged(ChatRoomChangedEvent event) {
+        Cache userChatRooms = cacheManager.getCache(ChatCacheNames.USER_CHAT_ROOMS);
+        Cache chatMessages = cacheManager.getCache(ChatCacheNames.CHAT_MESSAGES);
+
+        for (Long participantId : event.participantIds()) {
+            userChatRooms.evict(participantId);
+            chatMessages.evict(participantId + ":" + event.chatId());
+        }
+
+        log.debug("채팅방 캐시 무효화: chatId={}, participants={}", event.chatId(), event.participantIds());
+    }
+}
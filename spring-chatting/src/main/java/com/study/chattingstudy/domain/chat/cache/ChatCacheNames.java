@@ -0,0 +1,18 @@
+package com.study.chattingstudy.domain.chat.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// 채팅 도메인 캐시 이름
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChatCacheNames {
+
+    // 사용자별 1:1 채팅방 목록 (key: userId)
+    public static final String USER_CHAT_ROOMS = "userChatRooms";
+
+    // 사용자별 채팅방 첫 메시지 페이지 (key: userId:chatId)
+    public static final String CHAT_MESSAGES = "chatMessages";
+
+    // 채팅방 메타데이터 - 내부 ID, 참여자 ID (key: chatId)
+    public static final String CHAT_ROOM_META = "chatRoomMeta";
+}
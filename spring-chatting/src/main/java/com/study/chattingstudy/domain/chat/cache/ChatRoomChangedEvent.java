@@ -0,0 +1,12 @@
+package com.study.chattingstudy.domain.chat.cache;
+
+import java.util.Collection;
+
+/**
+ * 채팅방 변경 이벤트 (채팅방 생성, 메시지 전송, 읽음 처리)
+ * - 커밋 후 참여자들의 채팅방 목록/메시지 캐시를 무효화하는 데 사용
+ * @param chatId 변경된 채팅방 ID
+ * @param participantIds 채팅방 참여자 ID
+ */
+public record ChatRoomChangedEvent(String chatId, Collection<Long> participantIds) {
+}
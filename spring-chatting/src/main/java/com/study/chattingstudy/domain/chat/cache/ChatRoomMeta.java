@@ -0,0 +1,21 @@
+package com.study.chattingstudy.domain.chat.cache;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+/**
+ * 채팅방 메타데이터 (캐시용)
+ * - 참여 여부 확인과 채팅방 참조에 필요한 값만 보관하여 채팅방/참여자 엔티티 조회를 생략
+ */
+@Builder
+public record ChatRoomMeta(
+        Long roomId,            // 채팅방 내부 ID (PK)
+        String chatId,          // 채팅방 ID
+        String type,
+        Set<Long> participantIds
+) {
+    public boolean hasParticipant(Long userId) {
+        return participantIds.contains(userId);
+    }
+}
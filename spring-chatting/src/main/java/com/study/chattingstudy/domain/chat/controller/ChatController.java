@@ -1,23 +1,42 @@
 package com.study.chattingstudy.domain.chat.controller;
 
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
 import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
 import com.study.chattingstudy.domain.chat.service.command.ChatCommandService;
+import com.study.chattingstudy.domain.chat.service.query.ChatExportService;
 import com.study.chattingstudy.domain.chat.service.query.ChatQueryService;
+import com.study.chattingstudy.domain.chat.service.query.ChatSearchService;
 import com.study.chattingstudy.domain.user.security.annotation.CurrentUser;
 import com.study.chattingstudy.domain.user.security.userdetails.AuthUser;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
 import com.study.chattingstudy.global.apiPayload.CustomResponse;
 import com.study.chattingstudy.global.config.handler.WebSocketSessionRegistry;
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/chats")
@@ -28,6 +47,15 @@ public class ChatController {
 
     private final ChatCommandService chatCommandService;
     private final ChatQueryService chatQueryService;
+    private final ChatExportService chatExportService;
+    private final ChatSearchService chatSearchService;
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
+    // 내보내기 제한 시간 (기본 MVC 비동기 제한 시간과 별도로 적용)
+    @Value("${chat.export.timeout-ms:1800000}")
+    private long exportTimeoutMs;
 
     /**
      * 1:1 채팅방 생성 API (HTTP 방식으로만 지원)
@@ -61,6 +89,46 @@ public class ChatController {
         return CustomResponse.onSuccess(resDTO);
     }
 
+    /**
+     * 채팅 동기화 API
+     * - 앱 시작/재접속 시 전체 목록 대신 커서 이후의 변경 사항만 조회
+     */
+    @GetMapping("/sync")
+    @Operation(summary = "채팅 동기화", description = "커서 이후 변경된 채팅방, 새 메시지, 읽음 위치, 참여 변경을 조회합니다. " +
+            "커서 없이 요청하면 전체 채팅방 목록과 새 커서를 반환합니다.")
+    public CustomResponse<ChatResDTO.ChatSyncResDTO> syncChats(
+            @CurrentUser AuthUser authUser,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("HTTP 채팅 동기화 요청: userId={}, cursor={}, limit={}", authUser.getUserId(), cursor, limit);
+
+        ChatResDTO.ChatSyncResDTO resDTO = chatQueryService.syncChats(authUser.getUserId(), cursor, limit);
+
+        return CustomResponse.onSuccess(resDTO);
+    }
+
+    /**
+     * 메시지 검색 API
+     * - 참여한 채팅방의 메시지를 검색하여 점수 순으로 반환, 결과의 anchor 를 before 로 전달하면 해당 위치의 메시지 목록 조회
+     */
+    @GetMapping("/search")
+    @Operation(summary = "메시지 검색", description = "참여한 채팅방(또는 chatId 로 지정한 채팅방)의 메시지를 검색합니다. " +
+            "검색어의 모든 단어를 포함하는 메시지를 관련도 순으로 반환합니다.")
+    public CustomResponse<ChatResDTO.MessageSearchResDTO> searchMessages(
+            @CurrentUser AuthUser authUser,
+            @RequestParam String q,
+            @RequestParam(required = false) String chatId,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("HTTP 메시지 검색 요청: userId={}, chatId={}, limit={}", authUser.getUserId(), chatId, limit);
+
+        ChatResDTO.MessageSearchResDTO resDTO = chatSearchService.searchMessages(
+                authUser.getUserId(), q, chatId, limit);
+
+        return CustomResponse.onSuccess(resDTO);
+    }
+
     /**
      * 채팅 메시지 목록 조회 API
      */
@@ -80,4 +148,147 @@ public class ChatController {
 
         return CustomResponse.onSuccess(resDTO);
     }
+
+    /**
+     * 채팅방 일자 목록 조회 API (캘린더)
+     */
+    @GetMapping("/{chatId}/days")
+    @Operation(summary = "메시지가 있는 일자 조회", description = "기간 내 메시지가 있는 일자와 일자별 메시지 수를 조회합니다. " +
+            "기간을 지정하지 않으면 최근 30일을 조회합니다. (최대 366일)")
+    public CustomResponse<ChatResDTO.ChatDayListResDTO> getActiveDays(
+            @CurrentUser AuthUser authUser,
+            @PathVariable String chatId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.info("HTTP 채팅방 일자 목록 조회 요청: userId={}, chatId={}, from={}, to={}",
+                authUser.getUserId(), chatId, from, to);
+
+        ChatResDTO.ChatDayListResDTO resDTO = chatQueryService.getActiveDays(authUser.getUserId(), chatId, from, to);
+
+        return CustomResponse.onSuccess(resDTO);
+    }
+
+    /**
+     * 일자별 메시지 조회 API (날짜 이동)
+     */
+    @GetMapping("/{chatId}/days/{date}/messages")
+    @Operation(summary = "일자별 메시지 조회", description = "특정 일자의 메시지를 오래된 순으로 조회합니다. " +
+            "해당 일자에 메시지가 없으면 그 이후 메시지가 있는 첫 일자를 조회합니다.")
+    public CustomResponse<ChatResDTO.DayMessageListResDTO> getDayMessages(
+            @CurrentUser AuthUser authUser,
+            @PathVariable String chatId,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("HTTP 일자별 메시지 조회 요청: userId={}, chatId={}, date={}, after={}, limit={}",
+                authUser.getUserId(), chatId, date, after, limit);
+
+        ChatResDTO.DayMessageListResDTO resDTO = chatQueryService.getDayMessages(
+                authUser.getUserId(), chatId, date, after, limit);
+
+        return CustomResponse.onSuccess(resDTO);
+    }
+
+    /**
+     * 채팅방 메시지 내보내기 API
+     * - 전체 메시지를 NDJSON(한 줄에 메시지 하나)으로 스트리밍, Accept-Encoding 에서 gzip 을 허용(q > 0)하면 압축
+     * - 큰 채팅방도 끝까지 내려받을 수 있도록 내보내기 전용 제한 시간(chat.export.timeout-ms)으로 비동기 처리
+     */
+    @GetMapping("/{chatId}/export")
+    @Operation(summary = "채팅 메시지 내보내기", description = "특정 채팅방의 전체 메시지를 NDJSON 형식으로 내려받습니다. " +
+            "Accept-Encoding 에서 gzip 을 허용하면 gzip 으로 압축합니다.")
+    public WebAsyncTask<Void> exportChatMessages(
+            @CurrentUser AuthUser authUser,
+            @PathVariable String chatId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) {
+
+        log.info("HTTP 채팅 메시지 내보내기 요청: userId={}, chatId={}", authUser.getUserId(), chatId);
+
+        // 응답을 쓰기 전에 권한 확인 (실패 시 일반 에러 응답)
+        ChatRoomMeta roomMeta = chatExportService.checkAccess(authUser.getUserId(), chatId);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeoutMs, () -> {
+            // 실행 슬롯은 작업이 실제로 시작될 때 확보하므로, 시작 전에 끝난 요청은 슬롯을 점유하지 않음
+            // (슬롯이 없으면 응답을 쓰기 전이므로 일반 에러 응답)
+            // 비동기 작업 스레드에서도 요청 사용자의 쓰기 직후 읽기 고정을 따름
+            chatExportService.acquire();
+            try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(authUser.getUserId())) {
+                writeExport(response, roomMeta, gzip);
+            } finally {
+                chatExportService.release();
+            }
+            return null;
+        });
+        task.onTimeout(() -> {
+            log.warn("채팅 메시지 내보내기 제한 시간 초과: chatId={}, timeoutMs={}", chatId, exportTimeoutMs);
+            throw new ChatException(ChatErrorCode.EXPORT_TIMEOUT);
+        });
+        return task;
+    }
+
+    private void writeExport(HttpServletResponse response, ChatRoomMeta roomMeta, boolean gzip) throws Exception {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON.toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("chat-" + roomMeta.chatId() + ".ndjson")
+                .build()
+                .toString());
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        OutputStream target = gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out;
+        BufferedOutputStream buffered = new BufferedOutputStream(target, EXPORT_BUFFER_SIZE);
+
+        chatExportService.writeExport(roomMeta, buffered);
+
+        buffered.flush();
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+
+    // Accept-Encoding 에서 gzip 허용 여부 (q=0 은 거부, gzip 이 명시되지 않았으면 * 의 q 값을 따름)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
 }
@@ -2,15 +2,31 @@ package com.study.chattingstudy.domain.chat.controller;
 
 import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.resume.ChatReplayBuffer;
+import com.study.chattingstudy.domain.chat.resume.ResumeSessionRegistry;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.inbox.UserInbox;
 import com.study.chattingstudy.domain.chat.service.command.ChatCommandService;
+import com.study.chattingstudy.domain.chat.service.query.ChatRoomMetaReader;
+import com.study.chattingstudy.domain.chat.typing.TypingIndicatorService;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import com.study.chattingstudy.global.trace.MessageTracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Controller
 @RequiredArgsConstructor
 @Slf4j
@@ -18,27 +34,58 @@ public class ChatMessageController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatCommandService chatCommandService;
+    private final ChatReplayBuffer chatReplayBuffer;
+    private final ResumeSessionRegistry resumeSessionRegistry;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+    private final TypingIndicatorService typingIndicatorService;
+    private final UserInbox userInbox;
+    private final MessageTracer messageTracer;
+
+    // 클라이언트가 마지막으로 받은 순번 헤더 (형식: chatId:seq,chatId:seq)
+    private static final String RESUME_ACKS_HEADER = "resume-acks";
 
     /**
      * 1:1 채팅 메시지 전송 처리
      */
     @MessageMapping("/chat/private")
-    public void handlePrivateMessage(ChatReqDTO.MessageSendReqDTO reqDTO, Authentication authentication) {
+    public void handlePrivateMessage(ChatReqDTO.MessageSendReqDTO reqDTO, SimpMessageHeaderAccessor accessor,
+                                     Authentication authentication) {
         log.info("WebSocket으로 메시지 전송 요청 수신: chatId={}", reqDTO.chatId());
 
+        // 샘플링된 메시지는 구간별 지연 시간 추적
+        Optional<MessageTracer.Trace> trace = messageTracer.begin(accessor);
+
         // 인증 정보에서 사용자 정보 추출
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
         Long userId = userDetails.getUserId();
 
         // 메시지 저장 및 DTO 변환
+        long persistStartedAt = System.nanoTime();
         ChatResDTO.MessageResDTO messageDTO = chatCommandService.sendMessage(userId, reqDTO);
+        trace.ifPresent(t -> messageTracer.recordNanos(MessageTracer.Stage.PERSIST, System.nanoTime() - persistStartedAt));
 
-        // 채팅방 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend("/sub/chat/private/" + reqDTO.chatId(), messageDTO);
+        // 순번을 부여하여 재전송 버퍼에 보관하고 채팅방 구독자들에게 메시지 전송
+        String destination = "/sub/chat/private/" + reqDTO.chatId();
+        chatReplayBuffer.append(reqDTO.chatId(), messageDTO, seq -> {
+            Map<String, Object> headers = trace.map(messageTracer::dispatchHeaders).orElseGet(HashMap::new);
+            headers.put(ChatReplayBuffer.SEQ_HEADER, seq);
+            messagingTemplate.convertAndSend(destination, messageDTO, headers);
+        });
 
         log.info("WebSocket으로 메시지가 전송되었습니다: messageId={}", messageDTO.messageId());
     }
 
+    /**
+     * 추적 메시지 수신 보고 처리 (trace-id 헤더가 있는 메시지를 받은 클라이언트가 선택적으로 전송)
+     */
+    @MessageMapping("/chat/trace/receipt")
+    public void handleTraceReceipt(ChatReqDTO.TraceReceiptReqDTO reqDTO) {
+        if (reqDTO.traceId() == null || reqDTO.dispatchedAt() == null || reqDTO.receivedAt() == null) {
+            return;
+        }
+        messageTracer.recordClientReceipt(reqDTO.dispatchedAt(), reqDTO.receivedAt());
+    }
+
     /**
      * 메시지 읽음 상태 업데이트 처리 (WebSocket 방식으로만 지원)
      */
@@ -59,4 +106,103 @@ public class ChatMessageController {
 
         log.info("WebSocket으로 읽음 상태가 업데이트되었습니다: chatId={}", reqDTO.chatId());
     }
+
+    /**
+     * 타이핑 표시 처리 (DB 접근 없이 /sub/chat/private/{chatId}/typing 으로 전달)
+     * - 입력 중인 동안 주기적으로 typing=true 를, 입력을 멈추면 typing=false 를 전송
+     */
+    @MessageMapping("/chat/typing")
+    public void handleTyping(ChatReqDTO.TypingReqDTO reqDTO, Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        typingIndicatorService.update(userDetails.getUserId(), reqDTO.chatId(), reqDTO.typing());
+    }
+
+    /**
+     * 세션 재개 정보 조회 (/pub/chat/session 구독 시 해당 세션에만 1회 응답)
+     * - 다음 재접속에 사용할 재개 토큰과 이전 세션의 구독 목록을 전달
+     * - resume-acks 헤더로 받은 채팅방별 마지막 순번 이후의 메시지를 재전송
+     */
+    @SubscribeMapping("/chat/session")
+    public ChatResDTO.SessionResumeResDTO handleSessionResume(SimpMessageHeaderAccessor accessor,
+                                                               Authentication authentication) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        String sessionId = accessor.getSessionId();
+
+        List<String> restoredSubscriptions = resumeSessionRegistry.findBySessionId(sessionId)
+                .map(ResumeSessionRegistry.ResumeSession::getRestoredDestinations)
+                .orElse(List.of());
+
+        List<ChatResDTO.ReplayMessageDTO> missedMessages = new ArrayList<>();
+        List<String> truncatedChatIds = new ArrayList<>();
+
+        parseAcks(accessor.getFirstNativeHeader(RESUME_ACKS_HEADER)).forEach((chatId, lastSeq) -> {
+            // 참여하지 않은 채팅방의 메시지는 재전송하지 않음
+            if (!isParticipant(chatId, userDetails.getUserId())) {
+                return;
+            }
+
+            ChatReplayBuffer.Replay replay = chatReplayBuffer.since(chatId, lastSeq);
+            replay.entries().forEach(entry -> missedMessages.add(ChatResDTO.ReplayMessageDTO.builder()
+                    .chatId(chatId)
+                    .seq(entry.seq())
+                    .message(entry.message())
+                    .build()));
+            if (replay.truncated()) {
+                truncatedChatIds.add(chatId);
+            }
+        });
+
+        log.info("WebSocket 세션 재개 정보 전송: userId={}, restored={}, missed={}",
+                userDetails.getUserId(), restoredSubscriptions.size(), missedMessages.size());
+
+        return ChatResDTO.SessionResumeResDTO.builder()
+                .resumeToken(resumeSessionRegistry.findToken(sessionId).orElse(null))
+                .restoredSubscriptions(restoredSubscriptions)
+                .missedMessages(missedMessages)
+                .truncatedChatIds(truncatedChatIds)
+                .build();
+    }
+
+    /**
+     * 받은편지함 조회 (/pub/chat/inbox 구독 시 해당 세션에만 1회 응답)
+     * - 연결이 없는 동안 쌓인 변경(채팅방 참여, 새 메시지, 읽음)을 한 번에 전달하고, 전송한 기록만 받은편지함에서 삭제
+     * - 응답은 UserInbox 가 전송 결과를 확인하며 직접 보내므로 반환값 없음
+     */
+    @SubscribeMapping("/chat/inbox")
+    public void handleInbox(Authentication authentication, SimpMessageHeaderAccessor headerAccessor) {
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        ChatResDTO.InboxResDTO inbox = userInbox.deliver(userDetails.getUserId(), headerAccessor);
+
+        log.info("WebSocket 받은편지함 전송: userId={}, records={}, overflowed={}",
+                userDetails.getUserId(), inbox.records().size(), inbox.overflowed());
+    }
+
+    private boolean isParticipant(String chatId, Long userId) {
+        try {
+            return chatRoomMetaReader.getRoomMeta(chatId).hasParticipant(userId);
+        } catch (ChatException e) {
+            return false; // 존재하지 않는 채팅방
+        }
+    }
+
+    // "chatId:seq,chatId:seq" 형식의 헤더 파싱 (잘못된 항목은 무시)
+    private Map<String, Long> parseAcks(String header) {
+        Map<String, Long> acks = new LinkedHashMap<>();
+        if (header == null || header.isBlank()) {
+            return acks;
+        }
+
+        for (String pair : header.split(",")) {
+            int idx = pair.lastIndexOf(':');
+            if (idx <= 0) {
+                continue;
+            }
+            try {
+                acks.put(pair.substring(0, idx).trim(), Long.parseLong(pair.substring(idx + 1).trim()));
+            } catch (NumberFormatException e) {
+                log.debug("잘못된 resume-acks 항목 무시: {}", pair);
+            }
+        }
+        return acks;
+    }
 }
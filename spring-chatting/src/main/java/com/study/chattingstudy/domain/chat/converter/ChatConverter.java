@@ -1,10 +1,14 @@
 package com.study.chattingstudy.domain.chat.converter;
 
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
 import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import com.study.chattingstudy.domain.chat.entity.ChatChangeLog;
+import com.study.chattingstudy.domain.chat.entity.ChatDayBucket;
 import com.study.chattingstudy.domain.chat.entity.ChatMessage;
 import com.study.chattingstudy.domain.chat.entity.ChatRoom;
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
 import com.study.chattingstudy.domain.chat.enums.ChatType;
 import com.study.chattingstudy.domain.user.entity.User;
 import lombok.AccessLevel;
@@ -79,14 +83,6 @@ public class ChatConverter {
             ChatMessage lastMessage,
             int unreadCount) {
 
-        // 상대방 정보 DTO 생성
-        ChatRoomResDTO.ChatRoomListResDTO.ParticipantDTO otherUserDTO =
-                ChatRoomResDTO.ChatRoomListResDTO.ParticipantDTO.builder()
-                        .userId(otherUser.getId())
-                        .username(otherUser.getUsername())
-                        .email(otherUser.getEmail())
-                        .build();
-
         // 마지막 메시지 DTO 생성 (없을 수 있음)
         ChatRoomResDTO.ChatRoomListResDTO.LastMessageDTO lastMessageDTO = null;
         if (lastMessage != null) {
@@ -99,6 +95,51 @@ public class ChatConverter {
                     .build();
         }
 
+        return toChatRoomListResDTO(chatRoom, otherUser, lastMessageDTO, unreadCount);
+    }
+
+    /**
+     * ChatRoom과 메시지 저장소의 마지막 메시지를 ChatRoomListResDTO로 변환
+     * @param chatRoom 변환할 ChatRoom 엔티티
+     * @param otherUser 상대방 참여자
+     * @param lastMessage 마지막 메시지 (없을 수 있음)
+     * @param unreadCount 읽지 않은 메시지 수
+     * @return 변환된 ChatRoomListResDTO 객체
+     */
+    public static ChatRoomResDTO.ChatRoomListResDTO toChatRoomListResDTO(
+            ChatRoom chatRoom,
+            User otherUser,
+            ChatResDTO.MessageResDTO lastMessage,
+            int unreadCount) {
+
+        ChatRoomResDTO.ChatRoomListResDTO.LastMessageDTO lastMessageDTO = null;
+        if (lastMessage != null) {
+            lastMessageDTO = ChatRoomResDTO.ChatRoomListResDTO.LastMessageDTO.builder()
+                    .messageId(lastMessage.messageId())
+                    .content(lastMessage.content())
+                    .senderId(lastMessage.senderId())
+                    .createdAt(lastMessage.createdAt())
+                    .read(lastMessage.read())
+                    .build();
+        }
+
+        return toChatRoomListResDTO(chatRoom, otherUser, lastMessageDTO, unreadCount);
+    }
+
+    private static ChatRoomResDTO.ChatRoomListResDTO toChatRoomListResDTO(
+            ChatRoom chatRoom,
+            User otherUser,
+            ChatRoomResDTO.ChatRoomListResDTO.LastMessageDTO lastMessageDTO,
+            int unreadCount) {
+
+        // 상대방 정보 DTO 생성
+        ChatRoomResDTO.ChatRoomListResDTO.ParticipantDTO otherUserDTO =
+                ChatRoomResDTO.ChatRoomListResDTO.ParticipantDTO.builder()
+                        .userId(otherUser.getId())
+                        .username(otherUser.getUsername())
+                        .email(otherUser.getEmail())
+                        .build();
+
         // 채팅방 목록 항목 DTO 생성
         return ChatRoomResDTO.ChatRoomListResDTO.builder()
                 .chatId(chatRoom.getChatId())
@@ -117,11 +158,22 @@ public class ChatConverter {
      * @return 생성된 ChatMessage 엔티티
      */
     public static ChatMessage toChatMessage(ChatRoom chatRoom, User sender, ChatReqDTO.MessageSendReqDTO reqDTO) {
+        return toChatMessage(chatRoom, sender, reqDTO.content());
+    }
+
+    /**
+     * 메시지 내용으로 새로운 ChatMessage 생성
+     * @param chatRoom 메시지가 속한 채팅방
+     * @param sender 발신자
+     * @param content 메시지 내용
+     * @return 새로 생성된 ChatMessage 엔티티
+     */
+    public static ChatMessage toChatMessage(ChatRoom chatRoom, User sender, String content) {
         return ChatMessage.builder()
                 .messageId(UUID.randomUUID().toString())
                 .chatRoom(chatRoom)
                 .sender(sender)
-                .content(reqDTO.content())
+                .content(content)
                 .read(false)
                 .build();
     }
@@ -151,6 +203,20 @@ public class ChatConverter {
     public static ChatResDTO.MessageListResDTO toMessageListResDTO(
             java.util.List<ChatMessage> messages,
             boolean hasMore) {
+        return toMessageListResDTO(messages, hasMore, null);
+    }
+
+    /**
+     * ChatMessage 엔티티 목록을 다음 페이지 커서와 함께 MessageListResDTO로 변환
+     * @param messages 변환할 ChatMessage 엔티티 목록
+     * @param hasMore 추가 메시지 존재 여부
+     * @param nextCursor 다음 페이지 조회 시 before 로 전달할 커서 (없으면 null)
+     * @return 변환된 MessageListResDTO 객체
+     */
+    public static ChatResDTO.MessageListResDTO toMessageListResDTO(
+            java.util.List<ChatMessage> messages,
+            boolean hasMore,
+            Long nextCursor) {
 
         // 메시지 목록을 DTO로 변환
         java.util.List<ChatResDTO.MessageResDTO> messageResDTOs = messages.stream()
@@ -160,6 +226,57 @@ public class ChatConverter {
         return ChatResDTO.MessageListResDTO.builder()
                 .messages(messageResDTOs)
                 .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 동기화 변경 로그 생성
+     * @param userId 변경 사항을 전달받을 사용자 ID
+     * @param chatId 채팅방 ID
+     * @param type 변경 유형
+     * @param actorUserId 변경을 일으킨 사용자 ID
+     * @param messageId 관련 메시지 ID (없을 수 있음)
+     * @return 새로 생성된 ChatChangeLog 엔티티
+     */
+    public static ChatChangeLog toChatChangeLog(Long userId, String chatId, ChatChangeType type,
+                                                Long actorUserId, String messageId) {
+        return ChatChangeLog.builder()
+                .userId(userId)
+                .chatId(chatId)
+                .type(type)
+                .actorUserId(actorUserId)
+                .messageId(messageId)
+                .build();
+    }
+
+    /**
+     * ChatRoom 엔티티를 캐시용 메타데이터로 변환
+     * @param chatRoom 참여자 정보가 함께 조회된 ChatRoom 엔티티
+     * @return 변환된 ChatRoomMeta 객체
+     */
+    public static ChatRoomMeta toChatRoomMeta(ChatRoom chatRoom) {
+        return ChatRoomMeta.builder()
+                .roomId(chatRoom.getId())
+                .chatId(chatRoom.getChatId())
+                .type(chatRoom.getType().toString())
+                .participantIds(chatRoom.getParticipants().stream()
+                        .map(participant -> participant.getUser().getId())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+
+    /**
+     * 일자 버킷을 일자별 메시지 요약 DTO로 변환
+     * @param bucket 변환할 ChatDayBucket 엔티티
+     * @return 변환된 ChatDayDTO 객체
+     */
+    public static ChatResDTO.ChatDayDTO toChatDayDTO(ChatDayBucket bucket) {
+        return ChatResDTO.ChatDayDTO.builder()
+                .date(bucket.getBucketDate())
+                .messageCount(bucket.getMessageCount())
+                .firstCursor(bucket.getFirstCursor())
+                .lastCursor(bucket.getLastCursor())
                 .build();
     }
 }
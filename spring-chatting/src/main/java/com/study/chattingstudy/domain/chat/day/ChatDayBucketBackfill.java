@@ -0,0 +1,171 @@
+package com.study.chattingstudy.domain.chat.day;
+
+import com.study.chattingstudy.domain.chat.repository.ChatDayBucketRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatMessageRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatRoomRepository;
+import com.study.chattingstudy.domain.chat.store.archive.ArchivedMessage;
+import com.study.chattingstudy.domain.chat.store.archive.MessageArchive;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일자 버킷 도입 전 메시지의 일자 버킷 보충 (chat.day-buckets.backfill.enabled=true)
+ * - 채팅방을 PK 순서로 나눠 처리하며, 채팅방마다 보관 파일과 chat_messages 의 메시지를 일자별로 다시 집계하여 버킷을 덮어씀
+ *   (같은 채팅방을 다시 처리해도 결과가 같으므로 중단 후 재실행해도 안전)
+ * - 메시지 전송이 갱신하는 오늘 버킷과 겹치지 않도록 어제까지만 보충
+ * - 진행 위치(마지막 채팅방 PK)는 Redis 에 기록하고, 모든 채팅방을 처리하면 완료 표시 후 더 이상 실행하지 않음
+ * - 여러 노드 중 한 노드만 실행하도록 Redis 잠금 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.message-store.type", havingValue = "jpa", matchIfMissing = true)
+public class ChatDayBucketBackfill {
+
+    private static final String LOCK_KEY = "chat:day-buckets:backfill:lock";
+    private static final String PROGRESS_KEY = "chat:day-buckets:backfill:last-room-id";
+    private static final String DONE_KEY = "chat:day-buckets:backfill:done";
+
+    // 집계 도중 보관 작업이 메시지를 옮기면 다시 집계하는 최대 횟수
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Value("${chat.day-buckets.backfill.enabled:false}")
+    private boolean enabled;
+
+    // 1회 실행에서 처리하는 채팅방 수
+    @Value("${chat.day-buckets.backfill.rooms-per-run:100}")
+    private int roomsPerRun;
+
+    @Value("${chat.day-buckets.backfill.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatDayBucketRepository chatDayBucketRepository;
+    private final MessageArchive messageArchive;
+    private final RedisUtil redisUtil;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter backfilledRooms;
+
+    public ChatDayBucketBackfill(ChatRoomRepository chatRoomRepository,
+                                 ChatMessageRepository chatMessageRepository,
+                                 ChatDayBucketRepository chatDayBucketRepository,
+                                 MessageArchive messageArchive,
+                                 RedisUtil redisUtil,
+                                 MeterRegistry meterRegistry) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatDayBucketRepository = chatDayBucketRepository;
+        this.messageArchive = messageArchive;
+        this.redisUtil = redisUtil;
+
+        this.backfilledRooms = Counter.builder("chat.day-buckets.backfill.rooms")
+                .description("일자 버킷을 보충한 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${chat.day-buckets.backfill.interval-ms:60000}",
+            initialDelayString = "${chat.day-buckets.backfill.initial-delay-ms:120000}")
+    public void backfill() {
+        if (!enabled || redisUtil.get(DONE_KEY) != null
+                || !redisUtil.saveIfAbsent(LOCK_KEY, nodeId, lockTtlMs, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+
+        try {
+            Object progress = redisUtil.get(PROGRESS_KEY);
+            long lastRoomId = progress instanceof Number number ? number.longValue() : 0L;
+            LocalDate today = LocalDate.now();
+
+            List<Long> roomIds = chatRoomRepository.findIdsAfter(lastRoomId, PageRequest.of(0, roomsPerRun));
+            for (Long roomId : roomIds) {
+                if (!backfillRoom(roomId, today)) {
+                    // 보관 작업과 계속 겹치면 이 채팅방부터 다음 실행에서 다시 시도
+                    log.info("[ ChatDayBucketBackfill ] 보관 작업과 겹쳐 다음 실행으로 미룹니다: roomId={}", roomId);
+                    return;
+                }
+                backfilledRooms.increment();
+                redisUtil.save(PROGRESS_KEY, roomId);
+            }
+
+            if (roomIds.size() < roomsPerRun) {
+                redisUtil.save(DONE_KEY, today.toString());
+                log.info("[ ChatDayBucketBackfill ] 일자 버킷 보충 완료");
+            } else {
+                log.info("[ ChatDayBucketBackfill ] 일자 버킷 보충 진행: lastRoomId={}", roomIds.get(roomIds.size() - 1));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("[ ChatDayBucketBackfill ] 일자 버킷 보충 실패", e);
+        } finally {
+            redisUtil.deleteIfEquals(LOCK_KEY, nodeId);
+        }
+    }
+
+    /**
+     * 채팅방 1개의 어제까지 일자 버킷을 다시 집계하여 덮어씀
+     * - 보관된 범위(maxArchivedId 이하)는 보관 파일에서, 그 이후는 chat_messages 에서 집계
+     * - 집계 도중 보관 작업이 새 파일을 만들었으면 (테이블에서 삭제된 행을 놓쳤을 수 있으므로) 다시 집계
+     * @return 보충 여부 (보관 작업과 계속 겹치면 false)
+     */
+    private boolean backfillRoom(Long roomId, LocalDate today) throws IOException {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            messageArchive.refresh();
+            long archivedUpTo = messageArchive.maxArchivedId();
+
+            Map<LocalDate, DayAggregate> days = new TreeMap<>();
+            messageArchive.forEach(roomId, message -> {
+                if (message.id() <= archivedUpTo && message.createdAt().toLocalDate().isBefore(today)) {
+                    days.merge(message.createdAt().toLocalDate(), DayAggregate.of(message), DayAggregate::merge);
+                }
+            });
+
+            for (Object[] row : chatMessageRepository.aggregateDays(roomId, archivedUpTo, today.atStartOfDay())) {
+                DayAggregate aggregate = new DayAggregate(((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+                days.merge(toLocalDate(row[0]), aggregate, DayAggregate::merge);
+            }
+
+            messageArchive.refresh();
+            if (messageArchive.maxArchivedId() != archivedUpTo) {
+                continue;
+            }
+
+            days.forEach((date, aggregate) -> chatDayBucketRepository.replaceDay(
+                    roomId, date, aggregate.count(), aggregate.firstCursor(), aggregate.lastCursor()));
+            return true;
+        }
+        return false;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof LocalDate date ? date : ((Date) value).toLocalDate();
+    }
+
+    private record DayAggregate(long count, long firstCursor, long lastCursor) {
+
+        static DayAggregate of(ArchivedMessage message) {
+            return new DayAggregate(1, message.id(), message.id());
+        }
+
+        DayAggregate merge(DayAggregate other) {
+            return new DayAggregate(count + other.count,
+                    Math.min(firstCursor, other.firstCursor), Math.max(lastCursor, other.lastCursor));
+        }
+    }
+}
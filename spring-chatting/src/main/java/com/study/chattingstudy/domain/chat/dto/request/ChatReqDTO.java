@@ -21,4 +21,19 @@ public class ChatReqDTO {
             String messageId // 읽은 메시지 ID(null인 경우 모든 메시지를 읽음으로 처리)
     ){
     }
+
+    // 타이핑 상태 요청 DTO
+    public record TypingReqDTO(
+            String chatId, // 채팅방 ID
+            boolean typing // 입력 중이면 true, 입력을 멈추면 false
+    ){
+    }
+
+    // 추적 메시지 수신 보고 DTO
+    public record TraceReceiptReqDTO(
+            String traceId,     // 받은 메시지의 trace-id 헤더
+            Long dispatchedAt,  // 받은 메시지의 trace-dispatched-at 헤더
+            Long receivedAt     // 클라이언트 수신 시각 (epoch ms)
+    ){
+    }
 }
@@ -2,6 +2,7 @@ package com.study.chattingstudy.domain.chat.dto.response;
 
 import lombok.Builder;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -24,7 +25,138 @@ public class ChatResDTO {
     @Builder
     public record MessageListResDTO(
             List<MessageResDTO> messages,
-            boolean hasMore
+            boolean hasMore,
+            Long nextCursor     // 다음 페이지 조회 시 before 로 전달 (마지막 페이지면 null)
+    ) {
+    }
+
+    // 세션 재개(재접속) 응답 DTO
+    @Builder
+    public record SessionResumeResDTO(
+            String resumeToken,                      // 다음 재접속 시 사용할 재개 토큰
+            List<String> restoredSubscriptions,      // 이전 세션에서 구독하던 목적지
+            List<ReplayMessageDTO> missedMessages,   // 연결이 끊긴 동안 놓친 메시지
+            List<String> truncatedChatIds            // 재전송 범위를 벗어나 히스토리 API 로 보충해야 하는 채팅방
+    ) {
+    }
+
+    // 재전송 메시지 DTO
+    @Builder
+    public record ReplayMessageDTO(
+            String chatId,
+            long seq,
+            MessageResDTO message
+    ) {
+    }
+
+    // 동기화(sync) 응답 DTO
+    @Builder
+    public record ChatSyncResDTO(
+            Long cursor,                                            // 다음 동기화 요청에 사용할 커서
+            boolean hasMore,                                        // 남은 변경 사항이 있으면 즉시 다시 요청
+            boolean fullSync,                                       // 전체 목록을 반환한 경우 true (커서 없음/만료 - 로컬 상태를 교체)
+            List<ChatRoomResDTO.ChatRoomListResDTO> changedRooms,   // 변경된 채팅방 (목록 조회와 같은 형식)
+            List<SyncMessageDTO> newMessages,                       // 새 메시지 (오래된 순)
+            List<ReadWatermarkDTO> readWatermarks,                  // 읽음 위치 변경
+            List<MembershipChangeDTO> membershipChanges             // 채팅방 참여/나감
+    ) {
+        @Builder
+        public record SyncMessageDTO(
+                String chatId,
+                MessageResDTO message
+        ) {
+        }
+
+        @Builder
+        public record ReadWatermarkDTO(
+                String chatId,
+                Long userId,                 // 읽은 사용자 ID
+                String lastReadMessageId     // 마지막으로 읽은 메시지 ID
+        ) {
+        }
+
+        @Builder
+        public record MembershipChangeDTO(
+                String chatId,
+                Long userId,
+                String type                  // ROOM_JOINED, ROOM_LEFT
+        ) {
+        }
+    }
+
+    // 메시지 검색 응답 DTO
+    @Builder
+    public record MessageSearchResDTO(
+            String query,
+            List<MessageSearchHitDTO> hits,         // 점수 순 검색 결과
+            List<String> indexingChatIds            // 색인 보충 중이라 결과가 불완전할 수 있는 채팅방
+    ) {
+    }
+
+    // 메시지 검색 결과 DTO
+    @Builder
+    public record MessageSearchHitDTO(
+            String chatId,
+            MessageResDTO message,      // 읽음 여부(read)는 색인에 보관하지 않으므로 항상 false
+            double score,
+            Long anchor                 // 메시지 목록 조회 시 before 로 전달하면 이 메시지부터 이전 메시지를 조회
+    ) {
+    }
+
+    // 일자별 메시지 요약 DTO
+    @Builder
+    public record ChatDayDTO(
+            LocalDate date,
+            long messageCount,
+            Long firstCursor,       // 그날 첫 메시지 커서 (메시지 목록 조회 시 before 로 전달하면 그 이전 메시지 조회)
+            Long lastCursor         // 그날 마지막 메시지 커서
+    ) {
+    }
+
+    // 메시지가 있는 일자 목록 응답 DTO (캘린더)
+    @Builder
+    public record ChatDayListResDTO(
+            String chatId,
+            List<ChatDayDTO> days       // 날짜 오름차순
+    ) {
+    }
+
+    // 일자별 메시지 목록 응답 DTO
+    @Builder
+    public record DayMessageListResDTO(
+            LocalDate date,                 // 실제 조회된 일자 (요청한 날에 메시지가 없으면 그 이후 첫 일자)
+            List<MessageResDTO> messages,   // 오래된 순
+            boolean hasMore,
+            Long nextAfter                  // 같은 날의 다음 페이지 조회 시 after 로 전달 (마지막 페이지면 null)
+    ) {
+    }
+
+    // 타이핑 상태 이벤트 DTO
+    @Builder
+    public record TypingEventDTO(
+            String chatId,
+            Long userId,
+            boolean typing,
+            long ttlMs          // 이 시간 안에 갱신 이벤트가 없으면 클라이언트는 입력 중 표시를 제거
+    ) {
+    }
+
+    // 받은편지함 기록 DTO (연결이 없는 동안 쌓인 변경)
+    @Builder
+    public record InboxRecordDTO(
+            String type,            // ROOM_JOINED, ROOM_LEFT, MESSAGE, READ
+            String chatId,
+            Long actorUserId,       // 변경을 일으킨 사용자
+            String messageId,       // 관련 메시지 ID (없으면 null)
+            long recordedAt         // 기록 시각 (epoch ms)
+    ) {
+    }
+
+    // 받은편지함 응답 DTO (/pub/chat/inbox 구독 시 1회 응답)
+    @Builder
+    public record InboxResDTO(
+            List<InboxRecordDTO> records,   // 기록 순서대로
+            boolean overflowed              // 보관 개수를 넘겨 오래된 기록이 버려졌을 수 있음 (클라이언트는 sync API 로 보충)
     ) {
     }
 }
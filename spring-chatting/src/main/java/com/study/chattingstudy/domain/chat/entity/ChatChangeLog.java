@@ -0,0 +1,48 @@
+package com.study.chattingstudy.domain.chat.entity;
+
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
+import com.study.chattingstudy.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 채팅 변경 로그
+ * - 동기화 API 가 클라이언트 커서(id) 이후의 변경만 조회할 수 있도록 변경 사항을 사용자 단위로 기록
+ * - 연관관계 대신 ID 만 보관하여 기록/조회 시 조인이 필요 없음
+ * - 보관 기간(chat.sync.retention-days)이 지난 로그는 ChatChangeLogRetention 이 삭제
+ */
+@Entity
+@Table(name = "chat_change_logs",
+        indexes = {
+                @Index(name = "idx_chat_change_logs_user_id_id", columnList = "user_id, id"),
+                @Index(name = "idx_chat_change_logs_created_at", columnList = "created_at")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class ChatChangeLog extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 변경 사항을 전달받을 사용자 ID
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "chat_id", nullable = false)
+    private String chatId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ChatChangeType type;
+
+    // 변경을 일으킨 사용자 ID (메시지 발신자, 읽은 사용자, 참여한 사용자)
+    @Column(name = "actor_user_id")
+    private Long actorUserId;
+
+    // 관련 메시지 ID (MESSAGE: 새 메시지, READ: 마지막으로 읽은 메시지)
+    @Column(name = "message_id")
+    private String messageId;
+}
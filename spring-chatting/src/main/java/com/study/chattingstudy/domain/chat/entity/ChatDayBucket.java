@@ -0,0 +1,46 @@
+package com.study.chattingstudy.domain.chat.entity;
+
+import com.study.chattingstudy.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 채팅방 일자별 메시지 요약 (날짜 이동/캘린더용)
+ * - 메시지 저장 시 upsert 로 갱신되어, 날짜별 메시지 수와 그날 첫/마지막 메시지 커서를 스캔 없이 조회
+ * - 커서는 메시지 저장소 커서 (jpa: 메시지 PK, segment: 채팅방 내 순번)
+ * - 보관 파일로 옮겨진 메시지도 같은 커서로 저장소에서 조회되므로 버킷을 유지하고,
+ *   보관 없이 파티션을 삭제하면 삭제된 기간의 버킷도 함께 삭제
+ * - 도입 전 메시지의 버킷은 ChatDayBucketBackfill 로 보충
+ */
+@Entity
+@Table(name = "chat_day_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_day_buckets_room_id_date",
+                columnNames = {"chat_room_id", "bucket_date"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class ChatDayBucket extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    // 메시지 생성 일자 (서버 시간대 기준)
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "message_count", nullable = false)
+    private long messageCount;
+
+    @Column(name = "first_cursor", nullable = false)
+    private long firstCursor;
+
+    @Column(name = "last_cursor", nullable = false)
+    private long lastCursor;
+}
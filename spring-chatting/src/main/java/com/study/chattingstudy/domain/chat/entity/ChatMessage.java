@@ -5,8 +5,18 @@ import com.study.chattingstudy.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/**
+ * 채팅 메시지
+ * - chat_messages 는 created_at 기준 월별 파티션으로 관리할 수 있음 (ChatMessagePartitionManager)
+ * - MySQL 파티션 테이블은 외래 키와 파티션 컬럼이 빠진 유니크 키를 지원하지 않으므로
+ *   외래 키를 만들지 않고 message_id 는 일반 인덱스로 둠 (message_id 는 서버에서 생성한 UUID)
+ */
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages",
+        indexes = {
+                @Index(name = "idx_chat_messages_room_id_id", columnList = "chat_room_id, id"),
+                @Index(name = "idx_chat_messages_message_id", columnList = "message_id")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -18,15 +28,15 @@ public class ChatMessage extends BaseEntity {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id", nullable = false)
+    @JoinColumn(name = "chat_room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatRoom chatRoom;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "sender_user_id", nullable = false)
+    @JoinColumn(name = "sender_user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User sender;
 
     // 클라이언트에서 사용할 고유 ID (UUID)
-    @Column(name = "message_id", unique = true, nullable = false)
+    @Column(name = "message_id", nullable = false)
     private String messageId;
 
     @Column(name = "content", nullable = false, columnDefinition = "TEXT")
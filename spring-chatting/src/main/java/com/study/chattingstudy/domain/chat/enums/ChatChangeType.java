@@ -0,0 +1,9 @@
+package com.study.chattingstudy.domain.chat.enums;
+
+// 동기화(sync) 변경 로그 유형
+public enum ChatChangeType {
+    ROOM_JOINED,    // 채팅방 참여 (채팅방 생성 포함)
+    ROOM_LEFT,      // 채팅방 나감
+    MESSAGE,        // 새 메시지
+    READ            // 읽음 위치(last read) 변경
+}
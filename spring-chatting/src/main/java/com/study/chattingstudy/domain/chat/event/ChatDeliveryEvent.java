@@ -0,0 +1,18 @@
+package com.study.chattingstudy.domain.chat.event;
+
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
+
+import java.util.Collection;
+
+/**
+ * 채팅방 변경 전달 이벤트
+ * - 동기화 로그와 같은 시점에 발행되며, 커밋 후 연결이 없는 참여자의 받은편지함(inbox)에 기록하는 데 사용
+ * @param chatId 채팅방 ID
+ * @param participantIds 변경을 전달받을 참여자
+ * @param type 변경 유형
+ * @param actorUserId 변경을 일으킨 사용자
+ * @param messageId 관련 메시지 ID (없으면 null)
+ */
+public record ChatDeliveryEvent(String chatId, Collection<Long> participantIds, ChatChangeType type,
+                                Long actorUserId, String messageId) {
+}
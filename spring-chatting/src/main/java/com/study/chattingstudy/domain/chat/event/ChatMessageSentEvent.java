@@ -0,0 +1,13 @@
+package com.study.chattingstudy.domain.chat.event;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.store.StoredMessage;
+
+/**
+ * 메시지 저장 이벤트
+ * - 커밋 후 검색 색인 등 메시지 전송과 별개로 처리할 작업에 사용
+ * @param room 메시지가 저장된 채팅방
+ * @param message 저장된 메시지와 커서
+ */
+public record ChatMessageSentEvent(ChatRoomMeta room, StoredMessage message) {
+}
@@ -17,6 +17,19 @@ public enum ChatErrorCode implements BaseErrorCode {
     MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT404_1", "메시지를 찾을 수 없습니다."),
     UNAUTHORIZED_MESSAGE_ACCESS(HttpStatus.FORBIDDEN, "CHAT403_1", "메시지에 접근할 권한이 없습니다."),
 
+    // 메시지 저장소 에러
+    MESSAGE_STORE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CHAT500_0", "메시지 저장소 처리 중 오류가 발생했습니다."),
+
+    // 내보내기 관련 에러
+    EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "CHAT503_0", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "CHAT503_1", "내보내기 제한 시간을 초과했습니다."),
+
+    // 검색 관련 에러
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "CHAT400_1", "검색어에 검색 가능한 문자가 없거나 너무 깁니다."),
+
+    // 일자 조회 관련 에러
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "CHAT400_2", "조회 기간이 올바르지 않습니다. (최대 366일)"),
+
     // 기타 에러
     INVALID_CHAT_TYPE(HttpStatus.BAD_REQUEST, "CHAT400_0", "유효하지 않은 채팅 유형입니다.");
 
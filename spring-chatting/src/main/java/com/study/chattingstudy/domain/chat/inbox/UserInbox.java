@@ -0,0 +1,194 @@
+package com.study.chattingstudy.domain.chat.inbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.event.ChatDeliveryEvent;
+import com.study.chattingstudy.domain.user.presence.PresenceTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 받은편지함 (연결이 없는 동안의 변경 전달)
+ * - 커밋된 변경(채팅방 참여, 새 메시지, 읽음)을 연결이 없는 참여자의 Redis 리스트에 간단한 기록으로 추가
+ * - 사용자별 최대 개수와 보관 기간을 넘는 기록은 버림 (전체 변경은 동기화 로그로 보충)
+ * - 재접속 후 /pub/chat/inbox 구독 시 한 번에 읽어서 전달하고, 구독 세션으로 전송한 뒤에만 전달한 기록을 삭제
+ *   (전송 전에 실패하면 기록이 남아 다음 구독 때 다시 전달 - 기록은 중복 전달되어도 되는 변경 알림)
+ */
+@Slf4j
+@Component
+public class UserInbox {
+
+    private static final String KEY_PREFIX = "chat:inbox:";
+
+    // 읽은 기록 수(ARGV[1]) 만큼 앞에서 삭제 - 그 위치의 기록이 읽은 마지막 기록(ARGV[2])과 같을 때만
+    // (다른 세션이 먼저 삭제했거나 최대 개수 초과로 앞부분이 잘린 경우 삭제하지 않고 다음 구독 때 다시 전달)
+    private static final RedisScript<Long> TRIM_DELIVERED = new DefaultRedisScript<>(
+            "if redis.call('lindex', KEYS[1], ARGV[1] - 1) == ARGV[2] then " +
+                    "redis.call('ltrim', KEYS[1], ARGV[1], -1) return 1 else return 0 end",
+            Long.class);
+
+    // 사용자별 보관 기록 수
+    @Value("${chat.inbox.max-records:200}")
+    private int maxRecords;
+
+    // 기록 보관 기간
+    @Value("${chat.inbox.max-age-ms:604800000}")
+    private long maxAgeMs;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PresenceTracker presenceTracker;
+    private final MessageChannel clientOutboundChannel;
+
+    private final Counter appendedCounter;
+    private final Counter drainedCounter;
+
+    public UserInbox(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                     PresenceTracker presenceTracker,
+                     @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                     MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.presenceTracker = presenceTracker;
+        this.clientOutboundChannel = clientOutboundChannel;
+
+        this.appendedCounter = Counter.builder("chat.inbox.records")
+                .description("받은편지함에 기록한 변경 수")
+                .tag("op", "append")
+                .register(meterRegistry);
+        this.drainedCounter = Counter.builder("chat.inbox.records")
+                .description("받은편지함에서 꺼내 전달한 변경 수")
+                .tag("op", "drain")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 변경을 연결이 없는 참여자의 받은편지함에 기록 (참여자 전체를 1회 파이프라인으로 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDelivery(ChatDeliveryEvent event) {
+        try {
+            Set<Long> connected = presenceTracker.findConnected(event.participantIds());
+            List<Long> recipients = event.participantIds().stream()
+                    .filter(participantId -> !connected.contains(participantId))
+                    .toList();
+            if (recipients.isEmpty()) {
+                return;
+            }
+
+            String record = objectMapper.writeValueAsString(ChatResDTO.InboxRecordDTO.builder()
+                    .type(event.type().name())
+                    .chatId(event.chatId())
+                    .actorUserId(event.actorUserId())
+                    .messageId(event.messageId())
+                    .recordedAt(System.currentTimeMillis())
+                    .build());
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long recipientId : recipients) {
+                    String key = KEY_PREFIX + recipientId;
+                    stringConnection.rPush(key, record);
+                    stringConnection.lTrim(key, -maxRecords, -1);
+                    stringConnection.pExpire(key, maxAgeMs);
+                }
+                return null;
+            });
+            appendedCounter.increment(recipients.size());
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 받은편지함은 보조 전달 수단 - 실패해도 동기화 로그로 복구 가능
+            log.warn("[ UserInbox ] 받은편지함 기록 실패: chatId={}, type={}, {}",
+                    event.chatId(), event.type(), e.getMessage());
+        }
+    }
+
+    /**
+     * 받은편지함의 기록을 구독 세션으로 전달 (/pub/chat/inbox 구독 응답)
+     * - LRANGE 로 읽어 구독 세션에 전송하고, 전송이 끝난 뒤에만 전달한 기록을 삭제
+     * - 전송에 실패하면 예외를 던지고 기록은 그대로 남김
+     * @param userId 사용자 ID
+     * @param subscription 받은편지함 구독 요청 헤더 (세션 ID, 구독 ID, 목적지)
+     */
+    public ChatResDTO.InboxResDTO deliver(Long userId, SimpMessageHeaderAccessor subscription) {
+        String key = KEY_PREFIX + userId;
+        List<String> values = redisTemplate.opsForList().range(key, 0, maxRecords - 1);
+        if (values == null) {
+            values = List.of();
+        }
+
+        ChatResDTO.InboxResDTO inbox = toInbox(userId, values);
+        send(subscription, inbox);
+
+        if (!values.isEmpty()) {
+            redisTemplate.execute(TRIM_DELIVERED, List.of(key),
+                    String.valueOf(values.size()), values.get(values.size() - 1));
+        }
+        drainedCounter.increment(inbox.records().size());
+        return inbox;
+    }
+
+    private ChatResDTO.InboxResDTO toInbox(Long userId, List<String> values) {
+        long minRecordedAt = System.currentTimeMillis() - maxAgeMs;
+        List<ChatResDTO.InboxRecordDTO> records = new ArrayList<>(values.size());
+        boolean expired = false;
+        for (String value : values) {
+            try {
+                ChatResDTO.InboxRecordDTO record = objectMapper.readValue(value, ChatResDTO.InboxRecordDTO.class);
+                if (record.recordedAt() < minRecordedAt) {
+                    expired = true;
+                    continue;
+                }
+                records.add(record);
+            } catch (JsonProcessingException e) {
+                log.debug("잘못된 받은편지함 기록 무시: userId={}", userId);
+            }
+        }
+
+        return ChatResDTO.InboxResDTO.builder()
+                .records(records)
+                .overflowed(expired || values.size() >= maxRecords)
+                .build();
+    }
+
+    // @SubscribeMapping 반환값과 같은 형식으로 구독한 세션에만 응답 (전송 결과를 확인하기 위해 직접 전송)
+    private void send(SimpMessageHeaderAccessor subscription, ChatResDTO.InboxResDTO inbox) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(subscription.getSessionId());
+        headers.setSubscriptionId(subscription.getSubscriptionId());
+        headers.setDestination(subscription.getDestination());
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(inbox);
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("받은편지함 응답 변환 실패", e);
+        }
+        if (!clientOutboundChannel.send(MessageBuilder.createMessage(payload, headers.getMessageHeaders()))) {
+            throw new MessageDeliveryException("받은편지함 응답 전송 실패: sessionId=" + subscription.getSessionId());
+        }
+    }
+}
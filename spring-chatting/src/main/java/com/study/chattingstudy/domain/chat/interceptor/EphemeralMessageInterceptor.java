@@ -0,0 +1,46 @@
+package com.study.chattingstudy.domain.chat.interceptor;
+
+import com.study.chattingstudy.global.config.handler.SlowConsumerTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 휘발성 메시지(타이핑 표시 등) 전송 필터 (clientOutboundChannel)
+ * - ephemeral 헤더가 있는 메시지는 소켓 쓰기가 밀린 구독자에게 보내지 않고 버림
+ * - 다음 신호가 곧 다시 오거나 클라이언트에서 자동 만료되므로 유실되어도 됨
+ */
+@Component
+public class EphemeralMessageInterceptor implements ChannelInterceptor {
+
+    public static final String EPHEMERAL_HEADER = "ephemeral";
+
+    private final SlowConsumerTracker slowConsumerTracker;
+    private final Counter dropped;
+
+    public EphemeralMessageInterceptor(SlowConsumerTracker slowConsumerTracker, MeterRegistry meterRegistry) {
+        this.slowConsumerTracker = slowConsumerTracker;
+        this.dropped = Counter.builder("chat.ephemeral.dropped")
+                .description("느린 구독자에게 보내지 않고 버린 휘발성 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (NativeMessageHeaderAccessor.getFirstNativeHeader(EPHEMERAL_HEADER, message.getHeaders()) == null) {
+            return message;
+        }
+
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null && slowConsumerTracker.isSlow(sessionId)) {
+            dropped.increment();
+            return null;
+        }
+        return message;
+    }
+}
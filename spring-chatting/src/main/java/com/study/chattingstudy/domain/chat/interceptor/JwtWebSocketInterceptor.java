@@ -1,10 +1,14 @@
 package com.study.chattingstudy.domain.chat.interceptor;
 
-import com.study.chattingstudy.domain.user.entity.User;
-import com.study.chattingstudy.domain.user.repository.UserRepository;
+import com.study.chattingstudy.domain.chat.resume.ResumeSessionRegistry;
+import com.study.chattingstudy.domain.user.presence.PresenceTracker;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
 import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.domain.user.security.util.UserRevocationRegistry;
 import com.study.chattingstudy.global.config.handler.WebSocketSessionRegistry;
+import com.study.chattingstudy.global.jfr.JwtAuthenticationEvent;
+import com.study.chattingstudy.global.query.QueryBudget;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -19,6 +23,9 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -26,58 +33,132 @@ import java.security.Principal;
 public class JwtWebSocketInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserRevocationRegistry userRevocationRegistry;
     private final WebSocketSessionRegistry sessionRegistry;  // 세션 등록을 위해 추가
+    private final ResumeSessionRegistry resumeSessionRegistry;
+    private final PresenceTracker presenceTracker;
+    private final QueryBudget queryBudget;
+
+    // 재접속 시 이전 세션을 복원하기 위한 헤더
+    private static final String RESUME_TOKEN_HEADER = "resume-token";
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
         // CONNECT 명령에서만 JWT 인증 수행
+        // (preSend 는 인바운드 워커 스레드 전에 실행되므로 인증 중 SQL 은 별도 범위로 집계)
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             log.info("WebSocket CONNECT 명령 수신 - JWT 인증 수행");
-            authenticateUser(accessor);
+            try (QueryBudget.Scope scope = queryBudget.open("STOMP CONNECT")) {
+                authenticateUser(accessor);
+            }
         }
         // DISCONNECT 명령 시 세션 제거
         else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
             String sessionId = accessor.getSessionId();
             sessionRegistry.removeSession(sessionId);
+            resumeSessionRegistry.detach(sessionId); // 재개 토큰은 TTL 동안 유지
             log.info("WebSocket 연결 종료 - 세션 제거됨: {}", sessionId);
         }
-        // 이미 인증된 세션 확인
-        else if (StompCommand.SEND.equals(accessor.getCommand()) ||
-                StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
-            accessor.getUser();
+        // 구독 정보 기록 (재접속 시 복원용)
+        else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            presenceTracker.touch(accessor.getSessionId(), true);
+            resumeSessionRegistry.recordSubscription(
+                    accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+        }
+        else if (StompCommand.UNSUBSCRIBE.equals(accessor.getCommand())) {
+            resumeSessionRegistry.removeSubscription(accessor.getSessionId(), accessor.getSubscriptionId());
+        }
+        // 메시지 전송은 활동으로 기록
+        else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            presenceTracker.touch(accessor.getSessionId(), true);
+        }
+        // heartbeat 는 마지막 접속 시각만 갱신 (활동으로 보지 않음)
+        else if (accessor.isHeartbeat()) {
+            presenceTracker.touch(accessor.getSessionId(), false);
         }
         return message;
     }
 
     private void authenticateUser(StompHeaderAccessor accessor) {
+        // 재개 토큰이 있으면 JWT 검증 없이 이전 세션 복원
+        if (resumeSession(accessor)) {
+            return;
+        }
+
         // 현재 인증 로직 유지
         String token = extractToken(accessor);
 
         if (token != null) {
+            JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+            event.begin();
+            event.channel = "stomp";
             try {
-                jwtUtil.validateToken(token);
-                String email = jwtUtil.getEmail(token);
-
-                User user = userRepository.findByEmail(email)
-                        .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
-
-                CustomUserDetails userDetails = new CustomUserDetails(user);
-                Authentication auth = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                // 토큰 검증과 클레임 추출을 한 번에 수행하고, 클레임으로 사용자 정보 생성 (DB 조회 없음)
+                Claims claims = jwtUtil.validateToken(token);
+                CustomUserDetails userDetails = jwtUtil.getUserDetails(claims);
 
-                accessor.setUser(auth);
+                if (userRevocationRegistry.isRevoked(userDetails.getUserId())) {
+                    throw new UsernameNotFoundException("폐기된 사용자의 토큰입니다: " + userDetails.getUserId());
+                }
 
-                // 사용자 ID와 세션 정보 등록 - 중요!
-                sessionRegistry.registerSession(user.getId().toString(), accessor);
+                registerAuthenticatedSession(accessor, userDetails, claims.getExpiration().getTime(), List.of());
 
+                event.result = "success";
+                event.userId = userDetails.getUserId();
                 log.info("WebSocket 연결 인증 성공: userId={}", userDetails.getUserId());
             } catch (Exception e) {
+                event.result = "failure";
                 log.error("WebSocket 연결 인증 실패: {}", e.getMessage());
             }
+            event.commit();
+        }
+    }
+
+    // 재개 토큰으로 이전 세션의 사용자 정보와 구독 목록 복원
+    private boolean resumeSession(StompHeaderAccessor accessor) {
+        String resumeToken = accessor.getFirstNativeHeader(RESUME_TOKEN_HEADER);
+        if (resumeToken == null) {
+            return false;
         }
+
+        Optional<ResumeSessionRegistry.ResumeSession> previous = resumeSessionRegistry.consume(resumeToken);
+        if (previous.isEmpty()) {
+            log.info("유효하지 않은 재개 토큰 - JWT 인증으로 진행합니다.");
+            return false;
+        }
+
+        ResumeSessionRegistry.ResumeSession session = previous.get();
+        if (userRevocationRegistry.isRevoked(session.getUserId())) {
+            log.warn("폐기된 사용자의 재개 요청: userId={}", session.getUserId());
+            return false;
+        }
+
+        registerAuthenticatedSession(accessor, session.toUserDetails(), session.getAuthExpiresAt(),
+                session.currentDestinations());
+
+        log.info("WebSocket 세션 재개 성공: userId={}", session.getUserId());
+        return true;
+    }
+
+    private void registerAuthenticatedSession(StompHeaderAccessor accessor,
+                                              CustomUserDetails userDetails,
+                                              long authExpiresAt,
+                                              Collection<String> restoredDestinations) {
+        Authentication auth = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+
+        accessor.setUser(auth);
+
+        // 사용자 ID와 세션 정보 등록 - 중요!
+        sessionRegistry.registerSession(userDetails.getUserId().toString(), accessor);
+
+        // 재접속용 재개 토큰 발급 (클라이언트는 /pub/chat/session 구독 응답으로 전달받음)
+        resumeSessionRegistry.issue(accessor.getSessionId(), userDetails, authExpiresAt, restoredDestinations);
+
+        // 접속 상태 갱신 (저장소에는 주기적으로 일괄 반영)
+        presenceTracker.connected(accessor.getSessionId(), userDetails.getUserId());
     }
 
     private String extractToken(StompHeaderAccessor accessor) {
@@ -0,0 +1,39 @@
+package com.study.chattingstudy.domain.chat.repository;
+
+import com.study.chattingstudy.domain.chat.entity.ChatChangeLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatChangeLogRepository extends JpaRepository<ChatChangeLog, Long> {
+
+    // 커서 이후의 변경 로그 조회 (settledBefore 이전에 기록된 것만)
+    @Query("SELECT c FROM ChatChangeLog c " +
+            "WHERE c.userId = :userId AND c.id > :cursor AND c.createdAt < :settledBefore " +
+            "ORDER BY c.id ASC")
+    List<ChatChangeLog> findChangesAfter(
+            @Param("userId") Long userId,
+            @Param("cursor") Long cursor,
+            @Param("settledBefore") LocalDateTime settledBefore,
+            Pageable pageable);
+
+    // 사용자의 최신 변경 로그 ID (전체 동기화 시 새 커서로 사용)
+    @Query("SELECT MAX(c.id) FROM ChatChangeLog c WHERE c.userId = :userId AND c.createdAt < :settledBefore")
+    Long findLatestId(@Param("userId") Long userId, @Param("settledBefore") LocalDateTime settledBefore);
+
+    // 보관 기간이 지난 마지막 변경 로그 ID (created_at 인덱스 사용)
+    @Query("SELECT MAX(c.id) FROM ChatChangeLog c WHERE c.createdAt < :cutoff")
+    Long findMaxIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 보관 기간이 지난 변경 로그를 PK 순서로 나눠 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM chat_change_logs WHERE id <= :maxId ORDER BY id LIMIT :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("maxId") Long maxId, @Param("limit") int limit);
+}
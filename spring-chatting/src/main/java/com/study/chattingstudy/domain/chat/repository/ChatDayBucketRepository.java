@@ -0,0 +1,66 @@
+package com.study.chattingstudy.domain.chat.repository;
+
+import com.study.chattingstudy.domain.chat.entity.ChatDayBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChatDayBucketRepository extends JpaRepository<ChatDayBucket, Long> {
+
+    /**
+     * 메시지 1개를 일자 버킷에 반영 (없으면 생성)
+     * - 조회 후 저장하지 않고 한 문장으로 처리하여 동시 전송 시에도 개수가 누락되지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_day_buckets " +
+            "(chat_room_id, bucket_date, message_count, first_cursor, last_cursor, created_at, updated_at) " +
+            "VALUES (:chatRoomId, :bucketDate, 1, :cursor, :cursor, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE message_count = message_count + 1, " +
+            "first_cursor = LEAST(first_cursor, VALUES(first_cursor)), " +
+            "last_cursor = GREATEST(last_cursor, VALUES(last_cursor)), " +
+            "updated_at = NOW()", nativeQuery = true)
+    void upsertMessage(@Param("chatRoomId") Long chatRoomId,
+                       @Param("bucketDate") LocalDate bucketDate,
+                       @Param("cursor") long cursor);
+
+    /**
+     * 일자 버킷을 주어진 값으로 덮어씀 (없으면 생성) - 기존 이력 보충용
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO chat_day_buckets " +
+            "(chat_room_id, bucket_date, message_count, first_cursor, last_cursor, created_at, updated_at) " +
+            "VALUES (:chatRoomId, :bucketDate, :messageCount, :firstCursor, :lastCursor, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE message_count = VALUES(message_count), " +
+            "first_cursor = VALUES(first_cursor), last_cursor = VALUES(last_cursor), " +
+            "updated_at = NOW()", nativeQuery = true)
+    void replaceDay(@Param("chatRoomId") Long chatRoomId,
+                    @Param("bucketDate") LocalDate bucketDate,
+                    @Param("messageCount") long messageCount,
+                    @Param("firstCursor") long firstCursor,
+                    @Param("lastCursor") long lastCursor);
+
+    // before 이전 일자의 버킷을 최대 limit 개 삭제 (메시지가 삭제된 기간 정리, 나눠서 호출)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM chat_day_buckets WHERE bucket_date < :before LIMIT :limit", nativeQuery = true)
+    int deleteBeforeChunk(@Param("before") LocalDate before, @Param("limit") int limit);
+
+    // 기간 내 메시지가 있는 일자 조회 (날짜 오름차순)
+    @Query("SELECT b FROM ChatDayBucket b " +
+            "WHERE b.chatRoomId = :chatRoomId AND b.bucketDate BETWEEN :from AND :to " +
+            "ORDER BY b.bucketDate ASC")
+    List<ChatDayBucket> findByRoomIdAndDateRange(@Param("chatRoomId") Long chatRoomId,
+                                                 @Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to);
+
+    // 지정한 일자 또는 그 이후 첫 번째 메시지가 있는 일자 (날짜 이동 시 메시지가 없는 날 건너뛰기)
+    Optional<ChatDayBucket> findFirstByChatRoomIdAndBucketDateGreaterThanEqualOrderByBucketDateAsc(
+            Long chatRoomId, LocalDate bucketDate);
+}
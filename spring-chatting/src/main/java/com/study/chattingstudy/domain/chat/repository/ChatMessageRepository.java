@@ -1,41 +1,75 @@
 package com.study.chattingstudy.domain.chat.repository;
 
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
 import com.study.chattingstudy.domain.chat.entity.ChatMessage;
 import com.study.chattingstudy.domain.chat.entity.ChatRoom;
+import com.study.chattingstudy.domain.chat.store.archive.ArchivedMessage;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    // 메시지 ID로 메시지 찾기
-    Optional<ChatMessage> findByMessageId(String messageId);
+    /**
+     * 메시지 ID로 메시지 찾기
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.recentFrom - 최근 파티션만 조회, 없으면 earliest 로 다시 조회)
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
+            "WHERE cm.messageId = :messageId AND cm.createdAt >= :from")
+    Optional<ChatMessage> findByMessageId(@Param("messageId") String messageId, @Param("from") LocalDateTime from);
+
+    // 메시지 ID 목록으로 발신자 정보와 함께 조회 (동기화 시 새 메시지 조회)
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.messageId IN :messageIds")
+    List<ChatMessage> findByMessageIdsWithSender(@Param("messageIds") Collection<String> messageIds);
 
-    // 여러 채팅방의 마지막 메시지를 한 번에 조회 (N+1 문제 해결)
+    /**
+     * 여러 채팅방의 마지막 메시지를 한 번에 조회 (N+1 문제 해결)
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.recentFrom - 빠진 채팅방만 earliest 로 다시 조회)
+     */
     @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
-            "WHERE cm.id IN (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id IN :roomIds GROUP BY m.chatRoom.id)")
-    List<ChatMessage> findLastMessagesByRoomIds(@Param("roomIds") List<Long> roomIds);
+            "WHERE cm.createdAt >= :from AND cm.id IN (SELECT MAX(m.id) FROM ChatMessage m " +
+            "WHERE m.chatRoom.id IN :roomIds AND m.createdAt >= :from GROUP BY m.chatRoom.id)")
+    List<ChatMessage> findLastMessagesByRoomIds(@Param("roomIds") List<Long> roomIds,
+                                                @Param("from") LocalDateTime from);
 
-    // 여러 채팅방의 읽지 않은 메시지 수를 한 번에 조회 (N+1 문제 해결)
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수를 한 번에 조회 (N+1 문제 해결)
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.unreadFrom - unread-months 를 지정한 경우에만 범위를 좁힘)
+     */
     @Query("SELECT cm.chatRoom.id as roomId, COUNT(cm) as count FROM ChatMessage cm " +
             "WHERE cm.chatRoom.id IN :roomIds AND cm.sender.id <> :userId AND cm.read = false " +
-            "GROUP BY cm.chatRoom.id")
-    List<Object[]> countUnreadMessagesByRoomIdsRaw(@Param("roomIds") List<Long> roomIds, @Param("userId") Long userId);
+            "AND cm.createdAt >= :from GROUP BY cm.chatRoom.id")
+    List<Object[]> countUnreadMessagesByRoomIdsRaw(@Param("roomIds") List<Long> roomIds, @Param("userId") Long userId,
+                                                   @Param("from") LocalDateTime from);
 
-    // 특정 채팅방의 모든 메시지를 읽음 상태로 변경 (자신이 보낸 메시지 제외)
+    /**
+     * 특정 채팅방의 모든 메시지를 읽음 상태로 변경 (자신이 보낸 메시지 제외)
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.unreadFrom - 안 읽은 수 집계와 같은 범위)
+     */
     @Modifying
-    @Query("UPDATE ChatMessage m SET m.read = true WHERE m.chatRoom.id = :chatRoomId AND m.sender.id <> :userId AND m.read = false")
-    int markAllAsReadInChatRoom(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    @Query("UPDATE ChatMessage m SET m.read = true WHERE m.chatRoom.id = :chatRoomId AND m.sender.id <> :userId " +
+            "AND m.read = false AND m.createdAt >= :from")
+    int markAllAsReadInChatRoom(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId,
+                                @Param("from") LocalDateTime from);
 
-    // 특정 채팅방의 읽지 않은 메시지 수 조회 (자신이 보낸 메시지 제외)
-    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId AND m.sender.id <> :userId AND m.read = false")
-    long countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+    // 특정 채팅방의 읽지 않은 메시지 수 조회 (자신이 보낸 메시지 제외, from: ChatMessagePartitionManager.unreadFrom)
+    @Query("SELECT COUNT(m) FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId AND m.sender.id <> :userId " +
+            "AND m.read = false AND m.createdAt >= :from")
+    long countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId,
+                             @Param("from") LocalDateTime from);
 
     /**
      * 특정 채팅방의 메시지를 발신자 정보와 함께 페이징하여 조회
@@ -50,4 +84,88 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             @Param("chatRoom") ChatRoom chatRoom,
             Pageable pageable
     );
+
+    /**
+     * 채팅방의 최신 메시지를 발신자 정보와 함께 조회 (채팅방 엔티티 조회 불필요)
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.recentFrom - 부족하면 earliest 로 다시 조회)
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
+            "WHERE cm.chatRoom.id = :chatRoomId AND cm.createdAt >= :from " +
+            "ORDER BY cm.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(@Param("chatRoomId") Long chatRoomId,
+                                             @Param("from") LocalDateTime from,
+                                             Pageable pageable);
+
+    /**
+     * 커서(메시지 ID) 이전 메시지를 발신자 정보와 함께 조회
+     * @param until 생성 시각 상한 (ChatMessagePartitionManager.createdAtUntil - 이후 파티션을 프루닝)
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
+            "WHERE cm.chatRoom.id = :chatRoomId AND cm.id < :before AND cm.createdAt < :until " +
+            "ORDER BY cm.id DESC")
+    List<ChatMessage> findByChatRoomIdBefore(@Param("chatRoomId") Long chatRoomId,
+                                             @Param("before") Long before,
+                                             @Param("until") LocalDateTime until,
+                                             Pageable pageable);
+
+    /**
+     * 커서(메시지 ID) 이후 메시지를 발신자 정보와 함께 오래된 순으로 조회
+     * @param from 생성 시각 하한 (ChatMessagePartitionManager.createdAtFrom - 이전 파티션을 프루닝)
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
+            "WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :after AND cm.createdAt >= :from " +
+            "ORDER BY cm.id ASC")
+    List<ChatMessage> findByChatRoomIdAfter(@Param("chatRoomId") Long chatRoomId,
+                                            @Param("after") Long after,
+                                            @Param("from") LocalDateTime from,
+                                            Pageable pageable);
+
+    /**
+     * 채팅방 전체 메시지를 DTO 로 스트리밍 조회 (내보내기용)
+     * - fetch size Integer.MIN_VALUE: MySQL 드라이버가 결과를 한 행씩 읽는 스트리밍 모드로 동작
+     * - 생성자 projection 으로 엔티티를 영속성 컨텍스트에 올리지 않음
+     * 반환된 Stream 은 트랜잭션 안에서 사용하고 반드시 닫아야 함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.study.chattingstudy.domain.chat.dto.response.ChatResDTO$MessageResDTO(" +
+            "cm.messageId, cm.content, s.id, s.username, cm.createdAt, cm.read) " +
+            "FROM ChatMessage cm JOIN cm.sender s " +
+            "WHERE cm.chatRoom.id = :chatRoomId AND cm.id > :afterId AND cm.createdAt >= :from " +
+            "ORDER BY cm.id ASC")
+    Stream<ChatResDTO.MessageResDTO> streamForExport(@Param("chatRoomId") Long chatRoomId,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("from") LocalDateTime from);
+
+    // 보관 대상 후보 조회 - PK 순서대로 afterId 이후 메시지 (PK 범위 조회라 테이블 크기와 무관, from 으로 이전 파티션 프루닝)
+    @Query("SELECT new com.study.chattingstudy.domain.chat.store.archive.ArchivedMessage(" +
+            "cm.chatRoom.id, cm.id, cm.createdAt, s.id, s.username, cm.messageId, cm.content, cm.read) " +
+            "FROM ChatMessage cm JOIN cm.sender s " +
+            "WHERE cm.id > :afterId AND cm.createdAt >= :from " +
+            "ORDER BY cm.id ASC")
+    List<ArchivedMessage> findArchiveCandidates(@Param("afterId") Long afterId,
+                                                @Param("from") LocalDateTime from,
+                                                Pageable pageable);
+
+    // 보관 완료된 메시지를 PK 순서로 최대 limit 개 삭제 (긴 잠금을 피하기 위해 나눠서 호출)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM chat_messages WHERE id <= :maxId ORDER BY id LIMIT :limit", nativeQuery = true)
+    int deleteArchivedChunk(@Param("maxId") Long maxId, @Param("limit") int limit);
+
+    // 채팅방의 afterId 이후 메시지를 일자별로 집계 (일자, 메시지 수, 최소 PK, 최대 PK) - 일자 버킷 보충용
+    @Query(value = "SELECT DATE(created_at), COUNT(*), MIN(id), MAX(id) FROM chat_messages " +
+            "WHERE chat_room_id = :chatRoomId AND id > :afterId AND created_at < :before " +
+            "GROUP BY DATE(created_at)", nativeQuery = true)
+    List<Object[]> aggregateDays(@Param("chatRoomId") Long chatRoomId,
+                                 @Param("afterId") long afterId,
+                                 @Param("before") LocalDateTime before);
+
+    // 테이블 추정 행 수와 크기(데이터 + 인덱스 바이트) - InnoDB 통계 기반이라 COUNT(*) 없이 조회
+    @Query(value = "SELECT TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'chat_messages'", nativeQuery = true)
+    List<Object[]> findTableStats();
 }
@@ -25,10 +25,19 @@ public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomPar
     @Query("SELECT p FROM ChatRoomParticipant p WHERE p.chatRoom.id = :chatRoomId AND p.user.id <> :userId")
     List<ChatRoomParticipant> findOtherParticipants(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
 
+    // 사용자가 참여한 채팅방 ID 목록 조회 (검색 대상 채팅방)
+    @Query("SELECT p.chatRoom.chatId FROM ChatRoomParticipant p WHERE p.user.id = :userId")
+    List<String> findChatIdsByUserId(@Param("userId") Long userId);
+
     // NEW: 여러 채팅방의 다른 참여자들 한 번에 조회
     @Query("SELECT p FROM ChatRoomParticipant p JOIN FETCH p.user " +
             "WHERE p.chatRoom.id IN :roomIds AND p.user.id <> :userId")
     List<ChatRoomParticipant> findByRoomIdsAndUserIdNot(
             @Param("roomIds") List<Long> roomIds,
             @Param("userId") Long userId);
+
+    // userIds 중 userId 와 같은 채팅방에 참여 중인 사용자 ID 조회 (접속 상태 조회 대상 제한)
+    @Query("SELECT DISTINCT p.user.id FROM ChatRoomParticipant p WHERE p.user.id IN :userIds " +
+            "AND p.chatRoom.id IN (SELECT mine.chatRoom.id FROM ChatRoomParticipant mine WHERE mine.user.id = :userId)")
+    List<Long> findUserIdsSharingRoomWith(@Param("userId") Long userId, @Param("userIds") List<Long> userIds);
 }
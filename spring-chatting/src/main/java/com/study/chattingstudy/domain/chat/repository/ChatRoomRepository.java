@@ -1,11 +1,13 @@
 package com.study.chattingstudy.domain.chat.repository;
 
 import com.study.chattingstudy.domain.chat.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +16,10 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 채팅방 ID로 채팅방 찾기
     Optional<ChatRoom> findByChatId(String chatId);
 
+    // PK 순서로 afterId 이후 채팅방 ID 조회 (배치 작업용)
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.id > :afterId ORDER BY cr.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     // fetch join으로 참여자와 유저 정보까지 한번에 가져오기
     @Query("SELECT cr FROM ChatRoom cr " +
             "LEFT JOIN FETCH cr.participants p " +
@@ -28,6 +34,15 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             "WHERE p.user.id = :userId AND cr.type = 'PRIVATE'")
     List<ChatRoom> findPrivateChatRoomsByUserId(@Param("userId") Long userId);
 
+    // 사용자가 참여한 1:1 채팅방 중 지정한 채팅방만 조회 (동기화 시 변경된 채팅방 조회)
+    @EntityGraph(attributePaths = {"participants", "participants.user"})
+    @Query("SELECT DISTINCT cr FROM ChatRoom cr " +
+            "JOIN cr.participants p " +
+            "WHERE p.user.id = :userId AND cr.type = 'PRIVATE' AND cr.chatId IN :chatIds")
+    List<ChatRoom> findPrivateChatRoomsByChatIdsAndUserId(
+            @Param("chatIds") Collection<String> chatIds,
+            @Param("userId") Long userId);
+
     // 두 사용자 간의 1:1 채팅방 찾기 (최적화)
     @EntityGraph(attributePaths = {"participants", "participants.user"})
     @Query("SELECT cr FROM ChatRoom cr " +
@@ -0,0 +1,122 @@
+package com.study.chattingstudy.domain.chat.resume;
+
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 채팅방별 최근 메시지 재전송 버퍼
+ * - 브로드캐스트하는 메시지마다 방 단위 순번(seq)을 부여하고 최근 N개를 보관
+ * - 재접속한 클라이언트가 마지막으로 받은 순번을 알려주면 그 이후 메시지만 재전송
+ * - 순번은 방 버퍼 생성 시각 기반으로 시작하므로 서버 재시작 후에도 감소하지 않음
+ */
+@Component
+public class ChatReplayBuffer {
+
+    // 브로드캐스트 메시지의 STOMP 헤더 이름
+    public static final String SEQ_HEADER = "seq";
+
+    private static final long SWEEP_INTERVAL_MS = 60_000;
+
+    // 방별 보관 메시지 수
+    @Value("${chat.resume.replay-capacity:200}")
+    private int capacity;
+
+    // 이 시간 동안 메시지가 없는 방의 버퍼는 제거
+    @Value("${chat.resume.room-idle-ms:600000}")
+    private long roomIdleMs;
+
+    private final Map<String, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    /**
+     * 메시지에 순번을 부여하여 버퍼에 추가하고 발행
+     * - 방 단위 잠금 안에서 발행하므로 순번 순서와 브로커 전달 순서가 같음
+     * @param publisher 부여된 순번으로 메시지를 발행하는 함수
+     * @return 부여된 순번
+     */
+    public long append(String chatId, ChatResDTO.MessageResDTO message, LongConsumer publisher) {
+        sweepIdleRooms();
+        RoomBuffer buffer = rooms.computeIfAbsent(chatId, k -> new RoomBuffer());
+        return buffer.append(message, capacity, publisher);
+    }
+
+    /**
+     * 마지막으로 받은 순번 이후의 메시지 조회
+     * @param chatId 채팅방 ID
+     * @param lastSeq 클라이언트가 마지막으로 받은 순번
+     */
+    public Replay since(String chatId, long lastSeq) {
+        RoomBuffer buffer = rooms.get(chatId);
+        if (buffer == null) {
+            // 이 노드에서 버퍼링한 메시지가 없으므로 누락 여부를 알 수 없음
+            return new Replay(List.of(), lastSeq > 0);
+        }
+        return buffer.since(lastSeq);
+    }
+
+    private void sweepIdleRooms() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        rooms.values().removeIf(buffer -> buffer.isIdle(now, roomIdleMs));
+    }
+
+    public record Entry(long seq, ChatResDTO.MessageResDTO message) {
+    }
+
+    /**
+     * @param entries 재전송할 메시지 (순번 오름차순)
+     * @param truncated 버퍼 범위를 벗어나 일부 메시지를 재전송할 수 없는 경우 true (클라이언트는 히스토리 API 로 보충)
+     */
+    public record Replay(List<Entry> entries, boolean truncated) {
+    }
+
+    private static class RoomBuffer {
+
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private final long firstSeq = System.currentTimeMillis() * 1000;
+        private long nextSeq = firstSeq;
+        private volatile long lastAppendAt = System.currentTimeMillis();
+
+        synchronized long append(ChatResDTO.MessageResDTO message, int capacity, LongConsumer publisher) {
+            long seq = nextSeq++;
+            entries.addLast(new Entry(seq, message));
+            while (entries.size() > capacity) {
+                entries.removeFirst();
+            }
+            lastAppendAt = System.currentTimeMillis();
+
+            publisher.accept(seq);
+            return seq;
+        }
+
+        synchronized Replay since(long lastSeq) {
+            List<Entry> result = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (entry.seq() > lastSeq) {
+                    result.add(entry);
+                }
+            }
+
+            // 클라이언트가 받은 다음 순번이 이미 버퍼에서 밀려났거나, 이전 버퍼(재시작 전)의 순번인 경우
+            long oldestSeq = entries.isEmpty() ? nextSeq : entries.peekFirst().seq();
+            boolean truncated = lastSeq + 1 < oldestSeq && (lastSeq > 0 || oldestSeq > firstSeq);
+            return new Replay(result, truncated);
+        }
+
+        boolean isIdle(long now, long roomIdleMs) {
+            return now - lastAppendAt > roomIdleMs;
+        }
+    }
+}
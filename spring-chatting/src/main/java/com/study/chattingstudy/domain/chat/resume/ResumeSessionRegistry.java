@@ -0,0 +1,170 @@
+package com.study.chattingstudy.domain.chat.resume;
+
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 재접속용 세션 재개(resume) 토큰 관리
+ * - CONNECT 시 토큰을 발급하고, 세션의 사용자 정보와 구독 목록을 함께 보관
+ * - 연결이 끊긴 뒤 TTL 안에 토큰으로 재접속하면 JWT 검증 없이 사용자 정보와 구독 목록을 복원
+ * - 토큰은 1회용이며, 복원된 새 세션에는 새 토큰이 발급됨
+ */
+@Slf4j
+@Component
+public class ResumeSessionRegistry {
+
+    private static final long SWEEP_INTERVAL_MS = 30_000;
+
+    // 연결이 끊긴 뒤 재개 토큰이 유효한 시간
+    @Value("${chat.resume.ttl-ms:120000}")
+    private long resumeTtlMs;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    // 재개 토큰 -> 세션 상태
+    private final Map<String, ResumeSession> sessionsByToken = new ConcurrentHashMap<>();
+
+    // STOMP 세션 ID -> 재개 토큰
+    private final Map<String, String> tokensBySessionId = new ConcurrentHashMap<>();
+
+    /**
+     * 새 STOMP 세션에 재개 토큰 발급
+     * @param sessionId STOMP 세션 ID
+     * @param userDetails 인증된 사용자
+     * @param authExpiresAt 원래 인증(JWT)의 만료 시각 - 재개로 인증 기간이 늘어나지 않도록 유지
+     * @param restoredDestinations 이전 세션에서 복원한 구독 목적지
+     * @return 발급된 재개 토큰
+     */
+    public String issue(String sessionId, CustomUserDetails userDetails, long authExpiresAt,
+                        Collection<String> restoredDestinations) {
+        sweepExpired();
+
+        String token = generateToken();
+        ResumeSession session = new ResumeSession(
+                userDetails.getUserId(), userDetails.getEmail(), userDetails.getRole(),
+                authExpiresAt, List.copyOf(restoredDestinations));
+
+        sessionsByToken.put(token, session);
+        tokensBySessionId.put(sessionId, token);
+        return token;
+    }
+
+    /**
+     * 재개 토큰 사용 (1회용)
+     * @return 유효한 경우 이전 세션 상태
+     */
+    public Optional<ResumeSession> consume(String token) {
+        ResumeSession session = sessionsByToken.remove(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        if (session.isExpired(now, resumeTtlMs)) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    public Optional<String> findToken(String sessionId) {
+        return Optional.ofNullable(tokensBySessionId.get(sessionId));
+    }
+
+    public Optional<ResumeSession> findBySessionId(String sessionId) {
+        return findToken(sessionId).map(sessionsByToken::get);
+    }
+
+    // SUBSCRIBE 시 구독 정보 기록
+    public void recordSubscription(String sessionId, String subscriptionId, String destination) {
+        findBySessionId(sessionId).ifPresent(session -> session.getSubscriptions().put(subscriptionId, destination));
+    }
+
+    // UNSUBSCRIBE 시 구독 정보 제거
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        findBySessionId(sessionId).ifPresent(session -> session.getSubscriptions().remove(subscriptionId));
+    }
+
+    // 연결 종료 시 재개 가능 시간(TTL) 시작
+    public void detach(String sessionId) {
+        String token = tokensBySessionId.remove(sessionId);
+        if (token == null) {
+            return;
+        }
+
+        ResumeSession session = sessionsByToken.get(token);
+        if (session != null) {
+            session.detachedAt = System.currentTimeMillis();
+        }
+    }
+
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        sessionsByToken.values().removeIf(session -> session.isExpired(now, resumeTtlMs));
+    }
+
+    private String generateToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 재개 가능한 세션 상태
+     */
+    @Getter
+    public static class ResumeSession {
+
+        private final Long userId;
+        private final String email;
+        private final UserRole role;
+        private final long authExpiresAt;
+
+        // 이전 세션에서 복원된 구독 목적지
+        private final List<String> restoredDestinations;
+
+        // 구독 ID -> 구독 목적지
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+        // 연결 종료 시각 (0 이면 연결 중)
+        private volatile long detachedAt;
+
+        private ResumeSession(Long userId, String email, UserRole role, long authExpiresAt,
+                              List<String> restoredDestinations) {
+            this.userId = userId;
+            this.email = email;
+            this.role = role;
+            this.authExpiresAt = authExpiresAt;
+            this.restoredDestinations = restoredDestinations;
+        }
+
+        public CustomUserDetails toUserDetails() {
+            return new CustomUserDetails(userId, email, role);
+        }
+
+        // 현재 구독 중인 목적지 목록 (다음 재접속 시 복원 대상)
+        public Set<String> currentDestinations() {
+            return new LinkedHashSet<>(subscriptions.values());
+        }
+
+        private boolean isExpired(long now, long resumeTtlMs) {
+            if (authExpiresAt <= now) {
+                return true;
+            }
+            return detachedAt != 0 && now - detachedAt > resumeTtlMs;
+        }
+    }
+}
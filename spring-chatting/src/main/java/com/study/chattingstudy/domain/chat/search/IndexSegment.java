@@ -0,0 +1,493 @@
+package com.study.chattingstudy.domain.chat.search;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * 채팅방 검색 색인의 불변 세그먼트 파일
+ * 형식: [docs] [cursors] [docIndex] [postings] [termIndex] [footer]
+ * - docs     : 문서마다 [senderId:long][createdAt:long][length:int][messageId:UTF][username:UTF][contentLength:int][content]
+ * - cursors  : 문서 커서 (오름차순, 문서 번호(ordinal) 순서와 같음)
+ * - docIndex : 문서 시작 위치
+ * - postings : 토큰마다 (문서 번호 증가분, 출현 횟수) varint 목록
+ * - termIndex: 토큰 오름차순 [term:UTF][docFreq:int][postingsPosition:int][postingsLength:int]
+ * - footer   : [totalLength:long][docCount:int][termCount:int][cursorsPos:long][docIndexPos:long][termIndexPos:long][magic:int]
+ * 파일은 mmap 으로 읽고, 커서와 토큰 목록만 힙에 올림
+ */
+final class IndexSegment implements Closeable {
+
+    private static final int MAGIC = 0x43485358;
+    private static final int FOOTER_BYTES = 44;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final long totalLength;
+    private final long[] cursors;
+    private final int docsEnd;
+    private final int docIndexPos;
+
+    // 토큰 사전 (오름차순)
+    private final String[] terms;
+    private final int[] docFreqs;
+    private final int[] postingPositions;
+    private final int[] postingLengths;
+
+    private IndexSegment(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+
+        int footer = buffer.limit() - FOOTER_BYTES;
+        if (footer < 0 || buffer.getInt(footer + 40) != MAGIC) {
+            throw new IOException("검색 색인 세그먼트가 손상되었습니다: " + path);
+        }
+        this.totalLength = buffer.getLong(footer);
+        int docCount = buffer.getInt(footer + 8);
+        int termCount = buffer.getInt(footer + 12);
+        this.docsEnd = (int) buffer.getLong(footer + 16);
+        this.docIndexPos = (int) buffer.getLong(footer + 24);
+        int termIndexPos = (int) buffer.getLong(footer + 32);
+
+        this.cursors = new long[docCount];
+        for (int i = 0; i < docCount; i++) {
+            cursors[i] = buffer.getLong(docsEnd + i * 8);
+        }
+
+        this.terms = new String[termCount];
+        this.docFreqs = new int[termCount];
+        this.postingPositions = new int[termCount];
+        this.postingLengths = new int[termCount];
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                bytes(termIndexPos, footer - termIndexPos)));
+        for (int i = 0; i < termCount; i++) {
+            terms[i] = in.readUTF();
+            docFreqs[i] = in.readInt();
+            postingPositions[i] = in.readInt();
+            postingLengths[i] = in.readInt();
+        }
+    }
+
+    static IndexSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("검색 색인 세그먼트가 너무 큽니다: " + path);
+            }
+            return new IndexSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 색인 버퍼의 문서로 새 세그먼트 기록
+     * @param docs 커서 오름차순 문서 (termFrequencies 포함)
+     */
+    static IndexSegment write(Path path, List<IndexedDoc> docs) throws IOException {
+        // 토큰 -> 포함 문서 번호/출현 횟수 (문서 번호 오름차순으로 쌓임)
+        TreeMap<String, List<long[]>> postings = new TreeMap<>();
+        long totalLength = 0;
+        for (int ordinal = 0; ordinal < docs.size(); ordinal++) {
+            IndexedDoc doc = docs.get(ordinal);
+            totalLength += doc.length();
+            for (Map.Entry<String, Integer> entry : doc.termFrequencies().entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
+                        .add(new long[]{ordinal, entry.getValue()});
+            }
+        }
+
+        try (Writer writer = new Writer(path)) {
+            for (IndexedDoc doc : docs) {
+                writer.addDoc(doc.cursor(), encodeDoc(doc));
+            }
+            writer.startPostings();
+            for (Map.Entry<String, List<long[]>> entry : postings.entrySet()) {
+                List<long[]> list = entry.getValue();
+                int[] ordinals = new int[list.size()];
+                int[] frequencies = new int[list.size()];
+                for (int i = 0; i < list.size(); i++) {
+                    ordinals[i] = (int) list.get(i)[0];
+                    frequencies[i] = (int) list.get(i)[1];
+                }
+                writer.addTerm(entry.getKey(), ordinals, frequencies, ordinals.length);
+            }
+            writer.finish(totalLength);
+        }
+        return open(path);
+    }
+
+    /**
+     * 여러 세그먼트를 하나로 병합 - 문서는 커서 순으로 다시 번호를 매기고, 토큰 사전은 k-way 병합
+     */
+    static IndexSegment merge(Path path, List<IndexSegment> sources) throws IOException {
+        // 문서 병합 (커서 오름차순) 및 세그먼트별 문서 번호 -> 새 문서 번호
+        int[][] remap = new int[sources.size()][];
+        int[] positions = new int[sources.size()];
+        for (int s = 0; s < sources.size(); s++) {
+            remap[s] = new int[sources.get(s).docCount()];
+        }
+
+        long totalLength = 0;
+        try (Writer writer = new Writer(path)) {
+            int next = 0;
+            while (true) {
+                int source = -1;
+                for (int s = 0; s < sources.size(); s++) {
+                    if (positions[s] < remap[s].length && (source < 0
+                            || sources.get(s).cursors[positions[s]] < sources.get(source).cursors[positions[source]])) {
+                        source = s;
+                    }
+                }
+                if (source < 0) {
+                    break;
+                }
+
+                IndexSegment segment = sources.get(source);
+                int ordinal = positions[source]++;
+                remap[source][ordinal] = next++;
+                writer.addDoc(segment.cursors[ordinal], segment.rawDoc(ordinal));
+            }
+            for (IndexSegment segment : sources) {
+                totalLength += segment.totalLength;
+            }
+
+            // 토큰 사전 병합
+            writer.startPostings();
+            int[] termPositions = new int[sources.size()];
+            while (true) {
+                String term = null;
+                for (int s = 0; s < sources.size(); s++) {
+                    IndexSegment segment = sources.get(s);
+                    if (termPositions[s] < segment.terms.length
+                            && (term == null || segment.terms[termPositions[s]].compareTo(term) < 0)) {
+                        term = segment.terms[termPositions[s]];
+                    }
+                }
+                if (term == null) {
+                    break;
+                }
+
+                // 같은 토큰의 posting 을 새 문서 번호로 바꿔 모은 뒤 정렬 (세그먼트 커서 범위가 겹칠 수 있음)
+                int count = 0;
+                for (int s = 0; s < sources.size(); s++) {
+                    IndexSegment segment = sources.get(s);
+                    if (termPositions[s] < segment.terms.length && segment.terms[termPositions[s]].equals(term)) {
+                        count += segment.docFreqs[termPositions[s]];
+                    }
+                }
+                long[] packed = new long[count];
+                int filled = 0;
+                for (int s = 0; s < sources.size(); s++) {
+                    IndexSegment segment = sources.get(s);
+                    if (termPositions[s] < segment.terms.length && segment.terms[termPositions[s]].equals(term)) {
+                        Postings postings = segment.postings(termPositions[s]);
+                        for (int i = 0; i < postings.size(); i++) {
+                            packed[filled++] = ((long) remap[s][postings.ordinals()[i]] << 32) | postings.frequencies()[i];
+                        }
+                        termPositions[s]++;
+                    }
+                }
+                Arrays.sort(packed);
+
+                int[] ordinals = new int[count];
+                int[] frequencies = new int[count];
+                for (int i = 0; i < count; i++) {
+                    ordinals[i] = (int) (packed[i] >>> 32);
+                    frequencies[i] = (int) packed[i];
+                }
+                writer.addTerm(term, ordinals, frequencies, count);
+            }
+            writer.finish(totalLength);
+        }
+        return open(path);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int docCount() {
+        return cursors.length;
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    long sizeBytes() {
+        return buffer.limit();
+    }
+
+    long maxCursor() {
+        return cursors.length == 0 ? 0 : cursors[cursors.length - 1];
+    }
+
+    long cursorOf(int ordinal) {
+        return cursors[ordinal];
+    }
+
+    boolean contains(long cursor) {
+        return Arrays.binarySearch(cursors, cursor) >= 0;
+    }
+
+    int docFreq(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? 0 : docFreqs[index];
+    }
+
+    /**
+     * 질의 토큰을 모두 포함하는 문서 전달
+     * @param queryTerms 질의 토큰 (중복 없음)
+     */
+    void match(List<String> queryTerms, MatchConsumer consumer) {
+        Postings[] lists = new Postings[queryTerms.size()];
+        for (int i = 0; i < lists.length; i++) {
+            int index = Arrays.binarySearch(terms, queryTerms.get(i));
+            if (index < 0) {
+                return;
+            }
+            lists[i] = postings(index);
+        }
+
+        // 가장 짧은 posting 기준으로 교집합
+        int shortest = 0;
+        for (int i = 1; i < lists.length; i++) {
+            if (lists[i].size() < lists[shortest].size()) {
+                shortest = i;
+            }
+        }
+
+        int[] pointers = new int[lists.length];
+        int[] frequencies = new int[lists.length];
+        outer:
+        for (int k = 0; k < lists[shortest].size(); k++) {
+            int ordinal = lists[shortest].ordinals()[k];
+            for (int i = 0; i < lists.length; i++) {
+                Postings list = lists[i];
+                while (pointers[i] < list.size() && list.ordinals()[pointers[i]] < ordinal) {
+                    pointers[i]++;
+                }
+                if (pointers[i] == list.size()) {
+                    return;
+                }
+                if (list.ordinals()[pointers[i]] != ordinal) {
+                    continue outer;
+                }
+                frequencies[i] = list.frequencies()[pointers[i]];
+            }
+            consumer.accept(ordinal, docLength(ordinal), frequencies);
+        }
+    }
+
+    IndexedDoc doc(int ordinal) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(rawDoc(ordinal)));
+        long senderId = in.readLong();
+        long createdAtMillis = in.readLong();
+        int length = in.readInt();
+        String messageId = in.readUTF();
+        String username = in.readUTF();
+        byte[] content = new byte[in.readInt()];
+        in.readFully(content);
+        return new IndexedDoc(cursors[ordinal], messageId, senderId, username, createdAtMillis,
+                new String(content, StandardCharsets.UTF_8), length, null);
+    }
+
+    @Override
+    public void close() {
+        // mmap 영역은 GC 시 해제됨
+    }
+
+    private int docLength(int ordinal) {
+        return buffer.getInt(docPosition(ordinal) + 16);
+    }
+
+    private int docPosition(int ordinal) {
+        return (int) buffer.getLong(docIndexPos + ordinal * 8);
+    }
+
+    private byte[] rawDoc(int ordinal) {
+        int start = docPosition(ordinal);
+        int end = ordinal + 1 < cursors.length ? docPosition(ordinal + 1) : docsEnd;
+        return bytes(start, end - start);
+    }
+
+    private byte[] bytes(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return bytes;
+    }
+
+    private Postings postings(int termIndex) {
+        int size = docFreqs[termIndex];
+        int[] ordinals = new int[size];
+        int[] frequencies = new int[size];
+
+        int position = postingPositions[termIndex];
+        int ordinal = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = readVarInt(position);
+            position += (int) (delta >>> 32);
+            long frequency = readVarInt(position);
+            position += (int) (frequency >>> 32);
+
+            ordinal += (int) delta;
+            ordinals[i] = ordinal;
+            frequencies[i] = (int) frequency;
+        }
+        return new Postings(ordinals, frequencies, size);
+    }
+
+    // 상위 32비트: 읽은 바이트 수, 하위 32비트: 값
+    private long readVarInt(int position) {
+        int value = 0;
+        int shift = 0;
+        int read = 0;
+        byte b;
+        do {
+            b = buffer.get(position + read++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return ((long) read << 32) | (value & 0xFFFFFFFFL);
+    }
+
+    private static byte[] encodeDoc(IndexedDoc doc) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + doc.content().length() * 3);
+        DataOutputStream out = new DataOutputStream(bytes);
+        byte[] content = doc.content().getBytes(StandardCharsets.UTF_8);
+        out.writeLong(doc.senderId());
+        out.writeLong(doc.createdAtMillis());
+        out.writeInt(doc.length());
+        out.writeUTF(doc.messageId());
+        out.writeUTF(doc.senderUsername());
+        out.writeInt(content.length);
+        out.write(content);
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(int ordinal, int docLength, int[] termFrequencies);
+    }
+
+    private record Postings(int[] ordinals, int[] frequencies, int size) {
+    }
+
+    /**
+     * 세그먼트 파일 순차 기록 (임시 파일에 쓰고 fsync 후 원자적으로 이름 변경)
+     */
+    private static class Writer implements Closeable {
+
+        private final Path path;
+        private final Path tmp;
+        private final FileOutputStream file;
+        private final DataOutputStream out;
+        private final ByteArrayOutputStream termIndex = new ByteArrayOutputStream();
+        private final DataOutputStream termIndexOut = new DataOutputStream(termIndex);
+
+        private long position;
+        private final List<Long> cursors = new ArrayList<>();
+        private final List<Long> docPositions = new ArrayList<>();
+        private long cursorsPos;
+        private long docIndexPos;
+        private int termCount;
+        private boolean finished;
+
+        Writer(Path path) throws IOException {
+            this.path = path;
+            this.tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            this.file = new FileOutputStream(tmp.toFile());
+            this.out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024));
+        }
+
+        void addDoc(long cursor, byte[] raw) throws IOException {
+            cursors.add(cursor);
+            docPositions.add(position);
+            write(raw);
+        }
+
+        void startPostings() throws IOException {
+            cursorsPos = position;
+            for (long cursor : cursors) {
+                writeLong(cursor);
+            }
+            docIndexPos = position;
+            for (long docPosition : docPositions) {
+                writeLong(docPosition);
+            }
+        }
+
+        void addTerm(String term, int[] ordinals, int[] frequencies, int count) throws IOException {
+            long start = position;
+            int previous = 0;
+            for (int i = 0; i < count; i++) {
+                writeVarInt(ordinals[i] - previous);
+                writeVarInt(frequencies[i]);
+                previous = ordinals[i];
+            }
+
+            termIndexOut.writeUTF(term);
+            termIndexOut.writeInt(count);
+            termIndexOut.writeInt((int) start);
+            termIndexOut.writeInt((int) (position - start));
+            termCount++;
+        }
+
+        void finish(long totalLength) throws IOException {
+            long termIndexPos = position;
+            write(termIndex.toByteArray());
+
+            writeLong(totalLength);
+            out.writeInt(cursors.size());
+            out.writeInt(termCount);
+            position += 8;
+            writeLong(cursorsPos);
+            writeLong(docIndexPos);
+            writeLong(termIndexPos);
+            out.writeInt(MAGIC);
+            position += 4;
+
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("검색 색인 세그먼트가 너무 큽니다: " + path);
+            }
+
+            out.flush();
+            file.getFD().sync();
+            finished = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            if (finished) {
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.deleteIfExists(tmp);
+            }
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        private void writeLong(long value) throws IOException {
+            out.writeLong(value);
+            position += 8;
+        }
+
+        private void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+                position++;
+            }
+            out.writeByte(value);
+            position++;
+        }
+    }
+}
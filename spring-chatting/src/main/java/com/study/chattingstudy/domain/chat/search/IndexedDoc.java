@@ -0,0 +1,21 @@
+package com.study.chattingstudy.domain.chat.search;
+
+import java.util.Map;
+
+/**
+ * 색인 문서 (메시지 1개)
+ * @param cursor 메시지 저장소 커서 (문서 식별자, 채팅방 내 오름차순)
+ * @param length 토큰 수 (BM25 길이 정규화에 사용)
+ * @param termFrequencies 토큰별 출현 횟수 - 색인 버퍼에서만 사용하며 세그먼트에서 읽은 문서는 null
+ */
+record IndexedDoc(
+        long cursor,
+        String messageId,
+        long senderId,
+        String senderUsername,
+        long createdAtMillis,
+        String content,
+        int length,
+        Map<String, Integer> termFrequencies
+) {
+}
@@ -0,0 +1,341 @@
+package com.study.chattingstudy.domain.chat.search;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.event.ChatMessageSentEvent;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.store.ChatMessageStore;
+import com.study.chattingstudy.domain.chat.store.StoredMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 메시지 전문 검색 색인 (노드 로컬 디스크)
+ * - 메시지 전송이 커밋되면 색인 작업 큐에 넣고, 전용 스레드 하나가 채팅방 색인에 반영 (전송 경로를 막지 않음)
+ * - 채팅방 색인을 처음 열 때, 큐가 가득 차 누락이 생겼을 때, 재시작으로 버퍼가 사라졌을 때는
+ *   메시지 저장소에서 색인 완료 위치(빠짐없이 색인한 마지막 커서) 이후 메시지를 다시 읽어 보충 (이미 색인된 메시지는 건너뜀)
+ * - 색인 완료 위치는 생성된 지 settle-ms 가 지난 메시지까지만 올림
+ *   (다른 노드에서 늦게 커밋되어 더 작은 커서로 나중에 보이는 메시지도 다음 보충에서 색인됨)
+ * - 검색된 채팅방은 rescan-interval 마다 다시 보충하므로 다른 노드로 전송된 메시지는 그만큼 늦게 검색될 수 있음
+ * - 색인마다 사용 중인 요청 수를 두고, 유휴 색인은 맵 잠금 안에서 사용 중이 아닐 때만 닫음
+ */
+@Slf4j
+@Component
+public class MessageSearchIndex {
+
+    private final ChatMessageStore chatMessageStore;
+    private final Path dir;
+    private final ThreadPoolExecutor executor;
+    private final Timer queryTimer;
+
+    // 버퍼 문서가 이 수에 도달하면 세그먼트로 기록
+    @Value("${chat.search.buffer-docs:1000}")
+    private int bufferDocs;
+
+    @Value("${chat.search.merge-factor:8}")
+    private int mergeFactor;
+
+    @Value("${chat.search.max-segment-bytes:268435456}")
+    private long maxSegmentBytes;
+
+    // 색인 보충 시 한 번에 읽는 메시지 수
+    @Value("${chat.search.catch-up-batch:1000}")
+    private int catchUpBatch;
+
+    // 이 시간 동안 검색/색인되지 않은 채팅방 색인은 닫음
+    @Value("${chat.search.room-idle-ms:600000}")
+    private long roomIdleMs;
+
+    // 생성된 지 이 시간이 지난 메시지까지만 색인 완료로 간주 (커밋 순서가 커서 순서와 다를 수 있음)
+    @Value("${chat.search.settle-ms:5000}")
+    private long settleMs;
+
+    // 검색된 채팅방을 저장소에서 다시 보충하는 간격 (다른 노드로 전송된 메시지 반영)
+    @Value("${chat.search.rescan-interval-ms:10000}")
+    private long rescanIntervalMs;
+
+    // 채팅방 ID(PK) -> 열린 색인
+    private final Map<Long, RoomSearchIndex> rooms = new ConcurrentHashMap<>();
+
+    // 저장소에서 보충이 필요한 채팅방 (채팅방 ID(PK) -> 메타데이터)
+    private final Map<Long, ChatRoomMeta> staleRooms = new ConcurrentHashMap<>();
+
+    public MessageSearchIndex(ChatMessageStore chatMessageStore,
+                              @Value("${chat.search.dir:./data/search-index}") String dir,
+                              @Value("${chat.search.queue-capacity:10000}") int queueCapacity,
+                              MeterRegistry meterRegistry) {
+        this.chatMessageStore = chatMessageStore;
+        this.dir = Path.of(dir);
+
+        executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("search-indexer-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("chat.search.queue.size", executor, e -> e.getQueue().size())
+                .description("검색 색인 작업 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("chat.search.rooms.open", rooms, Map::size)
+                .description("열려 있는 채팅방 검색 색인 수")
+                .register(meterRegistry);
+        this.queryTimer = Timer.builder("chat.search.query")
+                .description("채팅방 1개의 검색 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        try {
+            executor.execute(() -> index(event.room(), event.message()));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 이 메시지는 다음 주기에 저장소에서 보충
+            markStale(event.room());
+        }
+    }
+
+    /**
+     * 채팅방 검색
+     * @param terms 토큰화된 질의 (중복 없음)
+     */
+    public SearchResult search(ChatRoomMeta room, List<String> terms, int limit) {
+        long start = System.nanoTime();
+        try {
+            return withRoom(room.roomId(), index -> {
+                if (!index.isCaughtUp() || System.currentTimeMillis() - index.caughtUpAt() > rescanIntervalMs) {
+                    // 색인 보충을 예약하고, 지금까지 색인된 범위에서 검색
+                    staleRooms.putIfAbsent(room.roomId(), room);
+                }
+
+                List<ChatResDTO.MessageSearchHitDTO> hits = index.search(terms, limit).stream()
+                        .map(hit -> toSearchHitDTO(room, hit))
+                        .toList();
+                return new SearchResult(hits, index.isCaughtUp());
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.error("[ MessageSearchIndex ] 검색 실패: roomId={}", room.roomId(), e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 주기적 정리 - 누락 보충, 버퍼 기록, 세그먼트 병합, 유휴 채팅방 닫기 (색인 작업 스레드에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${chat.search.flush-interval-ms:5000}")
+    public void maintain() {
+        try {
+            executor.execute(this::runMaintenance);
+        } catch (RejectedExecutionException e) {
+            log.debug("[ MessageSearchIndex ] 대기열이 가득 차 정리 작업을 다음 주기로 미룹니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[ MessageSearchIndex ] 종료 대기 시간 초과, 남은 작업을 중단합니다.");
+            executor.shutdownNow();
+        }
+
+        // 남은 버퍼 기록 (기록하지 못한 문서는 다음 시작 시 저장소에서 보충)
+        rooms.forEach((roomId, index) -> {
+            try {
+                index.flush();
+            } catch (IOException e) {
+                log.warn("[ MessageSearchIndex ] 종료 시 색인 기록 실패: roomId={}", roomId);
+            }
+            index.close();
+        });
+        rooms.clear();
+    }
+
+    private void index(ChatRoomMeta room, StoredMessage message) {
+        try {
+            withRoom(room.roomId(), index -> {
+                if (!index.isCaughtUp()) {
+                    catchUp(room, index);
+                }
+                index.add(toIndexedDoc(message));
+                if (index.bufferedDocs() >= bufferDocs) {
+                    index.flush();
+                }
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ MessageSearchIndex ] 색인 실패, 저장소에서 보충합니다: roomId={}, reason={}",
+                    room.roomId(), e.getMessage());
+            markStale(room);
+        }
+    }
+
+    // 색인 누락 표시 후 다음 정리 주기에 저장소에서 보충
+    private void markStale(ChatRoomMeta room) {
+        RoomSearchIndex index = rooms.get(room.roomId());
+        if (index != null) {
+            index.markStale();
+        }
+        staleRooms.put(room.roomId(), room);
+    }
+
+    private void runMaintenance() {
+        for (ChatRoomMeta room : List.copyOf(staleRooms.values())) {
+            staleRooms.remove(room.roomId());
+            try {
+                withRoom(room.roomId(), index -> {
+                    catchUp(room, index);
+                    return null;
+                });
+            } catch (IOException | RuntimeException e) {
+                log.warn("[ MessageSearchIndex ] 색인 보충 실패: roomId={}, reason={}", room.roomId(), e.getMessage());
+                markStale(room);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        rooms.forEach((roomId, index) -> {
+            try {
+                index.flush();
+                index.maybeMerge(mergeFactor, maxSegmentBytes);
+            } catch (IOException e) {
+                log.warn("[ MessageSearchIndex ] 색인 정리 실패: roomId={}, reason={}", roomId, e.getMessage());
+            }
+
+            // 참조 확인과 제거를 맵 잠금 안에서 수행하므로, 닫는 동안 같은 채팅방 검색은 새 색인을 열지 않고 기다림
+            rooms.computeIfPresent(roomId, (id, current) -> {
+                if (current.inUse() || now - current.lastAccessAt() <= roomIdleMs || staleRooms.containsKey(id)) {
+                    return current;
+                }
+                try {
+                    // 보충으로 올린 색인 완료 위치를 닫기 전에 기록
+                    current.flush();
+                } catch (IOException e) {
+                    log.warn("[ MessageSearchIndex ] 색인 기록 실패: roomId={}, reason={}", id, e.getMessage());
+                }
+                current.close();
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 저장소에서 색인 완료 위치 이후 메시지를 다시 읽어 색인 (이미 색인된 메시지는 건너뜀)
+     * - 생성된 지 settle-ms 가 지나지 않은 메시지를 만나면 그 이후로는 색인 완료 위치를 올리지 않음
+     */
+    private void catchUp(ChatRoomMeta room, RoomSearchIndex index) throws IOException {
+        long settledBefore = System.currentTimeMillis() - settleMs;
+        long after = index.indexedThrough();
+        boolean settled = true;
+
+        while (true) {
+            List<StoredMessage> messages = chatMessageStore.findAfter(room, after, catchUpBatch);
+            for (StoredMessage message : messages) {
+                IndexedDoc doc = toIndexedDoc(message);
+                index.add(doc);
+
+                settled = settled && doc.createdAtMillis() < settledBefore;
+                if (settled) {
+                    index.advanceIndexedThrough(doc.cursor());
+                }
+            }
+            if (index.bufferedDocs() >= bufferDocs) {
+                index.flush();
+            }
+            if (messages.size() < catchUpBatch) {
+                break;
+            }
+            after = messages.get(messages.size() - 1).cursor();
+        }
+        index.markCaughtUp();
+    }
+
+    // 채팅방 색인의 참조 수를 올린 상태로 작업 실행 (색인을 열거나 찾는 것과 참조 증가를 맵 잠금 안에서 함께 수행)
+    private <T> T withRoom(Long roomId, RoomAction<T> action) throws IOException {
+        RoomSearchIndex index = rooms.compute(roomId, (id, current) -> {
+            RoomSearchIndex opened = current;
+            if (opened == null) {
+                try {
+                    opened = RoomSearchIndex.open(dir.resolve(String.valueOf(id)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            opened.retain();
+            return opened;
+        });
+
+        try {
+            return action.apply(index);
+        } finally {
+            index.release();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RoomAction<T> {
+        T apply(RoomSearchIndex index) throws IOException;
+    }
+
+    private IndexedDoc toIndexedDoc(StoredMessage stored) {
+        ChatResDTO.MessageResDTO message = stored.message();
+        Map<String, Integer> frequencies = MessageTokenizer.termFrequencies(message.content());
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        long createdAtMillis = message.createdAt() == null ? 0
+                : message.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        return new IndexedDoc(stored.cursor(), message.messageId(), message.senderId(), message.senderUsername(),
+                createdAtMillis, message.content(), length, frequencies);
+    }
+
+    private ChatResDTO.MessageSearchHitDTO toSearchHitDTO(ChatRoomMeta room, RoomSearchIndex.SearchHit hit) {
+        IndexedDoc doc = hit.doc();
+        ChatResDTO.MessageResDTO message = ChatResDTO.MessageResDTO.builder()
+                .messageId(doc.messageId())
+                .content(doc.content())
+                .senderId(doc.senderId())
+                .senderUsername(doc.senderUsername())
+                .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(doc.createdAtMillis()), ZoneId.systemDefault()))
+                .read(false)
+                .build();
+
+        return ChatResDTO.MessageSearchHitDTO.builder()
+                .chatId(room.chatId())
+                .message(message)
+                .score(hit.score())
+                .anchor(doc.cursor() + 1)
+                .build();
+    }
+
+    /**
+     * @param hits 점수 순 검색 결과
+     * @param complete 채팅방의 기존 메시지가 모두 색인된 경우 true (false 면 색인 보충 중)
+     */
+    public record SearchResult(List<ChatResDTO.MessageSearchHitDTO> hits, boolean complete) {
+    }
+}
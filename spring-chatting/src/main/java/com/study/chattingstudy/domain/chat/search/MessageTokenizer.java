@@ -0,0 +1,83 @@
+package com.study.chattingstudy.domain.chat.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색 색인용 토크나이저
+ * - 정규화: NFKC + 소문자 (전각/반각, 대소문자 차이 제거)
+ * - 한글/한자/가나 연속 구간: 2글자 단위(bigram)로 분리 - 형태소 분석 없이 조사가 붙은 단어도 부분 일치
+ *   ("채팅방에서" -> 채팅, 팅방, 방에, 에서), 한 글자 구간은 그대로 토큰
+ * - 그 외 문자/숫자 연속 구간: 단어 단위 토큰
+ * 색인과 질의에 같은 규칙을 적용하므로, 질의의 모든 토큰을 포함하는 메시지가 검색됨
+ */
+public final class MessageTokenizer {
+
+    // 너무 긴 단어(URL, 해시 등)는 색인 크기만 키우므로 잘라서 사용
+    private static final int MAX_WORD_LENGTH = 32;
+
+    private MessageTokenizer() {
+    }
+
+    /**
+     * 토큰별 출현 횟수 (출현 순서 유지)
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        if (text == null || text.isEmpty()) {
+            return frequencies;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                int start = i;
+                while (i < length && isCjk(normalized.codePointAt(i))) {
+                    i += Character.charCount(normalized.codePointAt(i));
+                }
+                addBigrams(normalized.substring(start, i), frequencies);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int start = i;
+                while (i < length) {
+                    int cp = normalized.codePointAt(i);
+                    if (!Character.isLetterOrDigit(cp) || isCjk(cp)) {
+                        break;
+                    }
+                    i += Character.charCount(cp);
+                }
+                String word = normalized.substring(start, i);
+                if (word.length() > MAX_WORD_LENGTH) {
+                    word = word.substring(0, MAX_WORD_LENGTH);
+                }
+                frequencies.merge(word, 1, Integer::sum);
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return frequencies;
+    }
+
+    private static void addBigrams(String run, Map<String, Integer> frequencies) {
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            frequencies.merge(run, 1, Integer::sum);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            frequencies.merge(new String(codePoints, i, 2), 1, Integer::sum);
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
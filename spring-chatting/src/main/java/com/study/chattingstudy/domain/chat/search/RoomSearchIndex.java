@@ -0,0 +1,303 @@
+package com.study.chattingstudy.domain.chat.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 1개의 검색 색인 (채팅방 단위로 분할하여 사용자는 참여한 채팅방의 색인만 조회)
+ * - 새 문서는 메모리 버퍼에 쌓았다가 불변 세그먼트 파일({generation}.seg)로 기록
+ * - 세그먼트가 많아지면 작은 세그먼트부터 병합
+ * - 변경(add/flush/merge)은 색인 작업 스레드 하나에서만 호출되고, 검색은 여러 스레드에서 동시에 호출됨
+ * - 저장소의 메시지를 빠짐없이 색인한 커서(색인 완료 위치)를 flush 때 함께 기록하여 재시작 후에도 그 이후부터 보충
+ * - 사용 중인 요청 수(참조 수)를 두어 사용 중인 색인은 닫지 않음
+ */
+@Slf4j
+final class RoomSearchIndex {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CHECKPOINT_FILE = "indexed-through";
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Path dir;
+    private final List<IndexSegment> segments = new ArrayList<>();
+    private final TreeMap<Long, IndexedDoc> buffer = new TreeMap<>();
+    private long nextGeneration;
+
+    // 이 커서 이하의 저장소 메시지는 모두 색인됨 (메모리 값, 기록된 값)
+    private long indexedThrough;
+    private long checkpointed;
+
+    // 저장소의 기존 메시지를 모두 색인했는지 여부 (색인 누락이 생기면 다시 false)
+    private volatile boolean caughtUp;
+    private volatile long caughtUpAt;
+    private volatile long lastAccessAt = System.currentTimeMillis();
+    private final AtomicInteger references = new AtomicInteger();
+
+    private RoomSearchIndex(Path dir, List<IndexSegment> segments, long nextGeneration, long indexedThrough) {
+        this.dir = dir;
+        this.segments.addAll(segments);
+        this.nextGeneration = nextGeneration;
+        this.indexedThrough = indexedThrough;
+        this.checkpointed = indexedThrough;
+    }
+
+    static RoomSearchIndex open(Path dir) throws IOException {
+        Files.createDirectories(dir);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(dir)) {
+            files = paths.sorted().toList();
+        }
+
+        List<IndexSegment> segments = new ArrayList<>();
+        long nextGeneration = 0;
+        long indexedThrough = 0;
+        for (Path path : files) {
+            String name = path.getFileName().toString();
+            if (name.endsWith(".tmp")) {
+                // 기록 도중 중단된 세그먼트
+                Files.deleteIfExists(path);
+            } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                segments.add(IndexSegment.open(path));
+                nextGeneration = Math.max(nextGeneration,
+                        Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())) + 1);
+            } else if (name.equals(CHECKPOINT_FILE)) {
+                indexedThrough = Long.parseLong(Files.readString(path, StandardCharsets.UTF_8).trim());
+            }
+        }
+        return new RoomSearchIndex(dir, segments, nextGeneration, indexedThrough);
+    }
+
+    boolean isCaughtUp() {
+        return caughtUp;
+    }
+
+    // 마지막으로 보충을 끝낸 시각
+    long caughtUpAt() {
+        return caughtUpAt;
+    }
+
+    void markCaughtUp() {
+        caughtUpAt = System.currentTimeMillis();
+        caughtUp = true;
+    }
+
+    // 색인 누락이 생김 (다음 보충 전까지 검색 결과가 불완전)
+    void markStale() {
+        caughtUp = false;
+    }
+
+    synchronized long indexedThrough() {
+        return indexedThrough;
+    }
+
+    // 보충으로 이 커서까지 빠짐없이 색인함 (다음 flush 때 기록)
+    synchronized void advanceIndexedThrough(long cursor) {
+        indexedThrough = Math.max(indexedThrough, cursor);
+    }
+
+    void retain() {
+        references.incrementAndGet();
+    }
+
+    void release() {
+        references.decrementAndGet();
+    }
+
+    boolean inUse() {
+        return references.get() > 0;
+    }
+
+    long lastAccessAt() {
+        return lastAccessAt;
+    }
+
+    /**
+     * 문서 추가 (이미 색인된 커서면 무시)
+     * @return 추가 여부
+     */
+    synchronized boolean add(IndexedDoc doc) {
+        if (buffer.containsKey(doc.cursor())) {
+            return false;
+        }
+        for (IndexSegment segment : segments) {
+            if (segment.contains(doc.cursor())) {
+                return false;
+            }
+        }
+        buffer.put(doc.cursor(), doc);
+        return true;
+    }
+
+    synchronized int bufferedDocs() {
+        return buffer.size();
+    }
+
+    // 버퍼의 문서를 새 세그먼트로 기록한 뒤 색인 완료 위치 기록 (세그먼트보다 먼저 기록되지 않도록 순서 유지)
+    synchronized void flush() throws IOException {
+        if (!buffer.isEmpty()) {
+            IndexSegment segment = IndexSegment.write(nextSegmentPath(), new ArrayList<>(buffer.values()));
+            segments.add(segment);
+            buffer.clear();
+        }
+        if (indexedThrough != checkpointed) {
+            Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+            Files.writeString(tmp, Long.toString(indexedThrough), StandardCharsets.UTF_8);
+            Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpointed = indexedThrough;
+        }
+    }
+
+    /**
+     * 세그먼트 수가 mergeFactor 이상이면 작은 세그먼트 mergeFactor 개를 병합
+     * @param maxSegmentBytes 병합 결과가 이 크기를 넘을 것 같으면 병합하지 않음
+     */
+    void maybeMerge(int mergeFactor, long maxSegmentBytes) throws IOException {
+        List<IndexSegment> sources;
+        Path target;
+        synchronized (this) {
+            if (segments.size() < mergeFactor) {
+                return;
+            }
+            sources = segments.stream()
+                    .sorted(Comparator.comparingLong(IndexSegment::sizeBytes))
+                    .limit(mergeFactor)
+                    .toList();
+            if (sources.stream().mapToLong(IndexSegment::sizeBytes).sum() > maxSegmentBytes) {
+                return;
+            }
+            target = nextSegmentPath();
+        }
+
+        // 세그먼트는 불변이므로 병합은 잠금 없이 진행 (그동안 검색은 기존 세그먼트 사용)
+        IndexSegment merged = IndexSegment.merge(target, sources);
+
+        synchronized (this) {
+            segments.removeAll(sources);
+            segments.add(merged);
+        }
+        for (IndexSegment source : sources) {
+            source.close();
+            Files.deleteIfExists(source.path());
+        }
+        log.debug("[ RoomSearchIndex ] 세그먼트 병합: dir={}, sources={}, docs={}", dir, sources.size(), merged.docCount());
+    }
+
+    /**
+     * 질의 토큰을 모두 포함하는 문서를 BM25 점수 순으로 조회 (동점이면 최신 메시지 우선)
+     */
+    synchronized List<SearchHit> search(List<String> terms, int limit) throws IOException {
+        lastAccessAt = System.currentTimeMillis();
+
+        // 채팅방 전체 통계 (문서 수, 평균 길이, 토큰별 문서 수)
+        long docCount = buffer.size();
+        long totalLength = 0;
+        for (IndexedDoc doc : buffer.values()) {
+            totalLength += doc.length();
+        }
+        for (IndexSegment segment : segments) {
+            docCount += segment.docCount();
+            totalLength += segment.totalLength();
+        }
+        if (docCount == 0) {
+            return List.of();
+        }
+        double averageLength = Math.max(1.0, (double) totalLength / docCount);
+
+        double[] idf = new double[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            long docFreq = 0;
+            for (IndexSegment segment : segments) {
+                docFreq += segment.docFreq(terms.get(i));
+            }
+            for (IndexedDoc doc : buffer.values()) {
+                if (doc.termFrequencies().containsKey(terms.get(i))) {
+                    docFreq++;
+                }
+            }
+            idf[i] = Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+        }
+
+        // 상위 limit 개만 유지 (점수가 가장 낮은 후보가 맨 앞)
+        PriorityQueue<Candidate> top = new PriorityQueue<>(
+                Comparator.comparingDouble(Candidate::score).thenComparingLong(Candidate::cursor));
+
+        for (IndexSegment segment : segments) {
+            segment.match(terms, (ordinal, docLength, frequencies) -> {
+                double score = score(idf, frequencies, docLength, averageLength);
+                offer(top, new Candidate(score, segment.cursorOf(ordinal), segment, ordinal, null), limit);
+            });
+        }
+
+        int[] frequencies = new int[terms.size()];
+        for (IndexedDoc doc : buffer.values()) {
+            boolean matched = true;
+            for (int i = 0; i < terms.size() && matched; i++) {
+                Integer frequency = doc.termFrequencies().get(terms.get(i));
+                matched = frequency != null;
+                frequencies[i] = matched ? frequency : 0;
+            }
+            if (matched) {
+                double score = score(idf, frequencies, doc.length(), averageLength);
+                offer(top, new Candidate(score, doc.cursor(), null, -1, doc), limit);
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Candidate candidate = top.poll();
+            IndexedDoc doc = candidate.doc() != null ? candidate.doc() : candidate.segment().doc(candidate.ordinal());
+            hits.add(new SearchHit(doc, candidate.score()));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    synchronized void close() {
+        segments.forEach(IndexSegment::close);
+        segments.clear();
+    }
+
+    private Path nextSegmentPath() {
+        return dir.resolve(String.format("%010d%s", nextGeneration++, SEGMENT_SUFFIX));
+    }
+
+    private static double score(double[] idf, int[] frequencies, int docLength, double averageLength) {
+        double score = 0;
+        double norm = K1 * (1 - B + B * docLength / averageLength);
+        for (int i = 0; i < idf.length; i++) {
+            score += idf[i] * frequencies[i] * (K1 + 1) / (frequencies[i] + norm);
+        }
+        return score;
+    }
+
+    private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+            return;
+        }
+        Candidate lowest = top.peek();
+        if (candidate.score() > lowest.score()
+                || (candidate.score() == lowest.score() && candidate.cursor() > lowest.cursor())) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private record Candidate(double score, long cursor, IndexSegment segment, int ordinal, IndexedDoc doc) {
+    }
+
+    record SearchHit(IndexedDoc doc, double score) {
+    }
+}
@@ -1,28 +1,45 @@
 package com.study.chattingstudy.domain.chat.service.command;
 
+import com.study.chattingstudy.domain.chat.cache.ChatRoomChangedEvent;
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
 import com.study.chattingstudy.domain.chat.converter.ChatConverter;
 import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
-import com.study.chattingstudy.domain.chat.entity.ChatMessage;
+import com.study.chattingstudy.domain.chat.entity.ChatChangeLog;
 import com.study.chattingstudy.domain.chat.entity.ChatRoom;
 import com.study.chattingstudy.domain.chat.entity.ChatRoomParticipant;
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
+import com.study.chattingstudy.domain.chat.event.ChatDeliveryEvent;
+import com.study.chattingstudy.domain.chat.event.ChatMessageSentEvent;
 import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
 import com.study.chattingstudy.domain.chat.exception.ChatException;
-import com.study.chattingstudy.domain.chat.repository.ChatMessageRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatChangeLogRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatDayBucketRepository;
 import com.study.chattingstudy.domain.chat.repository.ChatRoomParticipantRepository;
 import com.study.chattingstudy.domain.chat.repository.ChatRoomRepository;
+import com.study.chattingstudy.domain.chat.service.query.ChatRoomMetaReader;
+import com.study.chattingstudy.domain.chat.store.ChatMessageStore;
+import com.study.chattingstudy.domain.chat.store.StoredMessage;
 import com.study.chattingstudy.domain.user.entity.User;
 import com.study.chattingstudy.domain.user.exception.UserErrorCode;
 import com.study.chattingstudy.domain.user.repository.UserRepository;
 import com.study.chattingstudy.global.config.handler.WebSocketSessionRegistry;
+import com.study.chattingstudy.global.jfr.ChatFanOutEvent;
+import com.study.chattingstudy.global.jfr.ChatMessageReadEvent;
+import com.study.chattingstudy.global.jfr.ChatMessageSendEvent;
+import com.study.chattingstudy.global.metrics.ChatMetrics;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -30,15 +47,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class ChatCommandService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+    private final ChatChangeLogRepository chatChangeLogRepository;
+    private final ChatDayBucketRepository chatDayBucketRepository;
     private final UserRepository userRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+    private final ChatMessageStore chatMessageStore;
+    private final ApplicationEventPublisher eventPublisher;
     private final WebSocketSessionRegistry sessionRegistry;
+    private final ChatMetrics chatMetrics;
 
     /**
      * 1:1 채팅방 생성 또는 조회
      */
+    @Timed("chat.service.duration")
     public ChatRoomResDTO.ChatRoomResponseDTO createOrGetPrivateChat(Long userId, ChatReqDTO.PrivateChatCreateReqDTO reqDTO) {
         log.info("1:1 채팅방 생성 또는 조회 요청: userId={}, receiverId={}", userId, reqDTO.receiverId());
 
@@ -56,6 +79,10 @@ public class ChatCommandService {
                     ChatRoom newChatRoom = ChatConverter.toPrivateChatRoom(currentUser, receiverUser);
                     ChatRoom savedChatRoom = chatRoomRepository.save(newChatRoom);
 
+                    // 두 참여자의 동기화 로그에 채팅방 참여 기록
+                    recordChange(savedChatRoom.getChatId(), participantIds(savedChatRoom), ChatChangeType.ROOM_JOINED,
+                            userId, null);
+
                     // 새 채팅방이 생성된 경우 수신자에게 알림 전송
                     notifyChatRoomCreation(savedChatRoom, currentUser, receiverUser);
 
@@ -68,40 +95,69 @@ public class ChatCommandService {
     /**
      * 채팅 메시지 전송
      */
+    @Timed("chat.service.duration")
     public ChatResDTO.MessageResDTO sendMessage(Long userId, ChatReqDTO.MessageSendReqDTO reqDTO) {
         log.info("메시지 전송 요청: userId={}, chatId={}", userId, reqDTO.chatId());
 
+        ChatMessageSendEvent event = new ChatMessageSendEvent();
+        event.begin();
+
         // 사용자 정보 조회
         User sender = userRepository.findById(userId)
                 .orElseThrow(() -> new ChatException(UserErrorCode.USER_NOT_FOUND_404));
 
-        // 채팅방 조회
-        ChatRoom chatRoom = chatRoomRepository.findWithParticipantsByChatId(reqDTO.chatId())
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+        // 채팅방 메타데이터 조회 (캐시) - 채팅방/참여자 엔티티를 조회하지 않음
+        ChatRoomMeta roomMeta = chatRoomMetaReader.getRoomMeta(reqDTO.chatId());
 
         // 사용자가 채팅방 참여자인지 확인
-        if (!chatRoomParticipantRepository.existsByChatRoomAndUser(chatRoom, sender)) {
+        if (!roomMeta.hasParticipant(userId)) {
             throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
         }
 
-        // Converter를 사용하여 ChatMessage 생성
-        ChatMessage chatMessage = ChatConverter.toChatMessage(chatRoom, sender, reqDTO);
-        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+        // 설정된 메시지 저장소에 저장
+        StoredMessage storedMessage = chatMessageStore.append(roomMeta, sender, reqDTO.content());
+        ChatResDTO.MessageResDTO savedMessage = storedMessage.message();
 
-        log.info("메시지 저장 완료: messageId={}", savedMessage.getMessageId());
+        log.info("메시지 저장 완료: messageId={}", savedMessage.messageId());
+        chatMetrics.recordMessageSent(roomMeta);
 
-        // Converter를 사용하여 DTO 변환
-        return ChatConverter.toMessageResDTO(savedMessage);
+        // 참여자 전원(발신자의 다른 기기 포함)의 동기화 로그에 새 메시지 기록
+        recordChange(roomMeta.chatId(), roomMeta.participantIds(), ChatChangeType.MESSAGE, userId,
+                savedMessage.messageId());
+
+        // 일자 버킷 갱신 - 채팅방의 같은 행을 갱신하므로 행 잠금 시간이 짧도록 트랜잭션 마지막에 실행
+        if (savedMessage.createdAt() != null) {
+            chatDayBucketRepository.upsertMessage(roomMeta.roomId(), savedMessage.createdAt().toLocalDate(),
+                    storedMessage.cursor());
+        }
+
+        // 커밋 후 검색 색인 반영
+        eventPublisher.publishEvent(new ChatMessageSentEvent(roomMeta, storedMessage));
+
+        if (event.shouldCommit()) {
+            event.chatId = roomMeta.chatId();
+            event.roomId = roomMeta.roomId();
+            event.userId = userId;
+            event.participants = roomMeta.participantIds().size();
+            event.contentLength = reqDTO.content() != null ? reqDTO.content().length() : 0;
+            event.commit();
+        }
+
+        return savedMessage;
     }
 
     /**
      * 메시지 읽음 상태 업데이트
      * - 특정 메시지 또는 채팅방의 모든 메시지를 읽음 상태로 변경
      */
+    @Timed("chat.service.duration")
     public void markMessageAsRead(Long userId, ChatReqDTO.MessageReadReqDTO reqDTO) {
         log.info("메시지 읽음 상태 업데이트 요청: userId={}, chatId={}, messageId={}",
                 userId, reqDTO.chatId(), reqDTO.messageId());
 
+        ChatMessageReadEvent event = new ChatMessageReadEvent();
+        event.begin();
+
         // 채팅방 조회
         ChatRoom chatRoom = chatRoomRepository.findWithParticipantsByChatId(reqDTO.chatId())
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
@@ -114,40 +170,85 @@ public class ChatCommandService {
         ChatRoomParticipant participant = chatRoomParticipantRepository.findByChatRoomAndUser(chatRoom, user)
                 .orElseThrow(() -> new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM));
 
-        // 특정 메시지 읽음 처리
+        // 특정 메시지 읽음 처리 (설정된 메시지 저장소에서 찾아 다른 사용자가 보낸 메시지이면 읽음 표시)
         if (reqDTO.messageId() != null) {
-            ChatMessage message = chatMessageRepository.findByMessageId(reqDTO.messageId())
+            ChatResDTO.MessageResDTO message = chatMessageStore.markAsRead(chatRoom.getId(), reqDTO.messageId(), userId)
                     .orElseThrow(() -> new ChatException(ChatErrorCode.MESSAGE_NOT_FOUND));
 
-            // 자신이 보낸 메시지가 아닌 경우에만 읽음 처리
-            if (!message.getSender().getId().equals(userId)) {
+            if (!message.senderId().equals(userId)) {
                 // 마지막 읽은 메시지 ID 업데이트
-                participant.updateLastReadMessageId(message.getMessageId());
+                participant.updateLastReadMessageId(message.messageId());
                 chatRoomParticipantRepository.save(participant);
 
-                // 메시지 읽음 표시
-                message.markAsRead();
-                chatMessageRepository.save(message);
+                recordChange(chatRoom.getChatId(), participantIds(chatRoom), ChatChangeType.READ,
+                        userId, message.messageId());
 
-                log.info("메시지 읽음 처리 완료: messageId={}", message.getMessageId());
+                log.info("메시지 읽음 처리 완료: messageId={}", message.messageId());
+                event.updatedCount = 1;
             }
         } else {
             // 채팅방의 모든 메시지 읽음 처리 (자신이 보낸 메시지 제외)
-            int updatedCount = chatMessageRepository.markAllAsReadInChatRoom(chatRoom.getId(), userId);
+            int updatedCount = chatMessageStore.markAllAsRead(
+                    chatRoom.getId(), userId, participant.getLastReadMessageId());
 
             // 가장 최근 메시지 ID를 마지막 읽은 메시지로 설정
-            chatMessageRepository.findByChatRoomWithSender(chatRoom, PageRequest.of(0, 1))
-                    .stream()
-                    .findFirst()
-                    .ifPresent(message -> {
-                        participant.updateLastReadMessageId(message.getMessageId());
-                        chatRoomParticipantRepository.save(participant);
-                    });
+            ChatResDTO.MessageResDTO latest = chatMessageStore.findLatest(List.of(chatRoom.getId()))
+                    .get(chatRoom.getId());
+            if (latest != null) {
+                participant.updateLastReadMessageId(latest.messageId());
+                chatRoomParticipantRepository.save(participant);
+
+                recordChange(chatRoom.getChatId(), participantIds(chatRoom), ChatChangeType.READ,
+                        userId, latest.messageId());
+            }
 
             log.info("채팅방 전체 메시지 읽음 처리 완료: {}개 메시지 업데이트", updatedCount);
+            event.updatedCount = updatedCount;
+        }
+
+        if (event.shouldCommit()) {
+            event.chatId = reqDTO.chatId();
+            event.userId = userId;
+            event.messageId = reqDTO.messageId();
+            event.commit();
+        }
+    }
+
+    /**
+     * 채팅방 참여자 전원의 동기화 로그에 변경 사항 기록
+     * - 메시지/읽음 처리와 같은 트랜잭션에서 저장되므로 변경 사항과 로그가 항상 함께 커밋됨
+     * - 커밋 후 참여자들의 채팅방 목록/메시지 캐시가 무효화되도록 이벤트 발행
+     */
+    private void recordChange(String chatId, Collection<Long> participantIds, ChatChangeType type,
+                              Long actorUserId, String messageId) {
+        ChatFanOutEvent event = new ChatFanOutEvent();
+        event.begin();
+
+        List<ChatChangeLog> changes = participantIds.stream()
+                .map(participantId -> ChatConverter.toChatChangeLog(participantId, chatId, type, actorUserId, messageId))
+                .toList();
+
+        chatChangeLogRepository.saveAll(changes);
+        chatMetrics.recordFanOut(type, participantIds.size());
+
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(chatId, participantIds));
+        eventPublisher.publishEvent(new ChatDeliveryEvent(chatId, participantIds, type, actorUserId, messageId));
+
+        if (event.shouldCommit()) {
+            event.chatId = chatId;
+            event.changeType = type.name();
+            event.actorUserId = actorUserId != null ? actorUserId : 0;
+            event.recipients = participantIds.size();
+            event.commit();
         }
     }
 
+    private List<Long> participantIds(ChatRoom chatRoom) {
+        return chatRoom.getParticipants().stream()
+                .map(participant -> participant.getUser().getId())
+                .toList();
+    }
+
     // 알림 전송 메서드 추가
     private void notifyChatRoomCreation(ChatRoom chatRoom, User creator, User receiver) {
         // 수신자가 WebSocket에 연결되어 있는지 확인
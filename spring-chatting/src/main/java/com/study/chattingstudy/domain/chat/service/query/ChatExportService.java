@@ -0,0 +1,102 @@
+package com.study.chattingstudy.domain.chat.service.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.store.ChatMessageStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 채팅방 전체 메시지 내보내기 (NDJSON)
+ * - 설정된 메시지 저장소에서 한 건씩 받아 바로 기록하므로 메시지 수와 관계없이 메모리 사용량이 일정
+ *   (jpa: 보관 파일 후 chat_messages 를 DB 스트리밍 커서로 읽음, segment: 세그먼트 파일을 순서대로 읽음)
+ * - 내보내기 동안 DB 커넥션을 점유하므로 동시 실행 수를 제한
+ */
+@Slf4j
+@Service
+public class ChatExportService {
+
+    private final ChatMessageStore chatMessageStore;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportPermits;
+
+    public ChatExportService(ChatMessageStore chatMessageStore,
+                             ChatRoomMetaReader chatRoomMetaReader,
+                             ObjectMapper objectMapper,
+                             @Value("${chat.export.max-concurrent:2}") int maxConcurrent) {
+        this.chatMessageStore = chatMessageStore;
+        this.chatRoomMetaReader = chatRoomMetaReader;
+        this.objectMapper = objectMapper;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 권한 확인 - 채팅방 참여자만 내보낼 수 있음 (응답을 쓰기 전에 호출)
+     */
+    public ChatRoomMeta checkAccess(Long userId, String chatId) {
+        ChatRoomMeta roomMeta = chatRoomMetaReader.getRoomMeta(chatId);
+        if (!roomMeta.hasParticipant(userId)) {
+            throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
+        }
+        return roomMeta;
+    }
+
+    /**
+     * 실행 슬롯 확보 (내보내기 작업 스레드에서 writeExport 직전에 호출하고, 끝나면 반드시 release)
+     */
+    public void acquire() {
+        if (!exportPermits.tryAcquire()) {
+            throw new ChatException(ChatErrorCode.EXPORT_BUSY);
+        }
+    }
+
+    public void release() {
+        exportPermits.release();
+    }
+
+    /**
+     * 채팅방의 모든 메시지를 한 줄에 하나씩 JSON 으로 기록 (오래된 순)
+     * @return 기록한 메시지 수
+     */
+    @Transactional(readOnly = true)
+    public long writeExport(ChatRoomMeta roomMeta, OutputStream out) throws IOException {
+        long count;
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+        try (SequenceWriter writer = objectMapper.writerFor(ChatResDTO.MessageResDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(generator)) {
+
+            count = chatMessageStore.forEach(roomMeta.roomId(), message -> {
+                // 제한 시간 초과로 작업이 취소되면(인터럽트) 남은 메시지를 읽지 않고 중단
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("내보내기가 취소되었습니다: chatId=" + roomMeta.chatId());
+                }
+                writer.write(message);
+            });
+        }
+
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+
+        log.info("채팅방 메시지 내보내기 완료: chatId={}, count={}", roomMeta.chatId(), count);
+        return count;
+    }
+}
@@ -1,31 +1,51 @@
 package com.study.chattingstudy.domain.chat.service.query;
 
+import com.study.chattingstudy.domain.chat.cache.ChatCacheNames;
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
 import com.study.chattingstudy.domain.chat.converter.ChatConverter;
 import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
 import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
-import com.study.chattingstudy.domain.chat.entity.ChatMessage;
+import com.study.chattingstudy.domain.chat.entity.ChatChangeLog;
+import com.study.chattingstudy.domain.chat.entity.ChatDayBucket;
 import com.study.chattingstudy.domain.chat.entity.ChatRoom;
 import com.study.chattingstudy.domain.chat.entity.ChatRoomParticipant;
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
 import com.study.chattingstudy.domain.chat.enums.ChatType;
 import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
 import com.study.chattingstudy.domain.chat.exception.ChatException;
-import com.study.chattingstudy.domain.chat.repository.ChatMessageRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatChangeLogRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatDayBucketRepository;
 import com.study.chattingstudy.domain.chat.repository.ChatRoomParticipantRepository;
 import com.study.chattingstudy.domain.chat.repository.ChatRoomRepository;
+import com.study.chattingstudy.domain.chat.store.ChatMessageStore;
+import com.study.chattingstudy.domain.chat.store.StoredMessage;
+import com.study.chattingstudy.domain.chat.sync.ChatChangeLogRetention;
 import com.study.chattingstudy.domain.user.entity.User;
 import com.study.chattingstudy.domain.user.exception.UserErrorCode;
 import com.study.chattingstudy.domain.user.repository.UserRepository;
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
+import com.study.chattingstudy.global.jfr.ChatHistoryQueryEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,29 +55,57 @@ import java.util.stream.Collectors;
 public class ChatQueryService {
 
     private final ChatRoomRepository chatRoomRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+    private final ChatChangeLogRepository chatChangeLogRepository;
+    private final ChatDayBucketRepository chatDayBucketRepository;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+    private final ChatMessageStore chatMessageStore;
+    private final ChatChangeLogRetention chatChangeLogRetention;
     private final UserRepository userRepository;
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SYNC_LIMIT = 500;
+    private static final int MAX_SYNC_LIMIT = 1000;
+    private static final int MAX_DAY_RANGE = 366;
+
+    // 이 시간 이내에 기록된 변경 로그는 다음 동기화에서 전달
+    @Value("${chat.sync.settle-ms:2000}")
+    private long syncSettleMs;
+
     /**
      * 사용자의 모든 1:1 채팅방 목록 조회 (최적화 버전)
+     * - 2단계 캐시 사용, 참여 중인 채팅방이 변경되면 커밋 후 무효화
+     * - 캐시에 저장할 목록은 primary 에서 읽음 (무효화 직후 복제 지연 중인 이전 목록을 다시 캐시하지 않도록)
      */
+    @Cacheable(cacheNames = ChatCacheNames.USER_CHAT_ROOMS, key = "#userId", sync = true)
+    @Timed("chat.service.duration")
     public List<ChatRoomResDTO.ChatRoomListResDTO> getUserPrivateChats(Long userId) {
         log.info("사용자의 1:1 채팅방 목록 조회: userId={}", userId);
 
-        // 사용자 정보 조회 (캐싱 가능)
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ChatException(UserErrorCode.USER_NOT_FOUND_404));
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingFromPrimary()) {
+            // 사용자 정보 조회 (캐싱 가능)
+            User currentUser = userRepository.findById(userId)
+                    .orElseThrow(() -> new ChatException(UserErrorCode.USER_NOT_FOUND_404));
+
+            // 1. 사용자가 참여한 모든 1:1 채팅방 가져오기 (FetchJoin 사용)
+            List<ChatRoom> chatRooms = chatRoomRepository.findPrivateChatRoomsByUserId(userId);
 
-        // 1. 사용자가 참여한 모든 1:1 채팅방 가져오기 (FetchJoin 사용)
-        List<ChatRoom> chatRooms = chatRoomRepository.findPrivateChatRoomsByUserId(userId);
+            log.info("사용자가 참여한 1:1 채팅방 수: {}", chatRooms.size());
+
+            return toChatRoomList(userId, chatRooms);
+        }
+    }
 
+    /**
+     * 채팅방 목록을 목록 조회 DTO 로 변환 (상대방, 마지막 메시지, 읽지 않은 메시지 수를 일괄 조회)
+     * - 마지막 메시지와 읽지 않은 메시지 수는 설정된 메시지 저장소에서 조회 (jpa 는 보관 파일의 마지막 메시지도 사용)
+     */
+    private List<ChatRoomResDTO.ChatRoomListResDTO> toChatRoomList(Long userId, List<ChatRoom> chatRooms) {
         if (chatRooms.isEmpty()) {
             return new ArrayList<>();
         }
 
-        log.info("사용자가 참여한 1:1 채팅방 수: {}", chatRooms.size());
-
         // 2. 채팅방 ID 목록 추출
         List<Long> roomIds = chatRooms.stream()
                 .map(ChatRoom::getId)
@@ -74,23 +122,21 @@ public class ChatQueryService {
                         p -> p
                 ));
 
-        // 4. 모든 채팅방의 마지막 메시지를 한 번에 조회
-        List<ChatMessage> lastMessages = chatMessageRepository.findLastMessagesByRoomIds(roomIds);
-        Map<Long, ChatMessage> lastMessageMap = lastMessages.stream()
-                .collect(Collectors.toMap(
-                        m -> m.getChatRoom().getId(),
-                        m -> m,
-                        (m1, m2) -> m1.getCreatedAt().isAfter(m2.getCreatedAt()) ? m1 : m2
-                ));
+        // 4. 모든 채팅방의 마지막 메시지를 한 번에 조회 (설정된 메시지 저장소)
+        Map<Long, ChatResDTO.MessageResDTO> lastMessageMap = chatMessageStore.findLatest(roomIds);
 
-        // 5. 모든 채팅방의 읽지 않은 메시지 수를 한 번에 조회
-        List<Object[]> unreadCountsRaw = chatMessageRepository.countUnreadMessagesByRoomIdsRaw(roomIds, userId);
-        Map<Long, Integer> unreadCountMap = new HashMap<>();
-        for (Object[] result : unreadCountsRaw) {
-            Long roomId = (Long) result[0];
-            Long count = (Long) result[1];
-            unreadCountMap.put(roomId, count.intValue());
+        // 5. 모든 채팅방의 읽지 않은 메시지 수를 한 번에 조회 (사용자의 마지막 읽은 메시지 기준)
+        Map<Long, String> lastReadMessageIds = new HashMap<>();
+        for (ChatRoom chatRoom : chatRooms) {
+            String lastReadMessageId = chatRoom.getParticipants().stream()
+                    .filter(participant -> participant.getUser().getId().equals(userId))
+                    .map(ChatRoomParticipant::getLastReadMessageId)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .orElse(null);
+            lastReadMessageIds.put(chatRoom.getId(), lastReadMessageId);
         }
+        Map<Long, Integer> unreadCountMap = chatMessageStore.countUnread(userId, lastReadMessageIds);
 
         // 6. DTO 변환 및 반환
         List<ChatRoomResDTO.ChatRoomListResDTO> result = new ArrayList<>();
@@ -106,51 +152,299 @@ public class ChatQueryService {
             }
 
             User otherUser = otherParticipant.getUser();
-            ChatMessage lastMessage = lastMessageMap.get(roomId);
+            ChatResDTO.MessageResDTO lastMessage = lastMessageMap.get(roomId);
             int unreadCount = unreadCountMap.getOrDefault(roomId, 0);
 
             // DTO 생성 및 추가
-            ChatRoomResDTO.ChatRoomListResDTO dto =
-                    ChatConverter.toChatRoomListResDTO(chatRoom, otherUser, lastMessage, unreadCount);
-            result.add(dto);
+            result.add(ChatConverter.toChatRoomListResDTO(chatRoom, otherUser, lastMessage, unreadCount));
         }
 
         return result;
     }
 
+    /**
+     * 채팅 동기화 - 클라이언트 커서 이후의 변경 사항만 조회
+     * - 커서가 없거나 보관 기간이 지나 커서 이후 로그 일부가 삭제되었으면 전체 채팅방 목록과 현재 커서를 반환
+     * - 비용은 사용자의 채팅방 수가 아니라 변경된 양에 비례
+     */
+    @Timed("chat.service.duration")
+    public ChatResDTO.ChatSyncResDTO syncChats(Long userId, Long cursor, Integer limit) {
+        log.info("채팅 동기화 요청: userId={}, cursor={}, limit={}", userId, cursor, limit);
+
+        ChatHistoryQueryEvent event = new ChatHistoryQueryEvent();
+        event.begin();
+
+        // 커밋 순서가 ID 순서와 다를 수 있으므로 기록된 지 settleMs 가 지난 변경만 전달 (늦게 커밋된 로그 누락 방지)
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(syncSettleMs));
+
+        // 커서가 없거나 만료되었으면 전체 동기화
+        if (cursor == null || cursor <= 0 || chatChangeLogRetention.isExpired(cursor)) {
+            if (cursor != null && cursor > 0) {
+                log.info("만료된 동기화 커서, 전체 동기화로 응답: userId={}, cursor={}", userId, cursor);
+            }
+            Long latestId = chatChangeLogRepository.findLatestId(userId, settledBefore);
+            List<ChatRoomResDTO.ChatRoomListResDTO> rooms = getUserPrivateChats(userId);
+            commitHistoryEvent(event, "sync", null, userId, 0, rooms.size());
+
+            return ChatResDTO.ChatSyncResDTO.builder()
+                    .cursor(latestId != null ? latestId : 0L)
+                    .hasMore(false)
+                    .fullSync(true)
+                    .changedRooms(rooms)
+                    .newMessages(List.of())
+                    .readWatermarks(List.of())
+                    .membershipChanges(List.of())
+                    .build();
+        }
+
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, MAX_SYNC_LIMIT) : DEFAULT_SYNC_LIMIT;
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<ChatChangeLog> changes = chatChangeLogRepository.findChangesAfter(
+                userId, cursor, settledBefore, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        if (changes.isEmpty()) {
+            commitHistoryEvent(event, "sync", null, userId, pageSize, 0);
+            return ChatResDTO.ChatSyncResDTO.builder()
+                    .cursor(cursor)
+                    .hasMore(false)
+                    .fullSync(false)
+                    .changedRooms(List.of())
+                    .newMessages(List.of())
+                    .readWatermarks(List.of())
+                    .membershipChanges(List.of())
+                    .build();
+        }
+
+        // 변경 로그를 유형별로 분류
+        Set<String> changedChatIds = new LinkedHashSet<>();
+        List<String> newMessageIds = new ArrayList<>();
+        Map<String, ChatResDTO.ChatSyncResDTO.ReadWatermarkDTO> readWatermarks = new LinkedHashMap<>();
+        List<ChatResDTO.ChatSyncResDTO.MembershipChangeDTO> membershipChanges = new ArrayList<>();
+
+        for (ChatChangeLog change : changes) {
+            changedChatIds.add(change.getChatId());
+
+            switch (change.getType()) {
+                case MESSAGE -> newMessageIds.add(change.getMessageId());
+                // 같은 채팅방/사용자의 읽음 위치는 마지막 값만 전달
+                case READ -> readWatermarks.put(change.getChatId() + ":" + change.getActorUserId(),
+                        ChatResDTO.ChatSyncResDTO.ReadWatermarkDTO.builder()
+                                .chatId(change.getChatId())
+                                .userId(change.getActorUserId())
+                                .lastReadMessageId(change.getMessageId())
+                                .build());
+                case ROOM_JOINED, ROOM_LEFT -> membershipChanges.add(
+                        ChatResDTO.ChatSyncResDTO.MembershipChangeDTO.builder()
+                                .chatId(change.getChatId())
+                                .userId(change.getActorUserId())
+                                .type(change.getType().name())
+                                .build());
+            }
+        }
+
+        // 변경된 채팅방 정보 (나간 채팅방은 조회되지 않음)
+        List<ChatRoom> changedRooms = chatRoomRepository.findPrivateChatRoomsByChatIdsAndUserId(changedChatIds, userId);
+
+        // 새 메시지를 변경 로그 순서대로 정렬
+        List<ChatResDTO.ChatSyncResDTO.SyncMessageDTO> newMessages = new ArrayList<>();
+        if (!newMessageIds.isEmpty()) {
+            Map<String, ChatResDTO.MessageResDTO> messageMap =
+                    chatMessageStore.findByMessageIds(groupMessageIdsByRoom(changes, changedRooms));
+
+            for (ChatChangeLog change : changes) {
+                ChatResDTO.MessageResDTO message = change.getType() == ChatChangeType.MESSAGE
+                        ? messageMap.get(change.getMessageId())
+                        : null;
+                if (message != null) {
+                    newMessages.add(ChatResDTO.ChatSyncResDTO.SyncMessageDTO.builder()
+                            .chatId(change.getChatId())
+                            .message(message)
+                            .build());
+                }
+            }
+        }
+
+        log.info("채팅 동기화 결과: userId={}, changes={}, rooms={}, messages={}, hasMore={}",
+                userId, changes.size(), changedRooms.size(), newMessages.size(), hasMore);
+        commitHistoryEvent(event, "sync", null, userId, pageSize, changes.size());
+
+        return ChatResDTO.ChatSyncResDTO.builder()
+                .cursor(changes.get(changes.size() - 1).getId())
+                .hasMore(hasMore)
+                .fullSync(false)
+                .changedRooms(toChatRoomList(userId, changedRooms))
+                .newMessages(newMessages)
+                .readWatermarks(new ArrayList<>(readWatermarks.values()))
+                .membershipChanges(membershipChanges)
+                .build();
+    }
+
+    /**
+     * 새 메시지 ID 를 채팅방 PK 별로 묶음
+     * - 이미 조회한 변경 채팅방 목록으로 채팅방 PK 를 찾음 (나간 채팅방의 메시지는 조회하지 않음)
+     */
+    private Map<Long, List<String>> groupMessageIdsByRoom(List<ChatChangeLog> changes, List<ChatRoom> changedRooms) {
+        Map<String, Long> roomIdByChatId = changedRooms.stream()
+                .collect(Collectors.toMap(ChatRoom::getChatId, ChatRoom::getId, (a, b) -> a));
+
+        Map<Long, List<String>> messageIdsByRoomId = new LinkedHashMap<>();
+        for (ChatChangeLog change : changes) {
+            Long roomId = roomIdByChatId.get(change.getChatId());
+            if (change.getType() == ChatChangeType.MESSAGE && roomId != null) {
+                messageIdsByRoomId.computeIfAbsent(roomId, id -> new ArrayList<>()).add(change.getMessageId());
+            }
+        }
+        return messageIdsByRoomId;
+    }
+
     /**
      * 특정 채팅방의 메시지 목록 조회 (최적화)
+     * - 기본 크기의 첫 페이지는 2단계 캐시 사용, 채팅방이 변경되면 커밋 후 무효화
+     * - 캐시에 저장할 첫 페이지는 primary 에서 읽음 (무효화 직후 복제 지연 중인 이전 페이지를 다시 캐시하지 않도록)
      */
+    @Cacheable(cacheNames = ChatCacheNames.CHAT_MESSAGES, key = "#userId + ':' + #chatId",
+            condition = "#before == null && (#limit == null || #limit == " + DEFAULT_PAGE_SIZE + ")", sync = true)
+    @Timed("chat.service.duration")
     public ChatResDTO.MessageListResDTO getChatMessages(Long userId, String chatId, Integer limit, Long before) {
         log.info("채팅방 메시지 목록 조회: userId={}, chatId={}, limit={}, before={}", userId, chatId, limit, before);
 
-        // 사용자 정보 조회 (캐싱 가능)
-        User currentUser = userRepository.findById(userId)
-                .orElseThrow(() -> new ChatException(UserErrorCode.USER_NOT_FOUND_404));
+        ChatHistoryQueryEvent event = new ChatHistoryQueryEvent();
+        event.begin();
 
-        // 채팅방 조회 (FetchJoin 사용)
-        ChatRoom chatRoom = chatRoomRepository.findWithParticipantsByChatId(chatId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+        try (ReadYourWritesTracker.ReadScope ignored =
+                     isCachedPage(limit, before) ? ReadYourWritesTracker.readingFromPrimary() : null) {
+            // 채팅방 메타데이터 조회 (캐시)
+            ChatRoomMeta roomMeta = chatRoomMetaReader.getRoomMeta(chatId);
 
-        // 사용자가 채팅방 참여자인지 확인
-        boolean isParticipant = chatRoom.getParticipants().stream()
-                .anyMatch(p -> p.getUser().getId().equals(userId));
+            // 사용자가 채팅방 참여자인지 확인
+            if (!roomMeta.hasParticipant(userId)) {
+                log.warn("사용자가 채팅방에 참여하지 않음: userId={}, chatId={}", userId, chatId);
+                throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
+            }
 
-        if (!isParticipant) {
-            log.warn("사용자가 채팅방에 참여하지 않음: userId={}, chatId={}", userId, chatId);
-            throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
+            // 페이징 설정
+            int pageSize = limit != null && limit > 0 ? limit : DEFAULT_PAGE_SIZE;
+
+            // 설정된 메시지 저장소에서 before 커서 이전 메시지 조회
+            ChatResDTO.MessageListResDTO messages = chatMessageStore.findPage(roomMeta, before, pageSize);
+
+            log.info("조회된 메시지 수: {}", messages.messages().size());
+            commitHistoryEvent(event, "messages", chatId, userId, pageSize, messages.messages().size());
+
+            return messages;
+        }
+    }
+
+    // 캐시에 저장하는 페이지인지 확인 (getChatMessages 의 @Cacheable condition 과 같은 조건)
+    private static boolean isCachedPage(Integer limit, Long before) {
+        return before == null && (limit == null || limit == DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * 채팅방의 메시지가 있는 일자 목록 조회 (캘린더)
+     * - 기본 기간: 최근 30일
+     */
+    @Timed("chat.service.duration")
+    public ChatResDTO.ChatDayListResDTO getActiveDays(Long userId, String chatId, LocalDate from, LocalDate to) {
+        log.info("채팅방 일자 목록 조회: userId={}, chatId={}, from={}, to={}", userId, chatId, from, to);
+
+        ChatRoomMeta roomMeta = getParticipatingRoom(userId, chatId);
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_DAY_RANGE) {
+            throw new ChatException(ChatErrorCode.INVALID_DATE_RANGE);
+        }
+
+        List<ChatResDTO.ChatDayDTO> days = chatDayBucketRepository
+                .findByRoomIdAndDateRange(roomMeta.roomId(), start, end).stream()
+                .map(ChatConverter::toChatDayDTO)
+                .toList();
+
+        return ChatResDTO.ChatDayListResDTO.builder()
+                .chatId(chatId)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * 특정 일자의 메시지 조회 (오래된 순)
+     * - 일자 버킷의 첫 메시지 커서부터 바로 읽으므로 생성 시각 스캔이 필요 없음
+     * - 요청한 날에 메시지가 없으면 그 이후 메시지가 있는 첫 일자를 조회
+     * @param after 같은 날의 다음 페이지 조회 시 이전 응답의 nextAfter
+     */
+    @Timed("chat.service.duration")
+    public ChatResDTO.DayMessageListResDTO getDayMessages(Long userId, String chatId, LocalDate date,
+                                                          Long after, Integer limit) {
+        log.info("일자별 메시지 조회: userId={}, chatId={}, date={}, after={}, limit={}", userId, chatId, date, after, limit);
+
+        ChatHistoryQueryEvent event = new ChatHistoryQueryEvent();
+        event.begin();
+
+        ChatRoomMeta roomMeta = getParticipatingRoom(userId, chatId);
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+
+        ChatDayBucket bucket = chatDayBucketRepository
+                .findFirstByChatRoomIdAndBucketDateGreaterThanEqualOrderByBucketDateAsc(roomMeta.roomId(), date)
+                .orElse(null);
+        if (bucket == null) {
+            commitHistoryEvent(event, "day", chatId, userId, pageSize, 0);
+            return ChatResDTO.DayMessageListResDTO.builder()
+                    .date(date)
+                    .messages(List.of())
+                    .hasMore(false)
+                    .build();
+        }
+
+        long start = bucket.getFirstCursor() - 1;
+        if (after != null && bucket.getBucketDate().equals(date)) {
+            start = Math.max(start, after);
         }
 
-        // 페이징 설정
-        int pageSize = limit != null && limit > 0 ? limit : 50;
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회하고, 그날 마지막 메시지 이후는 제외
+        List<StoredMessage> stored = chatMessageStore.findAfter(roomMeta, start, pageSize + 1).stream()
+                .filter(message -> message.cursor() <= bucket.getLastCursor())
+                .toList();
+
+        boolean hasMore = stored.size() > pageSize;
+        if (hasMore) {
+            stored = stored.subList(0, pageSize);
+        }
+        commitHistoryEvent(event, "day", chatId, userId, pageSize, stored.size());
 
-        // 메시지 조회 (FetchJoin으로 N+1 문제 해결)
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomWithSender(
-                chatRoom, PageRequest.of(0, pageSize));
+        return ChatResDTO.DayMessageListResDTO.builder()
+                .date(bucket.getBucketDate())
+                .messages(stored.stream().map(StoredMessage::message).toList())
+                .hasMore(hasMore)
+                .nextAfter(hasMore ? stored.get(stored.size() - 1).cursor() : null)
+                .build();
+    }
 
-        log.info("조회된 메시지 수: {}", messages.getContent().size());
+    // JFR 이벤트 기록 (녹화 중이고 임계값을 넘은 경우에만 필드를 채움)
+    private void commitHistoryEvent(ChatHistoryQueryEvent event, String queryType, String chatId, Long userId,
+                                    int limit, int resultSize) {
+        if (event.shouldCommit()) {
+            event.queryType = queryType;
+            event.chatId = chatId;
+            event.userId = userId;
+            event.limit = limit;
+            event.resultSize = resultSize;
+            event.commit();
+        }
+    }
 
-        // DTO 변환
-        return ChatConverter.toMessageListResDTO(messages.getContent(), messages.hasNext());
+    // 채팅방 메타데이터 조회 후 참여 여부 확인
+    private ChatRoomMeta getParticipatingRoom(Long userId, String chatId) {
+        ChatRoomMeta roomMeta = chatRoomMetaReader.getRoomMeta(chatId);
+        if (!roomMeta.hasParticipant(userId)) {
+            throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
+        }
+        return roomMeta;
     }
 }
@@ -0,0 +1,46 @@
+package com.study.chattingstudy.domain.chat.service.query;
+
+import com.study.chattingstudy.domain.chat.cache.ChatCacheNames;
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.converter.ChatConverter;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 채팅방 메타데이터 조회 (캐시)
+ * - 메시지 전송/조회마다 반복되는 채팅방 + 참여자 조회를 캐시로 대체
+ * - 참여자는 채팅방 생성 후 변경되지 않으므로 별도 무효화 없이 TTL 로만 만료
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMetaReader {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ChatCacheNames.CHAT_ROOM_META, key = "#chatId", sync = true)
+    public ChatRoomMeta getRoomMeta(String chatId) {
+        return chatRoomRepository.findWithParticipantsByChatId(chatId)
+                .map(ChatConverter::toChatRoomMeta)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.CHAT_ROOM_NOT_FOUND));
+    }
+
+    /**
+     * 캐시에 있는 경우에만 채팅방 메타데이터 조회 (DB 조회 없음)
+     * - 타이핑 표시처럼 유실되어도 되는 경로에서 사용
+     */
+    public Optional<ChatRoomMeta> findCachedRoomMeta(String chatId) {
+        Cache cache = cacheManager.getCache(ChatCacheNames.CHAT_ROOM_META);
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.get(chatId, ChatRoomMeta.class));
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.chattingstudy.domain.chat.service.query;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.repository.ChatRoomParticipantRepository;
+import com.study.chattingstudy.domain.chat.search.MessageSearchIndex;
+import com.study.chattingstudy.domain.chat.search.MessageTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 메시지 검색
+ * - 사용자가 참여한 채팅방의 색인만 조회하고, 채팅방별 상위 결과를 점수 순으로 합침
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSearchService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private final MessageSearchIndex messageSearchIndex;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+    private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+    /**
+     * 메시지 검색
+     * @param chatId 검색할 채팅방 (null 이면 참여한 모든 채팅방)
+     */
+    public ChatResDTO.MessageSearchResDTO searchMessages(Long userId, String query, String chatId, Integer limit) {
+        log.info("메시지 검색: userId={}, chatId={}, limit={}", userId, chatId, limit);
+
+        List<String> terms = List.copyOf(MessageTokenizer.termFrequencies(query).keySet());
+        if (terms.isEmpty() || terms.size() > MAX_QUERY_TERMS) {
+            throw new ChatException(ChatErrorCode.INVALID_SEARCH_QUERY);
+        }
+        int size = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+
+        List<ChatRoomMeta> rooms = new ArrayList<>();
+        if (chatId != null) {
+            ChatRoomMeta roomMeta = chatRoomMetaReader.getRoomMeta(chatId);
+            if (!roomMeta.hasParticipant(userId)) {
+                throw new ChatException(ChatErrorCode.USER_NOT_IN_CHAT_ROOM);
+            }
+            rooms.add(roomMeta);
+        } else {
+            for (String participatingChatId : chatRoomParticipantRepository.findChatIdsByUserId(userId)) {
+                rooms.add(chatRoomMetaReader.getRoomMeta(participatingChatId));
+            }
+        }
+
+        List<ChatResDTO.MessageSearchHitDTO> hits = new ArrayList<>();
+        List<String> indexingChatIds = new ArrayList<>();
+        for (ChatRoomMeta room : rooms) {
+            MessageSearchIndex.SearchResult result = messageSearchIndex.search(room, terms, size);
+            hits.addAll(result.hits());
+            if (!result.complete()) {
+                indexingChatIds.add(room.chatId());
+            }
+        }
+
+        // 채팅방별 상위 결과를 합쳐 점수 순으로 상위 size 개 (동점이면 최신 메시지 우선)
+        hits.sort(Comparator.comparingDouble(ChatResDTO.MessageSearchHitDTO::score).reversed()
+                .thenComparing(hit -> hit.message().createdAt(), Comparator.nullsLast(Comparator.reverseOrder())));
+        if (hits.size() > size) {
+            hits = new ArrayList<>(hits.subList(0, size));
+        }
+
+        return ChatResDTO.MessageSearchResDTO.builder()
+                .query(query)
+                .hits(hits)
+                .indexingChatIds(indexingChatIds)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.study.chattingstudy.domain.chat.store;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.user.entity.User;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 채팅 메시지 저장소
+ * - chat.message-store.type 으로 구현 선택 (jpa: chat_messages 테이블, segment: 로컬 세그먼트 파일)
+ * - 메시지 커서(before, nextCursor)는 구현별 채팅방 내 순번이며 클라이언트는 값을 해석하지 않고 그대로 전달
+ * - 메시지 조회/읽음 처리는 모두 이 인터페이스를 거치므로 서비스는 구현(테이블, 보관 파일, 세그먼트)을 알지 못함
+ * - 읽음 여부는 구현별로 관리 (jpa: 메시지 행의 read, segment: 참여자의 마지막 읽은 메시지)
+ */
+public interface ChatMessageStore {
+
+    /**
+     * 메시지 저장
+     * @param room 채팅방 메타데이터
+     * @param sender 발신자
+     * @param content 메시지 내용
+     * @return 저장된 메시지와 커서
+     */
+    StoredMessage append(ChatRoomMeta room, User sender, String content);
+
+    /**
+     * 메시지 페이지 조회 (최신순)
+     * @param room 채팅방 메타데이터
+     * @param before 이 커서보다 이전 메시지만 조회 (null 이면 최신 메시지부터)
+     * @param limit 최대 메시지 수
+     * @return 메시지 목록과 다음 페이지 커서
+     */
+    ChatResDTO.MessageListResDTO findPage(ChatRoomMeta room, Long before, int limit);
+
+    /**
+     * 커서 이후 메시지 조회 (오래된 순) - 검색 색인 보충 등 순차 처리용
+     * @param room 채팅방 메타데이터
+     * @param after 이 커서보다 이후 메시지만 조회
+     * @param limit 최대 메시지 수
+     */
+    List<StoredMessage> findAfter(ChatRoomMeta room, long after, int limit);
+
+    /**
+     * 메시지 읽음 처리 - 채팅방의 메시지를 찾아 다른 사용자가 보낸 메시지이면 읽음으로 표시
+     * @param roomId 채팅방 PK
+     * @param messageId 메시지 ID
+     * @param readerId 읽은 사용자
+     * @return 찾은 메시지 (채팅방에 없으면 empty)
+     */
+    Optional<ChatResDTO.MessageResDTO> markAsRead(Long roomId, String messageId, Long readerId);
+
+    /**
+     * 채팅방의 다른 사용자가 보낸 메시지를 모두 읽음 처리
+     * @param lastReadMessageId 읽음 처리 전 사용자의 마지막 읽은 메시지 ID (없으면 null)
+     * @return 읽음 처리된 메시지 수
+     */
+    int markAllAsRead(Long roomId, Long readerId, String lastReadMessageId);
+
+    /**
+     * 여러 채팅방의 마지막 메시지 일괄 조회
+     * @return 채팅방 PK -> 마지막 메시지 (메시지가 없는 채팅방은 제외)
+     */
+    Map<Long, ChatResDTO.MessageResDTO> findLatest(Collection<Long> roomIds);
+
+    /**
+     * 여러 채팅방의 읽지 않은 메시지 수 일괄 조회 (다른 사용자가 보낸 메시지만)
+     * @param lastReadMessageIds 채팅방 PK -> 사용자의 마지막 읽은 메시지 ID (값은 null 가능)
+     * @return 채팅방 PK -> 읽지 않은 메시지 수 (0 인 채팅방은 제외될 수 있음)
+     */
+    Map<Long, Integer> countUnread(Long userId, Map<Long, String> lastReadMessageIds);
+
+    /**
+     * 메시지 ID 로 일괄 조회 (동기화 새 메시지)
+     * @param messageIdsByRoomId 채팅방 PK -> 메시지 ID 목록
+     * @return 메시지 ID -> 메시지 (찾지 못한 메시지는 제외)
+     */
+    Map<String, ChatResDTO.MessageResDTO> findByMessageIds(Map<Long, ? extends Collection<String>> messageIdsByRoomId);
+
+    /**
+     * 채팅방의 모든 메시지를 오래된 순으로 전달 (내보내기용, jpa 구현은 읽기 전용 트랜잭션 안에서 호출)
+     * @return 전달한 메시지 수
+     */
+    long forEach(Long roomId, MessageVisitor visitor) throws IOException;
+
+    @FunctionalInterface
+    interface MessageVisitor {
+        void visit(ChatResDTO.MessageResDTO message) throws IOException;
+    }
+}
@@ -0,0 +1,294 @@
+package com.study.chattingstudy.domain.chat.store;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.converter.ChatConverter;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.entity.ChatMessage;
+import com.study.chattingstudy.domain.chat.entity.ChatRoom;
+import com.study.chattingstudy.domain.chat.repository.ChatMessageRepository;
+import com.study.chattingstudy.domain.chat.repository.ChatRoomRepository;
+import com.study.chattingstudy.domain.chat.store.archive.ArchivedMessage;
+import com.study.chattingstudy.domain.chat.store.archive.MessageArchive;
+import com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionManager;
+import com.study.chattingstudy.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * chat_messages 테이블 기반 메시지 저장소 (기본값)
+ * - 커서는 메시지 PK(id)
+ * - 커서가 테이블에 남은 가장 오래된 메시지를 지나면 보관 파일(MessageArchive)에서 이어서 조회
+ * - 커서 조회에는 커서가 속한 파티션으로 계산한 생성 시각 범위를 함께 넘겨 파티션 프루닝을 받음
+ * - 첫 페이지는 최근 파티션에서 먼저 조회하고, 부족한 만큼만 이전 파티션에서 이어서 조회
+ * - 메시지 ID/마지막 메시지 조회도 최근 파티션에서 먼저 찾고, 테이블에 없으면 보관 파일에서 찾음
+ * - 안 읽은 수 집계와 전체 읽음 처리는 메시지 행의 read 기준 (unread-months 를 지정하면 그 이전 메시지는 제외)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.message-store.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaChatMessageStore implements ChatMessageStore {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final MessageArchive messageArchive;
+    private final ChatMessagePartitionManager partitionManager;
+    private final EntityManager entityManager;
+
+    // 내보내기 중 영속성 컨텍스트를 비우는 주기 (행 수)
+    private static final int CLEAR_INTERVAL = 1_000;
+
+    @Override
+    public StoredMessage append(ChatRoomMeta room, User sender, String content) {
+        // 메시지의 채팅방 FK 만 필요하므로 프록시 참조 사용
+        ChatRoom chatRoom = chatRoomRepository.getReferenceById(room.roomId());
+
+        ChatMessage savedMessage = chatMessageRepository.save(ChatConverter.toChatMessage(chatRoom, sender, content));
+        return new StoredMessage(savedMessage.getId(), ChatConverter.toMessageResDTO(savedMessage));
+    }
+
+    @Override
+    public ChatResDTO.MessageListResDTO findPage(ChatRoomMeta room, Long before, int limit) {
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (count 쿼리 없음)
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<ChatMessage> messages = before == null
+                ? findLatest(room.roomId(), page)
+                : chatMessageRepository.findByChatRoomIdBefore(
+                        room.roomId(), before, partitionManager.createdAtUntil(before), page);
+
+        if (messages.size() > limit || messageArchive.isEmpty()) {
+            boolean hasMore = messages.size() > limit;
+            if (hasMore) {
+                messages = messages.subList(0, limit);
+            }
+
+            Long nextCursor = hasMore ? messages.get(messages.size() - 1).getId() : null;
+            return ChatConverter.toMessageListResDTO(messages, hasMore, nextCursor);
+        }
+
+        // 테이블에서 부족한 만큼 보관 파일에서 이어서 조회 (보관된 메시지는 테이블에 남은 메시지보다 PK 가 작음)
+        long archiveBefore = !messages.isEmpty() ? messages.get(messages.size() - 1).getId()
+                : before != null ? before : Long.MAX_VALUE;
+        List<ArchivedMessage> archived = messageArchive.readBefore(
+                room.roomId(), archiveBefore, limit + 1 - messages.size());
+
+        boolean hasMore = messages.size() + archived.size() > limit;
+        if (hasMore) {
+            archived = archived.subList(0, limit - messages.size());
+        }
+
+        List<ChatResDTO.MessageResDTO> result = new ArrayList<>(messages.size() + archived.size());
+        messages.forEach(message -> result.add(ChatConverter.toMessageResDTO(message)));
+        archived.forEach(message -> result.add(message.toMessageResDTO()));
+
+        Long nextCursor = null;
+        if (hasMore) {
+            nextCursor = archived.isEmpty() ? archiveBefore : archived.get(archived.size() - 1).id();
+        }
+        return ChatResDTO.MessageListResDTO.builder()
+                .messages(result)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    public List<StoredMessage> findAfter(ChatRoomMeta room, long after, int limit) {
+        List<StoredMessage> result = new ArrayList<>(limit);
+
+        // 보관 파일의 메시지가 테이블에 남은 메시지보다 앞서므로 먼저 조회
+        long hotAfter = after;
+        if (!messageArchive.isEmpty()) {
+            for (ArchivedMessage message : messageArchive.readAfter(room.roomId(), after, limit)) {
+                result.add(new StoredMessage(message.id(), message.toMessageResDTO()));
+            }
+            if (result.size() == limit) {
+                return result;
+            }
+            // 보관 후 아직 삭제되지 않은 행이 중복되지 않도록 보관된 범위 이후부터 조회
+            hotAfter = Math.max(after, messageArchive.maxArchivedId());
+        }
+
+        for (ChatMessage message : chatMessageRepository.findByChatRoomIdAfter(room.roomId(), hotAfter,
+                partitionManager.createdAtFrom(hotAfter), PageRequest.of(0, limit - result.size()))) {
+            result.add(new StoredMessage(message.getId(), ChatConverter.toMessageResDTO(message)));
+        }
+        return result;
+    }
+
+    // 최근 파티션에서 먼저 조회하고, 부족한 만큼 그 이전 파티션에서 이어서 조회
+    private List<ChatMessage> findLatest(Long roomId, PageRequest page) {
+        LocalDateTime recentFrom = partitionManager.recentFrom();
+        List<ChatMessage> messages = chatMessageRepository.findLatestByChatRoomId(roomId, recentFrom, page);
+        if (!partitionManager.isManaged() || messages.size() >= page.getPageSize()) {
+            return messages;
+        }
+
+        long before = messages.isEmpty() ? Long.MAX_VALUE : messages.get(messages.size() - 1).getId();
+        List<ChatMessage> older = chatMessageRepository.findByChatRoomIdBefore(
+                roomId, before, recentFrom, PageRequest.of(0, page.getPageSize() - messages.size()));
+        if (older.isEmpty()) {
+            return messages;
+        }
+        List<ChatMessage> result = new ArrayList<>(messages.size() + older.size());
+        result.addAll(messages);
+        result.addAll(older);
+        return result;
+    }
+
+    @Override
+    public Optional<ChatResDTO.MessageResDTO> markAsRead(Long roomId, String messageId, Long readerId) {
+        ChatMessage message = findMessage(messageId);
+        if (message == null) {
+            // 보관 파일로 옮겨진 메시지는 수정하지 않으므로 읽음 표시는 바꾸지 않음
+            return Optional.ofNullable(messageArchive.findByMessageIds(roomId, List.of(messageId)).get(messageId))
+                    .map(ArchivedMessage::toMessageResDTO);
+        }
+        if (!message.getChatRoom().getId().equals(roomId)) {
+            return Optional.empty();
+        }
+
+        if (!message.getSender().getId().equals(readerId)) {
+            message.markAsRead();
+            chatMessageRepository.save(message);
+        }
+        return Optional.of(ChatConverter.toMessageResDTO(message));
+    }
+
+    @Override
+    public int markAllAsRead(Long roomId, Long readerId, String lastReadMessageId) {
+        return chatMessageRepository.markAllAsReadInChatRoom(roomId, readerId, partitionManager.unreadFrom());
+    }
+
+    @Override
+    public Map<Long, ChatResDTO.MessageResDTO> findLatest(Collection<Long> roomIds) {
+        Map<Long, ChatResDTO.MessageResDTO> result = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return result;
+        }
+
+        // 최근 파티션에서 먼저 찾고, 없는 채팅방만 전체 범위에서 다시 조회
+        List<Long> ids = List.copyOf(roomIds);
+        List<ChatMessage> lastMessages = new ArrayList<>(
+                chatMessageRepository.findLastMessagesByRoomIds(ids, partitionManager.recentFrom()));
+        if (partitionManager.isManaged() && lastMessages.size() < ids.size()) {
+            Set<Long> found = lastMessages.stream()
+                    .map(message -> message.getChatRoom().getId())
+                    .collect(Collectors.toSet());
+            List<Long> missingRoomIds = ids.stream()
+                    .filter(roomId -> !found.contains(roomId))
+                    .toList();
+            lastMessages.addAll(chatMessageRepository.findLastMessagesByRoomIds(
+                    missingRoomIds, partitionManager.earliest()));
+        }
+        for (ChatMessage message : lastMessages) {
+            result.put(message.getChatRoom().getId(), ChatConverter.toMessageResDTO(message));
+        }
+
+        // 테이블에 메시지가 남아 있지 않은 채팅방은 보관 파일의 마지막 메시지
+        for (Long roomId : ids) {
+            if (!result.containsKey(roomId)) {
+                messageArchive.findLatest(roomId).ifPresent(message -> result.put(roomId, message.toMessageResDTO()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Integer> countUnread(Long userId, Map<Long, String> lastReadMessageIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        if (lastReadMessageIds.isEmpty()) {
+            return result;
+        }
+
+        // 보관 파일로 옮겨진 메시지는 집계하지 않음 (보관 기간(min-age)이 지난 메시지는 읽은 것으로 간주)
+        for (Object[] row : chatMessageRepository.countUnreadMessagesByRoomIdsRaw(
+                List.copyOf(lastReadMessageIds.keySet()), userId, partitionManager.unreadFrom())) {
+            result.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, ChatResDTO.MessageResDTO> findByMessageIds(
+            Map<Long, ? extends Collection<String>> messageIdsByRoomId) {
+        Map<String, ChatResDTO.MessageResDTO> result = new HashMap<>();
+        List<String> messageIds = messageIdsByRoomId.values().stream()
+                .flatMap(Collection::stream)
+                .toList();
+        if (messageIds.isEmpty()) {
+            return result;
+        }
+
+        for (ChatMessage message : chatMessageRepository.findByMessageIdsWithSender(messageIds)) {
+            if (messageIdsByRoomId.containsKey(message.getChatRoom().getId())) {
+                result.put(message.getMessageId(), ChatConverter.toMessageResDTO(message));
+            }
+        }
+
+        // 테이블에 없는 메시지(조회 전에 보관된 메시지)는 채팅방별로 보관 파일에서 조회
+        if (result.size() < messageIds.size() && !messageArchive.isEmpty()) {
+            messageIdsByRoomId.forEach((roomId, ids) -> {
+                List<String> missing = ids.stream()
+                        .filter(messageId -> !result.containsKey(messageId))
+                        .toList();
+                if (!missing.isEmpty()) {
+                    messageArchive.findByMessageIds(roomId, missing)
+                            .forEach((messageId, message) -> result.put(messageId, message.toMessageResDTO()));
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 보관 파일의 메시지를 먼저 전달한 뒤 chat_messages 를 스트리밍 커서로 한 행씩 읽어 전달
+     */
+    @Override
+    public long forEach(Long roomId, MessageVisitor visitor) throws IOException {
+        long[] count = {0};
+        long lastArchivedId = messageArchive.forEach(roomId, message -> {
+            visitor.visit(message.toMessageResDTO());
+            count[0]++;
+        });
+
+        // 보관 직후 아직 삭제되지 않은 행이 중복 전달되지 않도록 마지막 보관 PK 이후만 조회
+        try (Stream<ChatResDTO.MessageResDTO> messages = chatMessageRepository.streamForExport(
+                roomId, lastArchivedId, partitionManager.createdAtFrom(lastArchivedId))) {
+            Iterator<ChatResDTO.MessageResDTO> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                visitor.visit(iterator.next());
+
+                // DTO projection 이라 관리 엔티티는 없지만, 긴 트랜잭션 동안 쌓일 수 있는 상태를 주기적으로 정리
+                if (++count[0] % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count[0];
+    }
+
+    // 메시지 ID 로 조회 - 최근 파티션에서 먼저 찾고, 없으면 전체 범위에서 조회
+    private ChatMessage findMessage(String messageId) {
+        return chatMessageRepository.findByMessageId(messageId, partitionManager.recentFrom())
+                .or(() -> partitionManager.isManaged()
+                        ? chatMessageRepository.findByMessageId(messageId, partitionManager.earliest())
+                        : Optional.empty())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.study.chattingstudy.domain.chat.store;
+
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+
+/**
+ * 저장소에 저장된 메시지와 그 커서
+ * @param cursor 메시지 커서 (jpa: PK, segment: 채팅방 내 순번) - before 로 cursor + 1 을 전달하면 이 메시지부터 이전 메시지를 조회
+ * @param message 메시지
+ */
+public record StoredMessage(long cursor, ChatResDTO.MessageResDTO message) {
+}
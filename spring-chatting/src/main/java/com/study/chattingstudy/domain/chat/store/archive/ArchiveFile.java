@@ -0,0 +1,394 @@
+package com.study.chattingstudy.domain.chat.store.archive;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 블록 단위로 저장되는 읽기 전용 보관 파일
+ * 형식: [block]* [index] [footer]
+ * - block : 한 채팅방의 연속된 메시지를 Deflate 로 압축 (블록은 여러 채팅방에 걸치지 않음)
+ * - index : [blockCount:int] + 블록마다 [roomId][firstId][lastId][position][length][rawLength][count][crc32]
+ * - footer: [indexPosition:long][magic:int]
+ * 블록 인덱스는 (roomId, firstId) 순으로 정렬되어 메모리에 올려두고, 조회 시 필요한 블록만 읽어 압축 해제
+ */
+final class ArchiveFile implements Closeable {
+
+    private static final int MAGIC = 0x43484152;
+    private static final int FOOTER_BYTES = 12;
+    private static final int INDEX_ENTRY_BYTES = 48;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long minId;
+    private final long maxId;
+
+    // 블록 인덱스 ((roomId, firstId) 오름차순)
+    private final long[] roomIds;
+    private final long[] firstIds;
+    private final long[] lastIds;
+    private final long[] positions;
+    private final int[] lengths;
+    private final int[] rawLengths;
+    private final int[] crcs;
+
+    private ArchiveFile(Path path, FileChannel channel, ByteBuffer index) {
+        this.path = path;
+        this.channel = channel;
+
+        int blockCount = index.getInt();
+        roomIds = new long[blockCount];
+        firstIds = new long[blockCount];
+        lastIds = new long[blockCount];
+        positions = new long[blockCount];
+        lengths = new int[blockCount];
+        rawLengths = new int[blockCount];
+        crcs = new int[blockCount];
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < blockCount; i++) {
+            roomIds[i] = index.getLong();
+            firstIds[i] = index.getLong();
+            lastIds[i] = index.getLong();
+            positions[i] = index.getLong();
+            lengths[i] = index.getInt();
+            rawLengths[i] = index.getInt();
+            index.getInt(); // count
+            crcs[i] = index.getInt();
+
+            min = Math.min(min, firstIds[i]);
+            max = Math.max(max, lastIds[i]);
+        }
+        this.minId = min;
+        this.maxId = max;
+    }
+
+    /**
+     * 메시지를 보관 파일로 기록 (임시 파일에 쓰고 fsync 후 원자적으로 이름 변경)
+     * @param messages 기록할 메시지 (비어 있지 않아야 함)
+     * @param blockBytes 압축 전 블록 크기 목표
+     */
+    static ArchiveFile write(Path path, List<ArchivedMessage> messages, int blockBytes) throws IOException {
+        List<ArchivedMessage> sorted = new ArrayList<>(messages);
+        sorted.sort(Comparator.comparing(ArchivedMessage::roomId).thenComparing(ArchivedMessage::id));
+
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            DataOutputStream indexOut = new DataOutputStream(index);
+            int blockCount = 0;
+
+            BlockBuffer block = new BlockBuffer();
+            for (ArchivedMessage message : sorted) {
+                if (block.count > 0 && (block.roomId != message.roomId() || block.size() >= blockBytes)) {
+                    writeBlock(out, block, deflater, indexOut);
+                    blockCount++;
+                    block = new BlockBuffer();
+                }
+                block.add(message);
+            }
+            writeBlock(out, block, deflater, indexOut);
+            blockCount++;
+
+            long indexPosition = out.position();
+            ByteBuffer indexBuffer = ByteBuffer.allocate(4 + index.size() + FOOTER_BYTES);
+            indexBuffer.putInt(blockCount).put(index.toByteArray());
+            indexBuffer.putLong(indexPosition).putInt(MAGIC);
+            writeFully(out, indexBuffer.flip());
+
+            out.force(true);
+        } finally {
+            deflater.end();
+        }
+
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    static ArchiveFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FOOTER_BYTES) {
+                throw new IOException("보관 파일이 손상되었습니다: " + path);
+            }
+
+            ByteBuffer footer = readFully(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexPosition = footer.getLong();
+            if (footer.getInt() != MAGIC || indexPosition < 0 || indexPosition > size - FOOTER_BYTES - 4) {
+                throw new IOException("보관 파일이 손상되었습니다: " + path);
+            }
+
+            ByteBuffer index = readFully(channel, indexPosition, (int) (size - FOOTER_BYTES - indexPosition));
+            if (index.remaining() != 4 + (long) index.getInt(0) * INDEX_ENTRY_BYTES) {
+                throw new IOException("보관 파일 인덱스가 손상되었습니다: " + path);
+            }
+            return new ArchiveFile(path, channel, index);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long minId() {
+        return minId;
+    }
+
+    long maxId() {
+        return maxId;
+    }
+
+    long sizeBytes() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 채팅방의 before 미만 메시지를 최신순으로 최대 limit 개 추가
+     * @return 추가한 메시지 수
+     */
+    int readBefore(long roomId, long before, int limit, List<ArchivedMessage> out) throws IOException {
+        int added = 0;
+
+        // firstId < before 인 이 채팅방의 마지막 블록부터 역순으로 읽음
+        int block = lowerBound(roomId, before) - 1;
+        while (block >= 0 && roomIds[block] == roomId && added < limit) {
+            List<ArchivedMessage> messages = readBlock(block, roomId);
+            for (int i = messages.size() - 1; i >= 0 && added < limit; i--) {
+                if (messages.get(i).id() < before) {
+                    out.add(messages.get(i));
+                    added++;
+                }
+            }
+            block--;
+        }
+        return added;
+    }
+
+    /**
+     * 채팅방의 after 초과 메시지를 오래된 순으로 최대 limit 개 추가
+     * @return 추가한 메시지 수
+     */
+    int readAfter(long roomId, long after, int limit, List<ArchivedMessage> out) throws IOException {
+        int added = 0;
+        for (int block = lowerBound(roomId, Long.MIN_VALUE);
+             block < roomIds.length && roomIds[block] == roomId && added < limit; block++) {
+            if (lastIds[block] <= after) {
+                continue;
+            }
+            for (ArchivedMessage message : readBlock(block, roomId)) {
+                if (message.id() > after && added < limit) {
+                    out.add(message);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * 채팅방 블록을 최신순으로 읽으며 messageIds 에 해당하는 메시지를 찾아 추가 (모두 찾으면 중단)
+     * @param maxBlocks 읽을 수 있는 최대 블록 수
+     * @return 읽은 블록 수
+     */
+    int findByMessageIds(long roomId, Set<String> messageIds, int maxBlocks,
+                         Map<String, ArchivedMessage> out) throws IOException {
+        int read = 0;
+        int block = lowerBound(roomId, Long.MAX_VALUE) - 1;
+        while (block >= 0 && roomIds[block] == roomId && read < maxBlocks && out.size() < messageIds.size()) {
+            for (ArchivedMessage message : readBlock(block, roomId)) {
+                if (messageIds.contains(message.messageId())) {
+                    out.put(message.messageId(), message);
+                }
+            }
+            read++;
+            block--;
+        }
+        return read;
+    }
+
+    // 채팅방의 모든 메시지를 오래된 순으로 전달
+    void forEach(long roomId, MessageArchive.MessageVisitor visitor) throws IOException {
+        for (int block = lowerBound(roomId, Long.MIN_VALUE); block < roomIds.length && roomIds[block] == roomId; block++) {
+            for (ArchivedMessage message : readBlock(block, roomId)) {
+                visitor.visit(message);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // (roomId, firstId) 가 주어진 값 이상인 첫 블록 위치
+    private int lowerBound(long roomId, long firstId) {
+        int low = 0;
+        int high = roomIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (roomIds[mid] < roomId || (roomIds[mid] == roomId && firstIds[mid] < firstId)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<ArchivedMessage> readBlock(int block, long roomId) throws IOException {
+        ByteBuffer compressed = readFully(channel, positions[block], lengths[block]);
+
+        CRC32 crc = new CRC32();
+        crc.update(compressed.duplicate());
+        if ((int) crc.getValue() != crcs[block]) {
+            throw new IOException("보관 블록 CRC 불일치: " + path + ", block=" + block);
+        }
+
+        byte[] raw = new byte[rawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            if (inflater.inflate(raw) != raw.length || !inflater.finished()) {
+                throw new IOException("보관 블록 압축 해제 실패: " + path + ", block=" + block);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("보관 블록 압축 해제 실패: " + path + ", block=" + block, e);
+        } finally {
+            inflater.end();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        List<ArchivedMessage> messages = new ArrayList<>();
+        while (in.available() > 0) {
+            long id = in.readLong();
+            long createdAtMillis = in.readLong();
+            long senderId = in.readLong();
+            boolean read = in.readBoolean();
+            String username = in.readUTF();
+            String messageId = in.readUTF();
+            byte[] content = new byte[in.readInt()];
+            in.readFully(content);
+
+            messages.add(new ArchivedMessage(roomId, id,
+                    createdAtMillis == Long.MIN_VALUE ? null
+                            : LocalDateTime.ofEpochSecond(Math.floorDiv(createdAtMillis, 1000),
+                            (int) Math.floorMod(createdAtMillis, 1000) * 1_000_000, ZoneOffset.UTC),
+                    senderId, username, messageId, new String(content, StandardCharsets.UTF_8), read));
+        }
+        return messages;
+    }
+
+    private static void writeBlock(FileChannel out, BlockBuffer block, Deflater deflater,
+                                   DataOutputStream indexOut) throws IOException {
+        byte[] raw = block.bytes.toByteArray();
+
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(chunk);
+            compressed.write(chunk, 0, n);
+        }
+        byte[] data = compressed.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+
+        long position = out.position();
+        writeFully(out, ByteBuffer.wrap(data));
+
+        indexOut.writeLong(block.roomId);
+        indexOut.writeLong(block.firstId);
+        indexOut.writeLong(block.lastId);
+        indexOut.writeLong(position);
+        indexOut.writeInt(data.length);
+        indexOut.writeInt(raw.length);
+        indexOut.writeInt(block.count);
+        indexOut.writeInt((int) crc.getValue());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("보관 파일이 예상보다 짧습니다.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * 압축 전 블록 내용
+     * 메시지 형식: [id:long][createdAt(UTC epoch millis):long][senderId:long][read:boolean]
+     *            [username:UTF][messageId:UTF][contentLength:int][content]
+     */
+    private static class BlockBuffer {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private long roomId;
+        private long firstId;
+        private long lastId;
+        private int count;
+
+        void add(ArchivedMessage message) throws IOException {
+            if (count == 0) {
+                roomId = message.roomId();
+                firstId = message.id();
+            }
+            lastId = message.id();
+            count++;
+
+            byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+            out.writeLong(message.id());
+            out.writeLong(message.createdAt() == null ? Long.MIN_VALUE
+                    : message.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            out.writeLong(message.senderId());
+            out.writeBoolean(message.read());
+            out.writeUTF(message.senderUsername());
+            out.writeUTF(message.messageId());
+            out.writeInt(content.length);
+            out.write(content);
+        }
+
+        int size() {
+            return bytes.size();
+        }
+    }
+}
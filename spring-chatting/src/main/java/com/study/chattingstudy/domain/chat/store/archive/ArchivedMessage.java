@@ -0,0 +1,31 @@
+package com.study.chattingstudy.domain.chat.store.archive;
+
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive) 파일로 옮겨진 메시지
+ * - chat_messages 에서 조회할 때 JPQL 생성자 projection 으로 바로 생성 (엔티티 로딩 없음)
+ */
+public record ArchivedMessage(
+        Long roomId,            // 채팅방 내부 ID (PK)
+        Long id,                // 원래 chat_messages PK (페이지 커서로 계속 사용)
+        LocalDateTime createdAt,
+        Long senderId,
+        String senderUsername,
+        String messageId,
+        String content,
+        boolean read
+) {
+    public ChatResDTO.MessageResDTO toMessageResDTO() {
+        return ChatResDTO.MessageResDTO.builder()
+                .messageId(messageId)
+                .content(content)
+                .senderId(senderId)
+                .senderUsername(senderUsername)
+                .createdAt(createdAt)
+                .read(read)
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.chattingstudy.domain.chat.store.archive;
+
+import com.study.chattingstudy.domain.chat.repository.ChatMessageRepository;
+import com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionManager;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래된 메시지를 chat_messages 에서 보관 파일로 옮기는 백그라운드 작업 (chat.archive.enabled=true)
+ * - PK 순서대로 읽어 생성 시각이 기준(min-age) 이전인 앞부분만 보관 파일에 기록한 뒤 테이블에서 삭제
+ * - 보관 파일 기록이 끝난 뒤에만 삭제하므로 중간에 실패해도 메시지가 사라지지 않음
+ *   (파일 기록 후 삭제 전에 중단되면 다음 실행 시 이미 보관된 범위의 행을 먼저 삭제)
+ * - 여러 노드 중 한 노드만 실행하도록 Redis 잠금 사용
+ * - 보관 작업은 수십 분 걸릴 수 있으므로 공용 스케줄러 스레드가 아닌 전용 스레드에서 실행
+ *   (스케줄러는 실행 요청만 넘기고, 이전 작업이 아직 실행 중이면 이번 주기는 건너뜀)
+ * 테이블 크기(추정 행 수/바이트)는 보관 작업 활성화 여부와 관계없이 메트릭으로 노출
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.message-store.type", havingValue = "jpa", matchIfMissing = true)
+public class ChatMessageArchiver {
+
+    private static final String LOCK_KEY = "chat:archive:lock";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final MessageArchive messageArchive;
+    private final RedisUtil redisUtil;
+    private final ChatMessagePartitionManager partitionManager;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong hotRows = new AtomicLong(-1);
+    private final AtomicLong hotBytes = new AtomicLong(-1);
+    private final Counter archivedMessages;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean enabled;
+
+    // 생성 후 이 기간이 지난 메시지를 보관
+    @Value("${chat.archive.min-age-days:90}")
+    private int minAgeDays;
+
+    // 보관 파일 1개에 담는 최대 메시지 수
+    @Value("${chat.archive.batch-size:50000}")
+    private int batchSize;
+
+    // 1회 실행에서 처리하는 최대 배치 수
+    @Value("${chat.archive.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    // 삭제 쿼리 1회당 행 수
+    @Value("${chat.archive.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @Value("${chat.archive.lock-ttl-ms:1800000}")
+    private long lockTtlMs;
+
+    public ChatMessageArchiver(ChatMessageRepository chatMessageRepository,
+                               MessageArchive messageArchive,
+                               RedisUtil redisUtil,
+                               ChatMessagePartitionManager partitionManager,
+                               MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.messageArchive = messageArchive;
+        this.redisUtil = redisUtil;
+        this.partitionManager = partitionManager;
+
+        this.archivedMessages = Counter.builder("chat.archive.messages")
+                .description("보관 파일로 옮긴 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.messages.hot.rows", hotRows, AtomicLong::get)
+                .description("chat_messages 테이블 추정 행 수 (InnoDB 통계)")
+                .register(meterRegistry);
+        Gauge.builder("chat.messages.hot.bytes", hotBytes, AtomicLong::get)
+                .description("chat_messages 테이블 데이터 + 인덱스 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        // 대기열 없이 스레드 1개만 사용하므로 실행 중에 들어온 요청은 버림
+        this.executor = new ThreadPoolExecutor(
+                1,
+                1,
+                0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("chat-archiver-"),
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+        Gauge.builder("chat.archive.running", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 보관 작업 수")
+                .register(meterRegistry);
+    }
+
+    // 보관 작업을 전용 스레드에 넘김 (공용 스케줄러 스레드를 점유하지 않음)
+    @Scheduled(fixedDelayString = "${chat.archive.interval-ms:600000}",
+            initialDelayString = "${chat.archive.initial-delay-ms:60000}")
+    public void triggerArchive() {
+        if (enabled) {
+            executor.execute(this::archive);
+        }
+    }
+
+    void archive() {
+        if (!redisUtil.saveIfAbsent(LOCK_KEY, nodeId, lockTtlMs, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+
+        try {
+            // 다른 노드가 만든 보관 파일까지 반영한 뒤 시작
+            messageArchive.refresh();
+            long archivedUpTo = messageArchive.maxArchivedId();
+
+            // 이전 실행에서 보관 후 삭제되지 못한 행 정리
+            deleteArchivedRows(archivedUpTo);
+
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+            for (int batch = 0; batch < maxBatchesPerRun && !Thread.currentThread().isInterrupted(); batch++) {
+                List<ArchivedMessage> candidates = chatMessageRepository.findArchiveCandidates(
+                        archivedUpTo, partitionManager.createdAtFrom(archivedUpTo), PageRequest.of(0, batchSize));
+
+                // PK 와 생성 시각은 함께 증가하므로 기준 시각 이후 메시지가 나오면 그 뒤는 모두 보관 대상이 아님
+                int end = 0;
+                while (end < candidates.size() && candidates.get(end).createdAt().isBefore(cutoff)) {
+                    end++;
+                }
+                if (end == 0) {
+                    break;
+                }
+
+                List<ArchivedMessage> messages = candidates.subList(0, end);
+                messageArchive.write(messages);
+
+                archivedUpTo = messages.get(messages.size() - 1).id();
+                deleteArchivedRows(archivedUpTo);
+                archivedMessages.increment(messages.size());
+
+                log.info("[ ChatMessageArchiver ] 메시지 보관 완료: count={}, maxId={}", messages.size(), archivedUpTo);
+                if (end < candidates.size()) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("[ ChatMessageArchiver ] 메시지 보관 실패", e);
+        } finally {
+            // 잠금이 만료되어 다른 노드가 가져간 경우 그 잠금을 지우지 않도록 비교 후 삭제
+            redisUtil.deleteIfEquals(LOCK_KEY, nodeId);
+        }
+
+        refreshTableStats();
+    }
+
+    // 테이블 크기 메트릭 갱신 (통계 조회라 COUNT(*) 보다 훨씬 가벼움)
+    @Scheduled(fixedDelayString = "${chat.archive.stats-interval-ms:60000}")
+    public void refreshTableStats() {
+        try {
+            List<Object[]> stats = chatMessageRepository.findTableStats();
+            if (!stats.isEmpty()) {
+                hotRows.set(((Number) stats.get(0)[0]).longValue());
+                hotBytes.set(((Number) stats.get(0)[1]).longValue());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[ ChatMessageArchiver ] 테이블 통계 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[ ChatMessageArchiver ] 보관 작업 종료 대기 시간 초과");
+        }
+    }
+
+    private void deleteArchivedRows(long maxId) {
+        if (maxId <= 0) {
+            return;
+        }
+        int deleted;
+        do {
+            deleted = chatMessageRepository.deleteArchivedChunk(maxId, deleteChunkSize);
+        } while (deleted == deleteChunkSize);
+    }
+}
@@ -0,0 +1,277 @@
+package com.study.chattingstudy.domain.chat.store.archive;
+
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 오래된 메시지 보관 파일 관리 (콜드 히스토리)
+ * - 보관 작업 1회마다 PK 범위가 겹치지 않는 파일 1개가 생성됨 (파일명: {minId}-{maxId}.arc)
+ * - 각 파일의 블록 인덱스는 메모리에 두고, 조회 시 필요한 압축 블록만 읽음
+ * 여러 노드가 함께 사용하는 경우 chat.archive.dir 은 공유 스토리지여야 하며, 다른 노드가 만든 파일은 주기적으로 다시 읽어 반영
+ */
+@Slf4j
+@Component
+public class MessageArchive {
+
+    private static final String FILE_SUFFIX = ".arc";
+
+    // 이 시간보다 오래된 임시 파일은 중단된 보관 작업의 잔여물로 보고 삭제
+    private static final long STALE_TMP_MS = 3_600_000;
+
+    private final Path dir;
+    private final int blockBytes;
+    private final int lookupMaxBlocks;
+    private final Timer readTimer;
+
+    // 보관 파일 목록 (minId 오름차순, 변경 시 통째로 교체)
+    private volatile List<ArchiveFile> files = List.of();
+
+    public MessageArchive(@Value("${chat.archive.dir:./data/message-archive}") String dir,
+                          @Value("${chat.archive.block-bytes:65536}") int blockBytes,
+                          @Value("${chat.archive.lookup-max-blocks:64}") int lookupMaxBlocks,
+                          MeterRegistry meterRegistry) {
+        this.dir = Path.of(dir);
+        this.blockBytes = blockBytes;
+        this.lookupMaxBlocks = lookupMaxBlocks;
+
+        this.readTimer = Timer.builder("chat.archive.read")
+                .description("보관 파일 메시지 조회 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("chat.archive.files", this, archive -> archive.files.size())
+                .description("보관 파일 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.archive.bytes", this, MessageArchive::totalBytes)
+                .description("보관 파일 전체 크기 (압축 후)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(dir);
+
+        long now = System.currentTimeMillis();
+        try (Stream<Path> paths = Files.list(dir)) {
+            for (Path path : paths.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX + ".tmp")).toList()) {
+                if (now - Files.getLastModifiedTime(path).toMillis() > STALE_TMP_MS) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        refresh();
+    }
+
+    // 다른 노드가 추가한 보관 파일 반영
+    @Scheduled(fixedDelayString = "${chat.archive.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        Map<Path, ArchiveFile> loaded = new HashMap<>();
+        for (ArchiveFile file : files) {
+            loaded.put(file.path(), file);
+        }
+
+        List<ArchiveFile> refreshed = new ArrayList<>(files);
+        try (Stream<Path> paths = Files.list(dir)) {
+            for (Path path : paths.filter(p -> p.getFileName().toString().endsWith(FILE_SUFFIX)).toList()) {
+                if (loaded.containsKey(path)) {
+                    continue;
+                }
+                try {
+                    refreshed.add(ArchiveFile.open(path));
+                } catch (IOException e) {
+                    log.error("[ MessageArchive ] 보관 파일 열기 실패: {}", path, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[ MessageArchive ] 보관 디렉터리 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        if (refreshed.size() != files.size()) {
+            refreshed.sort(Comparator.comparingLong(ArchiveFile::minId));
+            files = List.copyOf(refreshed);
+        }
+    }
+
+    public boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    // 보관된 가장 큰 메시지 PK (보관 파일이 없으면 0)
+    public long maxArchivedId() {
+        List<ArchiveFile> current = files;
+        return current.isEmpty() ? 0 : current.get(current.size() - 1).maxId();
+    }
+
+    /**
+     * 메시지를 새 보관 파일로 기록
+     * @param messages 기록할 메시지 - 기존 보관 파일보다 PK 가 커야 함
+     */
+    public synchronized void write(List<ArchivedMessage> messages) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        long minId = messages.stream().mapToLong(ArchivedMessage::id).min().orElseThrow();
+        long maxId = messages.stream().mapToLong(ArchivedMessage::id).max().orElseThrow();
+        if (minId <= maxArchivedId()) {
+            throw new IllegalArgumentException("이미 보관된 범위의 메시지입니다: minId=" + minId);
+        }
+
+        Path path = dir.resolve(String.format("%020d-%020d%s", minId, maxId, FILE_SUFFIX));
+        ArchiveFile file = ArchiveFile.write(path, messages, blockBytes);
+
+        List<ArchiveFile> updated = new ArrayList<>(files);
+        updated.add(file);
+        files = List.copyOf(updated);
+    }
+
+    /**
+     * 채팅방의 보관 메시지 중 before(PK) 미만을 최신순으로 조회
+     */
+    public List<ArchivedMessage> readBefore(Long roomId, long before, int limit) {
+        List<ArchiveFile> current = files;
+        if (current.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<ArchivedMessage> result = new ArrayList<>(limit);
+            for (int i = current.size() - 1; i >= 0 && result.size() < limit; i--) {
+                ArchiveFile file = current.get(i);
+                if (file.minId() < before) {
+                    file.readBefore(roomId, before, limit - result.size(), result);
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            log.error("[ MessageArchive ] 보관 메시지 조회 실패: roomId={}, before={}", roomId, before, e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 채팅방의 보관 메시지 중 after(PK) 초과를 오래된 순으로 조회
+     */
+    public List<ArchivedMessage> readAfter(Long roomId, long after, int limit) {
+        List<ArchiveFile> current = files;
+        if (current.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<ArchivedMessage> result = new ArrayList<>(limit);
+            for (int i = 0; i < current.size() && result.size() < limit; i++) {
+                ArchiveFile file = current.get(i);
+                if (file.maxId() > after) {
+                    file.readAfter(roomId, after, limit - result.size(), result);
+                }
+            }
+            return result;
+        } catch (IOException e) {
+            log.error("[ MessageArchive ] 보관 메시지 조회 실패: roomId={}, after={}", roomId, after, e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 채팅방의 보관 메시지 중 메시지 ID 가 일치하는 메시지 조회 (읽음 처리, 동기화에서 chat_messages 에 없는 메시지용)
+     * - 최신 블록부터 읽고 모두 찾으면 중단, 채팅방당 최대 lookup-max-blocks 개 블록까지만 읽음
+     *   (존재하지 않는 메시지 ID 로 채팅방의 전체 보관 이력을 읽지 않도록 제한)
+     * @return 메시지 ID -> 보관 메시지
+     */
+    public Map<String, ArchivedMessage> findByMessageIds(Long roomId, Collection<String> messageIds) {
+        List<ArchiveFile> current = files;
+        if (current.isEmpty() || messageIds.isEmpty()) {
+            return Map.of();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Set<String> targets = new HashSet<>(messageIds);
+            Map<String, ArchivedMessage> result = new HashMap<>();
+            int remainingBlocks = lookupMaxBlocks;
+            for (int i = current.size() - 1; i >= 0 && remainingBlocks > 0 && result.size() < targets.size(); i--) {
+                remainingBlocks -= current.get(i).findByMessageIds(roomId, targets, remainingBlocks, result);
+            }
+            return result;
+        } catch (IOException e) {
+            log.error("[ MessageArchive ] 보관 메시지 조회 실패: roomId={}, messageIds={}", roomId, messageIds.size(), e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 채팅방의 가장 최근 보관 메시지 조회 (chat_messages 에 메시지가 없는 채팅방의 목록 미리보기용)
+     */
+    public Optional<ArchivedMessage> findLatest(Long roomId) {
+        List<ArchivedMessage> latest = readBefore(roomId, Long.MAX_VALUE, 1);
+        return latest.isEmpty() ? Optional.empty() : Optional.of(latest.get(0));
+    }
+
+    /**
+     * 채팅방의 모든 보관 메시지를 오래된 순으로 전달 (내보내기용)
+     * @return 마지막으로 전달한 메시지 PK (없으면 0)
+     */
+    public long forEach(Long roomId, MessageVisitor visitor) throws IOException {
+        long lastId = 0;
+        for (ArchiveFile file : files) {
+            long[] last = {lastId};
+            file.forEach(roomId, message -> {
+                visitor.visit(message);
+                last[0] = message.id();
+            });
+            lastId = last[0];
+        }
+        return lastId;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (ArchiveFile file : files) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                log.warn("[ MessageArchive ] 보관 파일 닫기 실패: {}", file.path());
+            }
+        }
+        files = List.of();
+    }
+
+    private double totalBytes() {
+        long total = 0;
+        for (ArchiveFile file : files) {
+            total += file.sizeBytes();
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    public interface MessageVisitor {
+        void visit(ArchivedMessage message) throws IOException;
+    }
+}
@@ -0,0 +1,366 @@
+package com.study.chattingstudy.domain.chat.store.partition;
+
+import com.study.chattingstudy.domain.chat.repository.ChatDayBucketRepository;
+import com.study.chattingstudy.domain.chat.store.archive.MessageArchive;
+import com.study.chattingstudy.domain.chat.sync.ChatChangeLogRetention;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * chat_messages 월별 파티션 관리 (chat.partition.enabled=true, MySQL 전용)
+ * - RANGE COLUMNS(created_at) 월별 파티션을 미리 months-ahead 개월치 만들어 두고, 남는 행은 pmax 로 받음
+ *   (새 파티션은 비어 있는 pmax 를 나누는 방식이라 데이터 복사가 없음)
+ * - 보관 기간(retention-months)이 지난 파티션은 DROP PARTITION 으로 한 번에 삭제
+ *   (메시지 보관 작업이 켜져 있으면 보관 파일로 옮겨진 파티션만 삭제하고,
+ *   꺼져 있으면 메시지가 사라진 기간의 일자 버킷도 함께 삭제하며, 그 기간의 동기화 변경 로그가
+ *   만료 처리된 뒤에만 삭제 - 만료 전이면 변경 로그 정리 작업에 만료를 요청하고 다음 실행에서 삭제)
+ * - PK 와 생성 시각이 함께 증가하므로 파티션별 최소 PK 를 기록해 두고,
+ *   PK 커서 조건을 생성 시각 범위로 바꿔 조회 쿼리가 파티션 프루닝을 받을 수 있게 함
+ * - 커서가 없는 조회도 생성 시각 하한을 붙여 프루닝 (최신 메시지/메시지 ID 조회는 최근 파티션에서 먼저 찾음)
+ * - 안 읽은 수 집계와 전체 읽음 처리는 기본적으로 범위를 좁히지 않음
+ *   (unread-months 를 지정한 경우에만 그 기간 이내 메시지만 대상 - 그 이전 메시지는 읽은 것으로 간주)
+ * - 기존 테이블의 파티션 전환(테이블 재작성)은 여기서 하지 않고 ChatMessagePartitionMigration 으로 1회 실행
+ * - 여러 노드 중 한 노드만 DDL 을 실행하도록 Redis 잠금 사용
+ */
+@Slf4j
+@Component
+public class ChatMessagePartitionManager {
+
+    static final String TABLE = "chat_messages";
+    static final String LOCK_KEY = "chat:partition:lock";
+    static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'uuuuMM");
+    private static final int DAY_BUCKET_DELETE_CHUNK = 1000;
+
+    // 파티션 관리 비활성 시 조회 조건에 사용하는 범위 (DATETIME 범위 안의 값)
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Value("${chat.partition.enabled:false}")
+    private boolean enabled;
+
+    // 현재 달 이후로 미리 만들어 둘 파티션 수
+    @Value("${chat.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    // 파티션 보관 기간 (개월, 0 이면 삭제하지 않음)
+    @Value("${chat.partition.retention-months:0}")
+    private int retentionMonths;
+
+    // 최신 메시지/메시지 ID 조회 시 먼저 찾아볼 최근 파티션 수 (현재 달 포함, 0 이면 처음부터 전체 범위)
+    @Value("${chat.partition.recent-months:2}")
+    private int recentMonths;
+
+    // 안 읽은 수 집계/전체 읽음 처리 대상 기간 (현재 달 포함 개월 수, 이전 메시지는 읽은 것으로 간주)
+    // 0 이면 범위를 좁히지 않음 - 오래된 안 읽은 메시지를 읽은 것으로 간주해도 되는 경우에만 지정
+    @Value("${chat.partition.unread-months:0}")
+    private int unreadMonths;
+
+    // 노드 간 시계 차이 허용치 - PK 로 계산한 생성 시각 범위를 이만큼 넓힘
+    @Value("${chat.partition.clock-skew-ms:600000}")
+    private long clockSkewMs;
+
+    @Value("${chat.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${chat.partition.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageArchive messageArchive;
+    private final ChatDayBucketRepository chatDayBucketRepository;
+    private final ChatChangeLogRetention chatChangeLogRetention;
+    private final RedisUtil redisUtil;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter droppedPartitions;
+
+    // 파티션 관리 중 여부 (테이블이 파티션 테이블인 경우에만 true)
+    private volatile boolean managed;
+
+    // 파티션 최소 PK -> 파티션 시작 시각 (비어 있지 않은 파티션만)
+    private volatile NavigableMap<Long, LocalDateTime> boundaries = new TreeMap<>();
+
+    // 월별 파티션 수 (pmax 제외)
+    private volatile int partitionCount;
+
+    public ChatMessagePartitionManager(JdbcTemplate jdbcTemplate, MessageArchive messageArchive,
+                                       ChatDayBucketRepository chatDayBucketRepository,
+                                       ChatChangeLogRetention chatChangeLogRetention,
+                                       RedisUtil redisUtil, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.messageArchive = messageArchive;
+        this.chatDayBucketRepository = chatDayBucketRepository;
+        this.chatChangeLogRetention = chatChangeLogRetention;
+        this.redisUtil = redisUtil;
+
+        this.droppedPartitions = Counter.builder("chat.partition.dropped")
+                .description("보관 기간이 지나 삭제한 chat_messages 파티션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.partition.count", this, manager -> manager.partitionCount)
+                .description("chat_messages 월별 파티션 수 (pmax 제외)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * PK 가 afterId 보다 큰 메시지의 생성 시각 하한 (afterId 가 속한 파티션의 시작 시각)
+     */
+    public LocalDateTime createdAtFrom(long afterId) {
+        if (!managed) {
+            return MIN_TIME;
+        }
+        Map.Entry<Long, LocalDateTime> partition = boundaries.floorEntry(afterId);
+        return partition == null ? MIN_TIME : partition.getValue().minus(Duration.ofMillis(clockSkewMs));
+    }
+
+    /**
+     * PK 가 beforeId 보다 작은 메시지의 생성 시각 상한 (beforeId 가 속한 파티션의 끝 시각, 이 시각 미만)
+     */
+    public LocalDateTime createdAtUntil(long beforeId) {
+        if (!managed) {
+            return MAX_TIME;
+        }
+        Map.Entry<Long, LocalDateTime> partition = boundaries.floorEntry(beforeId);
+        if (partition == null || boundaries.higherKey(partition.getKey()) == null) {
+            // 가장 최근 파티션에 속한 커서 - 이후 파티션은 비어 있으므로 범위를 좁히지 않음
+            return MAX_TIME;
+        }
+        return partition.getValue().plusMonths(1).plus(Duration.ofMillis(clockSkewMs));
+    }
+
+    /**
+     * 파티션 관리 중 여부 (false 이면 생성 시각 범위 메서드는 범위를 좁히지 않음)
+     */
+    public boolean isManaged() {
+        return managed;
+    }
+
+    /**
+     * 최근 파티션의 생성 시각 하한 - 최신 메시지/메시지 ID 조회는 이 범위에서 먼저 찾고, 없으면 earliest() 부터 다시 찾음
+     */
+    public LocalDateTime recentFrom() {
+        return monthsFrom(recentMonths);
+    }
+
+    /**
+     * 안 읽은 수 집계/전체 읽음 처리의 생성 시각 하한 (unread-months 가 0 이면 범위를 좁히지 않음)
+     */
+    public LocalDateTime unreadFrom() {
+        return monthsFrom(unreadMonths);
+    }
+
+    /**
+     * 범위를 좁히지 않는 생성 시각 하한
+     */
+    public LocalDateTime earliest() {
+        return MIN_TIME;
+    }
+
+    // 현재 달을 포함한 최근 months 개월의 시작 시각 (months 가 0 이하이면 범위를 좁히지 않음)
+    private LocalDateTime monthsFrom(int months) {
+        if (!managed || months <= 0) {
+            return MIN_TIME;
+        }
+        return YearMonth.now().minusMonths(months - 1).atDay(1).atStartOfDay()
+                .minus(Duration.ofMillis(clockSkewMs));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            maintain();
+        }
+    }
+
+    /**
+     * 파티션 유지 관리 - 다가올 달의 파티션 생성, 보관 기간이 지난 파티션 삭제, PK 경계 갱신
+     */
+    @Scheduled(cron = "${chat.partition.cron:0 10 0 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        if (redisUtil.saveIfAbsent(LOCK_KEY, nodeId, lockTtlMs, TimeUnit.MILLISECONDS)) {
+            try {
+                if (ensurePartitioned()) {
+                    createUpcomingPartitions();
+                    dropExpiredPartitions();
+                }
+            } catch (RuntimeException e) {
+                log.error("[ ChatMessagePartitionManager ] 파티션 관리 실패", e);
+            } finally {
+                redisUtil.deleteIfEquals(LOCK_KEY, nodeId);
+            }
+        }
+
+        // 잠금을 얻지 못한 노드도 PK 경계는 갱신
+        refreshBoundaries();
+    }
+
+    // 파티션 테이블인지 확인 (전환은 ChatMessagePartitionMigration 으로 1회 실행)
+    private boolean ensurePartitioned() {
+        if (!listPartitions().isEmpty()) {
+            return true;
+        }
+        log.warn("[ ChatMessagePartitionManager ] {} 가 파티션 테이블이 아닙니다. " +
+                "ChatMessagePartitionMigration (./gradlew partitionMigration) 으로 파티션 전환을 1회 실행해야 합니다.", TABLE);
+        return false;
+    }
+
+    // 현재 달부터 months-ahead 개월 뒤까지 없는 파티션을 pmax 에서 분리
+    private void createUpcomingPartitions() {
+        List<Partition> existing = listPartitions();
+        YearMonth latest = existing.stream()
+                .map(Partition::month)
+                .filter(Objects::nonNull)
+                .reduce((a, b) -> b)
+                .orElse(YearMonth.now().minusMonths(1));
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = latest.plusMonths(1); !month.isAfter(YearMonth.now().plusMonths(monthsAhead));
+             month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION +
+                " INTO (" + String.join(", ", definitions) + ")");
+        log.info("[ ChatMessagePartitionManager ] 파티션 추가: {}개, 마지막={}",
+                definitions.size() - 1, YearMonth.now().plusMonths(monthsAhead));
+    }
+
+    // 보관 기간이 지난 파티션 삭제 (행 단위 삭제 없이 파티션 단위로 제거)
+    private void dropExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        if (archiveEnabled) {
+            // 다른 노드가 만든 보관 파일까지 반영
+            messageArchive.refresh();
+        }
+        for (Partition partition : listPartitions()) {
+            if (partition.month() == null || !partition.month().isBefore(cutoff)) {
+                continue;
+            }
+
+            LocalDate end = partition.month().plusMonths(1).atDay(1);
+            if (archiveEnabled) {
+                // 보관 파일로 옮겨지지 않은 메시지가 남아 있으면 삭제하지 않음
+                Long maxId = jdbcTemplate.queryForObject(
+                        "SELECT MAX(id) FROM " + TABLE + " PARTITION (" + partition.name() + ")", Long.class);
+                if (maxId != null && maxId > messageArchive.maxArchivedId()) {
+                    log.info("[ ChatMessagePartitionManager ] 보관 전 파티션 삭제 보류: {}", partition.name());
+                    break;
+                }
+            } else if (!chatChangeLogRetention.expireBefore(end.atStartOfDay())) {
+                // 삭제할 메시지를 가리키는 변경 로그가 아직 만료되지 않았으면 (동기화가 없는 메시지를 받지 않도록)
+                // 만료만 요청하고 다음 실행에서 삭제
+                log.info("[ ChatMessagePartitionManager ] 변경 로그 만료 전 파티션 삭제 보류: {}", partition.name());
+                break;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+            droppedPartitions.increment();
+            log.info("[ ChatMessagePartitionManager ] 파티션 삭제: {}", partition.name());
+
+            if (!archiveEnabled) {
+                // 보관 파일에도 없는 메시지이므로 해당 기간의 일자 버킷 삭제 (보관된 메시지는 계속 조회되므로 유지)
+                deleteDayBuckets(end);
+            }
+        }
+    }
+
+    private void deleteDayBuckets(LocalDate before) {
+        int deleted;
+        int total = 0;
+        do {
+            deleted = chatDayBucketRepository.deleteBeforeChunk(before, DAY_BUCKET_DELETE_CHUNK);
+            total += deleted;
+        } while (deleted == DAY_BUCKET_DELETE_CHUNK);
+        log.info("[ ChatMessagePartitionManager ] 일자 버킷 삭제: before={}, count={}", before, total);
+    }
+
+    // 파티션별 최소 PK 갱신 (PK 첫 컬럼이 id 라 파티션마다 인덱스 한쪽 끝만 읽음)
+    private void refreshBoundaries() {
+        try {
+            List<Partition> partitions = listPartitions();
+            NavigableMap<Long, LocalDateTime> ids = new TreeMap<>();
+            int count = 0;
+            for (Partition partition : partitions) {
+                if (partition.month() == null) {
+                    continue;
+                }
+                count++;
+                LocalDateTime start = partition.month().atDay(1).atStartOfDay();
+
+                Long minId = jdbcTemplate.queryForObject(
+                        "SELECT MIN(id) FROM " + TABLE + " PARTITION (" + partition.name() + ")", Long.class);
+                if (minId != null) {
+                    ids.put(minId, start);
+                }
+            }
+
+            boundaries = ids;
+            partitionCount = count;
+            managed = !partitions.isEmpty();
+        } catch (RuntimeException e) {
+            // 경계를 모르면 조회 범위를 좁히지 않음
+            managed = false;
+            log.warn("[ ChatMessagePartitionManager ] 파티션 경계 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    // 파티션 목록 (순서대로, 파티션 테이블이 아니면 빈 목록)
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1)), TABLE);
+    }
+
+    // pYYYYMM 파티션: 해당 달의 다음 달 1일 미만
+    static String partitionDefinition(YearMonth month) {
+        LocalDate end = month.plusMonths(1).atDay(1);
+        return "PARTITION " + month.format(NAME_FORMAT) + " VALUES LESS THAN ('" + end + " 00:00:00')";
+    }
+
+    private record Partition(String name) {
+
+        // 월별 파티션의 달 (pmax 등 월별 파티션이 아니면 null)
+        YearMonth month() {
+            if (!name.matches("p\\d{6}")) {
+                return null;
+            }
+            return YearMonth.parse(name, NAME_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.study.chattingstudy.domain.chat.store.partition;
+
+import com.study.chattingstudy.global.config.RedisConfig;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionManager.LOCK_KEY;
+import static com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionManager.MAX_PARTITION;
+import static com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionManager.TABLE;
+
+/**
+ * chat_messages 월별 파티션 전환 (1회 실행하는 마이그레이션, 별도 실행 진입점)
+ * - 서비스 애플리케이션 컨텍스트가 아니라 DataSource/JdbcTemplate/Redis 잠금만 있는 컨텍스트로 실행
+ *   (웹 서버, STOMP, 아카이브/보관 기간/@Scheduled 작업이 뜨지 않음)
+ * - @Component 가 아니므로 서비스 노드의 컴포넌트 스캔에 포함되지 않음
+ *   예: ./gradlew partitionMigration
+ *       java -cp app.jar -Dloader.main=com.study.chattingstudy.domain.chat.store.partition.ChatMessagePartitionMigration
+ *            org.springframework.boot.loader.launch.PropertiesLauncher
+ * - 테이블 재작성이므로 점검 시간에 실행하고, 전환이 끝난 뒤 chat.partition.enabled=true 로 서비스 노드를 띄움
+ * - 외래 키와 message_id 유니크 키 제거, PK 에 created_at 추가 (파티션 컬럼은 모든 유니크 키에 포함되어야 함)
+ * - 가장 오래된 메시지의 달부터 months-ahead 개월 뒤까지 파티션 생성
+ * - 이미 파티션 테이블이면 아무것도 하지 않음, 파티션 유지 관리와 같은 Redis 잠금 사용
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Import({RedisConfig.class, RedisUtil.class})
+@ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class, DataSourceAutoConfiguration.class,
+        JdbcTemplateAutoConfiguration.class})
+public class ChatMessagePartitionMigration {
+
+    @Value("${chat.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${chat.partition.lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisUtil redisUtil;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ChatMessagePartitionMigration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args);
+        int exitCode = context.getBean(ChatMessagePartitionMigration.class).migrate() ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private boolean migrate() {
+        if (!redisUtil.saveIfAbsent(LOCK_KEY, nodeId, lockTtlMs, TimeUnit.MILLISECONDS)) {
+            log.error("[ ChatMessagePartitionMigration ] 다른 노드가 파티션 작업 중입니다. 잠시 후 다시 실행하세요.");
+            return false;
+        }
+        try {
+            if (isPartitioned()) {
+                log.info("[ ChatMessagePartitionMigration ] {} 는 이미 파티션 테이블입니다.", TABLE);
+                return true;
+            }
+            convert();
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[ ChatMessagePartitionMigration ] {} 파티션 전환 실패", TABLE, e);
+            return false;
+        } finally {
+            redisUtil.deleteIfEquals(LOCK_KEY, nodeId);
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer partitions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, TABLE);
+        return partitions != null && partitions > 0;
+    }
+
+    private void convert() {
+        log.info("[ ChatMessagePartitionMigration ] {} 파티션 전환 시작", TABLE);
+
+        for (String foreignKey : jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'",
+                String.class, TABLE)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+
+        for (String uniqueKey : jdbcTemplate.queryForList(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'UNIQUE'",
+                String.class, TABLE)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX `" + uniqueKey + "`");
+        }
+        Integer messageIdIndexes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = 'message_id'",
+                Integer.class, TABLE);
+        if (messageIdIndexes == null || messageIdIndexes == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD INDEX idx_chat_messages_message_id (message_id)");
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + TABLE, Timestamp.class);
+        YearMonth first = oldest == null ? YearMonth.now() : YearMonth.from(oldest.toLocalDateTime());
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+
+        StringJoiner partitions = new StringJoiner(", ");
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            partitions.add(ChatMessagePartitionManager.partitionDefinition(month));
+        }
+        partitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at), " +
+                "PARTITION BY RANGE COLUMNS(created_at) (" + partitions + ")");
+        log.info("[ ChatMessagePartitionMigration ] {} 파티션 전환 완료: {} ~ {}", TABLE, first, last);
+    }
+}
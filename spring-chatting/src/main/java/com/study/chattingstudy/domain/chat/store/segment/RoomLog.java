@@ -0,0 +1,324 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 하나의 추가 전용(append-only) 로그
+ * - 순번(offset)은 1부터 빈틈없이 증가하므로 [from, to) 범위를 바로 계산할 수 있음
+ * - 활성 세그먼트가 크기/시간 기준을 넘으면 봉인하고 새 세그먼트로 교체(roll)
+ * - 작은 봉인 세그먼트는 백그라운드에서 하나로 병합(compact)하여 파일/매핑 수를 줄임
+ * 추가와 세그먼트 목록 변경은 이 객체의 잠금으로 직렬화하고, 읽기는 목록 스냅샷으로 잠금 없이 수행
+ */
+@Slf4j
+final class RoomLog implements Closeable {
+
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private final Path dir;
+    private final SegmentStoreConfig config;
+
+    // 순번 오름차순, 마지막이 활성 세그먼트
+    private volatile List<Segment> segments;
+
+    // 병합으로 교체된 세그먼트 - 진행 중인 읽기가 끝나도록 다음 병합 때 닫음
+    private final List<Segment> retired = new ArrayList<>();
+
+    private long nextOffset;
+    private volatile long lastAccessAt = System.currentTimeMillis();
+
+    // 이 로그를 사용 중인 요청 수 - 0 일 때만 닫을 수 있음 (증가/닫기 판단은 저장소의 채팅방 맵 잠금 안에서 수행)
+    private final AtomicInteger references = new AtomicInteger();
+
+    private RoomLog(Path dir, SegmentStoreConfig config, List<Segment> segments, long nextOffset) {
+        this.dir = dir;
+        this.config = config;
+        this.segments = segments;
+        this.nextOffset = nextOffset;
+    }
+
+    /**
+     * 채팅방 로그 열기 (없으면 생성)
+     * - 병합 도중 종료되어 남은 임시 파일은 삭제
+     * - 병합 결과와 겹치는(이미 병합된) 세그먼트는 삭제
+     */
+    static RoomLog open(Path dir, SegmentStoreConfig config) throws IOException {
+        Files.createDirectories(dir);
+
+        List<Path> logFiles;
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> all = files.toList();
+            for (Path path : all) {
+                if (path.getFileName().toString().endsWith(COMPACTING_SUFFIX)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            logFiles = all.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(Segment.LOG_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < logFiles.size(); i++) {
+            boolean active = i == logFiles.size() - 1;
+            Segment segment = Segment.open(logFiles.get(i), !active, config.indexIntervalBytes());
+
+            if (!segments.isEmpty() && segment.baseOffset() <= segments.get(segments.size() - 1).lastOffset()) {
+                log.warn("[ RoomLog ] 이미 병합된 세그먼트 삭제: {}", segment.logPath());
+                segment.delete();
+                continue;
+            }
+            segments.add(segment);
+        }
+
+        long nextOffset = segments.isEmpty() ? 1 : segments.get(segments.size() - 1).lastOffset() + 1;
+
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(dir, nextOffset, config.indexIntervalBytes()));
+        }
+
+        return new RoomLog(dir, config, segments, nextOffset);
+    }
+
+    // 보관 중인 가장 오래된 순번
+    long firstOffset() {
+        return segments.get(0).baseOffset();
+    }
+
+    synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    long lastAccessAt() {
+        return lastAccessAt;
+    }
+
+    void retain() {
+        references.incrementAndGet();
+    }
+
+    void release() {
+        references.decrementAndGet();
+    }
+
+    boolean inUse() {
+        return references.get() > 0;
+    }
+
+    /**
+     * 레코드 추가
+     * @param messageIdFactory 부여된 순번으로 메시지 ID 생성
+     * @return 부여된 순번이 포함된 레코드
+     */
+    synchronized SegmentRecord append(long createdAtMillis, long senderId, String senderUsername,
+                                      LongFunction<String> messageIdFactory, String content) throws IOException {
+        lastAccessAt = System.currentTimeMillis();
+        maybeRoll(lastAccessAt);
+
+        SegmentRecord record = new SegmentRecord(nextOffset, createdAtMillis, senderId, senderUsername,
+                messageIdFactory.apply(nextOffset), content);
+        active().append(record.encode(), record.offset());
+        nextOffset++;
+        return record;
+    }
+
+    /**
+     * [fromOffset, toOffset) 범위의 레코드 조회 (순번 오름차순)
+     */
+    List<SegmentRecord> read(long fromOffset, long toOffset) throws IOException {
+        lastAccessAt = System.currentTimeMillis();
+
+        List<SegmentRecord> result = new ArrayList<>((int) Math.max(0, Math.min(toOffset - fromOffset, 1024)));
+        if (fromOffset >= toOffset) {
+            return result;
+        }
+
+        List<Segment> snapshot = segments;
+        int start = findSegment(snapshot, fromOffset);
+
+        for (int i = start; i < snapshot.size(); i++) {
+            Segment segment = snapshot.get(i);
+            if (segment.baseOffset() >= toOffset) {
+                break;
+            }
+
+            // 활성 세그먼트의 크기는 읽기 시작 시점 기준 (이후 추가된 레코드는 제외)
+            long endPosition = segment.size();
+            long startPosition = i == start ? segment.lookupPosition(fromOffset) : 0;
+
+            boolean[] done = {false};
+            segment.scan(startPosition, endPosition, (buffer, recordStart) -> {
+                long offset = SegmentRecord.peekOffset(buffer, recordStart);
+                if (offset >= toOffset) {
+                    done[0] = true;
+                    return false;
+                }
+                if (offset >= fromOffset) {
+                    result.add(SegmentRecord.decode(buffer, recordStart));
+                }
+                return true;
+            });
+
+            if (done[0]) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    synchronized void flush() throws IOException {
+        active().flush();
+    }
+
+    /**
+     * 작은 봉인 세그먼트 병합
+     * - 인접한 봉인 세그먼트 중 compactBelowBytes 보다 작은 것들을 segmentBytes 이내로 묶어 하나로 합침
+     * - 병합 결과는 첫 세그먼트 파일을 원자적으로 교체하고, 나머지 파일은 삭제
+     */
+    void compact() throws IOException {
+        closeRetired();
+
+        List<Segment> run = findCompactionRun(segments);
+        if (run.size() < 2) {
+            return;
+        }
+
+        Segment first = run.get(0);
+        Path target = first.logPath();
+        Path temp = target.resolveSibling(target.getFileName() + COMPACTING_SUFFIX);
+
+        // 봉인 세그먼트는 변경되지 않으므로 잠금 없이 복사
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            for (Segment segment : run) {
+                try (FileChannel in = FileChannel.open(segment.logPath(), StandardOpenOption.READ)) {
+                    long transferred = 0;
+                    long size = segment.size();
+                    while (transferred < size) {
+                        transferred += in.transferTo(transferred, size - transferred, out);
+                    }
+                }
+            }
+            out.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Segment merged = Segment.open(target, true, config.indexIntervalBytes());
+
+        synchronized (this) {
+            List<Segment> updated = new ArrayList<>(segments);
+            int idx = updated.indexOf(first);
+            updated.subList(idx, idx + run.size()).clear();
+            updated.add(idx, merged);
+            segments = updated;
+        }
+
+        // 첫 세그먼트 파일은 병합 결과로 교체되었으므로 나머지만 삭제
+        for (int i = 1; i < run.size(); i++) {
+            run.get(i).deleteFiles();
+        }
+        synchronized (retired) {
+            retired.addAll(run);
+        }
+
+        log.info("[ RoomLog ] 세그먼트 병합 완료: dir={}, segments={}, baseOffset={}", dir, run.size(), merged.baseOffset());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        Segment active = active();
+        active.flush();
+        for (Segment segment : segments) {
+            segment.close();
+        }
+        closeRetired();
+    }
+
+    private Segment active() {
+        List<Segment> snapshot = segments;
+        return snapshot.get(snapshot.size() - 1);
+    }
+
+    // 활성 세그먼트가 크기 또는 시간 기준을 넘으면 봉인하고 새 세그먼트 생성
+    private void maybeRoll(long now) throws IOException {
+        Segment active = active();
+        boolean full = active.size() >= config.segmentBytes();
+        boolean old = active.size() > 0 && now - active.createdAtMillis() >= config.segmentMs();
+        if (!full && !old) {
+            return;
+        }
+
+        active.seal();
+
+        List<Segment> updated = new ArrayList<>(segments);
+        updated.add(Segment.create(dir, nextOffset, config.indexIntervalBytes()));
+        segments = updated;
+    }
+
+    private List<Segment> findCompactionRun(List<Segment> snapshot) {
+        List<Segment> run = new ArrayList<>();
+        long runBytes = 0;
+
+        // 마지막(활성) 세그먼트는 제외
+        for (int i = 0; i < snapshot.size() - 1; i++) {
+            Segment segment = snapshot.get(i);
+            boolean small = segment.size() < config.compactBelowBytes();
+            if (small && runBytes + segment.size() <= config.segmentBytes()) {
+                run.add(segment);
+                runBytes += segment.size();
+                continue;
+            }
+            if (run.size() >= 2) {
+                return run;
+            }
+            run = new ArrayList<>();
+            runBytes = 0;
+            if (small) {
+                run.add(segment);
+                runBytes = segment.size();
+            }
+        }
+        return run;
+    }
+
+    // 순번을 포함하는 세그먼트 위치 (baseOffset 기준 floor)
+    private int findSegment(List<Segment> snapshot, long offset) {
+        int low = 0;
+        int high = snapshot.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (snapshot.get(mid).baseOffset() <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void closeRetired() {
+        synchronized (retired) {
+            for (Segment segment : retired) {
+                try {
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("[ RoomLog ] 병합된 세그먼트 닫기 실패: {}", segment.logPath());
+                }
+            }
+            retired.clear();
+        }
+    }
+}
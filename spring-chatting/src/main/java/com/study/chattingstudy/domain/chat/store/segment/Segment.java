@@ -0,0 +1,330 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 채팅방 로그의 세그먼트 파일 하나 (baseOffset 부터 시작하는 연속된 레코드)
+ * - 활성 세그먼트: 끝에만 추가, 읽기는 FileChannel 위치 지정 읽기
+ * - 봉인(sealed) 세그먼트: 변경되지 않으며 메모리 매핑(mmap)으로 읽기
+ * - 희소 인덱스: indexIntervalBytes 마다 (순번, 파일 위치) 를 기록하여 범위 읽기 시작 위치를 찾음
+ * 동시성은 RoomLog 가 관리 (추가/봉인은 RoomLog 잠금 안에서만 호출)
+ */
+final class Segment implements Closeable {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".index";
+
+    // 활성 세그먼트 읽기 단위
+    private static final int READ_CHUNK_BYTES = 64 * 1024;
+
+    private final long baseOffset;
+    private final Path logPath;
+    private final FileChannel channel;
+    private final int indexIntervalBytes;
+
+    // 첫 레코드의 생성 시각 (빈 세그먼트는 세그먼트 생성 시각) - 시간 기준 봉인에 사용
+    private volatile long createdAtMillis = System.currentTimeMillis();
+
+    private long[] indexOffsets = new long[16];
+    private long[] indexPositions = new long[16];
+    private int indexSize;
+    private long lastIndexedPosition = Long.MIN_VALUE;
+
+    private volatile long size;
+    private volatile long lastOffset;
+    private volatile MappedByteBuffer mapped;
+
+    private Segment(long baseOffset, Path logPath, FileChannel channel, int indexIntervalBytes) {
+        this.baseOffset = baseOffset;
+        this.logPath = logPath;
+        this.channel = channel;
+        this.indexIntervalBytes = indexIntervalBytes;
+        this.lastOffset = baseOffset - 1;
+    }
+
+    static Path logPath(Path dir, long baseOffset) {
+        return dir.resolve(String.format("%020d", baseOffset) + LOG_SUFFIX);
+    }
+
+    static long parseBaseOffset(Path logPath) {
+        String name = logPath.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+    }
+
+    // 새 활성 세그먼트 생성
+    static Segment create(Path dir, long baseOffset, int indexIntervalBytes) throws IOException {
+        Path path = logPath(dir, baseOffset);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(baseOffset, path, channel, indexIntervalBytes);
+    }
+
+    /**
+     * 기존 세그먼트 열기
+     * - 봉인 세그먼트: 인덱스 파일이 유효하면 그대로 사용, 아니면 전체를 읽어 재생성
+     * - 활성 세그먼트: 전체를 읽어 CRC 를 검증하고 마지막의 불완전한 레코드를 잘라냄 (비정상 종료 복구)
+     */
+    static Segment open(Path logPath, boolean sealed, int indexIntervalBytes) throws IOException {
+        FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(parseBaseOffset(logPath), logPath, channel, indexIntervalBytes);
+
+        if (sealed && segment.loadIndex()) {
+            segment.map();
+        } else {
+            segment.recover(!sealed);
+            if (sealed) {
+                segment.seal();
+            }
+        }
+
+        // 다시 열어도 시간 기준 봉인이 처음부터 다시 시작되지 않도록 첫 레코드의 생성 시각으로 복원
+        if (segment.size > 0) {
+            segment.scan(0, segment.size, (buffer, recordStart) -> {
+                segment.createdAtMillis = SegmentRecord.peekCreatedAt(buffer, recordStart);
+                return false;
+            });
+        }
+        return segment;
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long lastOffset() {
+        return lastOffset;
+    }
+
+    long size() {
+        return size;
+    }
+
+    // 첫 레코드의 생성 시각 (빈 세그먼트는 세그먼트 생성 시각)
+    long createdAtMillis() {
+        return createdAtMillis;
+    }
+
+    Path logPath() {
+        return logPath;
+    }
+
+    // 레코드 추가 (RoomLog 잠금 안에서 호출)
+    void append(ByteBuffer record, long offset) throws IOException {
+        long position = size;
+        if (position == 0) {
+            createdAtMillis = SegmentRecord.peekCreatedAt(record, record.position());
+        }
+        int length = record.remaining();
+        while (record.hasRemaining()) {
+            channel.write(record, position + (length - record.remaining()));
+        }
+        addIndexEntry(offset, position);
+        lastOffset = offset;
+        size = position + length;
+    }
+
+    void flush() throws IOException {
+        channel.force(false);
+    }
+
+    // 더 이상 추가하지 않도록 봉인 - 디스크에 기록하고 인덱스 파일을 쓴 뒤 메모리 매핑
+    void seal() throws IOException {
+        channel.force(true);
+        writeIndex();
+        map();
+    }
+
+    // 대상 순번을 포함하거나 그 이전에서 시작하는 레코드의 파일 위치
+    synchronized long lookupPosition(long targetOffset) {
+        int idx = Arrays.binarySearch(indexOffsets, 0, indexSize, targetOffset);
+        if (idx >= 0) {
+            return indexPositions[idx];
+        }
+        int floor = -idx - 2;
+        return floor >= 0 ? indexPositions[floor] : 0;
+    }
+
+    /**
+     * [fromPosition, endPosition) 범위의 레코드를 순서대로 방문
+     * @param visitor false 를 반환하면 중단
+     */
+    void scan(long fromPosition, long endPosition, RecordVisitor visitor) throws IOException {
+        long position = fromPosition;
+        int chunkBytes = mapped != null ? Integer.MAX_VALUE : READ_CHUNK_BYTES;
+
+        while (position < endPosition) {
+            int windowBytes = (int) Math.min(endPosition - position, chunkBytes);
+            ByteBuffer window = window(position, windowBytes);
+
+            int consumed = 0;
+            while (window.limit() - consumed >= SegmentRecord.HEADER_BYTES) {
+                int recordSize = SegmentRecord.recordSize(window, consumed);
+                if (recordSize <= SegmentRecord.HEADER_BYTES) {
+                    throw new IOException("손상된 세그먼트 레코드: " + logPath + " @" + (position + consumed));
+                }
+                if (consumed + recordSize > window.limit()) {
+                    // 레코드가 읽기 단위보다 크면 다음 읽기 단위를 늘림
+                    chunkBytes = Math.max(chunkBytes, recordSize);
+                    break;
+                }
+                if (!visitor.visit(window, consumed)) {
+                    return;
+                }
+                consumed += recordSize;
+            }
+
+            // 범위 끝까지 읽었는데 완전한 레코드가 없으면 불완전한 레코드
+            if (consumed == 0 && windowBytes == endPosition - position) {
+                throw new IOException("불완전한 세그먼트 레코드: " + logPath + " @" + position);
+            }
+            position += consumed;
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        deleteFiles();
+    }
+
+    // 파일만 삭제 (진행 중인 읽기를 위해 채널은 열어 둠)
+    void deleteFiles() throws IOException {
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath());
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // 봉인 세그먼트는 매핑된 버퍼의 일부를 그대로, 활성 세그먼트는 힙 버퍼로 읽어서 반환
+    private ByteBuffer window(long position, int length) throws IOException {
+        MappedByteBuffer buffer = mapped;
+        if (buffer != null) {
+            return buffer.slice((int) position, length);
+        }
+
+        ByteBuffer heap = ByteBuffer.allocate(length);
+        while (heap.hasRemaining()) {
+            if (channel.read(heap, position + heap.position()) < 0) {
+                break;
+            }
+        }
+        return heap.flip();
+    }
+
+    private void map() throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private void addIndexEntry(long offset, long position) {
+        if (position - lastIndexedPosition < indexIntervalBytes) {
+            return;
+        }
+        synchronized (this) {
+            if (indexSize == indexOffsets.length) {
+                indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+                indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+            }
+            indexOffsets[indexSize] = offset;
+            indexPositions[indexSize] = position;
+            indexSize++;
+        }
+        lastIndexedPosition = position;
+    }
+
+    // 파일 전체를 읽어 인덱스/크기/마지막 순번 재구성
+    private void recover(boolean truncateInvalidTail) throws IOException {
+        long fileSize = channel.size();
+        long[] validEnd = {0};
+
+        try {
+            scan(0, fileSize, (buffer, recordStart) -> {
+                if (!SegmentRecord.isValid(buffer, recordStart)) {
+                    return false;
+                }
+                long offset = SegmentRecord.peekOffset(buffer, recordStart);
+                addIndexEntry(offset, validEnd[0]);
+                lastOffset = offset;
+                validEnd[0] += SegmentRecord.recordSize(buffer, recordStart);
+                return true;
+            });
+        } catch (IOException e) {
+            // 길이 필드가 손상된 경우 - 마지막 유효 레코드까지만 사용
+        }
+        size = validEnd[0];
+
+        if (truncateInvalidTail && validEnd[0] < fileSize) {
+            channel.truncate(validEnd[0]);
+        }
+    }
+
+    private Path indexPath() {
+        String name = logPath.getFileName().toString();
+        return logPath.resolveSibling(name.substring(0, name.length() - LOG_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+
+    // 인덱스 파일 형식: [logSize:long][lastOffset:long][entries:int]([offset:long][position:long])*
+    private void writeIndex() throws IOException {
+        Path tmp = indexPath().resolveSibling(indexPath().getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeLong(size);
+            out.writeLong(lastOffset);
+            out.writeInt(indexSize);
+            for (int i = 0; i < indexSize; i++) {
+                out.writeLong(indexOffsets[i]);
+                out.writeLong(indexPositions[i]);
+            }
+        }
+        Files.move(tmp, indexPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // 인덱스 파일이 현재 로그 파일과 일치하면 로드
+    private boolean loadIndex() throws IOException {
+        Path path = indexPath();
+        if (!Files.exists(path)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            long logSize = in.readLong();
+            if (logSize != channel.size()) {
+                return false;
+            }
+
+            long last = in.readLong();
+            int entries = in.readInt();
+            long[] offsets = new long[Math.max(entries, 16)];
+            long[] positions = new long[Math.max(entries, 16)];
+            for (int i = 0; i < entries; i++) {
+                offsets[i] = in.readLong();
+                positions[i] = in.readLong();
+            }
+
+            indexOffsets = offsets;
+            indexPositions = positions;
+            indexSize = entries;
+            size = logSize;
+            lastOffset = last;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        boolean visit(ByteBuffer buffer, int recordStart) throws IOException;
+    }
+}
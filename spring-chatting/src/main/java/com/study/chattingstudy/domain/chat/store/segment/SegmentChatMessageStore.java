@@ -0,0 +1,368 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.exception.ChatErrorCode;
+import com.study.chattingstudy.domain.chat.exception.ChatException;
+import com.study.chattingstudy.domain.chat.store.ChatMessageStore;
+import com.study.chattingstudy.domain.chat.store.StoredMessage;
+import com.study.chattingstudy.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 세그먼트 파일 기반 메시지 저장소 (chat.message-store.type=segment)
+ * - 채팅방마다 추가 전용 로그 디렉터리를 두고, 메시지마다 채팅방 내 순번(1부터)을 부여
+ * - 페이지 조회는 순번 범위 [before - limit, before) 를 희소 인덱스로 찾아 읽음 (봉인 세그먼트는 mmap)
+ * - 커서는 채팅방 내 순번, 메시지 ID 는 "{UUID}.{순번}" 형식이라 메시지 ID 조회도 순번 위치에서 바로 읽고 ID 를 비교해 검증
+ * - 요청마다 채팅방 로그의 참조 수를 올려 두고, 병합 작업은 참조가 없는 유휴 로그만 맵 잠금 안에서 닫음
+ *   (사용 중인 로그가 닫히거나 같은 디렉터리를 두 로그가 동시에 여는 경우 방지)
+ * 읽음 여부(read)는 참여자의 마지막 읽은 메시지로 관리하며 저장소에는 기록하지 않음 (항상 false 로 반환)
+ * - 안 읽은 수는 마지막 읽은 메시지 이후 다른 사용자가 보낸 메시지 수 (최근 max-unread-scan 건까지만 확인)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.message-store.type", havingValue = "segment")
+public class SegmentChatMessageStore implements ChatMessageStore {
+
+    private static final int DEFAULT_MAX_UNREAD_SCAN = 10_000;
+
+    // 범위 읽기 1회당 레코드 수 (안 읽은 수 집계, 내보내기)
+    private static final int READ_BATCH = 1_000;
+
+    private final SegmentStoreConfig config;
+    private final long roomIdleMs;
+    private final int maxUnreadScan;
+
+    // 채팅방 ID(PK) -> 열린 로그
+    private final Map<Long, RoomLog> rooms = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SegmentChatMessageStore(@Value("${chat.message-store.segment.dir:./data/message-segments}") String dir,
+                                   @Value("${chat.message-store.segment.segment-bytes:67108864}") long segmentBytes,
+                                   @Value("${chat.message-store.segment.segment-ms:86400000}") long segmentMs,
+                                   @Value("${chat.message-store.segment.index-interval-bytes:4096}") int indexIntervalBytes,
+                                   @Value("${chat.message-store.segment.room-idle-ms:600000}") long roomIdleMs,
+                                   @Value("${chat.message-store.segment.max-unread-scan:10000}") int maxUnreadScan) {
+        this(new SegmentStoreConfig(Path.of(dir), segmentBytes, segmentMs, indexIntervalBytes, segmentBytes / 4),
+                roomIdleMs, maxUnreadScan);
+    }
+
+    public SegmentChatMessageStore(SegmentStoreConfig config, long roomIdleMs) {
+        this(config, roomIdleMs, DEFAULT_MAX_UNREAD_SCAN);
+    }
+
+    public SegmentChatMessageStore(SegmentStoreConfig config, long roomIdleMs, int maxUnreadScan) {
+        if (config.segmentBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segment-bytes 는 mmap 가능한 크기(2GB) 미만이어야 합니다.");
+        }
+        this.config = config;
+        this.roomIdleMs = roomIdleMs;
+        this.maxUnreadScan = maxUnreadScan;
+    }
+
+    @Override
+    public StoredMessage append(ChatRoomMeta room, User sender, String content) {
+        try {
+            SegmentRecord record = withRoomLog(room.roomId(), roomLog -> roomLog.append(
+                    System.currentTimeMillis(), sender.getId(), sender.getUsername(),
+                    SegmentChatMessageStore::messageId, content));
+            return new StoredMessage(record.offset(), toMessageResDTO(record));
+        } catch (IOException | UncheckedIOException e) {
+            log.error("[ SegmentChatMessageStore ] 메시지 저장 실패: roomId={}", room.roomId(), e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        }
+    }
+
+    @Override
+    public ChatResDTO.MessageListResDTO findPage(ChatRoomMeta room, Long before, int limit) {
+        return read(room.roomId(), roomLog -> findPage(roomLog, before, limit));
+    }
+
+    private ChatResDTO.MessageListResDTO findPage(RoomLog roomLog, Long before, int limit) throws IOException {
+        long end = before == null ? roomLog.nextOffset() : Math.min(before, roomLog.nextOffset());
+        long from = Math.max(roomLog.firstOffset(), end - limit);
+
+        List<SegmentRecord> records = roomLog.read(from, end);
+
+        // 최신순으로 변환
+        List<ChatResDTO.MessageResDTO> messages = new ArrayList<>(records.size());
+        for (SegmentRecord record : records) {
+            messages.add(toMessageResDTO(record));
+        }
+        Collections.reverse(messages);
+
+        boolean hasMore = from > roomLog.firstOffset();
+        return ChatResDTO.MessageListResDTO.builder()
+                .messages(messages)
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? from : null)
+                .build();
+    }
+
+    @Override
+    public List<StoredMessage> findAfter(ChatRoomMeta room, long after, int limit) {
+        return read(room.roomId(), roomLog -> {
+            long from = Math.max(roomLog.firstOffset(), after + 1);
+            long end = Math.min(roomLog.nextOffset(), from + limit);
+            if (from >= end) {
+                return List.<StoredMessage>of();
+            }
+
+            List<StoredMessage> messages = new ArrayList<>();
+            for (SegmentRecord record : roomLog.read(from, end)) {
+                messages.add(new StoredMessage(record.offset(), toMessageResDTO(record)));
+            }
+            return messages;
+        });
+    }
+
+    // 읽음 여부는 참여자의 마지막 읽은 메시지로 관리하므로 메시지를 찾기만 함
+    @Override
+    public Optional<ChatResDTO.MessageResDTO> markAsRead(Long roomId, String messageId, Long readerId) {
+        return read(roomId, roomLog -> Optional.ofNullable(findRecord(roomLog, messageId)).map(this::toMessageResDTO));
+    }
+
+    // 기록할 읽음 표시가 없으므로 읽음 처리 전 안 읽은 메시지 수를 반환
+    @Override
+    public int markAllAsRead(Long roomId, Long readerId, String lastReadMessageId) {
+        return read(roomId, roomLog -> countUnread(roomLog, readerId, lastReadMessageId));
+    }
+
+    @Override
+    public Map<Long, ChatResDTO.MessageResDTO> findLatest(Collection<Long> roomIds) {
+        Map<Long, ChatResDTO.MessageResDTO> result = new HashMap<>();
+        for (Long roomId : roomIds) {
+            SegmentRecord latest = read(roomId, roomLog -> {
+                long last = roomLog.nextOffset() - 1;
+                if (last < roomLog.firstOffset()) {
+                    return null;
+                }
+                List<SegmentRecord> records = roomLog.read(last, last + 1);
+                return records.isEmpty() ? null : records.get(0);
+            });
+            if (latest != null) {
+                result.put(roomId, toMessageResDTO(latest));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Integer> countUnread(Long userId, Map<Long, String> lastReadMessageIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        lastReadMessageIds.forEach((roomId, lastReadMessageId) -> {
+            int count = read(roomId, roomLog -> countUnread(roomLog, userId, lastReadMessageId));
+            if (count > 0) {
+                result.put(roomId, count);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Map<String, ChatResDTO.MessageResDTO> findByMessageIds(
+            Map<Long, ? extends Collection<String>> messageIdsByRoomId) {
+        Map<String, ChatResDTO.MessageResDTO> result = new HashMap<>();
+        messageIdsByRoomId.forEach((roomId, messageIds) -> read(roomId, roomLog -> {
+            for (String messageId : messageIds) {
+                SegmentRecord record = findRecord(roomLog, messageId);
+                if (record != null) {
+                    result.put(messageId, toMessageResDTO(record));
+                }
+            }
+            return null;
+        }));
+        return result;
+    }
+
+    @Override
+    public long forEach(Long roomId, MessageVisitor visitor) throws IOException {
+        try {
+            return withRoomLog(roomId, roomLog -> {
+                long count = 0;
+                long end = roomLog.nextOffset();
+                for (long from = roomLog.firstOffset(); from < end; from += READ_BATCH) {
+                    for (SegmentRecord record : roomLog.read(from, Math.min(end, from + READ_BATCH))) {
+                        visitor.visit(toMessageResDTO(record));
+                        count++;
+                    }
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 메시지 ID 생성 - "{UUID}.{채팅방 내 순번}"
+     */
+    static String messageId(long offset) {
+        return UUID.randomUUID() + "." + offset;
+    }
+
+    /**
+     * 메시지 ID 의 채팅방 내 순번 (형식이 다르면 -1)
+     */
+    static long parseOffset(String messageId) {
+        if (messageId == null) {
+            return -1;
+        }
+        int separator = messageId.lastIndexOf('.');
+        if (separator < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(messageId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 메시지 ID 의 순번 위치에서 레코드를 읽고 ID 가 같은지 확인
+    private SegmentRecord findRecord(RoomLog roomLog, String messageId) throws IOException {
+        long offset = parseOffset(messageId);
+        if (offset < roomLog.firstOffset() || offset >= roomLog.nextOffset()) {
+            return null;
+        }
+        List<SegmentRecord> records = roomLog.read(offset, offset + 1);
+        return records.isEmpty() || !records.get(0).messageId().equals(messageId) ? null : records.get(0);
+    }
+
+    // 마지막 읽은 메시지 이후 다른 사용자가 보낸 메시지 수 (최근 maxUnreadScan 건까지만 확인)
+    private int countUnread(RoomLog roomLog, Long userId, String lastReadMessageId) throws IOException {
+        long end = roomLog.nextOffset();
+        long from = Math.max(roomLog.firstOffset(), parseOffset(lastReadMessageId) + 1);
+        from = Math.max(from, end - maxUnreadScan);
+
+        int count = 0;
+        for (long batchFrom = from; batchFrom < end; batchFrom += READ_BATCH) {
+            for (SegmentRecord record : roomLog.read(batchFrom, Math.min(end, batchFrom + READ_BATCH))) {
+                if (record.senderId() != userId) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    // 활성 세그먼트를 주기적으로 디스크에 기록
+    @Scheduled(fixedDelayString = "${chat.message-store.segment.flush-interval-ms:1000}")
+    public void flush() {
+        rooms.forEach((roomId, roomLog) -> {
+            try {
+                roomLog.flush();
+            } catch (IOException e) {
+                log.warn("[ SegmentChatMessageStore ] 세그먼트 flush 실패: roomId={}, reason={}", roomId, e.getMessage());
+            }
+        });
+    }
+
+    // 작은 세그먼트 병합 및 오래 사용하지 않은 채팅방 로그 닫기
+    @Scheduled(fixedDelayString = "${chat.message-store.segment.compaction-interval-ms:300000}")
+    public void compact() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((roomId, roomLog) -> {
+            try {
+                roomLog.compact();
+            } catch (IOException e) {
+                log.warn("[ SegmentChatMessageStore ] 세그먼트 병합 실패: roomId={}, reason={}", roomId, e.getMessage());
+            }
+
+            // 참조 확인과 제거를 맵 잠금 안에서 수행하므로, 닫는 동안 같은 채팅방 요청은 새 로그를 열지 않고 기다림
+            rooms.computeIfPresent(roomId, (id, current) -> {
+                if (current.inUse() || now - current.lastAccessAt() <= roomIdleMs) {
+                    return current;
+                }
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    log.warn("[ SegmentChatMessageStore ] 채팅방 로그 닫기 실패: roomId={}, reason={}", id, e.getMessage());
+                }
+                return null;
+            });
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        rooms.forEach((roomId, roomLog) -> {
+            try {
+                roomLog.close();
+            } catch (IOException e) {
+                log.warn("[ SegmentChatMessageStore ] 채팅방 로그 닫기 실패: roomId={}", roomId);
+            }
+        });
+        rooms.clear();
+    }
+
+    // 채팅방 로그의 참조 수를 올린 상태로 작업 실행 (로그를 열거나 찾는 것과 참조 증가를 맵 잠금 안에서 함께 수행)
+    private <T> T withRoomLog(Long roomId, RoomLogAction<T> action) throws IOException {
+        RoomLog roomLog = rooms.compute(roomId, (id, current) -> {
+            RoomLog opened = current;
+            if (opened == null) {
+                try {
+                    opened = RoomLog.open(config.baseDir().resolve(String.valueOf(id)), config);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            opened.retain();
+            return opened;
+        });
+
+        try {
+            return action.apply(roomLog);
+        } finally {
+            roomLog.release();
+        }
+    }
+
+    // 조회 작업 실행 - 입출력 오류는 저장소 오류로 변환
+    private <T> T read(Long roomId, RoomLogAction<T> action) {
+        try {
+            return withRoomLog(roomId, action);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("[ SegmentChatMessageStore ] 메시지 조회 실패: roomId={}", roomId, e);
+            throw new ChatException(ChatErrorCode.MESSAGE_STORE_ERROR);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RoomLogAction<T> {
+        T apply(RoomLog roomLog) throws IOException;
+    }
+
+    private ChatResDTO.MessageResDTO toMessageResDTO(SegmentRecord record) {
+        return ChatResDTO.MessageResDTO.builder()
+                .messageId(record.messageId())
+                .content(record.content())
+                .senderId(record.senderId())
+                .senderUsername(record.senderUsername())
+                .createdAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.createdAtMillis()), ZoneId.systemDefault()))
+                .read(false)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일의 메시지 레코드
+ * 형식: [length:int][crc32:int][offset:long][createdAt:long][senderId:long]
+ *      [usernameLength:short][username][messageIdLength:short][messageId][contentLength:int][content]
+ * - length 는 crc 이후 payload 의 바이트 수, crc 는 payload 의 CRC32
+ */
+record SegmentRecord(
+        long offset,            // 채팅방 내 순번 (1부터 증가)
+        long createdAtMillis,
+        long senderId,
+        String senderUsername,
+        String messageId,
+        String content
+) {
+
+    static final int HEADER_BYTES = 8;
+
+    ByteBuffer encode() {
+        byte[] username = senderUsername.getBytes(StandardCharsets.UTF_8);
+        byte[] id = messageId.getBytes(StandardCharsets.UTF_8);
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+
+        int payloadLength = 8 + 8 + 8 + 2 + username.length + 2 + id.length + 4 + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        buffer.putInt(payloadLength);
+        buffer.putInt(0); // crc 자리
+        buffer.putLong(offset);
+        buffer.putLong(createdAtMillis);
+        buffer.putLong(senderId);
+        buffer.putShort((short) username.length).put(username);
+        buffer.putShort((short) id.length).put(id);
+        buffer.putInt(body.length).put(body);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_BYTES, payloadLength);
+        buffer.putInt(4, (int) crc.getValue());
+
+        return buffer.flip();
+    }
+
+    // 레코드 전체 크기 (헤더 포함)
+    static int recordSize(ByteBuffer buffer, int recordStart) {
+        return HEADER_BYTES + buffer.getInt(recordStart);
+    }
+
+    // 내용을 해석하지 않고 순번만 조회
+    static long peekOffset(ByteBuffer buffer, int recordStart) {
+        return buffer.getLong(recordStart + HEADER_BYTES);
+    }
+
+    // 내용을 해석하지 않고 생성 시각만 조회
+    static long peekCreatedAt(ByteBuffer buffer, int recordStart) {
+        return buffer.getLong(recordStart + HEADER_BYTES + 8);
+    }
+
+    static boolean isValid(ByteBuffer buffer, int recordStart) {
+        int payloadLength = buffer.getInt(recordStart);
+        if (payloadLength <= 0 || recordStart + HEADER_BYTES + payloadLength > buffer.limit()) {
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(recordStart + HEADER_BYTES, payloadLength));
+        return (int) crc.getValue() == buffer.getInt(recordStart + 4);
+    }
+
+    static SegmentRecord decode(ByteBuffer buffer, int recordStart) {
+        int position = recordStart + HEADER_BYTES;
+
+        long offset = buffer.getLong(position);
+        long createdAtMillis = buffer.getLong(position + 8);
+        long senderId = buffer.getLong(position + 16);
+        position += 24;
+
+        int usernameLength = buffer.getShort(position) & 0xFFFF;
+        String username = readString(buffer, position + 2, usernameLength);
+        position += 2 + usernameLength;
+
+        int idLength = buffer.getShort(position) & 0xFFFF;
+        String id = readString(buffer, position + 2, idLength);
+        position += 2 + idLength;
+
+        int contentLength = buffer.getInt(position);
+        String content = readString(buffer, position + 4, contentLength);
+
+        return new SegmentRecord(offset, createdAtMillis, senderId, username, id, content);
+    }
+
+    private static String readString(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
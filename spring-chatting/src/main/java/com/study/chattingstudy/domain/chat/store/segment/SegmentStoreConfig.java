@@ -0,0 +1,20 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import java.nio.file.Path;
+
+/**
+ * 세그먼트 저장소 설정
+ * @param baseDir 채팅방별 로그 디렉터리의 상위 디렉터리
+ * @param segmentBytes 활성 세그먼트를 봉인하는 크기
+ * @param segmentMs 활성 세그먼트를 봉인하는 경과 시간 (메시지가 드문 채팅방도 주기적으로 봉인)
+ * @param indexIntervalBytes 희소 인덱스 항목 간격
+ * @param compactBelowBytes 이 크기보다 작은 봉인 세그먼트는 병합 대상
+ */
+public record SegmentStoreConfig(
+        Path baseDir,
+        long segmentBytes,
+        long segmentMs,
+        int indexIntervalBytes,
+        long compactBelowBytes
+) {
+}
@@ -0,0 +1,169 @@
+package com.study.chattingstudy.domain.chat.sync;
+
+import com.study.chattingstudy.domain.chat.repository.ChatChangeLogRepository;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동기화 변경 로그(chat_change_logs) 보관 기간 관리
+ * - 보관 기간(retention-days)이 지난 로그를 PK 순서로 나눠 삭제
+ * - 삭제 범위의 마지막 ID(만료 기준 ID)를 Redis 에 기록하고, 이보다 오래된 커서의 동기화 요청은 전체 동기화로 응답
+ * - 만료 기준 ID 는 한 번의 실행 주기가 지난 뒤에 삭제하므로, 각 노드가 로컬에 캐시한 기준 ID 가 삭제보다 항상 먼저 반영됨
+ * - 메시지 파티션 삭제 전에는 파티션 관리 작업이 expireBefore 로 그 기간의 로그 만료를 요청
+ *   (보관 기간과 관계없이 요청 시각 이전 로그도 만료 대상이 되며, 만료 기준 ID 기록은 이 작업만 수행)
+ * - 여러 노드 중 한 노드만 삭제하도록 Redis 잠금 사용
+ */
+@Slf4j
+@Component
+public class ChatChangeLogRetention {
+
+    private static final String LOCK_KEY = "chat:sync:prune-lock";
+    private static final String EXPIRED_THROUGH_KEY = "chat:sync:expired-through";
+    private static final String EXPIRE_BEFORE_KEY = "chat:sync:expire-before";
+
+    // 만료 기준 ID 로컬 캐시 시간 (삭제 주기보다 짧아야 함)
+    private static final long EXPIRED_THROUGH_CACHE_MS = 60_000;
+
+    // 변경 로그 보관 기간 (0 이면 삭제하지 않음)
+    @Value("${chat.sync.retention-days:30}")
+    private int retentionDays;
+
+    // 삭제 쿼리 1회당 행 수
+    @Value("${chat.sync.prune-chunk-size:1000}")
+    private int chunkSize;
+
+    // 1회 실행에서 실행하는 최대 삭제 쿼리 수 (남은 행은 다음 실행에서 삭제)
+    @Value("${chat.sync.prune-max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${chat.sync.prune-lock-ttl-ms:600000}")
+    private long lockTtlMs;
+
+    private final ChatChangeLogRepository chatChangeLogRepository;
+    private final RedisUtil redisUtil;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter prunedLogs;
+
+    // 만료 기준 ID 캐시 (이 ID 이하의 로그는 삭제되었거나 삭제 예정)
+    private volatile long expiredThroughId;
+    private volatile long expiredThroughLoadedAt;
+
+    public ChatChangeLogRetention(ChatChangeLogRepository chatChangeLogRepository, RedisUtil redisUtil,
+                                  MeterRegistry meterRegistry) {
+        this.chatChangeLogRepository = chatChangeLogRepository;
+        this.redisUtil = redisUtil;
+        this.prunedLogs = Counter.builder("chat.sync.change-logs.pruned")
+                .description("보관 기간이 지나 삭제한 변경 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커서 이후의 변경 로그 일부가 삭제되었을 수 있는지 확인 (true 이면 전체 동기화 필요)
+     */
+    public boolean isExpired(long cursor) {
+        return cursor < expiredThroughId();
+    }
+
+    private long expiredThroughId() {
+        long now = System.currentTimeMillis();
+        if (now - expiredThroughLoadedAt >= EXPIRED_THROUGH_CACHE_MS) {
+            try {
+                Object value = redisUtil.get(EXPIRED_THROUGH_KEY);
+                expiredThroughId = value instanceof Number number ? number.longValue() : 0L;
+            } catch (RuntimeException e) {
+                // 조회 실패 시 이전 값을 유지
+                log.warn("[ ChatChangeLogRetention ] 만료 기준 ID 조회 실패: {}", e.getMessage());
+            }
+            expiredThroughLoadedAt = now;
+        }
+        return expiredThroughId;
+    }
+
+    /**
+     * cutoff 이전 변경 로그의 만료 요청 (메시지 파티션 삭제 전 호출)
+     * - 요청 시각은 늘어나기만 하며, 다음 정리 실행에서 만료 기준 ID 로 기록됨
+     * @return cutoff 이전 로그가 모두 만료 기준 ID 이하인지 (true 이면 해당 기간 메시지를 삭제해도 됨)
+     */
+    public boolean expireBefore(LocalDateTime cutoff) {
+        long cutoffMs = cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Object requested = redisUtil.get(EXPIRE_BEFORE_KEY);
+        if (!(requested instanceof Number number) || number.longValue() < cutoffMs) {
+            redisUtil.save(EXPIRE_BEFORE_KEY, cutoffMs);
+        }
+
+        Long maxId = chatChangeLogRepository.findMaxIdBefore(cutoff);
+        Object published = redisUtil.get(EXPIRED_THROUGH_KEY);
+        long expiredThrough = published instanceof Number number ? number.longValue() : 0L;
+        return maxId == null || maxId <= expiredThrough;
+    }
+
+    /**
+     * 이전 실행에서 기록한 만료 기준 ID 까지 삭제한 뒤, 다음 실행에서 삭제할 새 기준 ID 를 기록
+     */
+    @Scheduled(fixedDelayString = "${chat.sync.prune-interval-ms:3600000}",
+            initialDelayString = "${chat.sync.prune-initial-delay-ms:120000}")
+    public void prune() {
+        Object requested = redisUtil.get(EXPIRE_BEFORE_KEY);
+        if (retentionDays <= 0 && !(requested instanceof Number)) {
+            return;
+        }
+        if (!redisUtil.saveIfAbsent(LOCK_KEY, nodeId, lockTtlMs, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+
+        try {
+            Object published = redisUtil.get(EXPIRED_THROUGH_KEY);
+            long deleteThrough = published instanceof Number number ? number.longValue() : 0L;
+
+            int deleted = 0;
+            if (deleteThrough > 0) {
+                for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                    int count = chatChangeLogRepository.deleteExpiredChunk(deleteThrough, chunkSize);
+                    deleted += count;
+                    if (count < chunkSize) {
+                        break;
+                    }
+                }
+                prunedLogs.increment(deleted);
+            }
+
+            // 기준 ID 는 줄어들지 않음 (보관 기간을 늘려도 이미 삭제된 범위는 만료 상태 유지)
+            Long next = chatChangeLogRepository.findMaxIdBefore(expiryCutoff(requested));
+            if (next != null && next > deleteThrough) {
+                redisUtil.save(EXPIRED_THROUGH_KEY, next);
+            }
+
+            log.info("[ ChatChangeLogRetention ] 변경 로그 정리: deleted={}, deletedThroughId={}, nextExpiredThroughId={}",
+                    deleted, deleteThrough, next);
+        } catch (RuntimeException e) {
+            log.error("[ ChatChangeLogRetention ] 변경 로그 정리 실패", e);
+        } finally {
+            redisUtil.deleteIfEquals(LOCK_KEY, nodeId);
+        }
+    }
+
+    // 보관 기간 기준 시각과 만료 요청 시각 중 늦은 시각
+    private LocalDateTime expiryCutoff(Object requested) {
+        LocalDateTime cutoff = retentionDays > 0 ? LocalDateTime.now().minusDays(retentionDays) : LocalDateTime.MIN;
+        if (requested instanceof Number number) {
+            LocalDateTime requestedCutoff = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(number.longValue()), ZoneId.systemDefault());
+            if (requestedCutoff.isAfter(cutoff)) {
+                cutoff = requestedCutoff;
+            }
+        }
+        return cutoff;
+    }
+}
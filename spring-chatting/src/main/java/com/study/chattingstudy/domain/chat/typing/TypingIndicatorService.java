@@ -0,0 +1,191 @@
+package com.study.chattingstudy.domain.chat.typing;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.interceptor.EphemeralMessageInterceptor;
+import com.study.chattingstudy.domain.chat.service.query.ChatRoomMetaReader;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타이핑 표시 (DB/트랜잭션 없이 노드 메모리에서만 처리하는 휘발성 신호)
+ * - 사용자/채팅방별 상태를 합쳐서, 입력 중 신호는 갱신 간격(refresh)마다 최대 1번만 브로드캐스트
+ * - 중지 직후 다시 시작하는 신호는 최소 간격(min-interval) 안에서 무시
+ * - 만료 시간(ttl) 안에 갱신이 없거나 연결이 끊기면 서버가 중지 이벤트를 보냄
+ * - 채팅방 메타데이터가 캐시에 없으면 참여 여부를 확인할 수 없으므로 신호를 버림
+ * - ephemeral 헤더를 붙여 전송하여 소켓 쓰기가 밀린 구독자에게는 보내지 않음
+ */
+@Slf4j
+@Component
+public class TypingIndicatorService {
+
+    // 같은 사용자/채팅방의 입력 중 신호를 다시 브로드캐스트하는 간격
+    @Value("${chat.typing.refresh-ms:3000}")
+    private long refreshMs;
+
+    // 마지막 입력 중 신호 이후 이 시간이 지나면 자동 중지
+    @Value("${chat.typing.ttl-ms:6000}")
+    private long ttlMs;
+
+    // 사용자/채팅방별 브로드캐스트 최소 간격
+    @Value("${chat.typing.min-interval-ms:500}")
+    private long minIntervalMs;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomMetaReader chatRoomMetaReader;
+
+    // (사용자 ID, 채팅방 ID) -> 타이핑 상태
+    private final Map<TypingKey, TypingState> states = new ConcurrentHashMap<>();
+
+    private final Counter broadcastCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+
+    public TypingIndicatorService(SimpMessagingTemplate messagingTemplate,
+                                  ChatRoomMetaReader chatRoomMetaReader,
+                                  MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatRoomMetaReader = chatRoomMetaReader;
+
+        this.broadcastCounter = typingCounter(meterRegistry, "broadcast");
+        this.coalescedCounter = typingCounter(meterRegistry, "coalesced");
+        this.rejectedCounter = typingCounter(meterRegistry, "rejected");
+        Gauge.builder("chat.typing.active", states, m -> m.values().stream().filter(TypingState::typing).count())
+                .description("입력 중 상태인 사용자/채팅방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 타이핑 상태 변경 요청 처리
+     * @param typing true 면 입력 중, false 면 입력 중지
+     */
+    public void update(Long userId, String chatId, boolean typing) {
+        ChatRoomMeta meta = chatRoomMetaReader.findCachedRoomMeta(chatId).orElse(null);
+        if (meta == null || !meta.hasParticipant(userId)) {
+            rejectedCounter.increment();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] broadcast = {false};
+        states.compute(new TypingKey(userId, chatId), (key, state) -> {
+            if (typing) {
+                if (state != null && state.typing() && now - state.broadcastAt() < refreshMs) {
+                    // 이미 입력 중으로 알린 상태 - 만료 시각만 연장
+                    return new TypingState(true, state.broadcastAt(), now + ttlMs);
+                }
+                if (state != null && now - state.broadcastAt() < minIntervalMs) {
+                    return state;
+                }
+                broadcast[0] = true;
+                return new TypingState(true, now, now + ttlMs);
+            }
+
+            if (state == null || !state.typing()) {
+                return state;
+            }
+            // 중지 상태도 최소 간격 판단을 위해 만료 시각까지 보관
+            broadcast[0] = true;
+            return new TypingState(false, now, now + ttlMs);
+        });
+
+        if (broadcast[0]) {
+            broadcast(chatId, userId, typing);
+        } else {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * 만료된 입력 중 상태를 중지로 전환하고, 오래된 중지 상태는 제거
+     */
+    @Scheduled(fixedDelayString = "${chat.typing.sweep-interval-ms:1000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        List<TypingKey> stopped = new ArrayList<>();
+
+        states.forEach((key, state) -> {
+            if (state.expiresAt() > now) {
+                return;
+            }
+            if (!state.typing()) {
+                states.remove(key, state);
+            } else if (states.replace(key, state, new TypingState(false, now, now + ttlMs))) {
+                stopped.add(key);
+            }
+        });
+
+        stopped.forEach(key -> broadcast(key.chatId(), key.userId(), false));
+    }
+
+    /**
+     * 연결이 끊긴 사용자의 입력 중 상태를 즉시 중지
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!(event.getUser() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            return;
+        }
+
+        Long userId = userDetails.getUserId();
+        List<TypingKey> stopped = new ArrayList<>();
+        states.forEach((key, state) -> {
+            if (key.userId().equals(userId) && state.typing() && states.remove(key, state)) {
+                stopped.add(key);
+            }
+        });
+
+        stopped.forEach(key -> broadcast(key.chatId(), key.userId(), false));
+    }
+
+    private void broadcast(String chatId, Long userId, boolean typing) {
+        ChatResDTO.TypingEventDTO event = ChatResDTO.TypingEventDTO.builder()
+                .chatId(chatId)
+                .userId(userId)
+                .typing(typing)
+                .ttlMs(ttlMs)
+                .build();
+
+        try {
+            messagingTemplate.convertAndSend("/sub/chat/private/" + chatId + "/typing", event,
+                    Map.<String, Object>of(EphemeralMessageInterceptor.EPHEMERAL_HEADER, "true"));
+            broadcastCounter.increment();
+        } catch (RuntimeException e) {
+            log.debug("타이핑 표시 전송 실패 (무시): chatId={}, userId={}", chatId, userId, e);
+        }
+    }
+
+    private static Counter typingCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.typing.events")
+                .description("타이핑 표시 요청 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record TypingKey(Long userId, String chatId) {
+    }
+
+    /**
+     * @param typing 마지막으로 알린 상태
+     * @param broadcastAt 마지막 브로드캐스트 시각
+     * @param expiresAt 입력 중이면 자동 중지 시각, 중지 상태면 제거 시각
+     */
+    private record TypingState(boolean typing, long broadcastAt, long expiresAt) {
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -46,4 +48,13 @@ public class UserController {
         UserResDTO.UserResponseDTO resDTO = userQueryService.getUserInfo(authUser.getUserId());
         return CustomResponse.onSuccess(resDTO);
     }
+
+    @GetMapping("/presence")
+    @Operation(summary = "접속 상태 일괄 조회", description = "여러 사용자의 접속 상태(ONLINE/AWAY/OFFLINE)와 마지막 접속 시각을 한 번에 조회합니다. " +
+            "현재 사용자와 같은 채팅방에 참여 중인 사용자만 실제 상태를 반환하고, 그 외 사용자는 OFFLINE 으로 반환합니다.")
+    public CustomResponse<UserResDTO.PresenceListResDTO> getPresences(@CurrentUser AuthUser authUser,
+                                                                      @RequestParam List<Long> userIds) {
+        UserResDTO.PresenceListResDTO resDTO = userQueryService.getPresences(authUser.getUserId(), userIds);
+        return CustomResponse.onSuccess(resDTO);
+    }
 }
@@ -3,11 +3,15 @@ package com.study.chattingstudy.domain.user.converter;
 import com.study.chattingstudy.domain.user.dto.request.UserReqDTO;
 import com.study.chattingstudy.domain.user.dto.response.UserResDTO;
 import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.PresenceStatus;
 import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.presence.PresenceTracker;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserConverter {
 
@@ -38,4 +42,22 @@ public class UserConverter {
                 .username(user.getUsername())
                 .build();
     }
+
+    // Presence -> PresenceDTO (연결 중인 사용자)
+    public static UserResDTO.PresenceDTO toPresenceDTO(PresenceTracker.Presence presence) {
+        return UserResDTO.PresenceDTO.builder()
+                .userId(presence.userId())
+                .status(presence.status().name())
+                .lastSeenAt(presence.lastSeenDateTime())
+                .build();
+    }
+
+    // 연결 중이 아닌 사용자 -> PresenceDTO
+    public static UserResDTO.PresenceDTO toOfflinePresenceDTO(Long userId, LocalDateTime lastSeenAt) {
+        return UserResDTO.PresenceDTO.builder()
+                .userId(userId)
+                .status(PresenceStatus.OFFLINE.name())
+                .lastSeenAt(lastSeenAt)
+                .build();
+    }
 }
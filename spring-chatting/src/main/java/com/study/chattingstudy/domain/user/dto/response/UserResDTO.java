@@ -3,6 +3,7 @@ package com.study.chattingstudy.domain.user.dto.response;
 import lombok.Builder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class UserResDTO {
 
@@ -20,4 +21,18 @@ public class UserResDTO {
             String username
     ){
     }
+
+    @Builder
+    public record PresenceDTO(
+            Long userId,
+            String status,              // ONLINE, AWAY, OFFLINE
+            LocalDateTime lastSeenAt    // 접속 기록이 없으면 null
+    ){
+    }
+
+    @Builder
+    public record PresenceListResDTO(
+            List<PresenceDTO> presences
+    ){
+    }
 }
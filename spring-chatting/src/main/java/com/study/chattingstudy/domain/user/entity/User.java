@@ -35,4 +35,9 @@ public class User extends BaseEntity {
 
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
+
+    // 비밀번호 해시 갱신 메서드 (해시 강도 업그레이드 시 사용)
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
@@ -0,0 +1,28 @@
+package com.study.chattingstudy.domain.user.entity;
+
+import com.study.chattingstudy.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 마지막 접속 시각
+ * - 사용자 테이블과 분리하여, 주기적인 일괄 갱신이 사용자 행 잠금과 겹치지 않도록 함
+ * - PresenceTracker 가 모아둔 값을 일괄 upsert 로 반영
+ */
+@Entity
+@Table(name = "user_presence")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class UserPresence extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
@@ -0,0 +1,7 @@
+package com.study.chattingstudy.domain.user.enums;
+
+public enum PresenceStatus {
+    ONLINE,     // 연결 중이며 최근 활동 있음
+    AWAY,       // 연결 중이지만 일정 시간 활동 없음
+    OFFLINE     // 연결 없음
+}
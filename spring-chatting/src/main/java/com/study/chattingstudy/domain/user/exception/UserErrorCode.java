@@ -16,6 +16,9 @@ public enum UserErrorCode implements BaseErrorCode {
     // 이메일 인증 관련 에러
     INVALID_AUTH_CODE(HttpStatus.BAD_REQUEST, "USER400_1", "유효하지 않은 인증 코드입니다."),
 
+    // 접속 상태 조회 관련 에러
+    TOO_MANY_PRESENCE_USERS(HttpStatus.BAD_REQUEST, "USER400_2", "한 번에 조회할 수 있는 사용자 수를 초과했습니다."),
+
     // 이메일 전송 관련 에러
     EMAIL_SEND_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "USER500_0", "이메일 전송 중 오류가 발생했습니다.")
 
@@ -0,0 +1,334 @@
+package com.study.chattingstudy.domain.user.presence;
+
+import com.study.chattingstudy.domain.user.enums.PresenceStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 접속 상태(presence) 추적
+ * - CONNECT/DISCONNECT 와 STOMP heartbeat 로 노드 메모리의 상태만 갱신하고, 저장소에는 주기적으로 일괄 반영
+ * - Redis: 이 노드에 연결된 사용자의 상태를 TTL 키로 기록 (노드가 죽어도 TTL 이 지나면 오프라인)
+ *   마지막 세션이 끊기면 키를 바로 삭제하여, 받은편지함 등이 끊긴 사용자를 연결 중으로 보는 시간을 없앰
+ * - DB: 마지막 접속 시각을 일괄 upsert (연결 중인 사용자는 persist-interval 마다 1번만)
+ * - 활동(ONLINE/AWAY) 판단은 사용자가 보낸 프레임 기준이며, heartbeat 는 마지막 접속 시각만 갱신
+ */
+@Slf4j
+@Component
+public class PresenceTracker {
+
+    private static final String KEY_PREFIX = "chat:presence:";
+
+    private static final String UPSERT_SQL = "INSERT INTO user_presence (user_id, last_seen_at, created_at, updated_at) " +
+            "VALUES (?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at)), updated_at = NOW()";
+
+    // 마지막 활동 후 이 시간이 지나면 AWAY
+    @Value("${chat.presence.away-after-ms:300000}")
+    private long awayAfterMs;
+
+    // Redis 상태 키 TTL (flush 간격보다 충분히 길어야 함)
+    @Value("${chat.presence.online-ttl-ms:35000}")
+    private long onlineTtlMs;
+
+    // 연결 중인 사용자의 마지막 접속 시각을 DB 에 반영하는 간격
+    @Value("${chat.presence.persist-interval-ms:60000}")
+    private long persistIntervalMs;
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 사용자 ID -> 이 노드의 접속 상태
+    private final Map<Long, LocalPresence> users = new ConcurrentHashMap<>();
+
+    // STOMP 세션 ID -> 사용자 ID
+    private final Map<String, Long> sessionToUserId = new ConcurrentHashMap<>();
+
+    // 마지막 flush 이후 오프라인이 된 사용자 (Redis 키 삭제 대상)
+    private final Set<Long> wentOffline = ConcurrentHashMap.newKeySet();
+
+    // DB 반영 대기 중인 마지막 접속 시각 (사용자 ID -> epoch ms)
+    private final Map<Long, Long> pendingLastSeen = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+
+    public PresenceTracker(StringRedisTemplate redisTemplate, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+
+        this.flushTimer = Timer.builder("chat.presence.flush")
+                .description("접속 상태 일괄 반영 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("chat.presence.users", users, Map::size)
+                .description("이 노드에 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.presence.pending", pendingLastSeen, Map::size)
+                .description("DB 반영 대기 중인 마지막 접속 시각 수")
+                .register(meterRegistry);
+    }
+
+    // 인증된 STOMP 세션 연결
+    public void connected(String sessionId, Long userId) {
+        long now = System.currentTimeMillis();
+        sessionToUserId.put(sessionId, userId);
+        users.compute(userId, (k, presence) -> {
+            LocalPresence updated = presence == null ? new LocalPresence() : presence;
+            updated.sessionIds.add(sessionId);
+            updated.lastActiveAt = now;
+            updated.lastSeenAt = now;
+            return updated;
+        });
+        pendingLastSeen.merge(userId, now, Math::max);
+    }
+
+    /**
+     * 세션에서 프레임 수신
+     * @param userAction 사용자가 보낸 프레임이면 true, heartbeat 면 false
+     */
+    public void touch(String sessionId, boolean userAction) {
+        Long userId = sessionToUserId.get(sessionId);
+        if (userId == null) {
+            return;
+        }
+        LocalPresence presence = users.get(userId);
+        if (presence == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        presence.lastSeenAt = now;
+        if (userAction) {
+            presence.lastActiveAt = now;
+        }
+    }
+
+    /**
+     * 세션 종료 (DISCONNECT 프레임 없이 끊긴 경우도 포함)
+     * - 사용자의 마지막 세션이면 오프라인으로 전환하고 마지막 접속 시각을 반영 대기열에 추가
+     * - Redis 상태 키는 다음 flush 를 기다리지 않고 바로 삭제 (실패하면 다음 flush 에서 다시 삭제)
+     *   다른 노드에도 연결된 사용자는 그 노드의 다음 flush 까지 오프라인으로 보일 수 있으나,
+     *   그동안의 변경은 받은편지함에 중복 기록될 뿐 누락되지 않음
+     */
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        Long userId = sessionToUserId.remove(sessionId);
+        if (userId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] lastSession = {false};
+        users.computeIfPresent(userId, (k, presence) -> {
+            presence.sessionIds.remove(sessionId);
+            if (!presence.sessionIds.isEmpty()) {
+                return presence;
+            }
+            lastSession[0] = true;
+            wentOffline.add(userId);
+            pendingLastSeen.merge(userId, now, Math::max);
+            return null;
+        });
+
+        if (lastSession[0]) {
+            try {
+                redisTemplate.delete(KEY_PREFIX + userId);
+                wentOffline.remove(userId);
+            } catch (RuntimeException e) {
+                log.warn("[ PresenceTracker ] 접속 상태 삭제 실패, 다음 flush 에서 다시 시도합니다: userId={}, {}",
+                        userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이 노드의 상태 조회 (연결된 세션이 없으면 empty)
+     */
+    public Optional<Presence> findLocal(Long userId) {
+        LocalPresence presence = users.get(userId);
+        if (presence == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Presence(userId, statusOf(presence, System.currentTimeMillis()), presence.lastSeenAt));
+    }
+
+    /**
+     * 다른 노드를 포함한 연결 중 사용자의 상태 조회 (Redis, 1회 왕복)
+     * @return 사용자 ID -> 상태 (연결 중이 아닌 사용자는 포함하지 않음)
+     */
+    public Map<Long, Presence> findOnline(List<Long> userIds) {
+        Map<Long, Presence> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(userIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (RuntimeException e) {
+            log.warn("[ PresenceTracker ] 접속 상태 조회 실패: {}", e.getMessage());
+            return result;
+        }
+        if (values == null) {
+            return result;
+        }
+
+        for (int i = 0; i < userIds.size(); i++) {
+            Presence presence = decode(userIds.get(i), values.get(i));
+            if (presence != null) {
+                result.put(presence.userId(), presence);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 연결 중인 사용자만 추림 (이 노드에 연결된 사용자는 Redis 조회 생략)
+     * - 다른 노드의 상태는 flush 주기만큼 늦게 반영될 수 있음
+     */
+    public Set<Long> findConnected(Collection<Long> userIds) {
+        Set<Long> connected = new HashSet<>();
+        List<Long> remote = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (users.containsKey(userId)) {
+                connected.add(userId);
+            } else {
+                remote.add(userId);
+            }
+        }
+        connected.addAll(findOnline(remote).keySet());
+        return connected;
+    }
+
+    /**
+     * 메모리 상태를 Redis 와 DB 에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${chat.presence.flush-interval-ms:10000}")
+    public void flush() {
+        flushTimer.record(() -> {
+            long now = System.currentTimeMillis();
+            flushRedis(now);
+            flushDatabase(now);
+        });
+    }
+
+    private void flushRedis(long now) {
+        List<Long> offline = new ArrayList<>(wentOffline);
+        wentOffline.removeAll(offline);
+
+        Map<String, String> online = new HashMap<>();
+        users.forEach((userId, presence) -> online.put(KEY_PREFIX + userId, encode(presence, now)));
+        if (offline.isEmpty() && online.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                // 삭제 후 설정 - 같은 주기에 재접속한 사용자는 온라인으로 남음
+                offline.forEach(userId -> stringConnection.del(KEY_PREFIX + userId));
+                online.forEach((key, value) -> stringConnection.pSetEx(key, onlineTtlMs, value));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            wentOffline.addAll(offline);
+            log.warn("[ PresenceTracker ] Redis 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    private void flushDatabase(long now) {
+        // 연결 중인 사용자는 persist-interval 마다 마지막 접속 시각 반영
+        users.forEach((userId, presence) -> {
+            if (now - presence.persistedAt >= persistIntervalMs) {
+                presence.persistedAt = now;
+                pendingLastSeen.merge(userId, presence.lastSeenAt, Math::max);
+            }
+        });
+
+        Map<Long, Long> batch = new HashMap<>();
+        pendingLastSeen.forEach((userId, lastSeen) -> {
+            if (pendingLastSeen.remove(userId, lastSeen)) {
+                batch.put(userId, lastSeen);
+            }
+        });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> rows = new ArrayList<>(batch.entrySet());
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.getKey());
+                ps.setTimestamp(2, new Timestamp(row.getValue()));
+            });
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 반영
+            batch.forEach((userId, lastSeen) -> pendingLastSeen.merge(userId, lastSeen, Math::max));
+            log.warn("[ PresenceTracker ] 마지막 접속 시각 반영 실패: count={}, {}", rows.size(), e.getMessage());
+        }
+    }
+
+    private PresenceStatus statusOf(LocalPresence presence, long now) {
+        return now - presence.lastActiveAt >= awayAfterMs ? PresenceStatus.AWAY : PresenceStatus.ONLINE;
+    }
+
+    // Redis 값 형식: "상태:마지막 접속 시각(epoch ms)"
+    private String encode(LocalPresence presence, long now) {
+        return statusOf(presence, now).name() + ":" + presence.lastSeenAt;
+    }
+
+    private Presence decode(Long userId, String value) {
+        if (value == null) {
+            return null;
+        }
+        int idx = value.indexOf(':');
+        try {
+            return new Presence(userId, PresenceStatus.valueOf(value.substring(0, idx)),
+                    Long.parseLong(value.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            log.debug("잘못된 접속 상태 값 무시: userId={}, value={}", userId, value);
+            return null;
+        }
+    }
+
+    /**
+     * @param lastSeenAt 마지막 접속 시각 (epoch ms)
+     */
+    public record Presence(Long userId, PresenceStatus status, long lastSeenAt) {
+
+        public LocalDateTime lastSeenDateTime() {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(lastSeenAt), ZoneId.systemDefault());
+        }
+    }
+
+    private static class LocalPresence {
+
+        private final Set<String> sessionIds = ConcurrentHashMap.newKeySet();
+
+        // 사용자가 보낸 마지막 프레임 시각 (ONLINE/AWAY 판단)
+        private volatile long lastActiveAt;
+
+        // heartbeat 를 포함한 마지막 프레임 시각
+        private volatile long lastSeenAt;
+
+        // 마지막으로 DB 반영 대기열에 넣은 시각
+        private volatile long persistedAt = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,12 @@
+package com.study.chattingstudy.domain.user.repository;
+
+import com.study.chattingstudy.domain.user.entity.UserPresence;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserPresenceRepository extends JpaRepository<UserPresence, Long> {
+
+    List<UserPresence> findByUserIdIn(Collection<Long> userIds);
+}
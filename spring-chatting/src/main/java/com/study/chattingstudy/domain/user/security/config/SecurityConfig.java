@@ -1,10 +1,15 @@
 package com.study.chattingstudy.domain.user.security.config;
 
-import com.study.chattingstudy.domain.user.repository.UserRepository;
 import com.study.chattingstudy.domain.user.security.filter.CustomLoginFilter;
 import com.study.chattingstudy.domain.user.security.filter.JwtAuthorizationFilter;
+import com.study.chattingstudy.domain.user.security.login.LoginExecutor;
+import com.study.chattingstudy.domain.user.security.login.LoginThrottle;
 import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.domain.user.security.util.UserRevocationRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +22,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Arrays;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -24,7 +31,14 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JwtUtil jwtUtil;
-    private final UserRepository memberRepository;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final LoginExecutor loginExecutor;
+    private final LoginThrottle loginThrottle;
+    private final MeterRegistry meterRegistry;
+
+    // BCrypt 강도 - 올리면 다음 로그인 성공 시 기존 해시가 새 강도로 재해시됨
+    @Value("${chat.security.bcrypt-strength:10}")
+    private int bcryptStrength;
 
     //인증이 필요하지 않은 url
     private final String[] allowedUrls = {
@@ -38,6 +52,16 @@ public class SecurityConfig {
             "/api/chats/**"
     };
 
+    // 관리 포트에서 인증 없이 허용하는 actuator 엔드포인트 (관리 포트는 외부에 노출하지 않음)
+    private final String[] managementUrls = {
+            "/actuator/health",
+            "/actuator/prometheus"
+    };
+
+    // actuator 는 관리 포트에서만 제공됨 (management.server.port)
+    @Value("${management.server.port}")
+    private int managementPort;
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
         return configuration.getAuthenticationManager();
@@ -45,7 +69,7 @@ public class SecurityConfig {
 
     @Bean
     public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -78,12 +102,19 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         //위에서 정의했던 allowedUrls 들은 인증이 필요하지 않음 -> permitAll
                         .requestMatchers(allowedUrls).permitAll()
+                        // Prometheus 스크랩/헬스 체크는 관리 포트로 들어온 요청만 허용
+                        .requestMatchers(request -> request.getLocalPort() == managementPort
+                                && Arrays.asList(managementUrls).contains(request.getRequestURI())).permitAll()
+                        // 운영 관리 API (JFR 녹화 등)는 관리자만 사용
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        // 비동기 응답(스트리밍, 비동기 로그인)의 완료 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated() // 그 외의 url 들은 인증이 필요함
                 );
 
         // CustomLoginFilter 인스턴스를 생성하고 필요한 의존성을 주입
         CustomLoginFilter customLoginFilter = new CustomLoginFilter(
-                authenticationManager(authenticationConfiguration), jwtUtil);
+                authenticationManager(authenticationConfiguration), jwtUtil, loginExecutor, loginThrottle, meterRegistry);
         // Login Filter URL 지정
         customLoginFilter.setFilterProcessesUrl("/api/users/login");
         // 필터 체인에 CustomLoginFilter를 UsernamePasswordAuthenticationFilter 자리에서 동작하도록 추가
@@ -91,7 +122,7 @@ public class SecurityConfig {
                 .addFilterAt(customLoginFilter, UsernamePasswordAuthenticationFilter.class);
         // JwtFilter를 CustomLoginFilter 앞에서 동작하도록 필터 체인에 추가
         http
-                .addFilterBefore(new JwtAuthorizationFilter(jwtUtil, memberRepository), CustomLoginFilter.class);
+                .addFilterBefore(new JwtAuthorizationFilter(jwtUtil, userRevocationRegistry, meterRegistry), CustomLoginFilter.class);
 
 
         return http.build();
@@ -21,6 +21,10 @@ public enum SecurityErrorCode implements BaseErrorCode {
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "USER404_0", "존재하지 않는 계정입니다. 회원가입 후 로그인해주세요."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.BAD_REQUEST, "SEC404_0", "리프레시 토큰이 존재하지 않습니다."),
 
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "SEC429_0", "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SEC503_0", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "SEC503_1", "로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+
     INTERNAL_SECURITY_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SEC500_0", "서버에서 인증 처리 중 오류가 발생했습니다.");
 
     private final HttpStatus httpStatus;
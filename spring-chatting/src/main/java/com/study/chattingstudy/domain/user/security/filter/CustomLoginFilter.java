@@ -4,15 +4,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.chattingstudy.domain.user.dto.request.UserReqDTO;
 import com.study.chattingstudy.domain.user.security.dto.JwtDTO;
 import com.study.chattingstudy.domain.user.security.exception.SecurityErrorCode;
+import com.study.chattingstudy.domain.user.security.login.LoginExecutor;
+import com.study.chattingstudy.domain.user.security.login.LoginThrottle;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
 import com.study.chattingstudy.domain.user.security.util.JwtUtil;
 import com.study.chattingstudy.global.apiPayload.CustomResponse;
 import com.study.chattingstudy.global.utils.HttpResponseUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.*;
@@ -22,48 +31,198 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
-@RequiredArgsConstructor
 public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    // 요청마다 생성하지 않고 공유 (설정이 끝난 ObjectMapper 는 스레드 안전)
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 비동기 로그인 처리 제한 시간
+    private static final long ASYNC_TIMEOUT_MS = 10_000;
+
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final LoginExecutor loginExecutor;
+    private final LoginThrottle loginThrottle;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueTimer; // 워커 풀 대기 시간
+    private final Timer hashTimer; // 사용자 조회 + 비밀번호 해시 검증 시간
+
+    public CustomLoginFilter(AuthenticationManager authenticationManager,
+                             JwtUtil jwtUtil,
+                             LoginExecutor loginExecutor,
+                             LoginThrottle loginThrottle,
+                             MeterRegistry meterRegistry) {
+        this.authenticationManager = authenticationManager;
+        this.jwtUtil = jwtUtil;
+        this.loginExecutor = loginExecutor;
+        this.loginThrottle = loginThrottle;
+        this.meterRegistry = meterRegistry;
+        this.queueTimer = Timer.builder("chat.login.queue.time")
+                .description("로그인 요청이 워커 풀에서 대기한 시간")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("chat.login.hash.time")
+                .description("로그인 인증(BCrypt 비밀번호 검증 포함)에 걸린 시간")
+                .register(meterRegistry);
+    }
 
+    /**
+     * 로그인 요청은 Tomcat 스레드에서 Body 파싱과 시도 제한만 확인하고,
+     * 비밀번호 검증은 비동기 서블릿으로 전환하여 전용 워커 풀에서 수행
+     */
     @Override
-    public Authentication attemptAuthentication(@NonNull HttpServletRequest request,
-                                                @NonNull HttpServletResponse response) throws AuthenticationException {
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        // 로그인 URL 이 아니면 다음 필터로 넘어감
+        if (!requiresAuthentication(request, response)) {
+            chain.doFilter(request, response);
+            return;
+        }
 
         log.info("[ Login Filter ]  로그인 시도: Custom Login Filter 작동 ");
-        ObjectMapper objectMapper = new ObjectMapper();
+
         UserReqDTO.LoginReqDTO requestBody;
+        try {
+            requestBody = readLoginRequest(request);
+        } catch (AuthenticationException e) {
+            unsuccessfulAuthentication(request, response, e);
+            return;
+        }
+
+        // 계정별 실패 횟수, IP 별 시도 횟수 제한
+        if (!loginThrottle.tryAcquire(requestBody.email(), request.getRemoteAddr())) {
+            log.warn("[ Login Filter ] 로그인 시도 횟수 초과: ip={}", request.getRemoteAddr());
+            meterRegistry.counter("chat.login.rejected", "reason", "throttled").increment();
+            writeErrorResponse(response, SecurityErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MS);
+        long enqueuedAt = System.nanoTime();
+
+        // 응답 작성 권한 - 워커와 제한 시간 초과 처리 중 먼저 가져간 쪽만 응답을 작성하고 비동기 처리를 종료
+        AtomicBoolean responded = new AtomicBoolean();
+        asyncContext.addListener(new LoginTimeoutListener(responded));
+
+        try {
+            loginExecutor.execute(() -> authenticateAsync(asyncContext, chain, requestBody, enqueuedAt, responded));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ Login Filter ] 로그인 워커 풀이 가득 차 요청을 거절합니다.");
+            meterRegistry.counter("chat.login.rejected", "reason", "busy").increment();
+            if (responded.compareAndSet(false, true)) {
+                writeErrorResponse(response, SecurityErrorCode.LOGIN_BUSY);
+                asyncContext.complete();
+            }
+        }
+    }
+
+    @Override
+    public Authentication attemptAuthentication(@NonNull HttpServletRequest request,
+                                                @NonNull HttpServletResponse response) throws AuthenticationException {
+        return authenticate(readLoginRequest(request));
+    }
+
+    // 워커 스레드에서 인증을 수행하고 응답을 작성한 뒤 비동기 처리를 종료
+    private void authenticateAsync(AsyncContext asyncContext,
+                                   FilterChain chain,
+                                   UserReqDTO.LoginReqDTO requestBody,
+                                   long enqueuedAt,
+                                   AtomicBoolean responded) {
+        queueTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+
+        // 대기열에 있는 동안 제한 시간이 지났으면 비밀번호 검증을 하지 않음
+        if (responded.get()) {
+            log.warn("[ Login Filter ] 제한 시간이 지난 로그인 요청을 건너뜁니다.");
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+
+        Authentication authentication = null;
+        AuthenticationException failure = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            authentication = authenticate(requestBody);
+            loginThrottle.onSuccess(requestBody.email());
+        } catch (AuthenticationException e) {
+            loginThrottle.onFailure(requestBody.email());
+            failure = e;
+        } catch (RuntimeException e) {
+            log.error("[ Login Filter ] 로그인 처리 중 오류 발생: {}", e.getMessage());
+            failure = new AuthenticationServiceException(e.getMessage(), e);
+        } finally {
+            sample.stop(hashTimer);
+        }
+
+        // 제한 시간 초과 응답이 이미 나갔으면 토큰을 발급하지 않고, 종료(재사용)된 응답 객체에도 쓰지 않음
+        if (!responded.compareAndSet(false, true)) {
+            log.warn("[ Login Filter ] 제한 시간이 지나 로그인 결과를 버립니다.");
+            return;
+        }
+
+        try {
+            if (failure == null) {
+                successfulAuthentication(request, response, chain, authentication);
+            } else {
+                writeFailure(request, response, failure);
+            }
+        } catch (Exception e) {
+            log.error("[ Login Filter ] 로그인 응답 작성 중 오류 발생: {}", e.getMessage());
+        } finally {
+            asyncContext.complete();
+        }
+    }
 
+    private UserReqDTO.LoginReqDTO readLoginRequest(HttpServletRequest request) throws AuthenticationException {
         try {
             // Request Body를 읽어 DTO로 변환
-            requestBody = objectMapper.readValue(request.getInputStream(), UserReqDTO.LoginReqDTO.class);
+            return objectMapper.readValue(request.getInputStream(), UserReqDTO.LoginReqDTO.class);
         } catch (IOException e) {
             log.error("[ Login Filter ] Request Body 파싱 중 IOException 발생: {}", e.getMessage());
             throw new AuthenticationServiceException("Request Body 파싱 중 오류가 발생하였습니다.");
         }
+    }
 
+    private Authentication authenticate(UserReqDTO.LoginReqDTO requestBody) throws AuthenticationException {
         // Request Body에서 이메일과 비밀번호 추출
         String email = requestBody.email();
         String password = requestBody.password();
 
-        log.info("[ Login Filter ] Email ---> {} ", email);
-        log.info("[ Login Filter ] Password ---> {} ", password);
+        // 비밀번호는 로그에 남기지 않음
+        log.info("[ Login Filter ] 로그인 요청: email={}", email);
 
         // UserNamePasswordToken 생성 (인증용 객체)
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(email, password, null);
 
-        log.info("[ Login Filter ] 인증용 객체 UsernamePasswordAuthenticationToken 이 생성되었습니다. ");
-        log.info("[ Login Filter ] 인증을 시도합니다.");
+        log.debug("[ Login Filter ] 인증용 객체 UsernamePasswordAuthenticationToken 이 생성되었습니다. ");
+        log.debug("[ Login Filter ] 인증을 시도합니다.");
 
-        // 인증 시도
+        // 인증 시도 (비밀번호 해시가 약하면 DaoAuthenticationProvider 가 UserDetailsPasswordService 로 재해시)
         return authenticationManager.authenticate(authToken);
     }
 
+    private void writeFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) {
+        try {
+            unsuccessfulAuthentication(request, response, failed);
+        } catch (IOException e) {
+            log.error("[ Login Filter ] 실패 응답 작성 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private void writeErrorResponse(HttpServletResponse response, SecurityErrorCode errorCode) throws IOException {
+        HttpResponseUtil.setErrorResponse(response, errorCode.getHttpStatus(),
+                CustomResponse.onFailure(errorCode.getCode(), errorCode.getMessage()));
+    }
+
     @Override
     protected void successfulAuthentication(@NonNull HttpServletRequest request,
                                             @NonNull HttpServletResponse response,
@@ -113,4 +272,45 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
             return SecurityErrorCode.UNAUTHORIZED;
         }
     }
+
+    /**
+     * 비동기 로그인 제한 시간 초과 처리 - 워커보다 먼저 응답 작성 권한을 가져가면 503 응답 후 종료
+     */
+    private class LoginTimeoutListener implements AsyncListener {
+
+        private final AtomicBoolean responded;
+
+        LoginTimeoutListener(AtomicBoolean responded) {
+            this.responded = responded;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            if (!responded.compareAndSet(false, true)) {
+                return;
+            }
+            log.warn("[ Login Filter ] 로그인 처리 제한 시간 초과");
+            meterRegistry.counter("chat.login.rejected", "reason", "timeout").increment();
+            writeErrorResponse((HttpServletResponse) event.getAsyncContext().getResponse(),
+                    SecurityErrorCode.LOGIN_TIMEOUT);
+            event.getAsyncContext().complete();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // 클라이언트 연결 끊김 등 - 워커가 더 이상 응답을 쓰지 않도록 표시하고 종료
+            if (responded.compareAndSet(false, true)) {
+                event.getAsyncContext().complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            responded.set(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
 }
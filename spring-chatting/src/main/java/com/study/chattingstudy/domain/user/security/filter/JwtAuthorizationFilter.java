@@ -1,14 +1,17 @@
 package com.study.chattingstudy.domain.user.security.filter;
 
-import com.study.chattingstudy.domain.user.entity.User;
-import com.study.chattingstudy.domain.user.repository.UserRepository;
 import com.study.chattingstudy.domain.user.security.exception.SecurityErrorCode;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
 import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.domain.user.security.util.UserRevocationRegistry;
+import com.study.chattingstudy.global.jfr.JwtAuthenticationEvent;
 import com.study.chattingstudy.global.utils.HttpResponseUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,7 +32,8 @@ import java.io.IOException;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final MeterRegistry meterRegistry;
 
     //JWT 토큰을 사용하여 요청을 인증하는 역할
     @Override
@@ -37,34 +41,57 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
-        log.info("[ JwtAuthorizationFilter ] 인가 필터 작동");
+        log.debug("[ JwtAuthorizationFilter ] 인가 필터 작동");
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
         try {
             // Request에서 access token 추출
             String accessToken = jwtUtil.resolveAccessToken(request);
 
             // accessToken 없이 접근할 경우 필터를 건너뜀
             if (accessToken == null) {
-                log.info("[ JwtAuthorizationFilter ] Access Token 이 존재하지 않음. 필터를 건너뜁니다.");
+                log.debug("[ JwtAuthorizationFilter ] Access Token 이 존재하지 않음. 필터를 건너뜁니다.");
+                recordAuthentication(sample, event, "anonymous", null);
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            authenticateAccessToken(accessToken);
-            log.info("[ JwtAuthorizationFilter ] 종료. 다음 필터로 넘어갑니다.");
+            CustomUserDetails userDetails = authenticateAccessToken(accessToken);
+            recordAuthentication(sample, event, "success", userDetails.getUserId());
+            log.debug("[ JwtAuthorizationFilter ] 종료. 다음 필터로 넘어갑니다.");
             filterChain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
             log.warn("[ JwtAuthorizationFilter ] accessToken 이 만료되었습니다.");
+            recordAuthentication(sample, event, "expired", null);
             handleException(response, SecurityErrorCode.TOKEN_EXPIRED);
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
             log.warn("[ JwtAuthorizationFilter ] 잘못된 토큰입니다.");
+            recordAuthentication(sample, event, "invalid", null);
             handleException(response, SecurityErrorCode.INVALID_TOKEN);
         } catch (UsernameNotFoundException e) {
             log.warn("[ JwtAuthorizationFilter ] 사용자 정보를 찾을 수 없습니다.");
+            recordAuthentication(sample, event, "revoked", null);
             handleException(response, SecurityErrorCode.USER_NOT_FOUND);
         }
     }
 
+    // 토큰 검증 소요 시간 기록 (다음 필터 처리 시간은 포함하지 않음)
+    private void recordAuthentication(Timer.Sample sample, JwtAuthenticationEvent event, String result, Long userId) {
+        sample.stop(Timer.builder("chat.auth.jwt.duration")
+                .description("JWT 인가 필터의 토큰 검증 소요 시간")
+                .tag("result", result)
+                .register(meterRegistry));
+
+        if (event.shouldCommit()) {
+            event.channel = "http";
+            event.result = result;
+            event.userId = userId != null ? userId : 0;
+            event.commit();
+        }
+    }
+
     // 예외 발생 시 HttpResponseUtil 을 사용하여 에러 응답을 처리하는 메서드
     private void handleException(HttpServletResponse response, SecurityErrorCode errorCode) throws IOException {
         // HttpResponseUtil을 사용하여 에러 응답을 처리
@@ -72,22 +99,22 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     //Access 토큰의 유효성을 검사하는 메서드
-    private void authenticateAccessToken(String accessToken) {
-        log.info("[ JwtAuthorizationFilter ] 토큰으로 인가 과정을 시작합니다.");
+    private CustomUserDetails authenticateAccessToken(String accessToken) {
+        log.debug("[ JwtAuthorizationFilter ] 토큰으로 인가 과정을 시작합니다.");
 
-        // AccessToken 유효성 검증
-        jwtUtil.validateToken(accessToken);
-        log.info("[ JwtAuthorizationFilter ] Access Token 유효성 검증 성공.");
+        // AccessToken 유효성 검증 (검증과 클레임 추출을 한 번에 수행)
+        Claims claims = jwtUtil.validateToken(accessToken);
+        log.debug("[ JwtAuthorizationFilter ] Access Token 유효성 검증 성공.");
 
-        // 사용자 이메일로 User 엔티티 조회
-        String email = jwtUtil.getEmail(accessToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+        // 토큰 클레임으로 CustomUserDetail 객체 생성 (DB 조회 없음)
+        CustomUserDetails userDetails = jwtUtil.getUserDetails(claims);
 
-        // CustomUserDetail 객체 생성
-        CustomUserDetails userDetails = new CustomUserDetails(user);
+        // 탈퇴 등으로 폐기된 사용자인지 확인
+        if (userRevocationRegistry.isRevoked(userDetails.getUserId())) {
+            throw new UsernameNotFoundException("폐기된 사용자의 토큰입니다: " + userDetails.getUserId());
+        }
 
-        log.info("[ JwtAuthorizationFilter ] UserDetails 객체 생성 성공");
+        log.debug("[ JwtAuthorizationFilter ] UserDetails 객체 생성 성공");
 
         // Spring Security 인증 토큰 생성
         Authentication authToken = new UsernamePasswordAuthenticationToken(
@@ -100,7 +127,8 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         // 그 때마다 SecurityContextHolder에 인증 정보를 설정하는 방식으로 동작
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        log.info("[ JwtAuthorizationFilter ] 인증 객체 저장 완료");
+        log.debug("[ JwtAuthorizationFilter ] 인증 객체 저장 완료");
+        return userDetails;
     }
 
 }
@@ -0,0 +1,62 @@
+package com.study.chattingstudy.domain.user.security.login;
+
+import com.study.chattingstudy.global.query.QueryBudget;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 비밀번호 검증(BCrypt) 전용 워커 풀
+ * - 크기와 대기열이 제한되어 있어 로그인 폭주가 Tomcat 스레드(채팅 REST 요청)를 잠식하지 않음
+ * - 대기열이 가득 차면 RejectedExecutionException 을 던져 즉시 거절
+ * - 요청의 SQL 집계 범위를 워커 스레드로 넘겨 사용자 조회도 로그인 요청에 누적
+ */
+@Slf4j
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public LoginExecutor(@Value("${chat.login.executor.pool-size:4}") int poolSize,
+                         @Value("${chat.login.executor.queue-capacity:200}") int queueCapacity,
+                         MeterRegistry meterRegistry) {
+
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("login-worker-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("chat.login.queue.size", executor, e -> e.getQueue().size())
+                .description("로그인 워커 풀 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("chat.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 검증 중인 로그인 워커 수")
+                .register(meterRegistry);
+    }
+
+    public void execute(Runnable task) throws RejectedExecutionException {
+        executor.execute(QueryBudget.propagate(task));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("[ LoginExecutor ] 종료 대기 시간 초과, 남은 작업을 중단합니다.");
+            executor.shutdownNow();
+        }
+    }
+}
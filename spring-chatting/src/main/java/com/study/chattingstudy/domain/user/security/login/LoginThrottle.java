@@ -0,0 +1,81 @@
+package com.study.chattingstudy.domain.user.security.login;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시도 제한
+ * - 계정별: 윈도우 내 로그인 실패 횟수 제한 (성공 시 초기화)
+ * - IP 별: 윈도우 내 로그인 시도 횟수 제한
+ * 고정 윈도우 방식의 노드 로컬 카운터를 사용
+ */
+@Component
+public class LoginThrottle {
+
+    // 키가 이 수를 넘으면 만료된 윈도우를 정리
+    private static final int SWEEP_THRESHOLD = 100_000;
+
+    @Value("${chat.login.throttle.max-account-failures:5}")
+    private int maxAccountFailures;
+
+    @Value("${chat.login.throttle.max-ip-attempts:30}")
+    private int maxIpAttempts;
+
+    @Value("${chat.login.throttle.window-ms:300000}")
+    private long windowMs;
+
+    // 이메일 -> 실패 횟수
+    private final Map<String, Window> accountFailures = new ConcurrentHashMap<>();
+
+    // IP -> 시도 횟수
+    private final Map<String, Window> ipAttempts = new ConcurrentHashMap<>();
+
+    // 로그인 시도 허용 여부 (허용되면 IP 시도 횟수를 증가)
+    public boolean tryAcquire(String email, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        Window failures = accountFailures.get(accountKey(email));
+        if (failures != null && !failures.isExpired(now, windowMs) && failures.count() >= maxAccountFailures) {
+            return false;
+        }
+
+        return increment(ipAttempts, clientIp, now) <= maxIpAttempts;
+    }
+
+    // 로그인 성공 시 계정 실패 횟수 초기화
+    public void onSuccess(String email) {
+        accountFailures.remove(accountKey(email));
+    }
+
+    // 로그인 실패 시 계정 실패 횟수 증가
+    public void onFailure(String email) {
+        increment(accountFailures, accountKey(email), System.currentTimeMillis());
+    }
+
+    private int increment(Map<String, Window> windows, String key, long now) {
+        if (windows.size() > SWEEP_THRESHOLD) {
+            windows.values().removeIf(window -> window.isExpired(now, windowMs));
+        }
+
+        Window updated = windows.compute(key, (k, window) ->
+                window == null || window.isExpired(now, windowMs)
+                        ? new Window(now, 1)
+                        : new Window(window.startedAt(), window.count() + 1));
+        return updated.count();
+    }
+
+    private String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Window(long startedAt, int count) {
+
+        boolean isExpired(long now, long windowMs) {
+            return now - startedAt >= windowMs;
+        }
+    }
+}
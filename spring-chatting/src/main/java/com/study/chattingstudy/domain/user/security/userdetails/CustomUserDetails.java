@@ -1,23 +1,53 @@
 package com.study.chattingstudy.domain.user.security.userdetails;
 
 import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 public class CustomUserDetails extends AuthUser implements UserDetails {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final UserRole role;
+
     //인증용 객체 생성자
     public CustomUserDetails(User user) {
         super(user.getId(), user.getEmail(), user.getPassword());
+        this.role = user.getRoles();
+    }
+
+    //인가용 객체 생성자 - 토큰 클레임만으로 생성하므로 DB 조회가 없고 비밀번호도 갖지 않음
+    public CustomUserDetails(Long userId, String email, UserRole role) {
+        super(userId, email, null);
+        this.role = role;
     }
 
-    // 권한을 반환하는 메서드, 현재는 빈 컬렉션을 반환 (권한이 필요하다면 여기에 추가 가능)
+    public UserRole getRole() {
+        return role;
+    }
+
+    // 권한을 반환하는 메서드, 역할이 없으면 빈 컬렉션을 반환
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList(); // 빈 collection 반환
+        if (role == null) {
+            return Collections.emptyList();
+        }
+        return List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role.name()));
+    }
+
+    // 토큰의 role 클레임("ROLE_USER")을 UserRole 로 변환
+    public static UserRole parseRole(String authority) {
+        if (authority == null || authority.isBlank()) {
+            return null;
+        }
+        String roleName = authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority;
+        return UserRole.valueOf(roleName);
     }
 
     // 비밀번호 반환
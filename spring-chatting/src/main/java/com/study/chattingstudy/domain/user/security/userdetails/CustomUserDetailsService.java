@@ -5,14 +5,16 @@ import com.study.chattingstudy.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -27,4 +29,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserDetails(user);
     }
 
+    // 로그인 성공 시 저장된 해시의 강도가 현재 설정보다 낮으면 DaoAuthenticationProvider 가 호출 (투명한 재해시)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자가 존재하지 않습니다."));
+
+        user.updatePassword(newPassword);
+        log.info("[ CustomUserDetailsService ] 비밀번호 해시를 갱신했습니다: userId={}", user.getId());
+
+        return new CustomUserDetails(user);
+    }
+
 }
@@ -5,7 +5,9 @@ import com.study.chattingstudy.domain.user.repository.UserRepository;
 import com.study.chattingstudy.domain.user.security.dto.JwtDTO;
 import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
 import com.study.chattingstudy.global.utils.RedisUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -30,42 +32,79 @@ import java.util.stream.Collectors;
 @Component
 public class JwtUtil {
 
+    // 구문 분석 시스템의 시계가 JWT를 생성한 시스템의 시계 오차 고려 (약 3분 허용)
+    private static final long CLOCK_SKEW_SECONDS = 3 * 60;
+
     private final SecretKey secretKey; //JWT 서명에 사용되는 비밀 키
+    private final JwtParser jwtParser; //스레드 안전하므로 한 번만 생성하여 재사용
     private final Long accessExpMs; //액세스 토큰의 만료 시간
     private final Long refreshExpMs; //리프레시 토큰의 만료 시간
     private final RedisUtil redisUtil;
     private final UserRepository userRepository;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtUtil(@Value("${spring.jwt.secret}") String secret,
                    @Value("${spring.jwt.token.access-expiration-time}") Long access,
                    @Value("${spring.jwt.token.refresh-expiration-time}") Long refresh,
                    RedisUtil redisUtil,
-                   UserRepository userRepository) {
+                   UserRepository userRepository,
+                   UserRevocationRegistry userRevocationRegistry,
+                   VerifiedTokenCache verifiedTokenCache) {
 
         //주어진 시크릿 키 문자열을 바이트 배열로 변환하고, 이를 사용하여 SecretKey 객체 생성
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser()
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .verifyWith(secretKey)
+                .build();
         accessExpMs = access; // 액세스 토큰 만료 시간 설정
         refreshExpMs = refresh; // 리프레시 토큰 만료 시간 설정
         this.redisUtil = redisUtil;
         this.userRepository = userRepository;
+        this.userRevocationRegistry = userRevocationRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    //토큰을 한 번만 검증하여 모든 클레임을 반환하는 메서드
+    //이미 검증된 토큰은 캐시에서 꺼내 서명(HMAC) 검증과 JSON 파싱을 생략
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokenCache.put(token, claims, CLOCK_SKEW_SECONDS * 1000);
+        return claims;
     }
 
     //JWT 토큰을 입력으로 받아 토큰의 subject 로부터 사용자 Email 추출하는 메서드
     public String getEmail(String token) throws SignatureException {
-        log.info("[ JwtUtil ] 토큰에서 이메일을 추출합니다.");
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject(); //claims의 Subject에서 사용자의 email 추출 (Subject): 토큰의 주체 (일반적으로 사용자 ID나 이메일)
+        log.debug("[ JwtUtil ] 토큰에서 이메일을 추출합니다.");
+        return parseClaims(token).getSubject(); //claims의 Subject에서 사용자의 email 추출 (Subject): 토큰의 주체 (일반적으로 사용자 ID나 이메일)
+    }
+
+    //검증된 클레임(userId, email, role)만으로 인가용 CustomUserDetails 를 생성하는 메서드 (DB 조회 없음)
+    public CustomUserDetails getUserDetails(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        if (userId == null) {
+            // userId 클레임이 없는 이전 형식의 토큰은 재로그인하도록 잘못된 토큰으로 처리
+            throw new IllegalArgumentException("userId 클레임이 존재하지 않는 토큰입니다.");
+        }
+
+        return new CustomUserDetails(
+                userId,
+                claims.getSubject(),
+                CustomUserDetails.parseRole(claims.get("role", String.class))
+        );
     }
 
     //토큰을 발급하는 메서드
     public String tokenProvider(CustomUserDetails userDetails, Instant expirationTime) {
 
-        log.info("[ JwtUtil ] 토큰을 새로 생성합니다.");
+        log.debug("[ JwtUtil ] 토큰을 새로 생성합니다.");
 
         //현재 시간
         Instant issuedAt = Instant.now();
@@ -80,6 +119,7 @@ public class JwtUtil {
                 .add("typ", "JWT") //JWT 타입을 추가
                 .and()
                 .subject(userDetails.getUsername()) //Subject 에 username (email) 추가
+                .claim("userId", userDetails.getUserId()) //인가 시 DB 조회 없이 사용할 사용자 ID 추가
                 .claim("role", authorities) //권한 정보를 클레임에 추가
                 .issuedAt(Date.from(issuedAt)) //발행 시간(현재 시간)을 추가
                 .expiration(Date.from(expirationTime)) //만료 시간을 추가
@@ -112,12 +152,7 @@ public class JwtUtil {
     // 토큰의 남은 만료 시간을 계산하는 메서드
     public long getRemainingExpiration(String token) {
         try {
-            Date expiration = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration();
+            Date expiration = parseClaims(token).getExpiration();
 
             long remainingTime = expiration.getTime() - System.currentTimeMillis();
             return remainingTime > 0 ? remainingTime : 0;
@@ -154,6 +189,12 @@ public class JwtUtil {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
+        // 탈퇴한 사용자는 재발급하지 않고, 남아있는 액세스 토큰도 무효화
+        if (user.getDeletedAt() != null) {
+            userRevocationRegistry.revoke(user.getId());
+            throw new UsernameNotFoundException("탈퇴한 사용자입니다: " + email);
+        }
+
         // CustomUserDetails 생성 시 User 객체 사용
         CustomUserDetails userDetails = new CustomUserDetails(user);
         log.info("[ JwtUtil ] 새로운 토큰을 재발급 합니다.");
@@ -166,39 +207,25 @@ public class JwtUtil {
 
     // HTTP 요청의 'Authorization' 헤더에서 JWT 액세스 토큰을 검색
     public String resolveAccessToken(HttpServletRequest request) {
-        log.info("[ JwtUtil ] 헤더에서 토큰을 추출합니다.");
+        log.debug("[ JwtUtil ] 헤더에서 토큰을 추출합니다.");
         String tokenFromHeader = request.getHeader("Authorization");
 
         if (tokenFromHeader == null || !tokenFromHeader.startsWith("Bearer ")) {
-            log.warn("[ JwtUtil ] Request Header 에 토큰이 존재하지 않습니다.");
+            log.debug("[ JwtUtil ] Request Header 에 토큰이 존재하지 않습니다.");
             return null;
         }
 
-        log.info("[ JwtUtil ] 헤더에 토큰이 존재합니다.");
+        log.debug("[ JwtUtil ] 헤더에 토큰이 존재합니다.");
 
         return tokenFromHeader.split(" ")[1]; //Bearer 와 분리
     }
 
-    //토큰의 유효성 검사
-    public void validateToken(String token) {
-        log.info("[ JwtUtil ] 토큰의 유효성을 검증합니다.");
+    //토큰의 유효성 검사 - 한 번의 검증으로 얻은 클레임을 함께 반환
+    public Claims validateToken(String token) {
+        log.debug("[ JwtUtil ] 토큰의 유효성을 검증합니다.");
         try {
-            // 구문 분석 시스템의 시계가 JWT를 생성한 시스템의 시계 오차 고려
-            // 약 3분 허용.
-            long seconds = 3 *60;
-            boolean isExpired = Jwts
-                    .parser()
-                    .clockSkewSeconds(seconds)
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration()
-                    .before(new Date());
-            if (isExpired) {
-                log.info("만료된 JWT 토큰입니다.");
-            }
-
+            // 만료 시간은 파서가 시계 오차를 고려하여 함께 검증
+            return parseClaims(token);
         } catch (SecurityException | MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
             //원하는 Exception throw
             throw new SecurityException("잘못된 토큰입니다.");
@@ -0,0 +1,73 @@
+package com.study.chattingstudy.domain.user.security.util;
+
+import com.study.chattingstudy.global.utils.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 탈퇴/차단된 사용자의 토큰을 무효화하기 위한 레지스트리
+ * - 토큰 클레임만으로 인가하므로, 폐기 여부는 Redis 의 사용자 키로 관리
+ * - 매 요청마다 Redis 를 조회하지 않도록 짧은 TTL 의 로컬 캐시를 앞에 둔다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRevocationRegistry {
+
+    private static final String KEY_PREFIX = "revoked:user:";
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    private final RedisUtil redisUtil;
+
+    // 사용자 ID -> 폐기 여부 (로컬 캐시)
+    private final Map<Long, CachedStatus> localCache = new ConcurrentHashMap<>();
+
+    // 로컬 캐시 유지 시간
+    @Value("${chat.security.revocation.local-ttl-ms:5000}")
+    private long localTtlMs;
+
+    // 폐기 키는 남아있는 액세스 토큰이 만료될 때까지만 유지하면 된다
+    @Value("${spring.jwt.token.access-expiration-time}")
+    private long accessExpMs;
+
+    // 사용자의 토큰이 폐기되었는지 확인
+    public boolean isRevoked(Long userId) {
+        long now = System.currentTimeMillis();
+
+        CachedStatus cached = localCache.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.revoked();
+        }
+
+        boolean revoked;
+        try {
+            revoked = redisUtil.hasKey(KEY_PREFIX + userId);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 인증 전체가 막히지 않도록 마지막으로 알던 값을 사용
+            log.warn("[ UserRevocationRegistry ] Redis 조회 실패, 로컬 값을 사용합니다: {}", e.getMessage());
+            return cached != null && cached.revoked();
+        }
+
+        if (localCache.size() >= MAX_LOCAL_ENTRIES) {
+            localCache.clear();
+        }
+        localCache.put(userId, new CachedStatus(revoked, now + localTtlMs));
+        return revoked;
+    }
+
+    // 사용자의 토큰을 폐기 (탈퇴, 강제 로그아웃 등)
+    public void revoke(Long userId) {
+        redisUtil.save(KEY_PREFIX + userId, true, accessExpMs, TimeUnit.MILLISECONDS);
+        localCache.put(userId, new CachedStatus(true, System.currentTimeMillis() + localTtlMs));
+        log.info("[ UserRevocationRegistry ] 사용자 토큰 폐기: userId={}", userId);
+    }
+
+    private record CachedStatus(boolean revoked, long expiresAt) {
+    }
+}
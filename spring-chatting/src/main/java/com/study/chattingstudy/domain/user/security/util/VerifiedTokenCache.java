@@ -0,0 +1,108 @@
+package com.study.chattingstudy.domain.user.security.util;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 해시를 사용 (메모리에 토큰을 남기지 않기 위함)
+ * - 각 항목은 토큰 만료 시각(시계 오차 포함)까지만 유효
+ * - 최대 크기를 넘으면 만료 항목을 정리하고, 그래도 가득 차 있으면 새 항목을 캐싱하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    // 만료 항목 정리는 최소 이 간격으로만 수행
+    private static final long SWEEP_INTERVAL_MS = 1000;
+
+    private final int maxSize;
+    private final Map<String, CachedClaims> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    // maxSize 가 0 이하이면 캐시를 사용하지 않음
+    public VerifiedTokenCache(@Value("${chat.security.token-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // 캐시된 클레임 조회 (없거나 만료되었으면 null)
+    public Claims get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        String key = hash(token);
+        CachedClaims cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            // 만료된 토큰은 다시 파서를 거쳐 ExpiredJwtException 이 발생하도록 제거
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached.claims();
+    }
+
+    // 검증된 클레임 저장
+    public void put(String token, Claims claims, long clockSkewMs) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return; // 만료 시간이 없는 토큰은 캐싱하지 않음
+        }
+
+        long now = System.currentTimeMillis();
+        long expiresAt = expiration.getTime() + clockSkewMs;
+        if (expiresAt <= now) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            sweepExpired(now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+
+        entries.put(hash(token), new CachedClaims(claims, expiresAt));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void sweepExpired(long now) {
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        entries.values().removeIf(cached -> cached.expiresAt() <= now);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
+}
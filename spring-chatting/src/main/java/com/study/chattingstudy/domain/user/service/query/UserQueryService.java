@@ -1,16 +1,29 @@
 package com.study.chattingstudy.domain.user.service.query;
 
+import com.study.chattingstudy.domain.chat.repository.ChatRoomParticipantRepository;
 import com.study.chattingstudy.domain.user.converter.UserConverter;
 import com.study.chattingstudy.domain.user.dto.response.UserResDTO;
 import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.entity.UserPresence;
 import com.study.chattingstudy.domain.user.exception.UserErrorCode;
 import com.study.chattingstudy.domain.user.exception.UserException;
+import com.study.chattingstudy.domain.user.presence.PresenceTracker;
+import com.study.chattingstudy.domain.user.repository.UserPresenceRepository;
 import com.study.chattingstudy.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -18,6 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserQueryService {
 
     private final UserRepository userRepository;
+    private final UserPresenceRepository userPresenceRepository;
+    private final PresenceTracker presenceTracker;
+    private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+    // 한 번에 조회할 수 있는 접속 상태 수
+    @Value("${chat.presence.max-query-size:200}")
+    private int maxPresenceQuerySize;
 
     public UserResDTO.UserResponseDTO getUserInfo(Long userId) {
         User user = userRepository.findById(userId)
@@ -25,4 +45,47 @@ public class UserQueryService {
 
         return UserConverter.toUserResponseDTO(user);
     }
+
+    /**
+     * 여러 사용자의 접속 상태 일괄 조회 (채팅 목록의 상대방 상태 표시용)
+     * - 요청자와 같은 채팅방에 참여 중인 사용자만 조회하고, 그 외 사용자는 마지막 접속 시각 없이 OFFLINE 으로 응답
+     *   (임의의 사용자 ID 로 접속 여부/시각을 알아낼 수 없도록 함, 참여 여부 확인은 IN 조회 1회)
+     * - 연결 중인 사용자: 이 노드의 메모리 상태 또는 Redis (1회 왕복)
+     * - 그 외 사용자: DB 의 마지막 접속 시각 (IN 조회 1회)
+     */
+    public UserResDTO.PresenceListResDTO getPresences(Long requesterId, List<Long> userIds) {
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > maxPresenceQuerySize) {
+            throw new UserException(UserErrorCode.TOO_MANY_PRESENCE_USERS);
+        }
+
+        List<Long> visibleIds = ids.isEmpty()
+                ? List.of()
+                : chatRoomParticipantRepository.findUserIdsSharingRoomWith(requesterId, ids);
+        Set<Long> visible = new HashSet<>(visibleIds);
+        if (ids.contains(requesterId)) {
+            visible.add(requesterId);
+        }
+
+        Map<Long, PresenceTracker.Presence> online = presenceTracker.findOnline(List.copyOf(visible));
+        // 이 노드에 연결된 사용자는 flush 전 상태가 더 최신
+        visible.forEach(id -> presenceTracker.findLocal(id).ifPresent(presence -> online.put(id, presence)));
+
+        List<Long> offlineIds = visible.stream().filter(id -> !online.containsKey(id)).toList();
+        Map<Long, LocalDateTime> lastSeen = offlineIds.isEmpty()
+                ? Map.of()
+                : userPresenceRepository.findByUserIdIn(offlineIds).stream()
+                        .collect(Collectors.toMap(UserPresence::getUserId, UserPresence::getLastSeenAt));
+
+        // 같은 채팅방에 없는 사용자는 online/lastSeen 에 없으므로 마지막 접속 시각 없이 OFFLINE
+        List<UserResDTO.PresenceDTO> presences = ids.stream()
+                .map(id -> online.containsKey(id)
+                        ? UserConverter.toPresenceDTO(online.get(id))
+                        : UserConverter.toOfflinePresenceDTO(id, lastSeen.get(id)))
+                .toList();
+
+        return UserResDTO.PresenceListResDTO.builder()
+                .presences(presences)
+                .build();
+    }
 }
@@ -0,0 +1,277 @@
+package com.study.chattingstudy.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ * - 조회: 로컬 -> Redis -> 원본(loader) 순서로 조회하고, 상위 단계에 채워 넣음
+ * - get(key, loader) 는 로컬 캐시의 키 단위 원자적 계산을 사용하므로 같은 키의 동시 미스는 노드당 한 번만 로딩 (캐시 스탬피드 방지)
+ * - 무효화: 로컬/Redis 를 함께 지우고, 다른 노드의 로컬 캐시는 invalidationPublisher 로 전파
+ * - 무효화할 때마다 Redis 의 키별 버전을 올리고, 로더는 원본 조회 전후 버전이 다르면 저장한 값을 다시 삭제
+ *   (커밋 전에 원본을 읽은 로더가 커밋 후 무효화보다 늦게 저장하여 이전 값이 TTL 동안 남는 것을 방지)
+ * - Redis 장애 시 로컬 캐시와 원본 조회로 동작 (fail-open)
+ * 키는 모두 문자열로 정규화하여 노드 간 무효화 메시지와 일치시킴
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final String VERSION_PREFIX = "cache:ver:";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+
+    // 무효화 버전 저장소 (키별 버전 + 캐시 전체 버전)
+    private final StringRedisTemplate redisTemplate;
+    private final Duration versionTtl;
+
+    // (캐시 이름, 키) - 키가 null 이면 전체 삭제
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter remoteHits;
+    private final Counter misses;
+    private final Counter staleLoads;
+    private final Timer loadTimer;
+
+    public TwoLevelCache(String name, long localMaxSize, Duration localTtl, Cache remote,
+                         StringRedisTemplate redisTemplate, Duration ttl,
+                         BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.versionTtl = ttl;
+        this.invalidationPublisher = invalidationPublisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+
+        this.localHits = requestCounter(meterRegistry, "local_hit");
+        this.remoteHits = requestCounter(meterRegistry, "remote_hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.staleLoads = Counter.builder("chat.cache.stale.loads")
+                .description("로딩 중 무효화되어 저장 후 다시 삭제한 횟수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("chat.cache.load")
+                .description("캐시 미스 시 원본 조회 시간")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("chat.cache.local.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .description("로컬 캐시 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String cacheKey = toKey(key);
+
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(value);
+        }
+
+        value = getRemote(cacheKey);
+        if (value != null) {
+            remoteHits.increment();
+            local.put(cacheKey, value);
+            return new SimpleValueWrapper(value);
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper != null ? (T) wrapper.get() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = toKey(key);
+
+        Object cached = local.getIfPresent(cacheKey);
+        if (cached != null) {
+            localHits.increment();
+            return (T) cached;
+        }
+
+        // 같은 키에 대한 동시 요청은 하나만 로딩하고 나머지는 결과를 기다림
+        boolean[] stale = new boolean[1];
+        Object value = local.get(cacheKey, k -> loadThrough(k, valueLoader, stale));
+
+        // 로딩 중 무효화되었으면 이번 요청에는 값을 돌려주되 로컬 캐시에는 남기지 않음
+        if (stale[0]) {
+            local.invalidate(cacheKey);
+        }
+        return (T) value;
+    }
+
+    private Object loadThrough(String cacheKey, Callable<?> valueLoader, boolean[] stale) {
+        Object value = getRemote(cacheKey);
+        if (value != null) {
+            remoteHits.increment();
+            return value;
+        }
+
+        misses.increment();
+
+        // 원본 조회 전에 버전을 읽어 둠 (이후의 무효화는 버전 변경으로 감지)
+        List<String> versionBefore = readVersions(cacheKey);
+        try {
+            value = loadTimer.recordCallable(valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(cacheKey, valueLoader, e);
+        }
+
+        if (value != null) {
+            putRemote(cacheKey, value);
+
+            // 저장 후 버전을 다시 확인 - 무효화(버전 증가 -> 삭제)가 끼어들었으면 방금 저장한 값을 삭제
+            if (versionBefore != null && !Objects.equals(versionBefore, readVersions(cacheKey))) {
+                staleLoads.increment();
+                stale[0] = true;
+                evictRemote(cacheKey);
+                log.debug("[ TwoLevelCache ] 로딩 중 무효화되어 저장한 값 삭제: cache={}, key={}", name, cacheKey);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        String cacheKey = toKey(key);
+        local.put(cacheKey, value);
+        putRemote(cacheKey, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = toKey(key);
+        // 버전을 먼저 올린 뒤 삭제해야 로딩 중인 다른 요청이 삭제 이후의 저장을 감지할 수 있음
+        bumpVersion(versionKey(cacheKey));
+        local.invalidate(cacheKey);
+        evictRemote(cacheKey);
+        invalidationPublisher.accept(name, cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        bumpVersion(VERSION_PREFIX + name);
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] Redis 캐시 전체 삭제 실패: cache={}, reason={}", name, e.getMessage());
+        }
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 적용 (로컬 캐시만 삭제)
+     * @param key 삭제할 키 (null 이면 전체 삭제)
+     */
+    public void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object getRemote(String cacheKey) {
+        try {
+            ValueWrapper wrapper = remote.get(cacheKey);
+            return wrapper != null ? wrapper.get() : null;
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] Redis 캐시 조회 실패: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void evictRemote(String cacheKey) {
+        try {
+            remote.evict(cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] Redis 캐시 삭제 실패: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    // 캐시 전체 버전과 키 버전 (Redis 장애 시 null - 버전 확인 없이 저장)
+    private List<String> readVersions(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().multiGet(List.of(VERSION_PREFIX + name, versionKey(cacheKey)));
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] 캐시 버전 조회 실패: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void bumpVersion(String versionKey) {
+        try {
+            redisTemplate.opsForValue().increment(versionKey);
+            // 버전은 캐시 값보다 오래 남기만 하면 됨
+            redisTemplate.expire(versionKey, versionTtl);
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] 캐시 버전 갱신 실패: cache={}, key={}, reason={}", name, versionKey, e.getMessage());
+        }
+    }
+
+    private String versionKey(String cacheKey) {
+        return VERSION_PREFIX + name + "::" + cacheKey;
+    }
+
+    private void putRemote(String cacheKey, Object value) {
+        try {
+            remote.put(cacheKey, value);
+        } catch (RuntimeException e) {
+            log.warn("[ TwoLevelCache ] Redis 캐시 저장 실패: cache={}, key={}, reason={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.cache.requests")
+                .description("캐시 조회 결과 (local_hit, remote_hit, miss)")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private String toKey(Object key) {
+        return String.valueOf(key);
+    }
+}
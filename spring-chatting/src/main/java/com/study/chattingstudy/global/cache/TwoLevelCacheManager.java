@@ -0,0 +1,95 @@
+package com.study.chattingstudy.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 2단계 캐시 매니저
+ * - 캐시 이름별 설정(CacheSpec)으로 TwoLevelCache 를 미리 생성 (정의되지 않은 캐시 이름은 사용 불가)
+ * - 무효화 시 Redis Pub/Sub 채널로 다른 노드에 전파하고, 수신한 메시지로 로컬 캐시를 삭제
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "chat:cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+
+    // 자신이 보낸 무효화 메시지를 구분하기 위한 노드 ID
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, TwoLevelCache> caches;
+
+    public TwoLevelCacheManager(Map<String, CacheSpec> specs, RedisCacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        Map<String, TwoLevelCache> created = new LinkedHashMap<>();
+        specs.forEach((name, spec) -> created.put(name, new TwoLevelCache(
+                name, spec.localMaxSize(), spec.localTtl(), remoteCacheManager.getCache(name),
+                redisTemplate, spec.ttl(), this::publishInvalidation, meterRegistry)));
+        this.caches = Collections.unmodifiableMap(created);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    /**
+     * 다른 노드에서 수신한 무효화 메시지 처리
+     * 형식: nodeId|cacheName|key (key 가 * 이면 전체 삭제)
+     */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : ALL_KEYS));
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 로컬 캐시는 로컬 TTL 이 지나면 만료됨
+            log.warn("[ TwoLevelCacheManager ] 캐시 무효화 전파 실패: cache={}, key={}, reason={}",
+                    cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시별 설정
+     * @param valueType Redis 직렬화 대상 타입
+     * @param ttl Redis 캐시 TTL
+     * @param localTtl 로컬 캐시 TTL (무효화 전파가 유실되어도 이 시간 이후에는 최신 값 조회)
+     * @param localMaxSize 로컬 캐시 최대 항목 수
+     */
+    public record CacheSpec(JavaType valueType, Duration ttl,
+                            Duration localTtl, long localMaxSize) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.study.chattingstudy.global.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.study.chattingstudy.domain.chat.cache.ChatCacheNames;
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import com.study.chattingstudy.global.cache.TwoLevelCacheManager;
+import com.study.chattingstudy.global.cache.TwoLevelCacheManager.CacheSpec;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 설정 - 로컬(Caffeine) + Redis 2단계 캐시
+ * 캐시마다 값 타입을 지정한 Jackson 직렬화기를 사용하여 Redis 에 타입 정보를 저장하지 않음
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${chat.cache.local-ttl-ms:30000}")
+    private long localTtlMs;
+
+    @Value("${chat.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper,
+                                             MeterRegistry meterRegistry) {
+        Map<String, CacheSpec> specs = cacheSpecs(objectMapper.getTypeFactory());
+
+        // 캐시별 Redis 설정 (TTL, 값 타입별 직렬화)
+        Map<String, RedisCacheConfiguration> redisConfigs = new LinkedHashMap<>();
+        specs.forEach((name, spec) -> redisConfigs.put(name, RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(spec.ttl())
+                .disableCachingNullValues()
+                .prefixCacheNameWith("cache:")
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, spec.valueType())))));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
+                .withInitialCacheConfigurations(redisConfigs)
+                .disableCreateOnMissingCache()
+                .build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(specs, redisCacheManager, stringRedisTemplate, meterRegistry);
+    }
+
+    // 다른 노드의 캐시 무효화 메시지 수신
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidationMessage(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    private Map<String, CacheSpec> cacheSpecs(TypeFactory typeFactory) {
+        Duration localTtl = Duration.ofMillis(localTtlMs);
+
+        JavaType chatRoomList = typeFactory.constructCollectionType(List.class, ChatRoomResDTO.ChatRoomListResDTO.class);
+        JavaType messageList = typeFactory.constructType(ChatResDTO.MessageListResDTO.class);
+        JavaType roomMeta = typeFactory.constructType(ChatRoomMeta.class);
+
+        Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        specs.put(ChatCacheNames.USER_CHAT_ROOMS, new CacheSpec(chatRoomList, Duration.ofMinutes(10), localTtl, localMaxSize));
+        specs.put(ChatCacheNames.CHAT_MESSAGES, new CacheSpec(messageList, Duration.ofMinutes(10), localTtl, localMaxSize));
+        specs.put(ChatCacheNames.CHAT_ROOM_META, new CacheSpec(roomMeta, Duration.ofHours(1), Duration.ofMinutes(10), localMaxSize));
+        return specs;
+    }
+}
@@ -0,0 +1,110 @@
+package com.study.chattingstudy.global.config;
+
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
+import com.study.chattingstudy.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 분리 DataSource 설정 (chat.datasource.replica.urls 가 있을 때만 적용)
+ * - 쓰기와 일반 트랜잭션은 primary, @Transactional(readOnly = true) 트랜잭션은 복제 DB 로 보냄
+ * - LazyConnectionDataSourceProxy 가 첫 SQL 실행 시점까지 커넥션 획득을 미루므로,
+ *   트랜잭션 매니저가 읽기 전용으로 표시한 커넥션만 ReplicaRoutingDataSource 로 전달됨
+ * - primary 는 spring.datasource.* 설정을 그대로 사용하고, 복제 DB 풀은 primary 풀 설정을 복사해 읽기 전용으로 생성
+ * - 복제 DB 상태 확인 주기마다 복제 지연을 측정하고, 허용치를 넘거나 확인이 stale-ms 이상 밀리면 primary 로 대체
+ * 로컬 테스트: MySQL 두 개를 띄우고 chat.datasource.replica.urls 에 두 번째 주소를,
+ * chat.datasource.replica.allow-standalone=true 를 지정하면 복제 설정 없이 읽기 분리를 확인할 수 있음
+ */
+@Configuration
+@ConditionalOnExpression("!'${chat.datasource.replica.urls:}'.isBlank()")
+public class DataSourceConfig implements DisposableBean {
+
+    @Value("${chat.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    // 복제 DB 계정 (없으면 primary 계정 사용)
+    @Value("${chat.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${chat.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    // 허용하는 복제 지연 (초)
+    @Value("${chat.datasource.replica.max-lag-seconds:2}")
+    private long maxLagSeconds;
+
+    // 복제 설정이 없는 독립 DB 를 복제 DB 로 허용 (로컬 테스트용)
+    @Value("${chat.datasource.replica.allow-standalone:false}")
+    private boolean allowStandalone;
+
+    // 마지막 복제 지연 확인 성공 후 이 시간이 지나면 복제 DB 를 사용하지 않음 (확인 주기 check-ms 보다 길어야 함)
+    @Value("${chat.datasource.replica.stale-ms:15000}")
+    private long staleMs;
+
+    private HikariDataSource primary;
+    private ReplicaRoutingDataSource replicaRouting;
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            primary.copyStateTo(replica);
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setReadOnly(true);
+            // 빈으로 등록되지 않은 풀이므로 커넥션 풀 메트릭을 직접 등록
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+
+        replicaRouting = new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker,
+                maxLagSeconds, allowStandalone, staleMs, meterRegistry);
+        replicaRouting.checkReplicas();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaRouting);
+        return dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.datasource.replica.check-ms:5000}")
+    public void checkReplicas() {
+        if (replicaRouting != null) {
+            replicaRouting.checkReplicas();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaRouting != null) {
+            replicaRouting.close();
+        }
+        if (primary != null) {
+            primary.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.chattingstudy.global.config;
+
+import com.study.chattingstudy.global.query.QueryBudget;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 집계용 DataSource 프록시 설정
+ * - 자동 구성된 DataSource(HikariCP)를 datasource-proxy 로 감싸 실행한 SQL 을 QueryBudget 범위에 누적
+ * - 커넥션 풀 메트릭/헬스 체크는 unwrap 으로 원래 DataSource 를 찾으므로 그대로 동작
+ * - chat.query-budget.enabled=false 이면 프록시를 적용하지 않음
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    // 다른 빈보다 먼저 생성되는 후처리기이므로 static 으로 등록하고 다른 빈에 의존하지 않음
+    @Bean
+    public static BeanPostProcessor queryBudgetDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(QueryBudget.listener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.study.chattingstudy.global.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 백그라운드 작업(@Scheduled) 설정
+ * - 스케줄러를 빈으로 등록하면 Executor 빈이 생겨 기본 applicationTaskExecutor(MVC 비동기 처리용)가
+ *   생성되지 않으므로, 스케줄러는 빈으로 등록하지 않고 여기서 직접 생성/종료
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${chat.scheduler.pool-size:2}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("chat-scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        registrar.setTaskScheduler(scheduler);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.destroy();
+    }
+}
@@ -0,0 +1,23 @@
+package com.study.chattingstudy.global.config;
+
+import com.study.chattingstudy.global.query.QueryBudget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ * - 비동기 처리(WebAsyncTask, StreamingResponseBody)의 작업 스레드로 요청의 SQL 집계 범위를 넘김
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final QueryBudget queryBudget;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(queryBudget.asyncInterceptor());
+    }
+}
@@ -1,20 +1,44 @@
 package com.study.chattingstudy.global.config;
 
+import com.study.chattingstudy.domain.chat.interceptor.EphemeralMessageInterceptor;
 import com.study.chattingstudy.domain.chat.interceptor.JwtWebSocketInterceptor;
+import com.study.chattingstudy.global.config.handler.SlowConsumerTracker;
+import com.study.chattingstudy.global.datasource.ReadYourWritesTracker;
+import com.study.chattingstudy.global.metrics.StompChannelMetrics;
+import com.study.chattingstudy.global.query.QueryBudget;
+import com.study.chattingstudy.global.trace.MessageTracer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
-public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigurer {
+public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigurer, DisposableBean {
 
     private final JwtWebSocketInterceptor jwtWebSocketInterceptor;
+    private final EphemeralMessageInterceptor ephemeralMessageInterceptor;
+    private final SlowConsumerTracker slowConsumerTracker;
+    private final MeterRegistry meterRegistry;
+    private final MessageTracer messageTracer;
+    private final QueryBudget queryBudget;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // STOMP heartbeat 간격 (서버 전송, 클라이언트 전송) - 접속 상태(presence)의 마지막 접속 시각 갱신에 사용
+    @Value("${chat.websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    // heartbeat 전용 스케줄러 (SchedulingConfig 와 같은 이유로 빈으로 등록하지 않음)
+    private final ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
 
     /**
      * 메시지 브로커 설정
@@ -23,8 +47,14 @@ public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigu
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("ws-heartbeat-");
+        heartbeatScheduler.initialize();
+
         // 구독(sub): 클라이언트가 구독할 수 있는 주제 접두사 - '/user' 추가
-        config.enableSimpleBroker("/sub", "/user");
+        config.enableSimpleBroker("/sub", "/user")
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(heartbeatScheduler);
 
         // 사용자 목적지 프리픽스 설정
         config.setUserDestinationPrefix("/user");
@@ -50,10 +80,42 @@ public class WebSocketStompBrokerConfig implements WebSocketMessageBrokerConfigu
     /**
      * 클라이언트 인바운드 채널 설정
      * - JWT 인증 인터셉터 등록
+     * - 메시지 수/처리 시간 메트릭 수집
+     * - 샘플링된 메시지에 지연 시간 추적 헤더 추가
+     * - 메시지 처리 중 실행한 SQL 수/시간 집계
+     * - 메시지 처리 중 읽기는 메시지 사용자의 쓰기 직후 읽기 고정을 따름
      */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // JwtWebSocketInterceptor를 채널 인터셉터로 등록
-        registration.interceptors(jwtWebSocketInterceptor);
+        registration.interceptors(jwtWebSocketInterceptor, new StompChannelMetrics("inbound", meterRegistry),
+                messageTracer.inboundInterceptor(), queryBudget.inboundInterceptor(),
+                readYourWritesTracker.inboundInterceptor());
+    }
+
+    /**
+     * 클라이언트 아웃바운드 채널 설정
+     * - 느린 구독자에게는 휘발성 메시지(타이핑 표시 등)를 보내지 않음
+     * - 메시지 수/소켓 쓰기 시간 메트릭 수집
+     * - 추적 중인 메시지의 발행/대기/소켓 쓰기 구간 기록
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(ephemeralMessageInterceptor, new StompChannelMetrics("outbound", meterRegistry),
+                messageTracer.outboundInterceptor());
+    }
+
+    /**
+     * WebSocket 전송 설정
+     * - 세션별 소켓 쓰기 지연을 추적하여 느린 구독자 판단에 사용
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.addDecoratorFactory(slowConsumerTracker.decoratorFactory());
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatScheduler.destroy();
     }
 }
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -24,6 +25,9 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     // 채팅방 ID를 세션에 저장할 키
     private static final String CHAT_ROOM_ID = "chatRoomId";
 
+    // 연결된 세션 수 (연결/종료 시 증감)
+    private static final AtomicInteger sessionCount = new AtomicInteger();
+
     /**
      * 연결 성공 시 세션에 채팅방 ID 저장 및 해당 방에 세션 추가
      */
@@ -39,6 +43,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         session.getAttributes().put(CHAT_ROOM_ID, roomId); // 세션에 채팅방 ID 저장
 
         roomSessions.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(session.getId(), session);
+        sessionCount.incrementAndGet();
 
         System.out.println("[+] 연결됨 :: 세션ID=" + session.getId() + ", 채팅방ID=" + roomId);
     }
@@ -76,7 +81,9 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         if (roomId != null) {
             Map<String, WebSocketSession> sessionsInRoom = roomSessions.get(roomId);
             if (sessionsInRoom != null) {
-                sessionsInRoom.remove(session.getId());
+                if (sessionsInRoom.remove(session.getId()) != null) {
+                    sessionCount.decrementAndGet();
+                }
 
                 if (sessionsInRoom.isEmpty()) {
                     roomSessions.remove(roomId);
@@ -87,6 +94,16 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         System.out.println("[+] 연결 종료 :: 세션ID=" + session.getId() + ", 채팅방ID=" + roomId + ", 상태=" + status);
     }
 
+    // 연결된 세션 수
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    // 세션이 있는 채팅방 수
+    public int getRoomCount() {
+        return roomSessions.size();
+    }
+
     /**
      * URI에서 채팅방 ID 추출 (예: /ws/chat/{roomId})
      */
@@ -0,0 +1,130 @@
+package com.study.chattingstudy.global.config.handler;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방별 STOMP 구독자 수 집계
+ * - SUBSCRIBE/UNSUBSCRIBE/연결 종료 이벤트마다 채팅방 카운터를 증감 (조회 시 세션을 순회하지 않음)
+ * - 구독자 수 상위 채팅방은 주기적으로 스냅샷을 만들어 두고 조회 시 그대로 반환
+ */
+@Component
+public class RoomSubscriptionTracker {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/chat/private/";
+
+    // 스냅샷에 보관할 상위 채팅방 수
+    @Value("${chat.stats.top-rooms:20}")
+    private int topRooms;
+
+    // 채팅방 ID -> 구독 수
+    private final Map<String, AtomicInteger> subscribers = new ConcurrentHashMap<>();
+
+    // 세션 ID -> (구독 ID -> 채팅방 ID)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    private volatile List<RoomSubscribers> topSnapshot = List.of();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        Message<byte[]> message = event.getMessage();
+        String chatId = chatIdOf(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (chatId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>())
+                .put(subscriptionId, chatId);
+        if (previous != null) {
+            decrement(previous);
+        }
+        subscribers.compute(chatId, (k, count) -> {
+            AtomicInteger updated = count != null ? count : new AtomicInteger();
+            updated.incrementAndGet();
+            return updated;
+        });
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        Message<byte[]> message = event.getMessage();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        String chatId = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (chatId != null) {
+            decrement(chatId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    public int getSubscribers(String chatId) {
+        AtomicInteger count = subscribers.get(chatId);
+        return count != null ? count.get() : 0;
+    }
+
+    // 구독자가 있는 채팅방 수
+    public int getSubscribedRooms() {
+        return subscribers.size();
+    }
+
+    public List<RoomSubscribers> getTopRooms() {
+        return topSnapshot;
+    }
+
+    /**
+     * 구독자 수 상위 채팅방 스냅샷 갱신 (요청 처리 경로와 분리)
+     */
+    @Scheduled(fixedRateString = "${chat.stats.refresh-ms:5000}")
+    public void refreshTopRooms() {
+        topSnapshot = subscribers.entrySet().stream()
+                .map(entry -> new RoomSubscribers(entry.getKey(), entry.getValue().get()))
+                .filter(room -> room.subscribers() > 0)
+                .sorted(Comparator.comparingInt(RoomSubscribers::subscribers).reversed())
+                .limit(topRooms)
+                .toList();
+    }
+
+    private void decrement(String chatId) {
+        // 0 이 되면 제거 - 동시에 증가한 경우는 제거하지 않음
+        subscribers.computeIfPresent(chatId, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private String chatIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        String chatId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        // 하위 목적지(/read, /typing)는 같은 채팅방의 부가 구독이므로 제외
+        return chatId.isEmpty() || chatId.contains("/") ? null : chatId;
+    }
+
+    public record RoomSubscribers(String chatId, int subscribers) {
+    }
+}
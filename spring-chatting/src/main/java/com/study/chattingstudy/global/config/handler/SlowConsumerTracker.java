@@ -0,0 +1,173 @@
+package com.study.chattingstudy.global.config.handler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.sockjs.transport.session.PollingSockJsSession;
+import org.springframework.web.socket.sockjs.transport.session.StreamingSockJsSession;
+import org.springframework.web.socket.sockjs.transport.session.WebSocketServerSockJsSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션별 소켓 쓰기 지연 추적
+ * - 실제 소켓 쓰기가 시작된 시각을 기록하여, 쓰기가 오래 끝나지 않는 세션을 느린 구독자로 판단
+ * - 느린 세션은 쓰기가 끝날 때까지 이후 메시지가 세션 버퍼에 쌓이므로, 휘발성 메시지는 보내지 않는 편이 나음
+ * - 전송 방식별 세션 수와 쓰기 중인 세션 목록을 연결/쓰기 시점에 갱신하므로 조회 시 전체 세션을 순회하지 않음
+ */
+@Component
+public class SlowConsumerTracker {
+
+    // 소켓 쓰기가 이 시간 이상 진행 중이면 느린 구독자로 판단
+    @Value("${chat.websocket.slow-send-threshold-ms:1000}")
+    private long slowSendThresholdMs;
+
+    // WebSocket 세션 ID(= STOMP 세션 ID) -> 추적 중인 세션
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    // 소켓 쓰기가 진행 중인 세션 (느린 세션 판단은 이 안에서만 수행)
+    private final Set<TrackedSession> sending = ConcurrentHashMap.newKeySet();
+
+    // 전송 방식 -> 세션 수
+    private final Map<String, AtomicInteger> transportCounts = new ConcurrentHashMap<>();
+
+    public SlowConsumerTracker(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.websocket.sessions", sessions, Map::size)
+                .description("이 노드에 연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.sessions.slow", this, SlowConsumerTracker::countSlow)
+                .description("소켓 쓰기가 밀려 있는 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isSlow(String sessionId) {
+        TrackedSession session = sessions.get(sessionId);
+        if (session == null) {
+            return false;
+        }
+        long startedAt = session.sendStartedAt;
+        return startedAt != 0 && System.currentTimeMillis() - startedAt >= slowSendThresholdMs;
+    }
+
+    private long countSlow() {
+        return getBackedUpSessions(Integer.MAX_VALUE).size();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    // 전송 방식별 세션 수 (websocket, sockjs-websocket, sockjs-streaming, sockjs-polling)
+    public Map<String, Integer> getTransportCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        transportCounts.forEach((transport, count) -> counts.put(transport, count.get()));
+        return counts;
+    }
+
+    /**
+     * 소켓 쓰기가 임계값 이상 진행 중인 세션 (오래된 순)
+     */
+    public List<BackedUpSession> getBackedUpSessions(int limit) {
+        long now = System.currentTimeMillis();
+        List<BackedUpSession> backedUp = new ArrayList<>();
+        for (TrackedSession session : sending) {
+            long startedAt = session.sendStartedAt;
+            if (startedAt != 0 && now - startedAt >= slowSendThresholdMs) {
+                backedUp.add(new BackedUpSession(session.getId(), session.transport, now - startedAt));
+            }
+        }
+        backedUp.sort(Comparator.comparingLong(BackedUpSession::sendingForMs).reversed());
+        return backedUp.size() > limit ? backedUp.subList(0, limit) : backedUp;
+    }
+
+    /**
+     * STOMP 처리기 앞에 등록하는 데코레이터 - 세션을 감싸 소켓 쓰기 시간을 기록
+     */
+    public WebSocketHandlerDecoratorFactory decoratorFactory() {
+        return handler -> new TrackingHandler(handler);
+    }
+
+    private class TrackingHandler extends WebSocketHandlerDecorator {
+
+        TrackingHandler(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+            TrackedSession tracked = new TrackedSession(session, transportOf(session), sending);
+            sessions.put(session.getId(), tracked);
+            transportCounts.computeIfAbsent(tracked.transport, k -> new AtomicInteger()).incrementAndGet();
+            super.afterConnectionEstablished(tracked);
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            TrackedSession tracked = sessions.remove(session.getId());
+            if (tracked != null) {
+                sending.remove(tracked);
+                transportCounts.get(tracked.transport).decrementAndGet();
+            }
+            super.afterConnectionClosed(session, closeStatus);
+        }
+    }
+
+    private static String transportOf(WebSocketSession session) {
+        if (session instanceof WebSocketServerSockJsSession) {
+            return "sockjs-websocket";
+        }
+        if (session instanceof StreamingSockJsSession) {
+            return "sockjs-streaming";
+        }
+        if (session instanceof PollingSockJsSession) {
+            return "sockjs-polling";
+        }
+        return "websocket";
+    }
+
+    public record BackedUpSession(String sessionId, String transport, long sendingForMs) {
+    }
+
+    private static class TrackedSession extends WebSocketSessionDecorator {
+
+        private final String transport;
+        private final Set<TrackedSession> sending;
+
+        // 진행 중인 소켓 쓰기 시작 시각 (0 이면 쓰기 없음)
+        private volatile long sendStartedAt;
+
+        TrackedSession(WebSocketSession session, String transport, Set<TrackedSession> sending) {
+            super(session);
+            this.transport = transport;
+            this.sending = sending;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            sendStartedAt = System.currentTimeMillis();
+            sending.add(this);
+            try {
+                super.sendMessage(message);
+            } finally {
+                sendStartedAt = 0;
+                sending.remove(this);
+            }
+        }
+    }
+}
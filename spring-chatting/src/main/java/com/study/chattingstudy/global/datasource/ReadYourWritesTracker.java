@@ -0,0 +1,268 @@
+package com.study.chattingstudy.global.datasource;
+
+import com.study.chattingstudy.domain.chat.event.ChatDeliveryEvent;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 쓰기 직후 읽기 일관성(read-your-writes) 보장
+ * - 사용자의 변경(메시지 전송, 읽음, 채팅방 참여)이 커밋되면 일정 시간 동안 그 사용자의 읽기를 primary 로 고정
+ * - 고정 정보는 이 노드 메모리와 Redis TTL 키에 함께 기록 (다른 노드로 들어온 요청도 고정 여부를 확인)
+ * - Redis 확인 결과는 로컬에 보관하여 읽기마다 Redis 를 조회하지 않음
+ *   (고정 중이면 남은 TTL 동안, 고정되지 않았으면 check-ms 동안 재사용 - 다른 노드의 고정은 최대 check-ms 늦게 반영)
+ * - 읽는 사용자는 스레드에 지정한 사용자(readingAs) -> HTTP 요청의 인증 정보 순으로 판단 (둘 다 없으면 고정하지 않음)
+ *   STOMP 메시지 처리는 inboundInterceptor, 워커 스레드는 propagate 로 감싼 작업이 사용자를 넘겨받음
+ * - 캐시 적재처럼 복제 지연 중인 데이터를 남기면 안 되는 읽기는 readingFromPrimary 로 항상 primary 에서 읽음
+ * - 복제 DB 가 설정되지 않으면 아무것도 기록하지 않음
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String KEY_PREFIX = "chat:rw-pin:";
+    private static final long SWEEP_INTERVAL_MS = 60_000;
+
+    // 현재 스레드의 읽기 조건 (읽는 사용자, primary 강제 여부)
+    private static final ThreadLocal<ReadContext> CURRENT = new ThreadLocal<>();
+
+    // 복제 DB 접속 주소 (없으면 읽기/쓰기 분리 비활성)
+    @Value("${chat.datasource.replica.urls:}")
+    private List<String> replicaUrls;
+
+    // 쓰기 후 읽기를 primary 로 고정하는 시간 (복제 지연 허용치보다 길어야 함)
+    @Value("${chat.datasource.read-your-writes-ms:3000}")
+    private long pinMs;
+
+    // 다른 노드의 고정 기록(Redis) 확인 결과를 재사용하는 시간
+    @Value("${chat.datasource.read-your-writes-check-ms:200}")
+    private long checkMs;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 사용자 ID -> 고정 만료 시각 (epoch ms)
+    private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    // 사용자 ID -> 고정되지 않았다는 Redis 확인 결과의 만료 시각 (epoch ms)
+    private final Map<Long, Long> unpinnedUntil = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepAt = new AtomicLong();
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 변경을 일으킨 사용자의 읽기를 고정
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDelivery(ChatDeliveryEvent event) {
+        if (event.actorUserId() != null) {
+            pin(event.actorUserId());
+        }
+    }
+
+    public void pin(Long userId) {
+        if (replicaUrls.isEmpty()) {
+            return;
+        }
+        sweepExpired();
+
+        pinnedUntil.put(userId, System.currentTimeMillis() + pinMs);
+        unpinnedUntil.remove(userId);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "1", pinMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 다른 노드에서는 복제 지연만큼 이전 데이터를 볼 수 있음
+            log.warn("[ ReadYourWrites ] 읽기 고정 기록 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary 에서 해야 하는지 확인 (primary 강제 또는 읽는 사용자의 고정)
+     */
+    public boolean isPrimaryRequired() {
+        ReadContext context = CURRENT.get();
+        if (context != null && context.primary()) {
+            return true;
+        }
+        Long userId = context != null && context.userId() != null ? context.userId() : authenticatedUserId();
+        return userId != null && isPinned(userId);
+    }
+
+    public boolean isPinned(Long userId) {
+        sweepExpired();
+        long now = System.currentTimeMillis();
+
+        Long until = pinnedUntil.get(userId);
+        if (until != null) {
+            if (until > now) {
+                return true;
+            }
+            pinnedUntil.remove(userId, until);
+        }
+        Long checked = unpinnedUntil.get(userId);
+        if (checked != null && checked > now) {
+            return false;
+        }
+
+        try {
+            // 다른 노드가 기록한 고정은 남은 TTL 만큼 로컬에 보관
+            Long ttl = redisTemplate.getExpire(KEY_PREFIX + userId, TimeUnit.MILLISECONDS);
+            if (ttl != null && ttl > 0) {
+                pinnedUntil.merge(userId, now + ttl, Math::max);
+                return true;
+            }
+            unpinnedUntil.put(userId, now + checkMs);
+            return false;
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 안전하게 primary 에서 읽고, 확인 주기 동안 다시 조회하지 않음
+            log.debug("[ ReadYourWrites ] 읽기 고정 확인 실패: userId={}, {}", userId, e.getMessage());
+            pinnedUntil.merge(userId, now + checkMs, Math::max);
+            return true;
+        }
+    }
+
+    /**
+     * 현재 스레드의 읽는 사용자 지정 (인증 정보가 없는 스레드에서 사용자 대신 조회할 때)
+     * - 반환한 범위를 닫으면 이전 상태로 돌아감
+     */
+    public static ReadScope readingAs(Long userId) {
+        ReadContext previous = CURRENT.get();
+        CURRENT.set(new ReadContext(userId, previous != null && previous.primary()));
+        return new ReadScope(previous);
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary 로 강제 (캐시 적재 등)
+     * - 트랜잭션의 첫 SQL 전에 지정해야 함 (이미 커넥션을 얻은 트랜잭션에는 적용되지 않음)
+     */
+    public static ReadScope readingFromPrimary() {
+        ReadContext previous = CURRENT.get();
+        CURRENT.set(new ReadContext(previous != null ? previous.userId() : null, true));
+        return new ReadScope(previous);
+    }
+
+    /**
+     * 현재 스레드의 읽는 사용자를 작업 실행 스레드로 넘김 (지정한 사용자가 없으면 HTTP 요청의 인증 정보)
+     */
+    public static Runnable propagate(Runnable task) {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return task;
+        }
+        return () -> {
+            try (ReadScope ignored = readingAs(userId)) {
+                task.run();
+            }
+        };
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return task;
+        }
+        return () -> {
+            try (ReadScope ignored = readingAs(userId)) {
+                return task.get();
+            }
+        };
+    }
+
+    /**
+     * clientInboundChannel 인터셉터 - 워커 스레드에서 메시지 1건을 처리하는 동안 메시지 사용자를 읽는 사용자로 지정
+     */
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+
+            // 같은 워커 스레드에서 beforeHandle -> afterMessageHandled 순서로 호출됨
+            private final ThreadLocal<ReadScope> handling = new ThreadLocal<>();
+
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+                if (user instanceof Authentication authentication
+                        && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                    handling.set(readingAs(userDetails.getUserId()));
+                }
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                            Exception ex) {
+                ReadScope scope = handling.get();
+                if (scope != null) {
+                    handling.remove();
+                    scope.close();
+                }
+            }
+        };
+    }
+
+    private static Long currentUserId() {
+        ReadContext context = CURRENT.get();
+        return context != null && context.userId() != null ? context.userId() : authenticatedUserId();
+    }
+
+    private static Long authenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    private void sweepExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepAt.get();
+        if (now - last < SWEEP_INTERVAL_MS || !lastSweepAt.compareAndSet(last, now)) {
+            return;
+        }
+        pinnedUntil.values().removeIf(until -> until <= now);
+        unpinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    private record ReadContext(Long userId, boolean primary) {
+    }
+
+    /**
+     * 스레드 읽기 조건 범위 - 닫으면 이전 조건으로 복원 (연 스레드에서 닫아야 함)
+     */
+    public static final class ReadScope implements AutoCloseable {
+
+        private final ReadContext previous;
+
+        private ReadScope(ReadContext previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
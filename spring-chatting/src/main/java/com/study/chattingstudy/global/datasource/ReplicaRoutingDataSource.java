@@ -0,0 +1,188 @@
+package com.study.chattingstudy.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource (LazyConnectionDataSourceProxy 의 readOnlyDataSource)
+ * - 정상 상태의 복제 DB 를 순서대로 돌아가며 사용하고, 사용할 복제 DB 가 없으면 primary 로 대체
+ * - 쓰기 직후 읽기 고정(ReadYourWritesTracker) 중인 사용자와 primary 강제 읽기(캐시 적재)는 primary 에서 읽음
+ * - 복제 지연은 주기적으로 SHOW REPLICA STATUS 로 확인하고, 허용치를 넘거나 복제가 멈춘 복제 DB 는 제외
+ * - 마지막 확인 성공 후 stale-ms 가 지나면 (스케줄러 지연 등으로 확인이 밀리면) 지연을 알 수 없으므로 제외
+ * - 커넥션 획득에 실패한 복제 DB 도 다음 확인 전까지 제외
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 허용하는 복제 지연 (초)
+    private final long maxLagSeconds;
+
+    // 복제 설정이 없는 독립 DB 를 복제 DB 로 허용 (로컬 테스트용)
+    private final boolean allowStandalone;
+
+    // 마지막 복제 지연 확인 성공 후 복제 DB 를 계속 사용하는 시간
+    private final long staleMs;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    long maxLagSeconds, boolean allowStandalone, long staleMs,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagSeconds = maxLagSeconds;
+        this.allowStandalone = allowStandalone;
+        this.staleMs = staleMs;
+        this.meterRegistry = meterRegistry;
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("chat.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("복제 DB 복제 지연 (초, 확인 실패 시 -1)")
+                    .baseUnit("seconds")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("chat.datasource.replica.healthy", replica, r -> isUsable(r) ? 1 : 0)
+                    .description("복제 DB 사용 가능 여부")
+                    .tag("pool", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readYourWritesTracker.isPrimaryRequired()) {
+            return primaryConnection("pinned");
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!isUsable(replica)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                countRead(replica.name(), "replica");
+                return connection;
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("[ ReplicaRouting ] 복제 DB 커넥션 획득 실패, 제외: pool={}, {}", replica.name(), e.getMessage());
+            }
+        }
+        return primaryConnection("fallback");
+    }
+
+    /**
+     * 계정을 지정한 커넥션은 primary 로 위임 (복제 DB 풀은 설정된 계정으로만 연결하며 HikariCP 는 계정 지정을 지원하지 않음)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        countRead("primary", "credentials");
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 복제 DB 상태 확인 - 복제 지연이 허용치 이내이고 복제가 동작 중인 복제 DB 만 사용
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            long lag = measureLag(replica.dataSource);
+            replica.lagSeconds = lag;
+            replica.healthy = lag >= 0 && lag <= maxLagSeconds;
+            if (lag >= 0) {
+                replica.checkedAt = System.currentTimeMillis();
+            }
+
+            if (wasHealthy != replica.healthy) {
+                log.warn("[ ReplicaRouting ] 복제 DB 상태 변경: pool={}, healthy={}, lagSeconds={}",
+                        replica.name(), replica.healthy, lag);
+            }
+        }
+    }
+
+    // 상태 확인 결과가 정상이고 마지막 확인 성공이 stale-ms 이내인 복제 DB 만 사용
+    private boolean isUsable(Replica replica) {
+        return replica.healthy && System.currentTimeMillis() - replica.checkedAt <= staleMs;
+    }
+
+    // 복제 지연 (초), 확인할 수 없거나 복제가 멈췄으면 -1
+    long measureLag(HikariDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                if (!resultSet.next()) {
+                    return allowStandalone ? 0 : -1;
+                }
+                long lag = resultSet.getLong(LAG_COLUMN);
+                return resultSet.wasNull() ? -1 : lag;
+            }
+        } catch (SQLException e) {
+            log.debug("[ ReplicaRouting ] 복제 지연 확인 실패: pool={}, {}", dataSource.getPoolName(), e.getMessage());
+            return -1;
+        }
+    }
+
+    private Connection primaryConnection(String reason) throws SQLException {
+        countRead("primary", reason);
+        return primary.getConnection();
+    }
+
+    private void countRead(String pool, String reason) {
+        Counter.builder("chat.datasource.reads")
+                .description("읽기 전용 트랜잭션의 커넥션 획득 수")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static class Replica {
+
+        private final HikariDataSource dataSource;
+
+        // 첫 상태 확인 전까지는 사용하지 않음
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        // 마지막 복제 지연 확인 성공 시각 (epoch ms)
+        private volatile long checkedAt;
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
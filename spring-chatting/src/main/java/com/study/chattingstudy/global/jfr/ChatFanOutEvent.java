@@ -0,0 +1,33 @@
+package com.study.chattingstudy.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 변경 사항 팬아웃(참여자별 동기화 로그 저장 + 전달 이벤트 발행) JFR 이벤트
+ */
+@Name("com.study.chattingstudy.FanOut")
+@Label("Chat Fan-out")
+@Description("참여자 전원의 동기화 로그 기록과 캐시 무효화/전달 이벤트 발행")
+@Category({"Chat", "Message"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class ChatFanOutEvent extends Event {
+
+    @Label("Chat ID")
+    public String chatId;
+
+    @Label("Change Type")
+    public String changeType;
+
+    @Label("Actor User ID")
+    public long actorUserId;
+
+    @Label("Recipients")
+    public int recipients;
+}
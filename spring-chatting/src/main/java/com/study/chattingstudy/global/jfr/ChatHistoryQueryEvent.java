@@ -0,0 +1,37 @@
+package com.study.chattingstudy.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 메시지 히스토리/동기화 조회 JFR 이벤트 (캐시 적중 시에는 기록되지 않음)
+ */
+@Name("com.study.chattingstudy.HistoryQuery")
+@Label("Chat History Query")
+@Description("메시지 목록, 일자별 메시지, 동기화 조회")
+@Category({"Chat", "Query"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class ChatHistoryQueryEvent extends Event {
+
+    @Label("Query Type")
+    @Description("messages, day, sync")
+    public String queryType;
+
+    @Label("Chat ID")
+    public String chatId;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Limit")
+    public int limit;
+
+    @Label("Result Size")
+    public int resultSize;
+}
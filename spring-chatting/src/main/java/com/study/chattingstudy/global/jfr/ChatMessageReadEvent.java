@@ -0,0 +1,34 @@
+package com.study.chattingstudy.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 메시지 읽음 처리 JFR 이벤트
+ */
+@Name("com.study.chattingstudy.MessageRead")
+@Label("Chat Message Read")
+@Description("메시지 읽음 상태 업데이트 (단일 메시지 또는 채팅방 전체)")
+@Category({"Chat", "Message"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class ChatMessageReadEvent extends Event {
+
+    @Label("Chat ID")
+    public String chatId;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Message ID")
+    @Description("읽은 메시지 ID (채팅방 전체 읽음이면 null)")
+    public String messageId;
+
+    @Label("Updated Messages")
+    public int updatedCount;
+}
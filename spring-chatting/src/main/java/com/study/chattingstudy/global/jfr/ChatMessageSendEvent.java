@@ -0,0 +1,37 @@
+package com.study.chattingstudy.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 메시지 전송(저장 + 동기화 로그 + 일자 버킷) JFR 이벤트
+ */
+@Name("com.study.chattingstudy.MessageSend")
+@Label("Chat Message Send")
+@Description("메시지 전송 처리 (저장소 저장부터 일자 버킷 갱신까지)")
+@Category({"Chat", "Message"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class ChatMessageSendEvent extends Event {
+
+    @Label("Chat ID")
+    public String chatId;
+
+    @Label("Room ID")
+    public long roomId;
+
+    @Label("User ID")
+    public long userId;
+
+    @Label("Participants")
+    public int participants;
+
+    @Label("Content Length")
+    @Description("메시지 내용 길이 (문자 수)")
+    public int contentLength;
+}
@@ -0,0 +1,32 @@
+package com.study.chattingstudy.global.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JWT 인증(서명 검증, 클레임 파싱, 폐기 여부 확인) JFR 이벤트
+ */
+@Name("com.study.chattingstudy.JwtAuthentication")
+@Label("JWT Authentication")
+@Description("HTTP 요청 또는 STOMP CONNECT 의 JWT 검증")
+@Category({"Chat", "Security"})
+@StackTrace(false)
+@Threshold("1 ms")
+public class JwtAuthenticationEvent extends Event {
+
+    @Label("Channel")
+    @Description("http 또는 stomp")
+    public String channel;
+
+    @Label("Result")
+    public String result;
+
+    @Label("User ID")
+    @Description("인증에 성공한 사용자 ID (실패 시 0)")
+    public long userId;
+}
@@ -0,0 +1,114 @@
+package com.study.chattingstudy.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 핫패스 로그 샘플링 / 초당 건수 제한 (logback-spring.xml 의 turboFilter)
+ * - 카테고리(로거 이름 접두사)별로 INFO 이하 로그를 sampleRate 비율만 남기고, 초당 maxPerSecond 건을 넘으면 버림
+ * - WARN 이상은 항상 기록
+ * - 메시지 포맷/인코딩 전에 판단하므로 버려지는 로그는 비용이 거의 없음
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private final List<Category> categories = new ArrayList<>();
+
+    // 로거 이름 -> 적용 카테고리 (없으면 Optional.empty())
+    private final Map<String, Optional<Category>> categoryByLogger = new ConcurrentHashMap<>();
+
+    public void addCategory(Category category) {
+        categories.add(category);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled() 같은 레벨 확인 호출(format == null)이나 WARN 이상은 판단하지 않음
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨 설정으로 어차피 버려지는 로그가 샘플링 건수를 소모하지 않도록 먼저 확인
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Optional<Category> category = categoryByLogger.computeIfAbsent(logger.getName(), this::findCategory);
+        if (category.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        return category.get().tryAcquire() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    // 가장 긴 접두사가 일치하는 카테고리
+    private Optional<Category> findCategory(String loggerName) {
+        Category matched = null;
+        for (Category category : categories) {
+            String prefix = category.getLogger();
+            if (prefix != null && (loggerName.equals(prefix) || loggerName.startsWith(prefix + "."))
+                    && (matched == null || prefix.length() > matched.getLogger().length())) {
+                matched = category;
+            }
+        }
+        return Optional.ofNullable(matched);
+    }
+
+    /**
+     * 샘플링 카테고리 설정
+     * - logger       : 로거 이름 또는 패키지 접두사
+     * - sampleRate   : 남길 비율 (0 ~ 1, 기본 1)
+     * - maxPerSecond : 초당 최대 기록 건수 (0 이면 제한 없음)
+     */
+    public static class Category {
+
+        private String logger;
+        private double sampleRate = 1.0;
+        private int maxPerSecond;
+
+        private final AtomicLong windowStartedAt = new AtomicLong();
+        private final AtomicInteger windowCount = new AtomicInteger();
+
+        public String getLogger() {
+            return logger;
+        }
+
+        public void setLogger(String logger) {
+            this.logger = logger;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        boolean tryAcquire() {
+            if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                return false;
+            }
+            if (maxPerSecond <= 0) {
+                return true;
+            }
+
+            // 1초 고정 윈도우 - 윈도우가 바뀌면 한 스레드만 초기화
+            long now = System.currentTimeMillis();
+            long startedAt = windowStartedAt.get();
+            if (now - startedAt >= 1000 && windowStartedAt.compareAndSet(startedAt, now)) {
+                windowCount.set(0);
+            }
+            return windowCount.incrementAndGet() <= maxPerSecond;
+        }
+    }
+}
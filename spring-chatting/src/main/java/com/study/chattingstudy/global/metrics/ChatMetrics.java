@@ -0,0 +1,141 @@
+package com.study.chattingstudy.global.metrics;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.enums.ChatChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 서비스 핵심 경로 메트릭
+ * - 서비스 메서드 소요 시간은 @Timed(chat.service.duration) 로 측정하고, 여기서는 전달 대상 수와 처리량을 집계
+ * - 태그는 작업 이름/결과/채팅방 유형처럼 값의 종류가 고정된 것만 사용 (사용자 ID, 채팅방 ID 는 태그로 쓰지 않음)
+ * - 채팅방별 처리량은 채팅방 ID 대신 "채팅방당 분당 메시지 수" 분포와 활성 채팅방 수로 집계
+ * - DB 시간은 Spring Data 저장소 메트릭(spring.data.repository.invocations)과 HikariCP 메트릭으로 확인
+ * - 구간 마감 시 메시지 수 상위 채팅방 스냅샷을 남겨 운영 통계 API 에서 그대로 사용
+ */
+@Component
+public class ChatMetrics {
+
+    // 집계 구간 길이
+    @Value("${chat.metrics.room-window-ms:60000}")
+    private long roomWindowMs;
+
+    // 스냅샷에 보관할 상위 채팅방 수
+    @Value("${chat.stats.top-rooms:20}")
+    private int topRooms;
+
+    private final MeterRegistry meterRegistry;
+
+    // 채팅방 ID -> 현재 집계 구간의 메시지 수
+    private final Map<String, LongAdder> roomMessageCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger activeRooms = new AtomicInteger();
+    private final DistributionSummary roomThroughput;
+
+    // 직전 집계 구간의 채팅방별 메시지 수와 상위 채팅방
+    private volatile Map<String, Long> lastWindowCounts = Map.of();
+    private volatile List<RoomMessageRate> topRoomsSnapshot = List.of();
+
+    public ChatMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        this.roomThroughput = DistributionSummary.builder("chat.room.messages.per.minute")
+                .description("집계 구간(1분) 동안 메시지가 있었던 채팅방별 메시지 수 분포")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("chat.rooms.active", activeRooms, AtomicInteger::get)
+                .description("직전 집계 구간에 메시지가 있었던 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 변경 전달 대상 수 (동기화 로그 기록/캐시 무효화/받은편지함 대상)
+     */
+    public void recordFanOut(ChatChangeType type, int recipients) {
+        DistributionSummary.builder("chat.fanout.recipients")
+                .description("변경 1건당 전달 대상 참여자 수")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(recipients);
+    }
+
+    /**
+     * 메시지 전송 수와 채팅방별 처리량 집계
+     */
+    public void recordMessageSent(ChatRoomMeta room) {
+        Counter.builder("chat.messages.sent")
+                .description("전송된 메시지 수")
+                .tag("room.type", room.type() == null ? "unknown" : room.type())
+                .register(meterRegistry)
+                .increment();
+        roomMessageCounts.computeIfAbsent(room.chatId(), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * 채팅방별 집계 구간 마감 - 메시지가 있었던 채팅방마다 메시지 수를 분포에 기록
+     */
+    @Scheduled(fixedRateString = "${chat.metrics.room-window-ms:60000}")
+    public void closeRoomWindow() {
+        int rooms = 0;
+        Map<String, Long> windowCounts = new HashMap<>();
+        PriorityQueue<RoomMessageRate> top = new PriorityQueue<>(Comparator.comparingLong(RoomMessageRate::messages));
+        for (Map.Entry<String, LongAdder> entry : roomMessageCounts.entrySet()) {
+            // 제거 후 합산 - 제거 이후 들어온 메시지는 다음 구간의 새 카운터로 집계
+            if (roomMessageCounts.remove(entry.getKey(), entry.getValue())) {
+                long messages = entry.getValue().sum();
+                roomThroughput.record(messages);
+                windowCounts.put(entry.getKey(), messages);
+                rooms++;
+
+                top.offer(new RoomMessageRate(entry.getKey(), messages, messages * 1000.0 / roomWindowMs));
+                if (top.size() > topRooms) {
+                    top.poll();
+                }
+            }
+        }
+        activeRooms.set(rooms);
+        lastWindowCounts = windowCounts;
+        topRoomsSnapshot = top.stream()
+                .sorted(Comparator.comparingLong(RoomMessageRate::messages).reversed())
+                .toList();
+    }
+
+    // 직전 집계 구간에 메시지가 있었던 채팅방 수
+    public int getActiveRooms() {
+        return activeRooms.get();
+    }
+
+    // 직전 집계 구간의 채팅방 메시지 수
+    public long getRoomMessages(String chatId) {
+        return lastWindowCounts.getOrDefault(chatId, 0L);
+    }
+
+    public long getRoomWindowMs() {
+        return roomWindowMs;
+    }
+
+    // 직전 집계 구간의 메시지 수 상위 채팅방 (메시지 수 내림차순)
+    public List<RoomMessageRate> getTopRooms() {
+        return topRoomsSnapshot;
+    }
+
+    /**
+     * @param messages 집계 구간 동안의 메시지 수
+     * @param messagesPerSecond 집계 구간 평균 초당 메시지 수
+     */
+    public record RoomMessageRate(String chatId, long messages, double messagesPerSecond) {
+    }
+}
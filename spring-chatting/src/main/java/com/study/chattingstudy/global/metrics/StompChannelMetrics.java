@@ -0,0 +1,93 @@
+package com.study.chattingstudy.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * STOMP 채널(clientInbound/clientOutbound) 메트릭
+ * - 메시지 수: 메시지 유형별 카운터
+ * - 처리 시간: 채널 워커 스레드에서 메시지를 처리한 시간 (inbound: @MessageMapping 처리, outbound: 소켓 쓰기)
+ * - 목적지는 등록된 애플리케이션 목적지만 태그로 남기고 나머지는 other 로 묶음
+ * - 채널 대기열 길이는 Spring Boot 실행기 메트릭(executor.queued, name=clientInboundChannel/clientOutboundChannel)으로 확인
+ */
+public class StompChannelMetrics implements ExecutorChannelInterceptor {
+
+    // 태그로 남길 애플리케이션 목적지 (@MessageMapping, @SubscribeMapping 목적지)
+    private static final Set<String> KNOWN_DESTINATIONS = Set.of(
+            "/pub/chat/private", "/pub/chat/read", "/pub/chat/typing", "/pub/chat/trace/receipt",
+            "/pub/chat/session", "/pub/chat/inbox");
+
+    private final String direction;
+    private final MeterRegistry meterRegistry;
+
+    // 같은 워커 스레드에서 beforeHandle -> afterMessageHandled 순서로 호출됨
+    private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+    /**
+     * @param direction inbound 또는 outbound
+     */
+    public StompChannelMetrics(String direction, MeterRegistry meterRegistry) {
+        this.direction = direction;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        Counter.builder("chat.stomp.messages")
+                .description("STOMP 채널을 통과한 메시지 수")
+                .tag("direction", direction)
+                .tag("type", typeOf(message))
+                .register(meterRegistry)
+                .increment();
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        handleStartedAt.set(System.nanoTime());
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        Long startedAt = handleStartedAt.get();
+        if (startedAt == null) {
+            return;
+        }
+        handleStartedAt.remove();
+
+        Timer.builder("chat.stomp.handle.duration")
+                .description("STOMP 채널 메시지 처리 시간")
+                .tag("direction", direction)
+                .tag("type", typeOf(message))
+                .tag("destination", destinationTag(message))
+                .tag("outcome", ex == null ? "success" : "error")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    // 메시지 유형 (CONNECT, MESSAGE, SUBSCRIBE, HEARTBEAT 등 - inbound SEND 는 MESSAGE)
+    private String typeOf(Message<?> message) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        return messageType == null ? "UNKNOWN" : messageType.name();
+    }
+
+    // 태그용 목적지 - 등록된 애플리케이션 목적지만 그대로 남기고 나머지는 other
+    public static String destinationTag(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return "none";
+        }
+        return KNOWN_DESTINATIONS.contains(destination) ? destination : "other";
+    }
+}
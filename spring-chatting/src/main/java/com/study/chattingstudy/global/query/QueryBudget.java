@@ -0,0 +1,370 @@
+package com.study.chattingstudy.global.query;
+
+import com.study.chattingstudy.global.metrics.StompChannelMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 SQL 실행 수/시간 집계와 예산 초과 감지
+ * - DataSource 프록시(datasource-proxy)가 실행한 SQL 을 현재 스레드에 열린 범위(Scope)에 누적
+ * - 범위는 HTTP 요청(QueryBudgetFilter) 또는 STOMP 인바운드 메시지 처리(inboundInterceptor) 단위로 열림
+ * - 요청을 다른 스레드에서 이어 처리하면 범위를 함께 넘김
+ *   (MVC 비동기 처리는 asyncInterceptor, 자체 워커 풀은 propagate 로 감싼 작업)
+ * - 범위가 닫힐 때 실행 수/시간 예산을 넘었거나 같은 SQL 이 반복 실행(N+1 의심)되면 경고 로그와 메트릭을 남김
+ * - 엔드포인트 태그는 URL 패턴 또는 등록된 STOMP 목적지만 사용
+ * - 테스트에서는 open() 으로 범위를 직접 열고 statements() 로 실행 수를 확인
+ */
+@Slf4j
+@Component
+public class QueryBudget {
+
+    // 현재 스레드에 열린 범위 (중첩해서 열면 바깥 범위에 누적, 항상 바깥 범위를 보관)
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    // MVC 비동기 처리로 넘길 범위를 보관하는 요청 속성
+    private static final String ASYNC_SCOPE_ATTRIBUTE = QueryBudget.class.getName() + ".ASYNC_SCOPE";
+
+    // 경고 로그에 남길 SQL 최대 길이
+    private static final int MAX_SQL_LOG_LENGTH = 200;
+
+    private static final QueryExecutionListener LISTENER = new QueryExecutionListener() {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Scope scope = CURRENT.get();
+            if (scope != null) {
+                scope.record(execInfo.getElapsedTime(), queryInfoList);
+            }
+        }
+    };
+
+    // 범위당 허용 SQL 실행 수
+    @Value("${chat.query-budget.max-statements:20}")
+    private int maxStatements;
+
+    // 범위당 허용 SQL 실행 시간 합계
+    @Value("${chat.query-budget.max-time-ms:200}")
+    private long maxTimeMs;
+
+    // 같은 SQL 이 이 횟수 이상 실행되면 N+1 의심으로 판단
+    @Value("${chat.query-budget.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudget(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * DataSource 프록시에 등록하는 리스너 (QueryBudgetConfig)
+     */
+    public static QueryExecutionListener listener() {
+        return LISTENER;
+    }
+
+    /**
+     * 현재 스레드에 범위 열기 - 이미 열린 범위가 있으면 바깥 범위를 보여주는 범위를 반환 (닫아도 바깥 범위는 유지)
+     * @param endpoint 집계 대상 (예: GET /api/chats/{chatId}, STOMP /pub/chat/private)
+     */
+    public Scope open(String endpoint) {
+        Scope current = CURRENT.get();
+        if (current != null) {
+            return new Scope(this, current.endpoint, current);
+        }
+
+        Scope scope = new Scope(this, endpoint, null);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 현재 스레드에 열린 범위를 작업 실행 스레드로 넘김 (워커 스레드에서 실행한 SQL 도 같은 요청에 누적)
+     * - 열린 범위가 없으면 작업을 그대로 반환
+     */
+    public static Runnable propagate(Runnable task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = attach(scope);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return task;
+        }
+        return () -> {
+            Scope previous = attach(scope);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드에서 범위를 떼어냄 - 비동기로 이어지는 요청은 범위를 닫지 않고 스레드만 비움
+     */
+    static void detach(Scope scope) {
+        if (CURRENT.get() == scope) {
+            CURRENT.remove();
+        }
+    }
+
+    private static Scope attach(Scope scope) {
+        Scope previous = CURRENT.get();
+        CURRENT.set(scope);
+        return previous;
+    }
+
+    private static void restore(Scope previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * MVC 비동기 처리(WebAsyncTask, StreamingResponseBody) 인터셉터 - 요청 스레드의 범위를 작업 스레드로 넘김
+     */
+    public CallableProcessingInterceptor asyncInterceptor() {
+        return new CallableProcessingInterceptor() {
+
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                Scope scope = CURRENT.get();
+                if (scope != null) {
+                    request.setAttribute(ASYNC_SCOPE_ATTRIBUTE, scope, RequestAttributes.SCOPE_REQUEST);
+                }
+            }
+
+            @Override
+            public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+                Object scope = request.getAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+                if (scope instanceof Scope captured) {
+                    CURRENT.set(captured);
+                }
+            }
+
+            @Override
+            public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * clientInboundChannel 인터셉터 - 워커 스레드에서 메시지 1건을 처리하는 동안 범위를 열어 둠
+     */
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+
+            // 같은 워커 스레드에서 beforeHandle -> afterMessageHandled 순서로 호출됨
+            private final ThreadLocal<Scope> handling = new ThreadLocal<>();
+
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                handling.set(open("STOMP " + StompChannelMetrics.destinationTag(message)));
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                            Exception ex) {
+                Scope scope = handling.get();
+                if (scope != null) {
+                    handling.remove();
+                    scope.close();
+                }
+            }
+        };
+    }
+
+    private void close(Scope scope) {
+        detach(scope);
+
+        // 워커 스레드가 아직 기록 중일 수 있으므로 닫힌 뒤의 기록은 무시하고, 닫는 시점의 집계만 사용
+        String endpoint;
+        int statements;
+        long elapsedMs;
+        Map.Entry<String, Integer> repeated;
+        synchronized (scope) {
+            if (scope.closed) {
+                return;
+            }
+            scope.closed = true;
+            endpoint = scope.endpoint;
+            statements = scope.statements;
+            elapsedMs = scope.elapsedMs;
+            repeated = scope.mostRepeated();
+        }
+
+        DistributionSummary.builder("chat.db.statements")
+                .description("요청 1건당 SQL 실행 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements);
+        Timer.builder("chat.db.time")
+                .description("요청 1건당 SQL 실행 시간 합계")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(elapsedMs, TimeUnit.MILLISECONDS);
+
+        boolean overStatements = statements > maxStatements;
+        boolean overTime = elapsedMs > maxTimeMs;
+        boolean suspectedNPlusOne = repeated != null && repeated.getValue() >= repeatThreshold;
+
+        if (overStatements) {
+            exceeded(endpoint, "statements");
+        }
+        if (overTime) {
+            exceeded(endpoint, "time");
+        }
+        if (suspectedNPlusOne) {
+            exceeded(endpoint, "repeated");
+        }
+
+        if (overStatements || overTime || suspectedNPlusOne) {
+            log.warn("[ QueryBudget ] SQL 예산 초과: endpoint={}, statements={}/{}, timeMs={}/{}, repeated={}회 {}",
+                    endpoint, statements, maxStatements, elapsedMs, maxTimeMs,
+                    repeated == null ? 0 : repeated.getValue(),
+                    repeated == null ? "" : abbreviate(repeated.getKey()));
+        }
+    }
+
+    private void exceeded(String endpoint, String reason) {
+        Counter.builder("chat.db.budget.exceeded")
+                .description("SQL 예산을 넘은 요청 수")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_SQL_LOG_LENGTH ? sql : sql.substring(0, MAX_SQL_LOG_LENGTH) + "...";
+    }
+
+    /**
+     * 요청 1건의 SQL 실행 집계 (비동기 처리 시 여러 스레드에서 기록하므로 집계는 잠금 안에서 갱신)
+     */
+    public static class Scope implements AutoCloseable {
+
+        private final QueryBudget budget;
+        private String endpoint;
+
+        // 중첩해서 연 경우 바깥 범위 (집계는 바깥 범위에만 누적)
+        private final Scope outer;
+
+        private int statements;
+        private long elapsedMs;
+        private boolean closed;
+
+        // SQL -> 실행 횟수 (바인딩 값이 아닌 SQL 문 기준이므로 같은 쿼리를 반복하면 횟수가 증가)
+        private final Map<String, Integer> sqlCounts = new HashMap<>();
+
+        private Scope(QueryBudget budget, String endpoint, Scope outer) {
+            this.budget = budget;
+            this.endpoint = endpoint;
+            this.outer = outer;
+        }
+
+        private synchronized void record(long elapsedMs, List<QueryInfo> queries) {
+            if (closed) {
+                return;
+            }
+            this.elapsedMs += elapsedMs;
+            for (QueryInfo query : queries) {
+                statements++;
+                sqlCounts.merge(query.getQuery(), 1, Integer::sum);
+            }
+        }
+
+        private Map.Entry<String, Integer> mostRepeated() {
+            return sqlCounts.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+
+        // 범위를 연 뒤에 엔드포인트가 정해지는 경우 (HTTP 요청은 처리 후 URL 패턴이 결정됨)
+        public synchronized void setEndpoint(String endpoint) {
+            if (outer == null) {
+                this.endpoint = endpoint;
+            }
+        }
+
+        // 지금까지 실행된 SQL 수 (배치 실행은 SQL 마다 1건)
+        public int statements() {
+            if (outer != null) {
+                return outer.statements();
+            }
+            synchronized (this) {
+                return statements;
+            }
+        }
+
+        // 지금까지의 SQL 실행 시간 합계
+        public long elapsedMs() {
+            if (outer != null) {
+                return outer.elapsedMs();
+            }
+            synchronized (this) {
+                return elapsedMs;
+            }
+        }
+
+        // 가장 많이 반복된 SQL 의 실행 횟수
+        public int maxRepeats() {
+            if (outer != null) {
+                return outer.maxRepeats();
+            }
+            synchronized (this) {
+                Map.Entry<String, Integer> repeated = mostRepeated();
+                return repeated == null ? 0 : repeated.getValue();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                budget.close(this);
+            }
+        }
+    }
+}
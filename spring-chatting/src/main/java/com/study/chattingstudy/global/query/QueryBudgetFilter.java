@@ -0,0 +1,76 @@
+package com.study.chattingstudy.global.query;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 1건 동안 SQL 실행 범위를 열어 두는 필터
+ * - Spring Security 필터 체인보다 먼저 실행하여 인증 필터의 SQL 도 포함
+ * - 비동기로 이어지는 요청(로그인 워커, WebAsyncTask, StreamingResponseBody)은 요청 스레드에서 범위를 떼어 두고
+ *   비동기 처리가 끝날 때 닫음 (작업 스레드의 SQL 은 QueryBudget.propagate / asyncInterceptor 로 같은 범위에 누적)
+ * - 엔드포인트는 요청 처리 후 매칭된 URL 패턴으로 결정 (매칭되지 않은 요청은 UNKNOWN)
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudget queryBudget;
+
+    public QueryBudgetFilter(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryBudget.Scope scope = queryBudget.open(request.getMethod());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            scope.setEndpoint(request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN"));
+            if (request.isAsyncStarted()) {
+                QueryBudget.detach(scope);
+                request.getAsyncContext().addListener(new ScopeClosingListener(scope));
+            } else {
+                scope.close();
+            }
+        }
+    }
+
+    // 비동기 처리가 끝나면(완료, 시간 초과, 오류) 범위를 닫음 - 여러 번 호출되어도 한 번만 기록
+    private record ScopeClosingListener(QueryBudget.Scope scope) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            scope.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            scope.close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            scope.close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리를 다시 시작하면 (MVC 재디스패치) 이어지는 처리가 끝날 때 닫음
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.study.chattingstudy.global.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메시지 전달 구간별 지연 시간 추적 (샘플링)
+ * - 샘플링된 SEND 프레임에 추적 헤더(trace-*)를 붙이고, 브로드캐스트 메시지에도 그대로 전달
+ * - 추적 헤더는 STOMP 네이티브 헤더이므로 외부 브로커 릴레이를 거쳐 다른 노드로 전달되어도 유지됨
+ * - 노드를 넘는 구간은 epoch ms 로 계산하므로 노드/클라이언트 간 시계 차이만큼 오차가 있음 (음수는 버림)
+ * - 클라이언트는 trace-id 헤더를 직접 보내 샘플링을 강제할 수 있고, 수신 시각은 /pub/chat/trace/receipt 로 보고
+ */
+@Component
+public class MessageTracer {
+
+    // 추적 ID (클라이언트가 보내면 샘플링 여부와 관계없이 추적)
+    public static final String TRACE_ID_HEADER = "trace-id";
+    // 클라이언트 전송 시각 (선택, epoch ms)
+    public static final String CLIENT_SENT_AT_HEADER = "trace-client-sent-at";
+    // 서버 수신 시각 (epoch ms)
+    public static final String RECEIVED_AT_HEADER = "trace-received-at";
+    // 브로커 발행 시각 (epoch ms)
+    public static final String DISPATCHED_AT_HEADER = "trace-dispatched-at";
+
+    // 아웃바운드 채널 진입 시각 (nanoTime, 노드 내부 헤더 - 클라이언트로 전송되지 않음)
+    private static final String OUTBOUND_AT_HEADER = "traceOutboundAt";
+
+    // 이 값보다 큰 구간 값은 시계 차이/잘못된 보고로 보고 버림
+    private static final long MAX_STAGE_MS = Duration.ofMinutes(10).toMillis();
+
+    @Value("${chat.trace.sample-rate:0.01}")
+    private double sampleRate;
+
+    private final Map<Stage, Timer> timers = new EnumMap<>(Stage.class);
+
+    public MessageTracer(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            timers.put(stage, Timer.builder("chat.message.latency")
+                    .description("메시지 전달 구간별 지연 시간 (샘플링)")
+                    .tag("stage", stage.tagValue)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public enum Stage {
+        CLIENT_SEND("client_send"),         // 클라이언트 전송 -> 서버 수신
+        INBOUND_QUEUE("inbound_queue"),     // 서버 수신 -> 핸들러 시작 (인바운드 채널 대기)
+        PERSIST("persist"),                 // 메시지 저장 (트랜잭션 커밋 포함)
+        BROKER_DISPATCH("broker_dispatch"), // 브로커 발행 -> 구독자별 아웃바운드 메시지 생성
+        OUTBOUND_QUEUE("outbound_queue"),   // 아웃바운드 채널 대기
+        SOCKET_WRITE("socket_write"),       // 구독자 소켓 쓰기
+        SERVER_TOTAL("server_total"),       // 서버 수신 -> 구독자 소켓 쓰기 완료
+        CLIENT_RECEIVE("client_receive");   // 브로커 발행 -> 클라이언트 수신 (클라이언트 보고)
+
+        private final String tagValue;
+
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+
+    /**
+     * 핸들러에서 추적 시작 (인바운드 인터셉터가 추적 헤더를 붙인 메시지만 추적)
+     */
+    public Optional<Trace> begin(SimpMessageHeaderAccessor accessor) {
+        String traceId = accessor.getFirstNativeHeader(TRACE_ID_HEADER);
+        Long receivedAt = parse(accessor.getFirstNativeHeader(RECEIVED_AT_HEADER));
+        if (traceId == null || receivedAt == null) {
+            return Optional.empty();
+        }
+
+        recordMillis(Stage.INBOUND_QUEUE, System.currentTimeMillis() - receivedAt);
+        return Optional.of(new Trace(traceId, receivedAt));
+    }
+
+    /**
+     * 브로드캐스트 메시지에 붙일 추적 헤더 (발행 시각 포함)
+     */
+    public Map<String, Object> dispatchHeaders(Trace trace) {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(TRACE_ID_HEADER, trace.traceId());
+        headers.put(RECEIVED_AT_HEADER, String.valueOf(trace.receivedAt()));
+        headers.put(DISPATCHED_AT_HEADER, String.valueOf(System.currentTimeMillis()));
+        return headers;
+    }
+
+    public void recordNanos(Stage stage, long nanos) {
+        timers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMillis(Stage stage, long millis) {
+        if (millis < 0 || millis > MAX_STAGE_MS) {
+            return;
+        }
+        timers.get(stage).record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 클라이언트 수신 보고 반영
+     * @param dispatchedAt 받은 메시지의 trace-dispatched-at 헤더 값
+     * @param receivedAt 클라이언트 수신 시각 (epoch ms)
+     */
+    public void recordClientReceipt(long dispatchedAt, long receivedAt) {
+        recordMillis(Stage.CLIENT_RECEIVE, receivedAt - dispatchedAt);
+    }
+
+    /**
+     * clientInboundChannel 인터셉터 - 샘플링된 SEND 프레임에 추적 ID 와 서버 수신 시각을 붙임
+     */
+    public ExecutorChannelInterceptor inboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                    return message;
+                }
+                SimpMessageHeaderAccessor accessor =
+                        MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+                if (accessor == null || !accessor.isMutable()) {
+                    return message;
+                }
+
+                String traceId = accessor.getFirstNativeHeader(TRACE_ID_HEADER);
+                if (traceId == null) {
+                    if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+                        return message;
+                    }
+                    traceId = UUID.randomUUID().toString();
+                    accessor.setNativeHeader(TRACE_ID_HEADER, traceId);
+                }
+
+                long now = System.currentTimeMillis();
+                accessor.setNativeHeader(RECEIVED_AT_HEADER, String.valueOf(now));
+
+                Long clientSentAt = parse(accessor.getFirstNativeHeader(CLIENT_SENT_AT_HEADER));
+                if (clientSentAt != null) {
+                    recordMillis(Stage.CLIENT_SEND, now - clientSentAt);
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * clientOutboundChannel 인터셉터 - 추적 헤더가 있는 구독자별 메시지의 발행/대기/소켓 쓰기 시간 기록
+     */
+    public ExecutorChannelInterceptor outboundInterceptor() {
+        return new ExecutorChannelInterceptor() {
+
+            // 같은 워커 스레드에서 beforeHandle -> afterMessageHandled 순서로 호출됨
+            private final ThreadLocal<Long> handleStartedAt = new ThreadLocal<>();
+
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                Long dispatchedAt = parse(NativeMessageHeaderAccessor.getFirstNativeHeader(
+                        DISPATCHED_AT_HEADER, message.getHeaders()));
+                if (dispatchedAt == null) {
+                    return message;
+                }
+
+                recordMillis(Stage.BROKER_DISPATCH, System.currentTimeMillis() - dispatchedAt);
+
+                // 브로커가 만든 구독자별 메시지는 헤더가 변경 가능한 상태로 전달됨
+                SimpMessageHeaderAccessor accessor =
+                        MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+                if (accessor != null && accessor.isMutable()) {
+                    accessor.setHeader(OUTBOUND_AT_HEADER, System.nanoTime());
+                }
+                return message;
+            }
+
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                if (!(message.getHeaders().get(OUTBOUND_AT_HEADER) instanceof Long enqueuedAt)) {
+                    return message;
+                }
+
+                long now = System.nanoTime();
+                recordNanos(Stage.OUTBOUND_QUEUE, now - enqueuedAt);
+                handleStartedAt.set(now);
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                            Exception ex) {
+                Long startedAt = handleStartedAt.get();
+                if (startedAt == null) {
+                    return;
+                }
+                handleStartedAt.remove();
+
+                recordNanos(Stage.SOCKET_WRITE, System.nanoTime() - startedAt);
+                Long receivedAt = parse(NativeMessageHeaderAccessor.getFirstNativeHeader(
+                        RECEIVED_AT_HEADER, message.getHeaders()));
+                if (receivedAt != null) {
+                    recordMillis(Stage.SERVER_TOTAL, System.currentTimeMillis() - receivedAt);
+                }
+            }
+        };
+    }
+
+    private static Long parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param traceId 추적 ID
+     * @param receivedAt 서버 수신 시각 (epoch ms)
+     */
+    public record Trace(String traceId, long receivedAt) {
+    }
+}
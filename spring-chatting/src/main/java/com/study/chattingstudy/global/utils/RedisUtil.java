@@ -2,20 +2,38 @@ package com.study.chattingstudy.global.utils;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
 
+    // 값이 일치할 때만 삭제 (GET 과 DEL 사이에 다른 노드가 잠금을 가져가는 경우 방지)
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     public void save(String key, Object val, Long time, TimeUnit timeUnit) {
         redisTemplate.opsForValue().set(key, val, time, timeUnit);
     }
 
+    // 만료 시간 없이 저장
+    public void save(String key, Object val) {
+        redisTemplate.opsForValue().set(key, val);
+    }
+
+    // 키가 없을 때만 저장 (분산 잠금 등)
+    public boolean saveIfAbsent(String key, Object val, Long time, TimeUnit timeUnit) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, val, time, timeUnit));
+    }
+
     public boolean hasKey(String key) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(key));
     }
@@ -28,4 +46,10 @@ public class RedisUtil {
         return Boolean.TRUE.equals(redisTemplate.delete(key));
     }
 
+    // 저장된 값이 val 과 같을 때만 삭제 (분산 잠금 해제)
+    public boolean deleteIfEquals(String key, Object val) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS, List.of(key), val);
+        return deleted != null && deleted > 0;
+    }
+
 }
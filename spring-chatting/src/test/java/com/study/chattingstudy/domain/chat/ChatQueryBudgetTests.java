@@ -0,0 +1,182 @@
+package com.study.chattingstudy.domain.chat;
+
+import com.study.chattingstudy.domain.chat.cache.ChatCacheNames;
+import com.study.chattingstudy.domain.chat.dto.request.ChatReqDTO;
+import com.study.chattingstudy.domain.chat.dto.response.ChatRoomResDTO;
+import com.study.chattingstudy.domain.chat.service.command.ChatCommandService;
+import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import com.study.chattingstudy.domain.user.repository.UserRepository;
+import com.study.chattingstudy.domain.user.security.userdetails.CustomUserDetails;
+import com.study.chattingstudy.domain.user.security.util.JwtUtil;
+import com.study.chattingstudy.global.query.QueryBudget;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.UUID;
+
+import static com.study.chattingstudy.global.query.QueryBudgetAssertions.assertMaxStatements;
+import static com.study.chattingstudy.global.query.QueryBudgetAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 채팅 조회 API 의 SQL 실행 수 검증 (N+1 회귀 방지)
+ * - MySQL 대신 H2(MySQL 모드), Redis 대신 임베디드 Redis 사용
+ * - 채팅방 수와 관계없이 일정한 수의 SQL 만 실행해야 함 (채팅방 1개/20개 사용자의 실행 수가 같아야 함)
+ * - 채팅방 목록 캐시를 비운 뒤 측정하여 캐시 적중으로 SQL 이 생략되지 않도록 함
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jwt.secret=query-budget-test-secret-key-0123456789-0123456789",
+        "spring.jwt.token.access-expiration-time=3600000",
+        "spring.jwt.token.refresh-expiration-time=3600000",
+        "chat.message-store.segment.dir=build/tmp/query-budget/message-segments",
+        "chat.search.dir=build/tmp/query-budget/search-index",
+        "chat.archive.dir=build/tmp/query-budget/message-archive"
+})
+@AutoConfigureMockMvc
+class ChatQueryBudgetTests {
+
+    // 채팅방 목록 조회: 사용자, 채팅방(참여자 포함), 상대방 참여자, 마지막 메시지, 읽지 않은 수 + 여유 1건
+    private static final int PRIVATE_CHATS_MAX_STATEMENTS = 6;
+
+    private static final int FEW_ROOMS = 1;
+    private static final int MANY_ROOMS = 20;
+
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS = startRedis();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChatCommandService chatCommandService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS.stop();
+    }
+
+    @ParameterizedTest(name = "채팅방 {0}개")
+    @ValueSource(ints = {FEW_ROOMS, MANY_ROOMS})
+    @DisplayName("채팅방 목록 조회는 예산 이내의 SQL 만 실행한다")
+    void privateChatsRunBoundedStatements(int roomCount) throws Exception {
+        User user = saveUserWithRooms(roomCount);
+        evictUserChatRooms(user);
+
+        assertMaxStatements(queryBudget, PRIVATE_CHATS_MAX_STATEMENTS, () -> getPrivateChats(user));
+    }
+
+    @Test
+    @DisplayName("채팅방 목록 조회의 SQL 실행 수는 채팅방 수와 관계없이 같다")
+    void privateChatsStatementsDoNotGrowWithRooms() throws Exception {
+        User fewRoomsUser = saveUserWithRooms(FEW_ROOMS);
+        User manyRoomsUser = saveUserWithRooms(MANY_ROOMS);
+        evictUserChatRooms(fewRoomsUser);
+        evictUserChatRooms(manyRoomsUser);
+
+        int fewRoomsStatements = countStatements(queryBudget, () -> getPrivateChats(fewRoomsUser));
+        int manyRoomsStatements = countStatements(queryBudget, () -> getPrivateChats(manyRoomsUser));
+
+        assertThat(manyRoomsStatements).as("채팅방 %d개 / %d개 SQL 실행 수", MANY_ROOMS, FEW_ROOMS)
+                .isEqualTo(fewRoomsStatements);
+    }
+
+    private void getPrivateChats(User user) throws Exception {
+        String accessToken = jwtUtil.createJwtAccessToken(
+                new CustomUserDetails(user.getId(), user.getEmail(), user.getRoles()));
+
+        mockMvc.perform(get("/api/chats/private")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+    }
+
+    // 캐시된 채팅방 목록이 있으면 SQL 없이 응답하므로 측정 전에 비움
+    private void evictUserChatRooms(User user) {
+        Cache userChatRooms = cacheManager.getCache(ChatCacheNames.USER_CHAT_ROOMS);
+        if (userChatRooms != null) {
+            userChatRooms.evict(user.getId());
+        }
+    }
+
+    // 채팅방마다 상대방이 메시지를 하나씩 보낸 사용자 (마지막 메시지와 읽지 않은 수 조회 대상)
+    private User saveUserWithRooms(int roomCount) {
+        User user = saveUser();
+        for (int i = 0; i < roomCount; i++) {
+            User receiver = saveUser();
+            ChatRoomResDTO.ChatRoomResponseDTO room = chatCommandService.createOrGetPrivateChat(
+                    user.getId(), new ChatReqDTO.PrivateChatCreateReqDTO(receiver.getId()));
+            chatCommandService.sendMessage(receiver.getId(),
+                    new ChatReqDTO.MessageSendReqDTO(room.chatId(), "안녕하세요 " + i));
+        }
+        return user;
+    }
+
+    private User saveUser() {
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email(name + "@test.com")
+                .username(name)
+                .password("password")
+                .roles(UserRole.USER)
+                .build());
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = new RedisServer(REDIS_PORT);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.study.chattingstudy.domain.chat.store.partition;
+
+import com.study.chattingstudy.domain.chat.repository.ChatDayBucketRepository;
+import com.study.chattingstudy.domain.chat.store.archive.MessageArchive;
+import com.study.chattingstudy.domain.chat.sync.ChatChangeLogRetention;
+import com.study.chattingstudy.global.utils.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PK 커서를 생성 시각 범위로 바꾸는 파티션 경계 계산 검증
+ * - 파티션 최소 PK 경계는 refreshBoundaries 결과를 직접 지정 (7월: 100~, 8월: 200~, 9월: 300~)
+ * - 커서 조건(id > afterId, id < beforeId)을 만족하는 메시지가 계산한 생성 시각 범위 밖으로 빠지지 않는지 확인
+ */
+class ChatMessagePartitionManagerTests {
+
+    private static final long CLOCK_SKEW_MS = 600_000;
+    private static final LocalDateTime JULY = LocalDateTime.of(2026, 7, 1, 0, 0);
+    private static final LocalDateTime AUGUST = LocalDateTime.of(2026, 8, 1, 0, 0);
+    private static final LocalDateTime SEPTEMBER = LocalDateTime.of(2026, 9, 1, 0, 0);
+    private static final LocalDateTime OCTOBER = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    private ChatMessagePartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ChatMessagePartitionManager(mock(JdbcTemplate.class), mock(MessageArchive.class),
+                mock(ChatDayBucketRepository.class), mock(ChatChangeLogRetention.class), mock(RedisUtil.class),
+                new SimpleMeterRegistry());
+
+        TreeMap<Long, LocalDateTime> boundaries = new TreeMap<>();
+        boundaries.put(100L, JULY);
+        boundaries.put(200L, AUGUST);
+        boundaries.put(300L, SEPTEMBER);
+        ReflectionTestUtils.setField(manager, "boundaries", boundaries);
+        ReflectionTestUtils.setField(manager, "managed", true);
+        ReflectionTestUtils.setField(manager, "clockSkewMs", CLOCK_SKEW_MS);
+    }
+
+    @Test
+    @DisplayName("이전 파티션에 속한 커서는 그 파티션의 기간으로 범위를 좁힌다")
+    void cursorInOlderPartition() {
+        assertThat(manager.createdAtFrom(250)).isEqualTo(AUGUST.minusMinutes(10));
+        assertThat(manager.createdAtUntil(250)).isEqualTo(SEPTEMBER.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("가장 최근 파티션에 속한 커서는 상한을 두지 않는다")
+    void cursorInNewestPartition() {
+        assertThat(manager.createdAtFrom(350)).isEqualTo(SEPTEMBER.minusMinutes(10));
+        assertThat(manager.createdAtUntil(350)).isEqualTo(unbounded().createdAtUntil(350));
+        assertThat(manager.createdAtUntil(300)).isEqualTo(unbounded().createdAtUntil(300));
+    }
+
+    @Test
+    @DisplayName("첫 번째 경계보다 앞선 커서는 범위를 좁히지 않는다")
+    void cursorBeforeFirstBoundary() {
+        assertThat(manager.createdAtFrom(50)).isEqualTo(manager.earliest());
+        assertThat(manager.createdAtUntil(50)).isEqualTo(unbounded().createdAtUntil(50));
+    }
+
+    @Test
+    @DisplayName("달이 바뀐 뒤 경계를 갱신하기 전에도 새 달의 메시지가 범위에 포함된다")
+    void monthRolloverBeforeRefresh() {
+        // 10월 파티션에 PK 400 부터 메시지가 쌓였지만 아직 maintain() 이 경계를 갱신하지 않은 상태
+        LocalDateTime octoberMessage = OCTOBER.plusDays(2);
+
+        // 10월 커서 이후 메시지: 알고 있는 마지막 파티션(9월) 시작 시각 이후, 상한 없음
+        assertThat(manager.createdAtFrom(450)).isBeforeOrEqualTo(octoberMessage);
+        assertThat(manager.createdAtUntil(450)).isAfter(octoberMessage);
+
+        // 9월 커서 이후 메시지에 10월 메시지가 포함되고, 9월 커서 이전 메시지는 상한이 없음
+        assertThat(manager.createdAtFrom(350)).isBeforeOrEqualTo(octoberMessage);
+        assertThat(manager.createdAtUntil(350)).isAfter(octoberMessage);
+
+        // 8월 커서 이전 메시지는 여전히 8월까지만 조회
+        assertThat(manager.createdAtUntil(250)).isEqualTo(SEPTEMBER.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("노드 간 시계 차이만큼 범위를 넓혀 경계 근처의 메시지를 놓치지 않는다")
+    void clockSkewWidensRange() {
+        // 시계가 느린 노드가 9월 경계 PK(300) 이후에 저장한 8월 31일 메시지 (PK 305, 8월 파티션)
+        LocalDateTime lateWrite = SEPTEMBER.minusMinutes(5);
+        assertThat(manager.createdAtFrom(301)).isBeforeOrEqualTo(lateWrite);
+
+        // 시계가 빠른 노드가 8월 PK(295)로 저장한 9월 1일 메시지 (9월 파티션)
+        LocalDateTime earlyWrite = SEPTEMBER.plusMinutes(5);
+        assertThat(manager.createdAtUntil(296)).isAfter(earlyWrite);
+
+        // 허용치가 없으면 파티션 경계 그대로
+        ReflectionTestUtils.setField(manager, "clockSkewMs", 0L);
+        assertThat(manager.createdAtFrom(301)).isEqualTo(SEPTEMBER);
+        assertThat(manager.createdAtUntil(296)).isEqualTo(SEPTEMBER);
+    }
+
+    @Test
+    @DisplayName("파티션을 관리하지 않으면 범위를 좁히지 않는다")
+    void unmanagedDoesNotNarrow() {
+        ChatMessagePartitionManager unmanaged = unbounded();
+
+        assertThat(unmanaged.createdAtFrom(250)).isEqualTo(unmanaged.earliest());
+        assertThat(unmanaged.createdAtUntil(250)).isAfter(OCTOBER.plusYears(100));
+        assertThat(unmanaged.recentFrom()).isEqualTo(unmanaged.earliest());
+        assertThat(unmanaged.unreadFrom()).isEqualTo(unmanaged.earliest());
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지 범위는 unread-months 를 지정한 경우에만 좁힌다")
+    void unreadFromIsOptIn() {
+        ReflectionTestUtils.setField(manager, "unreadMonths", 0);
+        assertThat(manager.unreadFrom()).isEqualTo(manager.earliest());
+
+        ReflectionTestUtils.setField(manager, "unreadMonths", 3);
+        assertThat(manager.unreadFrom())
+                .isEqualTo(YearMonth.now().minusMonths(2).atDay(1).atStartOfDay().minusMinutes(10));
+    }
+
+    private static ChatMessagePartitionManager unbounded() {
+        return new ChatMessagePartitionManager(mock(JdbcTemplate.class), mock(MessageArchive.class),
+                mock(ChatDayBucketRepository.class), mock(ChatChangeLogRetention.class), mock(RedisUtil.class),
+                new SimpleMeterRegistry());
+    }
+}
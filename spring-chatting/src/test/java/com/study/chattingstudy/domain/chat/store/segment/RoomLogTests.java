@@ -0,0 +1,166 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅방 로그(RoomLog)와 세그먼트 파일(Segment) 검증
+ * - 작은 세그먼트 크기와 레코드보다 큰 인덱스 간격으로 여러 세그먼트와 희소 인덱스를 거치도록 구성
+ */
+class RoomLogTests {
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("추가한 레코드를 여러 세그먼트에 걸친 범위로 그대로 읽는다")
+    void roundTripAcrossSegments() throws IOException {
+        SegmentStoreConfig config = config(512, DAY_MS, 1024);
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            appendAll(roomLog, 100, System.currentTimeMillis());
+
+            assertThat(logFiles()).hasSizeGreaterThan(1);
+            assertRecords(roomLog.read(1, 101), 1, 100);
+            assertRecords(roomLog.read(37, 52), 37, 51);
+            assertThat(roomLog.read(101, 200)).isEmpty();
+            assertThat(roomLog.nextOffset()).isEqualTo(101);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 봉인/활성 세그먼트를 복구하고 다음 순번부터 이어서 추가한다")
+    void reopenRestoresSegments() throws IOException {
+        SegmentStoreConfig config = config(512, DAY_MS, 1024);
+        long now = System.currentTimeMillis();
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            appendAll(roomLog, 50, now);
+        }
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            assertThat(roomLog.firstOffset()).isEqualTo(1);
+            assertThat(roomLog.nextOffset()).isEqualTo(51);
+            assertRecords(roomLog.read(1, 51), 1, 50);
+
+            SegmentRecord appended = append(roomLog, now);
+            assertThat(appended.offset()).isEqualTo(51);
+            assertRecords(roomLog.read(45, 52), 45, 51);
+        }
+    }
+
+    @Test
+    @DisplayName("비정상 종료로 활성 세그먼트 끝에 남은 불완전한 레코드는 잘라낸다")
+    void reopenTruncatesTornTail() throws IOException {
+        SegmentStoreConfig config = config(64 * 1024, DAY_MS, 16 * 1024);
+        long now = System.currentTimeMillis();
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            appendAll(roomLog, 10, now);
+        }
+        try (FileChannel channel = FileChannel.open(logFiles().get(0), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 100, 1, 2, 3}));
+        }
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            assertThat(roomLog.nextOffset()).isEqualTo(11);
+            assertThat(append(roomLog, now).offset()).isEqualTo(11);
+            assertRecords(roomLog.read(1, 12), 1, 11);
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열어도 활성 세그먼트의 시간 기준 봉인은 첫 레코드의 생성 시각을 기준으로 한다")
+    void reopenKeepsSegmentAge() throws IOException {
+        SegmentStoreConfig config = config(64 * 1024, TimeUnit.HOURS.toMillis(1), 16 * 1024);
+        long twoHoursAgo = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2);
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            append(roomLog, twoHoursAgo);
+        }
+        assertThat(logFiles()).hasSize(1);
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            append(roomLog, System.currentTimeMillis());
+        }
+        assertThat(logFiles()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("작은 봉인 세그먼트를 병합해도 레코드와 순번이 유지되고, 다시 열어도 같다")
+    void compactionMergesSmallSegments() throws IOException {
+        // 생성 시각이 오래된 레코드를 추가하여 레코드마다 세그먼트가 봉인되도록 함
+        SegmentStoreConfig config = config(64 * 1024, 1, 16 * 1024);
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            appendAll(roomLog, 20, 0);
+            assertThat(logFiles()).hasSize(20);
+
+            roomLog.compact();
+
+            // 봉인 세그먼트 19개가 하나로 병합되고 활성 세그먼트는 그대로
+            assertThat(logFiles()).hasSize(2);
+            assertRecords(roomLog.read(1, 21), 1, 20);
+            assertRecords(roomLog.read(7, 12), 7, 11);
+
+            assertThat(append(roomLog, 0).offset()).isEqualTo(21);
+        }
+
+        try (RoomLog roomLog = RoomLog.open(dir, config)) {
+            assertThat(roomLog.nextOffset()).isEqualTo(22);
+            assertRecords(roomLog.read(1, 22), 1, 21);
+        }
+    }
+
+    private SegmentStoreConfig config(long segmentBytes, long segmentMs, long compactBelowBytes) {
+        return new SegmentStoreConfig(dir, segmentBytes, segmentMs, 200, compactBelowBytes);
+    }
+
+    private static void appendAll(RoomLog roomLog, int count, long createdAtMillis) throws IOException {
+        for (int i = 0; i < count; i++) {
+            append(roomLog, createdAtMillis);
+        }
+    }
+
+    private static SegmentRecord append(RoomLog roomLog, long createdAtMillis) throws IOException {
+        return roomLog.append(createdAtMillis, 7L, "sender", offset -> "message-" + offset,
+                "content of message " + roomLog.nextOffset());
+    }
+
+    // [first, last] 순번의 레코드가 순서대로 빠짐없이 있는지 확인
+    private static void assertRecords(List<SegmentRecord> records, long first, long last) {
+        assertThat(records).extracting(SegmentRecord::offset)
+                .containsExactlyElementsOf(LongStream.rangeClosed(first, last).boxed().toList());
+        for (SegmentRecord record : records) {
+            assertThat(record.messageId()).isEqualTo("message-" + record.offset());
+            assertThat(record.content()).isEqualTo("content of message " + record.offset());
+            assertThat(record.senderId()).isEqualTo(7L);
+            assertThat(record.senderUsername()).isEqualTo("sender");
+        }
+    }
+
+    private List<Path> logFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(Segment.LOG_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
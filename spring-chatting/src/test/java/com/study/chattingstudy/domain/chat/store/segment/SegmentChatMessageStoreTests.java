@@ -0,0 +1,127 @@
+package com.study.chattingstudy.domain.chat.store.segment;
+
+import com.study.chattingstudy.domain.chat.cache.ChatRoomMeta;
+import com.study.chattingstudy.domain.chat.dto.response.ChatResDTO;
+import com.study.chattingstudy.domain.user.entity.User;
+import com.study.chattingstudy.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세그먼트 메시지 저장소의 읽음 처리/목록/동기화/내보내기 경로 검증
+ */
+class SegmentChatMessageStoreTests {
+
+    private static final ChatRoomMeta ROOM = new ChatRoomMeta(1L, "chat-1", "PRIVATE", Set.of(1L, 2L));
+    private static final ChatRoomMeta OTHER_ROOM = new ChatRoomMeta(2L, "chat-2", "PRIVATE", Set.of(1L, 2L));
+
+    private final User alice = user(1L, "alice");
+    private final User bob = user(2L, "bob");
+
+    @TempDir
+    Path dir;
+
+    private SegmentChatMessageStore store;
+
+    @BeforeEach
+    void setUp() {
+        SegmentStoreConfig config = new SegmentStoreConfig(dir, 64 * 1024, TimeUnit.DAYS.toMillis(1), 4096, 16 * 1024);
+        store = new SegmentChatMessageStore(config, TimeUnit.MINUTES.toMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("메시지 ID 로 같은 채팅방의 메시지만 찾는다")
+    void markAsReadFindsMessageInRoom() {
+        String messageId = store.append(ROOM, bob, "hello").message().messageId();
+        store.append(OTHER_ROOM, bob, "other");
+
+        assertThat(store.markAsRead(ROOM.roomId(), messageId, alice.getId()))
+                .map(ChatResDTO.MessageResDTO::content)
+                .contains("hello");
+        assertThat(store.markAsRead(OTHER_ROOM.roomId(), messageId, alice.getId())).isEmpty();
+        assertThat(store.markAsRead(ROOM.roomId(), "not-a-message-id", alice.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지는 마지막 읽은 메시지 이후 다른 사용자가 보낸 메시지만 센다")
+    void countUnreadAfterLastRead() {
+        String first = store.append(ROOM, bob, "1").message().messageId();
+        store.append(ROOM, alice, "2");
+        store.append(ROOM, bob, "3");
+        store.append(ROOM, bob, "4");
+
+        Map<Long, String> neverRead = new HashMap<>();
+        neverRead.put(ROOM.roomId(), null);
+        assertThat(store.countUnread(alice.getId(), neverRead)).containsEntry(ROOM.roomId(), 3);
+        assertThat(store.countUnread(alice.getId(), Map.of(ROOM.roomId(), first)))
+                .containsEntry(ROOM.roomId(), 2);
+        assertThat(store.markAllAsRead(ROOM.roomId(), alice.getId(), first)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("채팅방별 마지막 메시지를 찾고, 메시지가 없는 채팅방은 제외한다")
+    void findLatestPerRoom() {
+        store.append(ROOM, bob, "first");
+        store.append(ROOM, alice, "last");
+
+        Map<Long, ChatResDTO.MessageResDTO> latest = store.findLatest(List.of(ROOM.roomId(), OTHER_ROOM.roomId()));
+
+        assertThat(latest).containsOnlyKeys(ROOM.roomId());
+        assertThat(latest.get(ROOM.roomId()).content()).isEqualTo("last");
+    }
+
+    @Test
+    @DisplayName("변경된 메시지를 채팅방별 메시지 ID 로 찾는다")
+    void findByMessageIdsPerRoom() {
+        String inRoom = store.append(ROOM, bob, "in room").message().messageId();
+        String inOtherRoom = store.append(OTHER_ROOM, bob, "in other room").message().messageId();
+
+        Map<String, ChatResDTO.MessageResDTO> found = store.findByMessageIds(
+                Map.of(ROOM.roomId(), List.of(inRoom, inOtherRoom)));
+
+        assertThat(found).containsOnlyKeys(inRoom);
+    }
+
+    @Test
+    @DisplayName("채팅방의 모든 메시지를 순서대로 방문한다")
+    void forEachVisitsInOrder() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            store.append(ROOM, i % 2 == 0 ? alice : bob, "message " + i);
+        }
+        List<String> contents = new ArrayList<>();
+
+        long count = store.forEach(ROOM.roomId(), message -> contents.add(message.content()));
+
+        assertThat(count).isEqualTo(5);
+        assertThat(contents).containsExactly("message 0", "message 1", "message 2", "message 3", "message 4");
+    }
+
+    private static User user(Long id, String username) {
+        return User.builder()
+                .id(id)
+                .email(username + "@test.com")
+                .username(username)
+                .password("password")
+                .roles(UserRole.USER)
+                .build();
+    }
+}
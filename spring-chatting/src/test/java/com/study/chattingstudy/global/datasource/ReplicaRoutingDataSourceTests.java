@@ -0,0 +1,210 @@
+package com.study.chattingstudy.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 읽기 전용 트랜잭션의 primary/복제 DB 라우팅 검증
+ * - primary 와 복제 DB 는 서로 다른 H2 메모리 DB 로 대체하고, 복제 지연은 measureLag 를 재정의하여 지정
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private static final String PRIMARY = "routing-primary";
+    private static final String REPLICA = "routing-replica";
+    private static final long MAX_LAG_SECONDS = 2;
+    private static final long STALE_MS = 60_000;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private StringRedisTemplate redisTemplate;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        primary = dataSource("primary", PRIMARY);
+        replica = dataSource("replica-0", REPLICA);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+
+        tracker = new ReadYourWritesTracker(redisTemplate);
+        ReflectionTestUtils.setField(tracker, "replicaUrls", List.of(REPLICA));
+        ReflectionTestUtils.setField(tracker, "pinMs", 3000L);
+        ReflectionTestUtils.setField(tracker, "checkMs", 60_000L);
+
+        routing = routing(STALE_MS);
+        routing.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+        primary.close();
+    }
+
+    @Test
+    @DisplayName("정상 상태의 복제 DB 에서 읽는다")
+    void readsFromHealthyReplica() throws SQLException {
+        assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 고정된 사용자는 primary 에서 읽는다")
+    void pinnedUserReadsFromPrimary() throws SQLException {
+        tracker.pin(1L);
+
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(1L)) {
+            assertThat(readDatabase(routing)).isEqualTo(PRIMARY);
+        }
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(2L)) {
+            assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 기록한 고정은 Redis 에서 한 번만 확인하고 로컬에 보관한다")
+    void remotePinIsCachedLocally() throws SQLException {
+        when(redisTemplate.getExpire("chat:rw-pin:3", TimeUnit.MILLISECONDS)).thenReturn(2000L);
+
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(3L)) {
+            assertThat(readDatabase(routing)).isEqualTo(PRIMARY);
+            assertThat(readDatabase(routing)).isEqualTo(PRIMARY);
+        }
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingAs(4L)) {
+            assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+            assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+        }
+
+        verify(redisTemplate, times(1)).getExpire("chat:rw-pin:3", TimeUnit.MILLISECONDS);
+        verify(redisTemplate, times(1)).getExpire("chat:rw-pin:4", TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("primary 강제 읽기(캐시 적재)는 primary 에서 읽는다")
+    void primaryReadIsForced() throws SQLException {
+        try (ReadYourWritesTracker.ReadScope ignored = ReadYourWritesTracker.readingFromPrimary()) {
+            assertThat(readDatabase(routing)).isEqualTo(PRIMARY);
+        }
+        assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 primary 에서 읽는다")
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        lagSeconds.set(MAX_LAG_SECONDS + 1);
+        routing.checkReplicas();
+        assertThat(readDatabase(routing)).isEqualTo(PRIMARY);
+
+        lagSeconds.set(0);
+        routing.checkReplicas();
+        assertThat(readDatabase(routing)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("복제 지연 확인이 오래 밀리면 primary 에서 읽는다")
+    void staleLagCheckFallsBackToPrimary() throws Exception {
+        ReplicaRoutingDataSource staleRouting = routing(50);
+        staleRouting.checkReplicas();
+        assertThat(readDatabase(staleRouting)).isEqualTo(REPLICA);
+
+        Thread.sleep(100);
+        assertThat(readDatabase(staleRouting)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 복제 DB 로 보낸다")
+    void onlyReadOnlyTransactionsUseReplica() {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.setReadOnly(true);
+        assertThat(transactionTemplate.execute(status -> transactionDatabase(dataSource))).isEqualTo(REPLICA);
+
+        transactionTemplate.setReadOnly(false);
+        assertThat(transactionTemplate.execute(status -> transactionDatabase(dataSource))).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("계정을 지정한 커넥션 요청은 primary 로 위임한다")
+    void credentialsAreDelegatedToPrimary() throws SQLException {
+        DataSource credentialPrimary = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(credentialPrimary.getConnection("user", "secret")).thenReturn(connection);
+
+        ReplicaRoutingDataSource credentialRouting = new ReplicaRoutingDataSource(credentialPrimary, List.of(),
+                tracker, MAX_LAG_SECONDS, false, STALE_MS, new SimpleMeterRegistry());
+
+        assertThat(credentialRouting.getConnection("user", "secret")).isSameAs(connection);
+    }
+
+    private ReplicaRoutingDataSource routing(long staleMs) {
+        return new ReplicaRoutingDataSource(primary, List.of(replica), tracker, MAX_LAG_SECONDS, false, staleMs,
+                new SimpleMeterRegistry()) {
+            @Override
+            long measureLag(HikariDataSource dataSource) {
+                return lagSeconds.get();
+            }
+        };
+    }
+
+    // 커넥션이 연결된 DB 이름
+    private static String readDatabase(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return databaseName(connection);
+        }
+    }
+
+    private static String transactionDatabase(DataSource dataSource) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return databaseName(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static String databaseName(Connection connection) throws SQLException {
+        return connection.getMetaData().getURL().contains(REPLICA) ? REPLICA : PRIMARY;
+    }
+
+    private static HikariDataSource dataSource(String poolName, String database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.chattingstudy.global.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 실행 수 검증 도우미
+ * - 테스트 스레드에 범위를 열고 작업을 실행하므로, 작업 안에서 열린 요청 범위(MockMvc 요청, STOMP 처리)와
+ *   워커 스레드로 넘겨진 범위의 SQL 이 모두 이 범위에 누적됨
+ */
+public final class QueryBudgetAssertions {
+
+    private QueryBudgetAssertions() {
+    }
+
+    /**
+     * 작업 실행 중 실행된 SQL 수
+     */
+    public static int countStatements(QueryBudget queryBudget, ThrowingRunnable action) throws Exception {
+        try (QueryBudget.Scope scope = queryBudget.open("TEST")) {
+            action.run();
+            return scope.statements();
+        }
+    }
+
+    /**
+     * 작업 실행 중 실행된 SQL 이 max 건 이하인지 검증
+     */
+    public static void assertMaxStatements(QueryBudget queryBudget, int max, ThrowingRunnable action)
+            throws Exception {
+        int statements = countStatements(queryBudget, action);
+        assertThat(statements).as("SQL 실행 수").isLessThanOrEqualTo(max);
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}